@@ -1,5 +1,7 @@
 export const INTERVIEW_SLOTS = '/interviewslot';
 export const INTERVIEW_SLOTS_BY_TIME = '/interviewslot/availablebytime';
 export const INTERVIEW_SLOTS_AVAILABLE = '/interviewslot/available';
+export const INTERVIEW_SLOTS_ASSIGN_BY_TIME = '/interviewslot/bytime';
 export const INTERVIEW_SLOTS_BY_INTERVIEWER = '/interviewer/interviewslot';
+export const INTERVIEWER_CALENDAR = '/interviewer/calendar';
 export const INTERVIEW_SLOTS_BY_CANDIDATE = '/candidate/interviewslot';
\ No newline at end of file
@@ -53,4 +53,14 @@ function removeTimeZone(dateWithTimeZone){
     dateWithTimeZone = new Date(dateWithTimeZone);
     var userTimezoneOffset = dateWithTimeZone.getTimezoneOffset() * 60000;  //milliseconds of timezone
     return new Date(dateWithTimeZone.getTime() - userTimezoneOffset).toISOString();
-}
\ No newline at end of file
+}
+
+// [from, to) of the Monday-to-Monday week holding the date, as local date-times
+export function getWeekWindow(date = new Date()){
+    const monday = new Date(date);
+    monday.setHours(0, 0, 0, 0);
+    monday.setDate(monday.getDate() - (monday.getDay() + 6) % 7);
+    const nextMonday = new Date(monday);
+    nextMonday.setDate(monday.getDate() + 7);
+    return { from: getExactHour(monday), to: getExactHour(nextMonday) };
+}
@@ -89,7 +89,7 @@ const CreateInterviewSlotPopUp = (props) => {
                         ({
                             startDate: slot.time,
                             endDate: addHours(1, new Date(slot.time)),
-                            title: slot.candidate === null ? '' : `Interview with ${slot.candidate.name}`
+                            title: slot.candidateId === null ? '' : `Interview with ${slot.candidateName}`
                         })})
                     );
                 }
@@ -14,6 +14,7 @@ export default class WeekCalendar extends React.Component{
     render(){
         const schedulerData = this.props.schedulerData;
         const currentDate = this.props.currentDate;
+        const onCurrentDateChange = this.props.onCurrentDateChange;
         return (
             <Paper>
                 <Scheduler
@@ -22,6 +23,7 @@ export default class WeekCalendar extends React.Component{
                     >
                     <ViewState
                         defaultCurrentDate={currentDate}
+                        onCurrentDateChange={onCurrentDateChange}
                     />
                     <WeekView
                         name='work-week'
@@ -44,7 +44,7 @@ const MyInterviewPage = () => {
                                 {
                                     startDate: slot.time,
                                     endDate: addHours(1, new Date(slot.time)),
-                                    title: slot.candidate === null ? '' : `Interview with ${slot.candidate.name}`
+                                    title: slot.candidateId === null ? '' : `Interview with ${slot.candidateName}`
                                 },
                         }));
                         return;
@@ -6,7 +6,7 @@ import { AdapterDayjs } from '@mui/x-date-pickers/AdapterDayjs';
 import { TimePicker, DatePicker, LocalizationProvider } from '@mui/x-date-pickers';
 import dayjs from 'dayjs';
 import "./../../pages/Layout.css";
-import { INTERVIEW_SLOTS, INTERVIEW_SLOTS_AVAILABLE, INTERVIEW_SLOTS_BY_TIME } from '../../api/APIconstants';
+import { INTERVIEW_SLOTS_AVAILABLE, INTERVIEW_SLOTS_ASSIGN_BY_TIME } from '../../api/APIconstants';
 import { SNACK_SEVERITY } from '../../app/AppConstants';
 import axios from '../../api/axios';
 import { addHours, getExactHour, joinDayAndHour } from '../../app/AppFunctions';
@@ -46,7 +46,7 @@ const ScheduleInterviewPage = () => {
                         {
                             startDate: slot.time,
                             endDate: addHours(1, new Date(slot.time)),
-                            title: slot.candidate === null ? '' : `Interview with ${slot.candidate.name}`
+                            title: slot.candidateId === null ? '' : `Interview with ${slot.candidateName}`
                         }
                     )
                     )
@@ -84,33 +84,7 @@ const ScheduleInterviewPage = () => {
         const dayToSend = getExactHour(date.toISOString());
         console.log(dayToSend);
 
-        var interviewSlot;
-        var availableSlot = true; 
-        
-        await axios.get(`${INTERVIEW_SLOTS_BY_TIME}`, { params: { time: dayToSend } })
-            .then(
-                res => {
-                    if (res.status === 200){
-                        interviewSlot = res.data;
-                    }else{
-                        showAlert('Unable to create Slots', SNACK_SEVERITY.error);
-                    }
-                }
-            ).catch(err =>{
-                availableSlot = false;
-                const status = err.response.status;
-                if (status === 0){
-                    showAlert('No server response', SNACK_SEVERITY.error);
-                } else if (status === 404){
-                    showAlert('Select an Available Interview Slot!', SNACK_SEVERITY.error);
-                } else {
-                    showAlert('Unable to create Slots', SNACK_SEVERITY.error);
-                }
-                return;
-            });
-            if (!availableSlot) return;
-
-            await axios.put(`${INTERVIEW_SLOTS}?slotId=${interviewSlot.id}&candidateId=${savedUser.id}`)
+        await axios.put(INTERVIEW_SLOTS_ASSIGN_BY_TIME, null, { params: { time: dayToSend, candidateId: savedUser.id } })
             .then(
                 res => {
                     if (res.status === 200){
@@ -127,9 +101,9 @@ const ScheduleInterviewPage = () => {
                 }else if(status === 400){
                     showAlert('Bad inputs!', SNACK_SEVERITY.error);
                 } else if (status === 404){
-                    showAlert("Couldn't find Slot's Interviewer", SNACK_SEVERITY.error);
+                    showAlert(`${savedUser.name} is not a Candidate`, SNACK_SEVERITY.error);
                 }else if (status === 409){
-                    showAlert('Slot is already assigned', SNACK_SEVERITY.error);}
+                    showAlert('Select an Available Interview Slot!', SNACK_SEVERITY.error);}
                 else{
                     showAlert('Unable to Assign Slot', SNACK_SEVERITY.error);
                 }
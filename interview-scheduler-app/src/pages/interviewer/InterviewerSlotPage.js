@@ -4,17 +4,18 @@ import ResponsiveAppBar from '../../features/navbar/navbar';
 import './../Layout.css';
 import WeekCalendar from '../../features/week-calendar/WeekCalendar';
 import CreateInterviewSlotPopUp from '../../features/interview-slots/CreateInterviewSlot';
-import { INTERVIEW_SLOTS_BY_INTERVIEWER } from '../../api/APIconstants';
+import { INTERVIEWER_CALENDAR } from '../../api/APIconstants';
 import axios from '../../api/axios';
 import { SNACK_SEVERITY } from '../../app/AppConstants';
-import { addHours } from '../../app/AppFunctions';
+import { addHours, getWeekWindow } from '../../app/AppFunctions';
 import { useDispatch, useSelector } from 'react-redux';
-import slotsReducer, { INSERT_ITEMS } from '../../features/redux/interview-slots';
+import slotsReducer, { INSERT_ITEMS, REMOVE_SLOTS } from '../../features/redux/interview-slots';
 
 const currentDate = new Date();  
 
 const InterviewerSlotPage = () => {
     const [openPopUp, setOpenPopUp] = React.useState(false);
+    const [week, setWeek] = React.useState(getWeekWindow(currentDate));
     const dispatch = useDispatch();
 
     const handleOpenPopUp = () => {
@@ -38,18 +39,24 @@ const InterviewerSlotPage = () => {
         setOpenSnack(true);
     }
 
+    // only the week on screen is loaded; moving to another week loads that one
+    const handleCurrentDateChange = (date) => {
+        setWeek(getWeekWindow(date));
+    };
+
     useEffect(()=>{
-        axios.get(`${INTERVIEW_SLOTS_BY_INTERVIEWER}/${user.id}`)
+        axios.get(`${INTERVIEWER_CALENDAR}/${user.id}`, { params: { from: week.from, to: week.to } })
             .then(
                 res => {
                     if (res.status === 200){
-                        const data = res.data;
+                        const data = res.data.slots;
+                        dispatch(slotsReducer({type: REMOVE_SLOTS}));
                         data.map((slot)=> 
                             dispatch(slotsReducer({type: INSERT_ITEMS, item:
                                 {
                                     startDate: slot.time,
                                     endDate: addHours(1, new Date(slot.time)),
-                                    title: slot.candidate === null ? '' : `Interview with ${slot.candidate.name}`
+                                    title: slot.candidateId === null ? '' : `Interview with ${slot.candidateName}`
                                 },
                         })));
                         
@@ -67,7 +74,7 @@ const InterviewerSlotPage = () => {
                     showAlert(`Unable to get Your Interview Slots`, SNACK_SEVERITY.info);
                 }
             })
-    }, [dispatch]);
+    }, [dispatch, week]);
 
     const handleCloseSnack = () => {
         setOpenSnack(false);
@@ -81,7 +88,7 @@ const InterviewerSlotPage = () => {
                     <Typography variant="h2">
                         <b>{user.name.split(' ')[0]}</b>'s Interview Slots
                     </Typography>
-                    <WeekCalendar currentDate={currentDate} schedulerData={interviewSlots} />
+                    <WeekCalendar currentDate={currentDate} schedulerData={interviewSlots} onCurrentDateChange={handleCurrentDateChange} />
                     <Box sx={{my:2}}>
                         <Button onClick={handleOpenPopUp} className='success-btn'>Create Slots</Button>
                     </Box>
@@ -1,27 +1,38 @@
 package com.example.interviewscheduler.controllers;
 
+import java.io.InputStream;
 import java.util.List;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Email;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.interviewscheduler.dtos.CandidateDTO;
+import com.example.interviewscheduler.dtos.CandidateView;
+import com.example.interviewscheduler.dtos.ImportFormat;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.exceptions.BadRequestException;
 import com.example.interviewscheduler.exceptions.DuplicatedUserException;
 import com.example.interviewscheduler.exceptions.UserNotFoundException;
-import com.example.interviewscheduler.models.Candidate;
-import com.example.interviewscheduler.models.InterviewSlot;
 import com.example.interviewscheduler.services.CandidateService;
+import com.example.interviewscheduler.services.UserImportService;
 
 @RestController
 @RequestMapping("api/scheduler/candidate")
@@ -30,10 +41,13 @@ public class CandidateController {
 
     @Autowired
     CandidateService candidateService;
+
+    @Autowired
+    UserImportService userImportService;
     
     @PostMapping("/register")
-    public ResponseEntity<Candidate> register( @Valid @RequestBody CandidateDTO candidateDTO ) {
-        Candidate candidateSaved;
+    public ResponseEntity<CandidateView> register( @Valid @RequestBody CandidateDTO candidateDTO ) {
+        CandidateView candidateSaved;
         try {
           candidateSaved = candidateService.register( candidateDTO );
         } catch (DuplicatedUserException e) {
@@ -42,14 +56,40 @@ public class CandidateController {
         return ResponseEntity.status( HttpStatus.CREATED ).body( candidateSaved );
     }
 
+    /**
+     * Registers every candidate of a CSV (name,email) or NDJSON upload and streams back one
+     * NDJSON result line per row.
+     */
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<StreamingResponseBody> importCandidates( @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body ) {
+        ImportFormat format = ImportFormat.of( contentType );
+        StreamingResponseBody report = out -> userImportService.importCandidates( body, format, out );
+        return ResponseEntity.status( HttpStatus.OK ).contentType( MediaType.APPLICATION_NDJSON ).body( report );
+    }
+
     @GetMapping("")
-    public ResponseEntity<List<Candidate>> getAll() {
+    public ResponseEntity<List<CandidateView>> getAll(WebRequest request) {
+        // tagged with the write version, so an unchanged list is answered before it is read
+        if (request.checkNotModified(candidateService.getAllCandidatesETag())){
+            return ResponseEntity.status( HttpStatus.NOT_MODIFIED ).build();
+        }
         return ResponseEntity.status( HttpStatus.OK ).body( candidateService.getAllCandidates() );
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<PageDTO<CandidateView>> getPage( @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "50") int size ) {
+        PageDTO<CandidateView> page;
+        try {
+            page = candidateService.getCandidatesPage( cursor, size );
+        } catch (BadRequestException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( page );
+    }
+
     @PostMapping("/{email}")
-    public ResponseEntity<Candidate> login( @PathVariable @Valid @Email String email ) {
-        Candidate candidate = candidateService.getCandidateByEmail( email );
+    public ResponseEntity<CandidateView> login( @PathVariable @Valid @Email String email ) {
+        CandidateView candidate = candidateService.getCandidateByEmail( email );
         if (candidate==null){
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
@@ -57,8 +97,8 @@ public class CandidateController {
     }
 
     @GetMapping("interviewslot/{id}")
-    public ResponseEntity<InterviewSlot> getInterviewSlot( @PathVariable @Valid Long id ) {
-        InterviewSlot interviewSlot;
+    public ResponseEntity<InterviewSlotView> getInterviewSlot( @PathVariable @Valid Long id ) {
+        InterviewSlotView interviewSlot;
         try {
             interviewSlot = candidateService.getInterviewSlotByCandidateId( id );
         } catch (UserNotFoundException e) {
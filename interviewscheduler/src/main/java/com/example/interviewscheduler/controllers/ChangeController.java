@@ -0,0 +1,35 @@
+package com.example.interviewscheduler.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.interviewscheduler.dtos.ChangesView;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.services.ChangeFeedService;
+
+@RestController
+@RequestMapping("api/scheduler/changes")
+@CrossOrigin
+public class ChangeController {
+
+    @Autowired
+    ChangeFeedService changeFeedService;
+
+    @GetMapping("")
+    public ResponseEntity<ChangesView> getChangesSince(@RequestParam(defaultValue = "0") long since, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "500") int limit) {
+        ChangesView changes;
+        try {
+            changes = changeFeedService.getChangesSince(since, cursor, limit);
+        } catch (BadRequestException e) {
+            return ResponseEntity.status( HttpStatus.BAD_REQUEST ).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( changes );
+    }
+
+}
@@ -6,9 +6,12 @@ import java.util.List;
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,15 +20,29 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.interviewscheduler.dtos.AutoMatchDTO;
+import com.example.interviewscheduler.dtos.AutoMatchView;
+import com.example.interviewscheduler.dtos.BulkInterviewSlotDTO;
 import com.example.interviewscheduler.dtos.InterviewSlotDTO;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.dtos.RecurringInterviewSlotDTO;
+import com.example.interviewscheduler.dtos.SlotAssignmentPolicy;
+import com.example.interviewscheduler.dtos.SlotHoldView;
+import com.example.interviewscheduler.dtos.SlotState;
 import com.example.interviewscheduler.exceptions.BadRequestException;
 import com.example.interviewscheduler.exceptions.ConflictException;
 import com.example.interviewscheduler.exceptions.PastDateException;
 import com.example.interviewscheduler.exceptions.UnavailableSlotException;
 import com.example.interviewscheduler.exceptions.UserNotFoundException;
-import com.example.interviewscheduler.models.InterviewSlot;
+import com.example.interviewscheduler.services.AutoMatchService;
 import com.example.interviewscheduler.services.InterviewSlotService;
+import com.example.interviewscheduler.services.SlotChangeStream;
+import com.example.interviewscheduler.services.SlotHoldService;
 
 @RestController
 @RequestMapping("api/scheduler/interviewslot")
@@ -35,9 +52,18 @@ public class InterviewSlotController {
     @Autowired
     InterviewSlotService interviewSlotService;
 
+    @Autowired
+    SlotHoldService slotHoldService;
+
+    @Autowired
+    AutoMatchService autoMatchService;
+
+    @Autowired
+    SlotChangeStream slotChangeStream;
+
     @PostMapping("")
-    public ResponseEntity<InterviewSlot> createSlot( @Valid @RequestBody InterviewSlotDTO interviewSlotDTO ) throws ConflictException {
-        InterviewSlot interviewSlot;
+    public ResponseEntity<InterviewSlotView> createSlot( @Valid @RequestBody InterviewSlotDTO interviewSlotDTO ) throws ConflictException {
+        InterviewSlotView interviewSlot;
         try {
             interviewSlot = interviewSlotService.create( interviewSlotDTO );
         } catch (BadRequestException|PastDateException e) {
@@ -50,9 +76,39 @@ public class InterviewSlotController {
         return ResponseEntity.status( HttpStatus.CREATED ).body( interviewSlot );
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<InterviewSlotView>> createSlots( @Valid @RequestBody BulkInterviewSlotDTO bulkInterviewSlotDTO ) {
+        List<InterviewSlotView> interviewSlots;
+        try {
+            interviewSlots = interviewSlotService.createBulk( bulkInterviewSlotDTO );
+        } catch (BadRequestException|PastDateException e) {
+            return ResponseEntity.status( HttpStatus.BAD_REQUEST ).body(null);
+        } catch (UserNotFoundException e){
+            return ResponseEntity.status( HttpStatus.NOT_FOUND ).body(null);
+        } catch (ConflictException e){
+            return ResponseEntity.status( HttpStatus.CONFLICT ).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.CREATED ).body( interviewSlots );
+    }
+
+    @PostMapping("/recurring")
+    public ResponseEntity<List<InterviewSlotView>> createRecurringSlots( @Valid @RequestBody RecurringInterviewSlotDTO recurringInterviewSlotDTO ) {
+        List<InterviewSlotView> interviewSlots;
+        try {
+            interviewSlots = interviewSlotService.createRecurring( recurringInterviewSlotDTO );
+        } catch (BadRequestException|PastDateException e) {
+            return ResponseEntity.status( HttpStatus.BAD_REQUEST ).body(null);
+        } catch (UserNotFoundException e){
+            return ResponseEntity.status( HttpStatus.NOT_FOUND ).body(null);
+        } catch (ConflictException e){
+            return ResponseEntity.status( HttpStatus.CONFLICT ).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.CREATED ).body( interviewSlots );
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<InterviewSlot> getSlotById( @PathVariable @Valid Long id){
-        InterviewSlot interviewSlot = interviewSlotService.get( id );
+    public ResponseEntity<InterviewSlotView> getSlotById( @PathVariable @Valid Long id){
+        InterviewSlotView interviewSlot = interviewSlotService.get( id );
         if (interviewSlot==null){
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
@@ -60,19 +116,83 @@ public class InterviewSlotController {
     }
 
     @GetMapping("")
-    public ResponseEntity<List<InterviewSlot>> getAllSlots(){
+    public ResponseEntity<List<InterviewSlotView>> getAllSlots(WebRequest request){
+        // tagged with the write version, so an unchanged list is answered before it is read
+        if (request.checkNotModified(interviewSlotService.getAllSlotsETag())){
+            return ResponseEntity.status( HttpStatus.NOT_MODIFIED ).build();
+        }
         return ResponseEntity.status( HttpStatus.OK ).body( interviewSlotService.getAll() );
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<PageDTO<InterviewSlotView>> getSlotsPage(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "50") int size){
+        PageDTO<InterviewSlotView> page;
+        try {
+            page = interviewSlotService.getPage(cursor, size);
+        } catch (BadRequestException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( page );
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSlots(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ALL") SlotState state){
+        try {
+            interviewSlotService.checkExportRange(from, to);
+        } catch (BadRequestException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        StreamingResponseBody body = out -> interviewSlotService.exportSlots(from, to, state, out);
+        return ResponseEntity.status( HttpStatus.OK ).contentType( MediaType.APPLICATION_NDJSON ).body( body );
+    }
+
     @GetMapping("/available")
-    public ResponseEntity<List<InterviewSlot>> getAvailableSlots(){
+    public ResponseEntity<List<InterviewSlotView>> getAvailableSlots(WebRequest request){
+        if (request.checkNotModified(interviewSlotService.getAvailableSlotsETag())){
+            return ResponseEntity.status( HttpStatus.NOT_MODIFIED ).build();
+        }
         return ResponseEntity.status( HttpStatus.OK ).body( interviewSlotService.getAvailableSlots() );
     }
 
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamSlotChanges(){
+        return ResponseEntity.status( HttpStatus.OK ).body( slotChangeStream.subscribe() );
+    }
+
+    @GetMapping("/available/page")
+    public ResponseEntity<PageDTO<InterviewSlotView>> getAvailableSlotsPage(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "50") int size){
+        PageDTO<InterviewSlotView> page;
+        try {
+            page = interviewSlotService.getAvailablePage(cursor, size);
+        } catch (BadRequestException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( page );
+    }
+
+    @GetMapping("/available/range")
+    public ResponseEntity<List<InterviewSlotView>> getAvailableSlotsBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long interviewerId,
+            @RequestParam(defaultValue = "500") int limit){
+        List<InterviewSlotView> interviewSlots;
+        try {
+            interviewSlots = interviewSlotService.getAvailableSlotsBetween(from, to, interviewerId, limit);
+        } catch (BadRequestException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( interviewSlots );
+    }
+
     @GetMapping("/availablebytime")
-    public ResponseEntity<InterviewSlot> getAvailableSlotByTime(@RequestParam(required = true) @Valid String time){
+    public ResponseEntity<InterviewSlotView> getAvailableSlotByTime(@RequestParam(required = true) @Valid String time,
+            @RequestParam(defaultValue = "LEAST_LOADED") SlotAssignmentPolicy policy){
         LocalDateTime dateTime = LocalDateTime.parse(time);
-        List<InterviewSlot> interviewSlots = interviewSlotService.getAvailableSlotsByTime(dateTime);
+        List<InterviewSlotView> interviewSlots = interviewSlotService.getAvailableSlotsByTime(dateTime, policy);
         if (interviewSlots.isEmpty()){
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
@@ -80,8 +200,8 @@ public class InterviewSlotController {
     }
 
     @PutMapping("")
-    public ResponseEntity<InterviewSlot> assignSlotToCandidate(@RequestParam(required = true) Long slotId, @RequestParam(required = true) Long candidateId) {
-        InterviewSlot newInterviewSlot;
+    public ResponseEntity<InterviewSlotView> assignSlotToCandidate(@RequestParam(required = true) Long slotId, @RequestParam(required = true) Long candidateId) {
+        InterviewSlotView newInterviewSlot;
         try {
             newInterviewSlot = interviewSlotService.assignToCandidate(slotId, candidateId);
         } catch (UserNotFoundException e) {
@@ -93,5 +213,83 @@ public class InterviewSlotController {
         }
         return ResponseEntity.status( HttpStatus.OK ).body( newInterviewSlot );
     }
-    
+
+    @PutMapping("/bytime")
+    public ResponseEntity<InterviewSlotView> assignSlotAtTimeToCandidate(
+            @RequestParam(required = true) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime time,
+            @RequestParam(required = true) Long candidateId,
+            @RequestParam(defaultValue = "LEAST_LOADED") SlotAssignmentPolicy policy) {
+        InterviewSlotView newInterviewSlot;
+        try {
+            newInterviewSlot = interviewSlotService.assignFirstAvailableSlotAt(time, candidateId, policy);
+        } catch (UserNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        } catch (BadRequestException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (UnavailableSlotException|ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( newInterviewSlot );
+    }
+
+    @PostMapping("/automatch")
+    public ResponseEntity<AutoMatchView> autoMatchCandidates( @Valid @RequestBody AutoMatchDTO autoMatchDTO ) {
+        AutoMatchView result;
+        try {
+            result = autoMatchService.match( autoMatchDTO );
+        } catch (BadRequestException e) {
+            return ResponseEntity.status( HttpStatus.BAD_REQUEST ).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( result );
+    }
+
+    @PutMapping("/cancel")
+    public ResponseEntity<InterviewSlotView> cancelBooking(@RequestParam(required = true) Long candidateId) {
+        InterviewSlotView releasedInterviewSlot;
+        try {
+            releasedInterviewSlot = interviewSlotService.cancel(candidateId);
+        } catch (UserNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        } catch (BadRequestException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( releasedInterviewSlot );
+    }
+
+    @PutMapping("/reschedule")
+    public ResponseEntity<InterviewSlotView> rescheduleBooking(@RequestParam(required = true) Long candidateId, @RequestParam(required = true) Long slotId) {
+        InterviewSlotView newInterviewSlot;
+        try {
+            newInterviewSlot = interviewSlotService.reschedule(candidateId, slotId);
+        } catch (UserNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        } catch (BadRequestException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (UnavailableSlotException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( newInterviewSlot );
+    }
+
+    @PostMapping("/hold")
+    public ResponseEntity<SlotHoldView> holdSlot(@RequestParam(required = true) Long slotId, @RequestParam(required = true) Long candidateId) {
+        SlotHoldView hold;
+        try {
+            hold = slotHoldService.hold(slotId, candidateId);
+        } catch (UserNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        } catch (UnavailableSlotException|ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( hold );
+    }
+
+    @DeleteMapping("/hold")
+    public ResponseEntity<Void> releaseSlot(@RequestParam(required = true) Long slotId, @RequestParam(required = true) Long candidateId) {
+        if (!slotHoldService.release(slotId, candidateId)){
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.NO_CONTENT ).body(null);
+    }
+
 }
@@ -1,28 +1,43 @@
 package com.example.interviewscheduler.controllers;
 
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Email;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.interviewscheduler.dtos.CalendarView;
+import com.example.interviewscheduler.dtos.FreeBusyView;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
 import com.example.interviewscheduler.dtos.InterviewerDTO;
+import com.example.interviewscheduler.dtos.InterviewerView;
+import com.example.interviewscheduler.dtos.ImportFormat;
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.exceptions.BadRequestException;
 import com.example.interviewscheduler.exceptions.DuplicatedUserException;
 import com.example.interviewscheduler.exceptions.UserNotFoundException;
-import com.example.interviewscheduler.models.Interviewer;
-import com.example.interviewscheduler.models.InterviewSlot;
+import com.example.interviewscheduler.services.FreeBusyService;
 import com.example.interviewscheduler.services.InterviewerService;
+import com.example.interviewscheduler.services.UserImportService;
 
 @RestController
 @RequestMapping("api/scheduler/interviewer")
@@ -31,10 +46,16 @@ public class InterviewerController {
 
     @Autowired
     InterviewerService interviewerService;
+
+    @Autowired
+    UserImportService userImportService;
+
+    @Autowired
+    FreeBusyService freeBusyService;
     
     @PostMapping("/register")
-    public ResponseEntity<Interviewer> register( @Valid @RequestBody InterviewerDTO interviewerDTO ) {
-        Interviewer interviewerSaved;
+    public ResponseEntity<InterviewerView> register( @Valid @RequestBody InterviewerDTO interviewerDTO ) {
+        InterviewerView interviewerSaved;
         try {
           interviewerSaved = interviewerService.register( interviewerDTO );
         } catch (DuplicatedUserException e) {
@@ -43,14 +64,36 @@ public class InterviewerController {
         return ResponseEntity.status( HttpStatus.CREATED ).body( interviewerSaved );
     }
 
+    /**
+     * Registers every interviewer of a CSV (name,email) or NDJSON upload and streams back one
+     * NDJSON result line per row.
+     */
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<StreamingResponseBody> importInterviewers( @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body ) {
+        ImportFormat format = ImportFormat.of( contentType );
+        StreamingResponseBody report = out -> userImportService.importInterviewers( body, format, out );
+        return ResponseEntity.status( HttpStatus.OK ).contentType( MediaType.APPLICATION_NDJSON ).body( report );
+    }
+
     @GetMapping("")
-    public ResponseEntity<List<Interviewer>> getAll() {
+    public ResponseEntity<List<InterviewerView>> getAll() {
         return ResponseEntity.status( HttpStatus.OK ).body( interviewerService.getAllInterviewers() );
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<PageDTO<InterviewerView>> getPage( @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "50") int size ) {
+        PageDTO<InterviewerView> page;
+        try {
+            page = interviewerService.getInterviewersPage( cursor, size );
+        } catch (BadRequestException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( page );
+    }
+
     @PostMapping("/{email}")
-    public ResponseEntity<Interviewer> login( @PathVariable @Valid @Email String email ) {
-        Interviewer interviewer = interviewerService.getInterviewerByEmail( email );
+    public ResponseEntity<InterviewerView> login( @PathVariable @Valid @Email String email ) {
+        InterviewerView interviewer = interviewerService.getInterviewerByEmail( email );
         if (interviewer==null){
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
@@ -58,14 +101,50 @@ public class InterviewerController {
     }
 
     @GetMapping("interviewslot/{id}")
-    public ResponseEntity<Set<InterviewSlot>> getInterviewSlot( @PathVariable @Valid Long id ) {
-        Set<InterviewSlot> setOfInterviewSlot;
+    public ResponseEntity<List<InterviewSlotView>> getInterviewSlot( @PathVariable @Valid Long id ) {
+        List<InterviewSlotView> interviewSlots;
         try {
-            setOfInterviewSlot = interviewerService.getAllInterviewSlotsByInterviewer( id );
+            interviewSlots = interviewerService.getAllInterviewSlotsByInterviewer( id );
         } catch (UserNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
-        return ResponseEntity.status( HttpStatus.OK ).body( setOfInterviewSlot );
+        return ResponseEntity.status( HttpStatus.OK ).body( interviewSlots );
+    }
+
+    /**
+     * The interviewer's slots in [from, to), for the week view, with optional per-day counts
+     * for the countDays days on either side of the window.
+     */
+    @GetMapping("calendar/{id}")
+    public ResponseEntity<CalendarView> getCalendar( @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") int countDays ) {
+        CalendarView calendar;
+        try {
+            calendar = interviewerService.getCalendar( id, from, to, countDays );
+        } catch (BadRequestException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (UserNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( calendar );
+    }
+
+    /**
+     * Packed free/busy bitmaps of many interviewers over the days [from, from + days).
+     */
+    @GetMapping("/freebusy")
+    public ResponseEntity<FreeBusyView> getFreeBusy( @RequestParam List<Long> interviewerIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(defaultValue = "7") int days ) {
+        FreeBusyView freeBusy;
+        try {
+            freeBusy = freeBusyService.getFreeBusy( interviewerIds, from, days );
+        } catch (BadRequestException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( freeBusy );
     }
     
 }
@@ -0,0 +1,64 @@
+package com.example.interviewscheduler.controllers;
+
+import javax.validation.Valid;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.interviewscheduler.dtos.WaitlistDTO;
+import com.example.interviewscheduler.dtos.WaitlistEntryView;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.exceptions.ConflictException;
+import com.example.interviewscheduler.exceptions.UserNotFoundException;
+import com.example.interviewscheduler.services.WaitlistService;
+
+@RestController
+@RequestMapping("api/scheduler/waitlist")
+@CrossOrigin
+public class WaitlistController {
+
+    @Autowired
+    WaitlistService waitlistService;
+
+    @PostMapping("")
+    public ResponseEntity<WaitlistEntryView> join(@Valid @RequestBody WaitlistDTO waitlistDTO) {
+        WaitlistEntryView entry;
+        try {
+            entry = waitlistService.join(waitlistDTO);
+        } catch (BadRequestException e) {
+            return ResponseEntity.status( HttpStatus.BAD_REQUEST ).body(null);
+        } catch (UserNotFoundException e){
+            return ResponseEntity.status( HttpStatus.NOT_FOUND ).body(null);
+        } catch (ConflictException e){
+            return ResponseEntity.status( HttpStatus.CONFLICT ).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.CREATED ).body( entry );
+    }
+
+    @GetMapping("/{candidateId}")
+    public ResponseEntity<WaitlistEntryView> get(@PathVariable long candidateId) {
+        WaitlistEntryView entry = waitlistService.get(candidateId);
+        if (entry == null){
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.OK ).body( entry );
+    }
+
+    @DeleteMapping("/{candidateId}")
+    public ResponseEntity<Void> leave(@PathVariable long candidateId) {
+        if (!waitlistService.leave(candidateId)){
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        }
+        return ResponseEntity.status( HttpStatus.NO_CONTENT ).body(null);
+    }
+
+}
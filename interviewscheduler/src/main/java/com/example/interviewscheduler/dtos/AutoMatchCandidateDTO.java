@@ -0,0 +1,27 @@
+package com.example.interviewscheduler.dtos;
+
+import java.time.LocalDateTime;
+
+import javax.validation.constraints.NotNull;
+
+import lombok.*;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoMatchCandidateDTO {
+
+    @NotNull(message = "Candidate is required")
+    private Long candidateId;
+
+    // optional bounds of the slot times the candidate accepts
+    private LocalDateTime earliest;
+
+    private LocalDateTime latest;
+
+    // optional: slots closest to this time are preferred, otherwise the earliest ones
+    private LocalDateTime preferred;
+
+}
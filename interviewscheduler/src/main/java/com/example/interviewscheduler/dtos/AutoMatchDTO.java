@@ -0,0 +1,24 @@
+package com.example.interviewscheduler.dtos;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+import lombok.*;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoMatchDTO {
+
+    // in input order: earlier candidates get their preferred slots first
+    @NotNull(message = "Candidates are required")
+    @NotEmpty
+    @Valid
+    private List<AutoMatchCandidateDTO> candidates;
+
+}
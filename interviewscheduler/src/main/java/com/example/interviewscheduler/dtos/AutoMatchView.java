@@ -0,0 +1,24 @@
+package com.example.interviewscheduler.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outcome of a batch auto-matching run: the bookings made, the candidates left without a
+ * slot (no free slot in their window, already booked, unknown, or lost to a concurrent
+ * booking) and how long the matching and the whole run took.
+ */
+public record AutoMatchView(
+    int candidates,
+    int matched,
+    long matchingMillis,
+    long elapsedMillis,
+    double matchedPerSecond,
+    List<Assignment> assignments,
+    List<Long> unmatchedCandidateIds
+) {
+
+    public record Assignment(long slotId, LocalDateTime time, long interviewerId, long candidateId) {
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.example.interviewscheduler.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+import lombok.*;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkInterviewSlotDTO {
+
+    @NotNull(message = "Slot Interviewer is required")
+    private InterviewerDTO interviewer;
+
+    @NotNull(message = "Slot date/times are required")
+    @NotEmpty
+    private List<LocalDateTime> times;
+
+}
@@ -0,0 +1,9 @@
+package com.example.interviewscheduler.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact calendar entry of an interviewer's slot; the interviewer is implied by the calendar.
+ */
+public record CalendarSlotView(long id, LocalDateTime time, Long candidateId, String candidateName) {
+}
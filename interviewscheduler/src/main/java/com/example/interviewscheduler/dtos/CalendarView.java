@@ -0,0 +1,19 @@
+package com.example.interviewscheduler.dtos;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An interviewer's slots in the window [from, to) in time order, plus the number of slots
+ * on each of the days around the window that were asked for (days without slots are left out).
+ */
+public record CalendarView(
+    long interviewerId,
+    LocalDateTime from,
+    LocalDateTime to,
+    List<CalendarSlotView> slots,
+    Map<LocalDate, Long> dayCounts
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.interviewscheduler.dtos;
+
+import com.example.interviewscheduler.models.Candidate;
+
+/**
+ * Read model of a candidate, without the slot association.
+ */
+public record CandidateView(long id, String name, String email) {
+
+    public static CandidateView of(Candidate candidate) {
+        return new CandidateView(candidate.getId(), candidate.getName(), candidate.getEmail());
+    }
+
+}
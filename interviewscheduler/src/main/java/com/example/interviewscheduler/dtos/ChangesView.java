@@ -0,0 +1,24 @@
+package com.example.interviewscheduler.dtos;
+
+import java.util.List;
+
+/**
+ * Slots, candidates and interviewers written at change versions [since, next), in their current
+ * state, and the ids of those deleted. Ask again with since = next while more is true; once it
+ * is false, next is where to poll from later. A transaction too large for one call is served
+ * in pages: next stays at its version and cursor is set, so ask again with since = next and
+ * that cursor.
+ */
+public record ChangesView(
+    long since,
+    long next,
+    boolean more,
+    String cursor,
+    List<InterviewSlotView> slots,
+    List<CandidateView> candidates,
+    List<InterviewerView> interviewers,
+    List<Long> deletedSlotIds,
+    List<Long> deletedCandidateIds,
+    List<Long> deletedInterviewerIds
+) {
+}
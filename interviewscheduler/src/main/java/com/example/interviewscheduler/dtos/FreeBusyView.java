@@ -0,0 +1,18 @@
+package com.example.interviewscheduler.dtos;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Free/busy bitmaps of several interviewers over the days [from, from + days).
+ *
+ * Each bitmap is base64 of 3 bytes per day: the 24-bit hour mask of the day, low byte first,
+ * with bit h set for the slot starting in hour h. Free hours have an unassigned slot, busy
+ * hours an assigned one; hours with neither have no slot at all.
+ */
+public record FreeBusyView(LocalDate from, int days, List<InterviewerBitmaps> interviewers) {
+
+    public record InterviewerBitmaps(long interviewerId, String free, String busy) {
+    }
+
+}
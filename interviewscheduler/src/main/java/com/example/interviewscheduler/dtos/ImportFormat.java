@@ -0,0 +1,21 @@
+package com.example.interviewscheduler.dtos;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Upload formats accepted by the user import endpoints, keyed by request content type.
+ */
+public enum ImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final MediaType mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public static ImportFormat of(MediaType contentType) {
+        return CSV.mediaType.isCompatibleWith(contentType) ? CSV : NDJSON;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.interviewscheduler.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.*;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportRowResultDTO {
+
+    private long line;
+
+    private String email;
+
+    private ImportStatus status;
+
+    private Long id;
+
+    private String message;
+    
+}
@@ -0,0 +1,11 @@
+package com.example.interviewscheduler.dtos;
+
+/**
+ * Outcome of a single row of a user import.
+ */
+public enum ImportStatus {
+    CREATED,
+    DUPLICATE,
+    EXISTING,
+    INVALID
+}
@@ -0,0 +1,31 @@
+package com.example.interviewscheduler.dtos;
+
+import java.time.LocalDateTime;
+
+import com.example.interviewscheduler.models.InterviewSlot;
+
+/**
+ * Read model of an interview slot, with the interviewer and candidate flattened to id and name.
+ * Listing queries build it directly with a constructor expression, so no entity gets managed.
+ */
+public record InterviewSlotView(
+    long id,
+    LocalDateTime time,
+    long interviewerId,
+    String interviewerName,
+    Long candidateId,
+    String candidateName
+) {
+
+    public static InterviewSlotView of(InterviewSlot slot) {
+        return new InterviewSlotView(
+            slot.getId(),
+            slot.getTime(),
+            slot.getInterviewer().getId(),
+            slot.getInterviewer().getName(),
+            slot.getCandidate() == null ? null : slot.getCandidate().getId(),
+            slot.getCandidate() == null ? null : slot.getCandidate().getName()
+        );
+    }
+
+}
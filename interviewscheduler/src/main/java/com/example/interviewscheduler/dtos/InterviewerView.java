@@ -0,0 +1,14 @@
+package com.example.interviewscheduler.dtos;
+
+import com.example.interviewscheduler.models.Interviewer;
+
+/**
+ * Read model of an interviewer, without the slots association.
+ */
+public record InterviewerView(long id, String name, String email) {
+
+    public static InterviewerView of(Interviewer interviewer) {
+        return new InterviewerView(interviewer.getId(), interviewer.getName(), interviewer.getEmail());
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.example.interviewscheduler.dtos;
+
+import java.util.List;
+
+import lombok.*;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageDTO<T> {
+
+    private List<T> items;
+
+    // opaque cursor for the following page, null on the last page
+    private String next;
+
+}
@@ -0,0 +1,43 @@
+package com.example.interviewscheduler.dtos;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+import lombok.*;
+
+/**
+ * Weekly availability: one-hour slots from startTime to endTime on each of the
+ * given days of the week, for every week between startDate and endDate (inclusive).
+ */
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringInterviewSlotDTO {
+
+    @NotNull(message = "Slot Interviewer is required")
+    private InterviewerDTO interviewer;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    @NotNull(message = "Days of the week are required")
+    @NotEmpty
+    private Set<DayOfWeek> daysOfWeek;
+
+    @NotNull(message = "Daily start time is required")
+    private LocalTime startTime;
+
+    @NotNull(message = "Daily end time is required")
+    private LocalTime endTime;
+
+}
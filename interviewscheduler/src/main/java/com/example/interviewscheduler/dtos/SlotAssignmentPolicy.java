@@ -0,0 +1,12 @@
+package com.example.interviewscheduler.dtos;
+
+/**
+ * How a booking by time chooses among the interviewers free at that time.
+ */
+public enum SlotAssignmentPolicy {
+    // fewest booked interviews around the slot's day
+    LEAST_LOADED,
+    // the next interviewer, by id, after the one booked last
+    ROUND_ROBIN,
+    RANDOM
+}
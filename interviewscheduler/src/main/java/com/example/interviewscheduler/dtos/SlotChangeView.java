@@ -0,0 +1,35 @@
+package com.example.interviewscheduler.dtos;
+
+import java.time.LocalDateTime;
+
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+
+/**
+ * Data of a slot change pushed to the slot stream; the kind of change is the event name.
+ *
+ * Changes of one slot can arrive out of order, since they are published by the transactions
+ * that made them as each commits. version is the slot version the change left behind and grows
+ * with every write to the slot: a client keeps the last version it applied per slot and drops
+ * any change at or below it.
+ */
+public record SlotChangeView(
+    long slotId,
+    LocalDateTime time,
+    long interviewerId,
+    String interviewerName,
+    Long candidateId,
+    long version
+) {
+
+    public static SlotChangeView of(InterviewSlotEvent event) {
+        return new SlotChangeView(
+            event.slotId(),
+            event.time(),
+            event.interviewerId(),
+            event.interviewerName(),
+            event.candidateId(),
+            event.version()
+        );
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.example.interviewscheduler.dtos;
+
+import java.time.Instant;
+
+import com.example.interviewscheduler.events.SlotHoldEvent;
+
+/**
+ * Data of a hold change pushed to the slot stream; the kind of change is the event name.
+ * The holder is left out: other clients only need to know the slot is taken for now.
+ */
+public record SlotHoldChangeView(long slotId, Instant expiresAt) {
+
+    public static SlotHoldChangeView of(SlotHoldEvent event) {
+        return new SlotHoldChangeView(event.slotId(), event.expiresAt());
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.example.interviewscheduler.dtos;
+
+import java.time.Instant;
+
+/**
+ * A candidate's hold on a free slot, which lapses at expiresAt unless renewed or confirmed.
+ */
+public record SlotHoldView(long slotId, long candidateId, Instant expiresAt) {
+}
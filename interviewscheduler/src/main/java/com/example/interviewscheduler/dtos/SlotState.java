@@ -0,0 +1,10 @@
+package com.example.interviewscheduler.dtos;
+
+/**
+ * Assignment state used to filter interview slot listings.
+ */
+public enum SlotState {
+    ALL,
+    ASSIGNED,
+    UNASSIGNED
+}
@@ -0,0 +1,24 @@
+package com.example.interviewscheduler.dtos;
+
+import java.time.LocalDateTime;
+
+import com.example.interviewscheduler.models.WaitlistEntry;
+
+/**
+ * Read model of a waitlist entry.
+ */
+public record WaitlistEntryView(
+    long id,
+    long candidateId,
+    LocalDateTime earliest,
+    LocalDateTime latest,
+    int priority,
+    LocalDateTime createdAt
+) {
+
+    public static WaitlistEntryView of(WaitlistEntry entry) {
+        return new WaitlistEntryView(entry.getId(), entry.getCandidate().getId(), entry.getEarliest(), entry.getLatest(),
+            entry.getPriority(), entry.getCreatedAt());
+    }
+
+}
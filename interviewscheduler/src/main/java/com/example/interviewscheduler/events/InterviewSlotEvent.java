@@ -0,0 +1,51 @@
+package com.example.interviewscheduler.events;
+
+import java.time.LocalDateTime;
+
+import com.example.interviewscheduler.models.InterviewSlot;
+
+/**
+ * Published by InterviewSlotService whenever a slot changes state.
+ * Holds a snapshot of the slot so listeners never touch a (possibly detached) entity.
+ *
+ * Events are published after commit by the thread that made the change, so two changes of one
+ * slot can reach a listener in the other order. The version is the slot's (see V8): a listener
+ * that keeps state per slot drops an event whose version it has already applied (SlotVersions).
+ */
+public record InterviewSlotEvent(
+    Type type,
+    long slotId,
+    LocalDateTime time,
+    long interviewerId,
+    String interviewerName,
+    String interviewerEmail,
+    Long candidateId,
+    long version
+) {
+
+    public enum Type {
+        CREATED,
+        BOOKED,
+        // the booking was cancelled or moved away; the slot is free again
+        CANCELLED
+    }
+
+    public static InterviewSlotEvent of(Type type, InterviewSlot slot) {
+        return new InterviewSlotEvent(
+            type,
+            slot.getId(),
+            slot.getTime(),
+            slot.getInterviewer().getId(),
+            slot.getInterviewer().getName(),
+            slot.getInterviewer().getEmail(),
+            slot.getCandidate() == null ? null : slot.getCandidate().getId(),
+            slot.getVersion()
+        );
+    }
+
+    // whether the slot is booked after this change
+    public boolean booked() {
+        return type == Type.BOOKED || (type == Type.CREATED && candidateId != null);
+    }
+
+}
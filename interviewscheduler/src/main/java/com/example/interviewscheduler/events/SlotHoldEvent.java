@@ -0,0 +1,22 @@
+package com.example.interviewscheduler.events;
+
+import java.time.Instant;
+
+/**
+ * Published by SlotHoldService when a hold is placed or renewed, and when one ends without
+ * its booking: released, lapsed, or replaced by another hold of the candidate. A hold ended by
+ * the booking of its slot publishes nothing; the InterviewSlotEvent tells that.
+ */
+public record SlotHoldEvent(
+    Type type,
+    long slotId,
+    // when the hold lapses; null once released
+    Instant expiresAt
+) {
+
+    public enum Type {
+        HELD,
+        RELEASED
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.example.interviewscheduler.models;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A slot creation, booking or cancellation waiting to be relayed to the sinks, recorded by a
+ * trigger (see V7) in the transaction of the change. Never written by the application; the
+ * relay deletes it once every sink took it. The id orders the events and lets sinks drop the
+ * ones delivered twice.
+ */
+@Entity
+@Immutable
+@Table(name = "booking_outbox")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingOutboxEvent {
+
+    public static final String CREATED = "CREATED";
+    public static final String BOOKED = "BOOKED";
+    public static final String CANCELLED = "CANCELLED";
+
+    @Id
+    private long id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "slot_id", nullable = false)
+    private long slotId;
+
+    @Column(name = "slot_time", nullable = false)
+    private LocalDateTime slotTime;
+
+    @Column(name = "interviewer_id", nullable = false)
+    private long interviewerId;
+
+    @Column(name = "candidate_id")
+    private Long candidateId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+}
@@ -0,0 +1,44 @@
+package com.example.interviewscheduler.models;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A deleted slot, candidate or interviewer, recorded by a delete trigger (see V6) so delta
+ * sync clients learn about the delete. Never written by the application.
+ */
+@Entity
+@Immutable
+@Table(name = "change_tombstone")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChangeTombstone {
+
+    public static final String SLOT = "SLOT";
+    public static final String CANDIDATE = "CANDIDATE";
+    public static final String INTERVIEWER = "INTERVIEWER";
+
+    @Id
+    private long id;
+
+    @Column(name = "entity_type", nullable = false)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private long entityId;
+
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
+}
@@ -10,6 +10,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 import lombok.AllArgsConstructor;
@@ -26,7 +27,8 @@ import lombok.Setter;
 public class InterviewSlot {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interview_slot_seq")
+    @SequenceGenerator(name = "interview_slot_seq", sequenceName = "interview_slot_slot_id_seq", allocationSize = 50)
     @Column(name = "slot_id")
     private long id;
 
@@ -40,5 +42,9 @@ public class InterviewSlot {
     @OneToOne
     @JoinColumn(name="candidate_id", nullable = true)
     private Candidate candidate;
+
+    // set by trigger (V8), one more on every update of the row
+    @Column(name = "slot_version", insertable = false, updatable = false)
+    private long version;
     
 }
@@ -0,0 +1,52 @@
+package com.example.interviewscheduler.models;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToOne;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A candidate waiting for a slot between earliest and latest (either end may be open).
+ */
+@Entity
+@Table(name = "waitlist_entry")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class WaitlistEntry {
+
+    // identity, not a pooled sequence: the id doubles as the arrival order
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name="candidate_id", nullable = false)
+    private Candidate candidate;
+
+    @Column(name = "earliest")
+    private LocalDateTime earliest;
+
+    @Column(name = "latest")
+    private LocalDateTime latest;
+
+    @Column(name = "priority", nullable = false)
+    private int priority;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,36 @@
+package com.example.interviewscheduler.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.interviewscheduler.models.BookingOutboxEvent;
+
+@Repository
+public interface BookingOutboxRepository extends JpaRepository<BookingOutboxEvent, Long>{
+
+    // "outbox" in ASCII, as the advisory lock key
+    long RELAY_LOCK = 0x6F7574626F78L;
+
+    /**
+     * Only one relay drains the outbox at a time, across instances. Held until the end of the
+     * calling transaction; false when another relay has it.
+     */
+    @Query(value="SELECT pg_try_advisory_xact_lock(" + RELAY_LOCK + ")", nativeQuery=true)
+    boolean tryLockRelay();
+
+    @Query("SELECT e FROM BookingOutboxEvent e ORDER BY e.id")
+    List<BookingOutboxEvent> findFirstBatch(Pageable pageable);
+
+    // native: the entity is immutable to Hibernate
+    @Modifying
+    @Query(value="DELETE FROM booking_outbox WHERE id IN (:ids)", nativeQuery=true)
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+}
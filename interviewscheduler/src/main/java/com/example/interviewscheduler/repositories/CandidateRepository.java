@@ -1,15 +1,76 @@
 package com.example.interviewscheduler.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.interviewscheduler.dtos.CandidateView;
 import com.example.interviewscheduler.models.Candidate;
 
 @Repository
 public interface CandidateRepository extends JpaRepository<Candidate, Long>{
 
-    Optional<Candidate> findByEmail(String email);
+    // only email -> id is cached: it never changes, and misses are not cached, so a new registration needs no
+    // invalidation. Rows hold the candidate's booking, so they are left to the second-level cache (see evictBooking).
+    // Candidate.slot is an inverse one-to-one that Hibernate always loads; fetch it (and its interviewer) in the same select
+    @Override
+    @EntityGraph(attributePaths = {"slot", "slot.interviewer"})
+    Optional<Candidate> findById(Long id);
+
+    @Cacheable(cacheNames = "candidateIdsByEmail", unless = "#result == null")
+    @Query("SELECT c.id FROM Candidate c WHERE c.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    @Override
+    @EntityGraph(attributePaths = {"slot", "slot.interviewer"})
+    List<Candidate> findAll();
+
+    // read models for the listings: the slot association is not read at all
+    @Query("SELECT new com.example.interviewscheduler.dtos.CandidateView(c.id, c.name, c.email) FROM Candidate c ORDER BY c.id")
+    List<CandidateView> findAllViews();
+
+    // keyset pagination over id
+    @Query("SELECT new com.example.interviewscheduler.dtos.CandidateView(c.id, c.name, c.email) FROM Candidate c WHERE c.id > :id ORDER BY c.id")
+    List<CandidateView> findViewsAfter(@Param("id") long id, Pageable pageable);
+
+    // batch matching: which of a batch of ids are registered candidates without a slot
+    @Query("SELECT c.id FROM Candidate c WHERE c.id IN :ids AND NOT EXISTS (SELECT s.id FROM InterviewSlot s WHERE s.candidate = c)")
+    Set<Long> findUnassignedIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // bulk import: which of a batch of emails are already registered
+    @Query("SELECT c.email FROM Candidate c WHERE c.email IN :emails")
+    Set<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
     
+    // delta sync: candidates last written by transactions in [since, upTo), in version order (see V6)
+    @Query(value="SELECT c.id AS \"id\", c.name AS \"name\", c.email AS \"email\", c.change_version AS \"changeVersion\""
+        + " FROM candidate c WHERE c.change_version >= :since AND c.change_version < :upTo"
+        + " ORDER BY c.change_version, c.id LIMIT :limit", nativeQuery=true)
+    List<ChangedCandidate> findChangedBetween(@Param("since") long since, @Param("upTo") long upTo, @Param("limit") int limit);
+
+    // the candidates of one version after an id, for a transaction too large for one call
+    @Query(value="SELECT c.id AS \"id\", c.name AS \"name\", c.email AS \"email\", c.change_version AS \"changeVersion\""
+        + " FROM candidate c WHERE c.change_version = :version AND c.id > :afterId"
+        + " ORDER BY c.id LIMIT :limit", nativeQuery=true)
+    List<ChangedCandidate> findChangedInVersion(@Param("version") long version, @Param("afterId") long afterId, @Param("limit") int limit);
+
+    interface ChangedCandidate {
+        long getId();
+        String getName();
+        String getEmail();
+        long getChangeVersion();
+
+        default CandidateView toView(){
+            return new CandidateView(getId(), getName(), getEmail());
+        }
+    }
+
 }
@@ -0,0 +1,29 @@
+package com.example.interviewscheduler.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.interviewscheduler.models.ChangeTombstone;
+
+@Repository
+public interface ChangeTombstoneRepository extends JpaRepository<ChangeTombstone, Long>{
+
+    /**
+     * Change versions are transaction ids; every transaction below the oldest one still running
+     * has finished, so rows with a lower version can no longer appear or change under it.
+     */
+    @Query(value="SELECT txid_snapshot_xmin(txid_current_snapshot())", nativeQuery=true)
+    long findStableChangeVersion();
+
+    @Query("SELECT t FROM ChangeTombstone t WHERE t.changeVersion >= :since AND t.changeVersion < :upTo ORDER BY t.changeVersion, t.id")
+    List<ChangeTombstone> findChangedBetween(@Param("since") long since, @Param("upTo") long upTo, Pageable pageable);
+
+    @Query("SELECT t FROM ChangeTombstone t WHERE t.changeVersion = :version AND t.id > :afterId ORDER BY t.id")
+    List<ChangeTombstone> findChangedInVersion(@Param("version") long version, @Param("afterId") long afterId, Pageable pageable);
+
+}
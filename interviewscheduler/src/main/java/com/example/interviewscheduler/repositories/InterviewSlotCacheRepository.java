@@ -0,0 +1,14 @@
+package com.example.interviewscheduler.repositories;
+
+/**
+ * Second-level cache upkeep for bookings written by bulk or native statements,
+ * which Hibernate does not apply to the cached entities.
+ */
+public interface InterviewSlotCacheRepository {
+
+    /**
+     * Drops the cached candidate row, whose entry holds its slot. Slots themselves are not
+     * cached: every booking path reads them back as they are.
+     */
+    void evictBooking(long candidateId);
+}
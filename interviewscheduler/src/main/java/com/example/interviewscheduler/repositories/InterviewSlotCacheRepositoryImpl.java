@@ -0,0 +1,21 @@
+package com.example.interviewscheduler.repositories;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnit;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+
+import com.example.interviewscheduler.models.Candidate;
+
+class InterviewSlotCacheRepositoryImpl implements InterviewSlotCacheRepository {
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void evictBooking(long candidateId){
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Candidate.class, candidateId);
+    }
+}
@@ -1,21 +1,223 @@
 package com.example.interviewscheduler.repositories;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import com.example.interviewscheduler.dtos.CalendarSlotView;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
 import com.example.interviewscheduler.models.InterviewSlot;
 import com.example.interviewscheduler.models.Interviewer;
 
 @Repository
-public interface InterviewSlotRepository extends JpaRepository<InterviewSlot, Long>{
+public interface InterviewSlotRepository extends JpaRepository<InterviewSlot, Long>, InterviewSlotCacheRepository{
+
     Optional<InterviewSlot> findByTimeAndInterviewer(LocalDateTime time, Interviewer interviewer);
-    @Query("SELECT s FROM InterviewSlot s WHERE s.candidate IS NULL")
+
+    // both associations are eager; fetch them in the same select instead of one select per row
+    @Override
+    @EntityGraph(attributePaths = {"interviewer", "candidate"})
+    Optional<InterviewSlot> findById(Long id);
+    @Override
+    @EntityGraph(attributePaths = {"interviewer", "candidate"})
+    List<InterviewSlot> findAll();
+
+    @Query("SELECT s.time FROM InterviewSlot s WHERE s.interviewer = :interviewer AND s.time BETWEEN :from AND :to")
+    List<LocalDateTime> findTimesByInterviewerBetween(@Param("interviewer") Interviewer interviewer, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    // only read when SlotAvailabilityIndex is rebuilt
+    @Query("SELECT s FROM InterviewSlot s JOIN FETCH s.interviewer WHERE s.candidate IS NULL")
     List<InterviewSlot> findAvailableSlots();
-    @Query(value="SELECT s FROM InterviewSlot s WHERE s.time = ?1 AND s.candidate IS NULL")
-    List<InterviewSlot> findAvailableSlotsByTime(LocalDateTime time);
+
+    // books the slot in one statement: only if it is still free, the candidate exists and has no slot yet.
+    // Neither claim updates the cached candidate: follow a successful one with evictBooking
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InterviewSlot s SET s.candidate.id = :candidateId WHERE s.id = :slotId AND s.candidate IS NULL"
+        + " AND EXISTS (SELECT c.id FROM Candidate c WHERE c.id = :candidateId)"
+        + " AND NOT EXISTS (SELECT o.id FROM InterviewSlot o WHERE o.candidate.id = :candidateId)")
+    int claimSlot(@Param("slotId") long slotId, @Param("candidateId") long candidateId);
+
+    /**
+     * Books the first free slot at that time that no concurrent booking holds locked, taking the
+     * slots in the preferredSlotIds order (any others after them, by id); returns its id.
+     */
+    @Transactional
+    default Optional<Long> claimFirstAvailableSlotAt(LocalDateTime time, long candidateId, Collection<Long> excludedSlotIds, List<Long> preferredSlotIds){
+        return claimFirstAvailableSlotInOrder(time, candidateId, excludedSlotIds, toArrayLiteral(preferredSlotIds));
+    }
+
+    @Transactional
+    @Query(value="WITH picked AS ("
+        + " SELECT slot_id FROM interview_slot WHERE slot_time = :time AND candidate_id IS NULL AND slot_id NOT IN (:excludedSlotIds)"
+        + " ORDER BY array_position(CAST(:preferredSlotIds AS bigint[]), slot_id), slot_id LIMIT 1 FOR UPDATE SKIP LOCKED)"
+        + " UPDATE interview_slot s SET candidate_id = :candidateId FROM picked WHERE s.slot_id = picked.slot_id"
+        + " AND EXISTS (SELECT 1 FROM candidate c WHERE c.id = :candidateId)"
+        + " AND NOT EXISTS (SELECT 1 FROM interview_slot o WHERE o.candidate_id = :candidateId)"
+        + " RETURNING s.slot_id", nativeQuery=true)
+    Optional<Long> claimFirstAvailableSlotInOrder(@Param("time") LocalDateTime time, @Param("candidateId") long candidateId,
+        @Param("excludedSlotIds") Collection<Long> excludedSlotIds, @Param("preferredSlotIds") String preferredSlotIds);
+
+    /**
+     * Books many (slot, candidate) pairs in one statement, each under the same conditions as
+     * claimSlot; returns the pairs that were booked. The lists are matched up by position and
+     * no candidate may appear twice. Follow it with evictBooking for every booked candidate.
+     */
+    @Transactional
+    default List<BookedSlot> claimSlots(List<Long> slotIds, List<Long> candidateIds){
+        return claimSlotArrays(toArrayLiteral(slotIds), toArrayLiteral(candidateIds));
+    }
+
+    // the ids travel as two bigint array literals ('{1,2,3}'), so a batch is one statement of fixed shape
+    @Transactional
+    @Query(value="UPDATE interview_slot s SET candidate_id = m.candidate_id"
+        + " FROM unnest(CAST(:slotIds AS bigint[]), CAST(:candidateIds AS bigint[])) AS m(slot_id, candidate_id)"
+        + " WHERE s.slot_id = m.slot_id AND s.candidate_id IS NULL"
+        + " AND EXISTS (SELECT 1 FROM candidate c WHERE c.id = m.candidate_id)"
+        + " AND NOT EXISTS (SELECT 1 FROM interview_slot o WHERE o.candidate_id = m.candidate_id)"
+        + " RETURNING s.slot_id AS \"slotId\", s.candidate_id AS \"candidateId\", s.slot_version AS \"version\"", nativeQuery=true)
+    List<BookedSlot> claimSlotArrays(@Param("slotIds") String slotIds, @Param("candidateIds") String candidateIds);
+
+    interface BookedSlot {
+        long getSlotId();
+        long getCandidateId();
+        long getVersion();
+    }
+
+    private static String toArrayLiteral(List<Long> ids){
+        StringJoiner literal = new StringJoiner(",", "{", "}");
+        ids.forEach(id -> literal.add(Long.toString(id)));
+        return literal.toString();
+    }
+
+    @Query("SELECT s.id FROM InterviewSlot s WHERE s.candidate.id = :candidateId")
+    Optional<Long> findSlotIdByCandidateId(@Param("candidateId") long candidateId);
+
+    // frees the candidate's slot in one statement; returns its id. Follow it with evictBooking too
+    @Transactional
+    @Query(value="UPDATE interview_slot SET candidate_id = NULL WHERE candidate_id = :candidateId RETURNING slot_id", nativeQuery=true)
+    Optional<Long> releaseCandidateSlot(@Param("candidateId") long candidateId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InterviewSlot s SET s.candidate = NULL WHERE s.id = :slotId AND s.candidate.id = :candidateId")
+    int releaseSlot(@Param("slotId") long slotId, @Param("candidateId") long candidateId);
+
+    // row locks on both slots, always taken in slot id order so two crossing moves cannot deadlock
+    @Query(value="SELECT slot_id FROM interview_slot WHERE slot_id IN (:slotIds) ORDER BY slot_id FOR UPDATE", nativeQuery=true)
+    List<Long> lockSlots(@Param("slotIds") Collection<Long> slotIds);
+
+    /**
+     * Moves the candidate's booking from one slot to another in one transaction: the old slot is
+     * freed and the new one claimed, or neither. Returns false (and rolls back) when the candidate
+     * no longer holds fromSlotId or toSlotId is not free. Follow a move with evictBooking too.
+     */
+    @Transactional
+    default boolean moveBooking(long candidateId, long fromSlotId, long toSlotId){
+        lockSlots(List.of(fromSlotId, toSlotId));
+        // free the old slot first: the candidate can only hold one slot at a time
+        if (releaseSlot(fromSlotId, candidateId) == 0 || claimSlot(toSlotId, candidateId) == 0){
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return false;
+        }
+        return true;
+    }
+
+    // read models built by constructor expressions: one flat row per slot, no managed entities
+    String SLOT_VIEW = "SELECT new com.example.interviewscheduler.dtos.InterviewSlotView(s.id, s.time, i.id, i.name, c.id, c.name)"
+        + " FROM InterviewSlot s JOIN s.interviewer i LEFT JOIN s.candidate c";
+
+    @Query(SLOT_VIEW + " ORDER BY s.time, s.id")
+    List<InterviewSlotView> findAllViews();
+    @Query(SLOT_VIEW + " WHERE i.id = :interviewerId ORDER BY s.time, s.id")
+    List<InterviewSlotView> findViewsByInterviewerId(@Param("interviewerId") long interviewerId);
+
+    // calendar reads: range scans of the (interviewer_id, slot_time) unique index
+    @Query("SELECT new com.example.interviewscheduler.dtos.CalendarSlotView(s.id, s.time, c.id, c.name)"
+        + " FROM InterviewSlot s LEFT JOIN s.candidate c"
+        + " WHERE s.interviewer.id = :interviewerId AND s.time >= :from AND s.time < :to ORDER BY s.time")
+    List<CalendarSlotView> findCalendar(@Param("interviewerId") long interviewerId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    @Query(value = "SELECT CAST(slot_time AS date) AS day, COUNT(*) AS slots FROM interview_slot"
+        + " WHERE interviewer_id = :interviewerId AND slot_time >= :from AND slot_time < :to"
+        + " AND (slot_time < :windowFrom OR slot_time >= :windowTo)"
+        + " GROUP BY CAST(slot_time AS date) ORDER BY day", nativeQuery=true)
+    List<DayCount> countByDayOutside(@Param("interviewerId") long interviewerId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+        @Param("windowFrom") LocalDateTime windowFrom, @Param("windowTo") LocalDateTime windowTo);
+
+    interface DayCount {
+        LocalDate getDay();
+        long getSlots();
+    }
+
+    // free/busy and interviewer load: id, version, interviewer, time and candidate of the slots from a time on, nothing else
+    @Query("SELECT s.id AS slotId, s.version AS version, s.interviewer.id AS interviewerId, s.time AS time, c.id AS candidateId"
+        + " FROM InterviewSlot s LEFT JOIN s.candidate c WHERE s.time >= :from")
+    List<SlotHour> findSlotHoursFrom(@Param("from") LocalDateTime from);
+
+    interface SlotHour {
+        long getSlotId();
+        long getVersion();
+        long getInterviewerId();
+        LocalDateTime getTime();
+        Long getCandidateId();
+    }
+
+    // keyset pagination over (slot_time, slot_id); the time >= bound lets the (slot_time, slot_id) index start at the cursor
+    @Query(SLOT_VIEW + " ORDER BY s.time, s.id")
+    List<InterviewSlotView> findFirstViewPage(Pageable pageable);
+    @Query(SLOT_VIEW + " WHERE s.time >= :time AND (s.time > :time OR s.id > :id) ORDER BY s.time, s.id")
+    List<InterviewSlotView> findViewPageAfter(@Param("time") LocalDateTime time, @Param("id") long id, Pageable pageable);
+
+    // streamed export, read in chunks of fetch size rows; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SLOT_VIEW + " WHERE s.time >= :from AND s.time < :to"
+        + " AND (:state = 'ALL' OR (:state = 'ASSIGNED' AND c.id IS NOT NULL) OR (:state = 'UNASSIGNED' AND c.id IS NULL))"
+        + " ORDER BY s.time, s.id")
+    Stream<InterviewSlotView> streamViewsForExport(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, @Param("state") String state);
+
+    // delta sync: slots last written by transactions in [since, upTo), in version order (see V6)
+    @Query(value="SELECT s.slot_id AS \"id\", s.slot_time AS \"time\", i.id AS \"interviewerId\", i.name AS \"interviewerName\","
+        + " c.id AS \"candidateId\", c.name AS \"candidateName\", s.change_version AS \"changeVersion\""
+        + " FROM interview_slot s JOIN interviewer i ON i.id = s.interviewer_id LEFT JOIN candidate c ON c.id = s.candidate_id"
+        + " WHERE s.change_version >= :since AND s.change_version < :upTo"
+        + " ORDER BY s.change_version, s.slot_id LIMIT :limit", nativeQuery=true)
+    List<ChangedSlot> findChangedBetween(@Param("since") long since, @Param("upTo") long upTo, @Param("limit") int limit);
+
+    // the slots of one version after an id, for a transaction too large for one call
+    @Query(value="SELECT s.slot_id AS \"id\", s.slot_time AS \"time\", i.id AS \"interviewerId\", i.name AS \"interviewerName\","
+        + " c.id AS \"candidateId\", c.name AS \"candidateName\", s.change_version AS \"changeVersion\""
+        + " FROM interview_slot s JOIN interviewer i ON i.id = s.interviewer_id LEFT JOIN candidate c ON c.id = s.candidate_id"
+        + " WHERE s.change_version = :version AND s.slot_id > :afterId"
+        + " ORDER BY s.slot_id LIMIT :limit", nativeQuery=true)
+    List<ChangedSlot> findChangedInVersion(@Param("version") long version, @Param("afterId") long afterId, @Param("limit") int limit);
+
+    interface ChangedSlot {
+        long getId();
+        LocalDateTime getTime();
+        long getInterviewerId();
+        String getInterviewerName();
+        Long getCandidateId();
+        String getCandidateName();
+        long getChangeVersion();
+
+        default InterviewSlotView toView(){
+            return new InterviewSlotView(getId(), getTime(), getInterviewerId(), getInterviewerName(), getCandidateId(), getCandidateName());
+        }
+    }
 }
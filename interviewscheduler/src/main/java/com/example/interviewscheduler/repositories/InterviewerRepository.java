@@ -1,15 +1,70 @@
 package com.example.interviewscheduler.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.interviewscheduler.dtos.InterviewerView;
 import com.example.interviewscheduler.models.Interviewer;
 
 @Repository
 public interface InterviewerRepository extends JpaRepository<Interviewer, Long>{
+
+    // cached lookups, as in CandidateRepository: rows by id and email -> id; misses are not cached
+    @Override
+    @Cacheable(cacheNames = "interviewersById", unless = "#result == null")
+    Optional<Interviewer> findById(Long id);
+
+    @Cacheable(cacheNames = "interviewerIdsByEmail", unless = "#result == null")
+    @Query("SELECT i.id FROM Interviewer i WHERE i.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    @Override
+    @CacheEvict(cacheNames = "interviewersById", key = "#p0.id")
+    <S extends Interviewer> S save(S interviewer);
+
+    // read models for the listings
+    @Query("SELECT new com.example.interviewscheduler.dtos.InterviewerView(i.id, i.name, i.email) FROM Interviewer i ORDER BY i.id")
+    List<InterviewerView> findAllViews();
+
+    // keyset pagination over id
+    @Query("SELECT new com.example.interviewscheduler.dtos.InterviewerView(i.id, i.name, i.email) FROM Interviewer i WHERE i.id > :id ORDER BY i.id")
+    List<InterviewerView> findViewsAfter(@Param("id") long id, Pageable pageable);
+
+    // bulk import: which of a batch of emails are already registered
+    @Query("SELECT i.email FROM Interviewer i WHERE i.email IN :emails")
+    Set<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
     
-    Optional<Interviewer> findByEmail(String email);
-    
+    // delta sync: interviewers last written by transactions in [since, upTo), in version order (see V6)
+    @Query(value="SELECT i.id AS \"id\", i.name AS \"name\", i.email AS \"email\", i.change_version AS \"changeVersion\""
+        + " FROM interviewer i WHERE i.change_version >= :since AND i.change_version < :upTo"
+        + " ORDER BY i.change_version, i.id LIMIT :limit", nativeQuery=true)
+    List<ChangedInterviewer> findChangedBetween(@Param("since") long since, @Param("upTo") long upTo, @Param("limit") int limit);
+
+    // the interviewers of one version after an id, for a transaction too large for one call
+    @Query(value="SELECT i.id AS \"id\", i.name AS \"name\", i.email AS \"email\", i.change_version AS \"changeVersion\""
+        + " FROM interviewer i WHERE i.change_version = :version AND i.id > :afterId"
+        + " ORDER BY i.id LIMIT :limit", nativeQuery=true)
+    List<ChangedInterviewer> findChangedInVersion(@Param("version") long version, @Param("afterId") long afterId, @Param("limit") int limit);
+
+    interface ChangedInterviewer {
+        long getId();
+        String getName();
+        String getEmail();
+        long getChangeVersion();
+
+        default InterviewerView toView(){
+            return new InterviewerView(getId(), getName(), getEmail());
+        }
+    }
+
 }
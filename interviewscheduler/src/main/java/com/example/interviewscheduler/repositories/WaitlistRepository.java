@@ -0,0 +1,41 @@
+package com.example.interviewscheduler.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.interviewscheduler.dtos.WaitlistEntryView;
+import com.example.interviewscheduler.models.WaitlistEntry;
+
+@Repository
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long>{
+
+    String ENTRY_VIEW = "SELECT new com.example.interviewscheduler.dtos.WaitlistEntryView("
+        + "e.id, e.candidate.id, e.earliest, e.latest, e.priority, e.createdAt) FROM WaitlistEntry e";
+
+    @Query(ENTRY_VIEW + " WHERE e.candidate.id = :candidateId")
+    Optional<WaitlistEntryView> findViewByCandidateId(@Param("candidateId") long candidateId);
+
+    @Query("SELECT COUNT(e) > 0 FROM WaitlistEntry e WHERE e.candidate.id = :candidateId")
+    boolean existsByCandidateId(@Param("candidateId") long candidateId);
+
+    // keyset pagination in matching order: (priority desc, id asc)
+    @Query(ENTRY_VIEW + " ORDER BY e.priority DESC, e.id")
+    List<WaitlistEntryView> findFirstBatch(Pageable pageable);
+
+    @Query(ENTRY_VIEW + " WHERE e.priority < :priority OR (e.priority = :priority AND e.id > :id) ORDER BY e.priority DESC, e.id")
+    List<WaitlistEntryView> findBatchAfter(@Param("priority") int priority, @Param("id") long id, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry e WHERE e.candidate.id = :candidateId")
+    int deleteByCandidateId(@Param("candidateId") long candidateId);
+
+}
@@ -0,0 +1,319 @@
+package com.example.interviewscheduler.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.example.interviewscheduler.dtos.AutoMatchCandidateDTO;
+import com.example.interviewscheduler.dtos.AutoMatchDTO;
+import com.example.interviewscheduler.dtos.AutoMatchView;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.models.Interviewer;
+import com.example.interviewscheduler.repositories.CandidateRepository;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository.BookedSlot;
+import com.example.interviewscheduler.repositories.InterviewerRepository;
+
+/**
+ * Assigns many candidates to free slots at once, for campaign days.
+ *
+ * The free, unheld future slots are read from the SlotAvailabilityIndex, in time order, so the
+ * time window of a candidate is a range of them. SlotMatcher finds a maximum matching of the
+ * candidates to their ranges; then, in input order, a candidate with a preferred time moves to
+ * a slot left over in its window if that one is closer, which keeps the matching maximum. The
+ * result is written in batches of COMMIT_BATCH_SIZE bookings, one conditional UPDATE per batch,
+ * so a run holds no long transaction and never books a slot or a candidate taken concurrently.
+ *
+ * Candidates without a time window are left out of the matching and given the slots it left
+ * over. Since they accept any slot, the result is still maximum.
+ *
+ * The number of candidates matched is maximum; how close they land to their preferred times is
+ * not optimal. Preferred times are a single greedy pass in input order that only moves to left
+ * over slots, never swaps two candidates, so the result depends on the order of the request: a
+ * candidate moved to a slot another one preferred more keeps it. Closer assignments would need
+ * a min-cost matching, which this does not do.
+ */
+@Service
+public class AutoMatchService {
+
+    static final int MAX_MATCH_CANDIDATES = 10000;
+    static final int COMMIT_BATCH_SIZE = 500;
+
+    @Autowired
+    InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    CandidateRepository candidateRepository;
+
+    @Autowired
+    InterviewerRepository interviewerRepository;
+
+    @Autowired
+    SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @Autowired
+    SlotHoldService slotHoldService;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    private Logger logger = Logger.getLogger(AutoMatchService.class.getName());
+
+    public AutoMatchView match(AutoMatchDTO autoMatchDTO) throws BadRequestException{
+        List<AutoMatchCandidateDTO> requested = checkCandidates(autoMatchDTO);
+        long start = System.nanoTime();
+
+        List<AutoMatchCandidateDTO> candidates = findUnassigned(requested);
+        List<InterviewSlotView> slots = slotAvailabilityIndex.findAvailableBetween(LocalDateTime.now(), LocalDateTime.MAX, null, Integer.MAX_VALUE);
+        int[] slotOfCandidate = matchWindows(candidates, slots);
+        NavigableSet<Integer> leftSlots = leftSlots(slots, slotOfCandidate);
+        moveToPreferred(candidates, slots, slotOfCandidate, leftSlots);
+        assignAnySlot(candidates, slots, slotOfCandidate, leftSlots);
+        long matchingMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        List<InterviewSlotView> batchSlots = new ArrayList<>(COMMIT_BATCH_SIZE);
+        List<Long> batchCandidateIds = new ArrayList<>(COMMIT_BATCH_SIZE);
+        List<AutoMatchView.Assignment> assignments = new ArrayList<>();
+        for (int candidate = 0; candidate < candidates.size(); candidate++){
+            if (slotOfCandidate[candidate] == SlotMatcher.UNMATCHED){
+                continue;
+            }
+            InterviewSlotView slot = slots.get(slotOfCandidate[candidate]);
+            long candidateId = candidates.get(candidate).getCandidateId();
+            // held since the index was read
+            if (slotHoldService.isHeldByOther(slot.id(), candidateId)){
+                continue;
+            }
+            batchSlots.add(slot);
+            batchCandidateIds.add(candidateId);
+            if (batchSlots.size() == COMMIT_BATCH_SIZE){
+                commitBatch(batchSlots, batchCandidateIds, assignments);
+            }
+        }
+        commitBatch(batchSlots, batchCandidateIds, assignments);
+
+        Set<Long> matchedCandidateIds = new HashSet<>();
+        assignments.forEach(assignment -> matchedCandidateIds.add(assignment.candidateId()));
+        List<Long> unmatchedCandidateIds = new ArrayList<>();
+        for (AutoMatchCandidateDTO candidate : requested){
+            if (!matchedCandidateIds.contains(candidate.getCandidateId())){
+                unmatchedCandidateIds.add(candidate.getCandidateId());
+            }
+        }
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        double matchedPerSecond = assignments.size() * 1000.0 / Math.max(elapsedMillis, 1);
+        logger.log(Level.INFO, "Auto-matched {0} of {1} Candidates to {2} free Slots in {3} ms",
+            new Object[]{assignments.size(), requested.size(), slots.size(), elapsedMillis});
+
+        return new AutoMatchView(requested.size(), assignments.size(), matchingMillis, elapsedMillis, matchedPerSecond,
+            assignments, unmatchedCandidateIds);
+    }
+
+    /* --- HELPER --- */
+    private List<AutoMatchCandidateDTO> checkCandidates(AutoMatchDTO autoMatchDTO) throws BadRequestException{
+        if (autoMatchDTO.getCandidates() == null || autoMatchDTO.getCandidates().isEmpty()){
+            throw new BadRequestException("Candidates are required!");
+        }
+        if (autoMatchDTO.getCandidates().size() > MAX_MATCH_CANDIDATES){
+            throw new BadRequestException("At most " + MAX_MATCH_CANDIDATES + " Candidates can be matched at once!");
+        }
+        Set<Long> candidateIds = new HashSet<>();
+        for (AutoMatchCandidateDTO candidate : autoMatchDTO.getCandidates()){
+            if (candidate == null || candidate.getCandidateId() == null){
+                throw new BadRequestException("Candidate is required!");
+            }
+            if (!candidateIds.add(candidate.getCandidateId())){
+                throw new BadRequestException("Candidate listed twice!");
+            }
+            if (candidate.getEarliest() != null && candidate.getLatest() != null && !candidate.getEarliest().isBefore(candidate.getLatest())){
+                throw new BadRequestException("Earliest time must be before latest time!");
+            }
+        }
+        return autoMatchDTO.getCandidates();
+    }
+
+    // drops unknown candidates and those already booked, so no slot is matched to them in vain
+    private List<AutoMatchCandidateDTO> findUnassigned(List<AutoMatchCandidateDTO> requested){
+        Set<Long> unassignedIds = new HashSet<>();
+        for (int from = 0; from < requested.size(); from += COMMIT_BATCH_SIZE){
+            List<Long> batchIds = requested.subList(from, Math.min(from + COMMIT_BATCH_SIZE, requested.size())).stream()
+                .map(AutoMatchCandidateDTO::getCandidateId)
+                .toList();
+            unassignedIds.addAll(candidateRepository.findUnassignedIdsByIdIn(batchIds));
+        }
+        return requested.stream().filter(candidate -> unassignedIds.contains(candidate.getCandidateId())).toList();
+    }
+
+    // matches the candidates with a window to the slots in it; slots are in (time, id) order
+    private int[] matchWindows(List<AutoMatchCandidateDTO> candidates, List<InterviewSlotView> slots){
+        int[] first = new int[candidates.size()];
+        int[] end = new int[candidates.size()];
+        for (int candidate = 0; candidate < candidates.size(); candidate++){
+            AutoMatchCandidateDTO preferences = candidates.get(candidate);
+            if (acceptsAnySlot(preferences)){
+                // an empty window: assigned from the slots left over
+                continue;
+            }
+            first[candidate] = preferences.getEarliest() == null ? 0 : firstSlotAtOrAfter(slots, preferences.getEarliest());
+            end[candidate] = preferences.getLatest() == null ? slots.size() : firstSlotAtOrAfter(slots, preferences.getLatest());
+        }
+        return SlotMatcher.match(first, end, slots.size());
+    }
+
+    private NavigableSet<Integer> leftSlots(List<InterviewSlotView> slots, int[] slotOfCandidate){
+        NavigableSet<Integer> leftSlots = new TreeSet<>();
+        for (int slot = 0; slot < slots.size(); slot++){
+            leftSlots.add(slot);
+        }
+        for (int slot : slotOfCandidate){
+            leftSlots.remove(slot);
+        }
+        return leftSlots;
+    }
+
+    // in input order, trades a matched slot for a left one in the window closer to the preferred time
+    private void moveToPreferred(List<AutoMatchCandidateDTO> candidates, List<InterviewSlotView> slots, int[] slotOfCandidate,
+            NavigableSet<Integer> leftSlots){
+        for (int candidate = 0; candidate < candidates.size() && !leftSlots.isEmpty(); candidate++){
+            AutoMatchCandidateDTO preferences = candidates.get(candidate);
+            LocalDateTime preferred = preferences.getPreferred();
+            int matched = slotOfCandidate[candidate];
+            if (matched == SlotMatcher.UNMATCHED || preferred == null){
+                continue;
+            }
+            int first = preferences.getEarliest() == null ? 0 : firstSlotAtOrAfter(slots, preferences.getEarliest());
+            int end = preferences.getLatest() == null ? slots.size() : firstSlotAtOrAfter(slots, preferences.getLatest());
+            Integer closest = closestLeftSlot(slots, leftSlots, first, end, preferred);
+            if (closest != null && distance(preferred, slots.get(closest)).compareTo(distance(preferred, slots.get(matched))) < 0){
+                slotOfCandidate[candidate] = closest;
+                leftSlots.remove(closest);
+                leftSlots.add(matched);
+            }
+        }
+    }
+
+    // gives the candidates without a window, in input order, the left slot closest to their preferred time
+    private void assignAnySlot(List<AutoMatchCandidateDTO> candidates, List<InterviewSlotView> slots, int[] slotOfCandidate,
+            NavigableSet<Integer> leftSlots){
+        for (int candidate = 0; candidate < candidates.size() && !leftSlots.isEmpty(); candidate++){
+            AutoMatchCandidateDTO preferences = candidates.get(candidate);
+            if (!acceptsAnySlot(preferences)){
+                continue;
+            }
+            LocalDateTime preferred = preferences.getPreferred();
+            slotOfCandidate[candidate] = preferred == null
+                ? leftSlots.pollFirst()
+                : closestLeftSlot(slots, leftSlots, 0, slots.size(), preferred);
+            leftSlots.remove(slotOfCandidate[candidate]);
+        }
+    }
+
+    private boolean acceptsAnySlot(AutoMatchCandidateDTO preferences){
+        return preferences.getEarliest() == null && preferences.getLatest() == null;
+    }
+
+    // the left slot in [first, end) closest to the preferred time, or null when none is left there
+    private Integer closestLeftSlot(List<InterviewSlotView> slots, NavigableSet<Integer> leftSlots, int first, int end, LocalDateTime preferred){
+        int position = Math.min(Math.max(firstSlotAtOrAfter(slots, preferred), first), end);
+        Integer after = leftSlots.ceiling(position);
+        Integer before = leftSlots.lower(position);
+        if (after != null && after >= end){
+            after = null;
+        }
+        if (before != null && before < first){
+            before = null;
+        }
+        if (after == null || before == null){
+            return after == null ? before : after;
+        }
+        return isCloserAfter(preferred, slots.get(after), slots.get(before)) ? after : before;
+    }
+
+    private Duration distance(LocalDateTime preferred, InterviewSlotView slot){
+        return Duration.between(preferred, slot.time()).abs();
+    }
+
+    // ties go to the later slot
+    private boolean isCloserAfter(LocalDateTime preferred, InterviewSlotView after, InterviewSlotView before){
+        return Duration.between(preferred, after.time()).compareTo(Duration.between(before.time(), preferred)) <= 0;
+    }
+
+    private int firstSlotAtOrAfter(List<InterviewSlotView> slots, LocalDateTime time){
+        int low = 0;
+        int high = slots.size();
+        while (low < high){
+            int middle = (low + high) >>> 1;
+            if (slots.get(middle).time().isBefore(time)){
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // writes one batch and publishes its bookings; clears the batch lists
+    private void commitBatch(List<InterviewSlotView> batchSlots, List<Long> batchCandidateIds, List<AutoMatchView.Assignment> assignments){
+        if (batchSlots.isEmpty()){
+            return;
+        }
+        List<Long> slotIds = batchSlots.stream().map(InterviewSlotView::id).toList();
+        Map<Long, BookedSlot> bookedBySlotId = new HashMap<>();
+        try {
+            for (BookedSlot bookedSlot : interviewSlotRepository.claimSlots(slotIds, batchCandidateIds)){
+                bookedBySlotId.put(bookedSlot.getSlotId(), bookedSlot);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // a candidate of this batch booked a slot concurrently: fall back to one claim per pair
+            for (int i = 0; i < slotIds.size(); i++){
+                claim(slotIds.get(i), batchCandidateIds.get(i)).ifPresent(bookedSlot -> bookedBySlotId.put(bookedSlot.getSlotId(), bookedSlot));
+            }
+        }
+
+        Map<Long, String> interviewerEmails = new HashMap<>();
+        for (InterviewSlotView slot : batchSlots){
+            BookedSlot bookedSlot = bookedBySlotId.get(slot.id());
+            if (bookedSlot == null){
+                // taken concurrently
+                continue;
+            }
+            long candidateId = bookedSlot.getCandidateId();
+            interviewSlotRepository.evictBooking(candidateId);
+            String interviewerEmail = interviewerEmails.computeIfAbsent(slot.interviewerId(),
+                id -> interviewerRepository.findById(id).map(Interviewer::getEmail).orElse(null));
+            eventPublisher.publishEvent(new InterviewSlotEvent(InterviewSlotEvent.Type.BOOKED, slot.id(), slot.time(),
+                slot.interviewerId(), slot.interviewerName(), interviewerEmail, candidateId, bookedSlot.getVersion()));
+            assignments.add(new AutoMatchView.Assignment(slot.id(), slot.time(), slot.interviewerId(), candidateId));
+        }
+        batchSlots.clear();
+        batchCandidateIds.clear();
+    }
+
+    // a batch of one, so the booking comes back with its slot version like the others
+    private Optional<BookedSlot> claim(long slotId, long candidateId){
+        try {
+            return interviewSlotRepository.claimSlots(List.of(slotId), List.of(candidateId)).stream().findFirst();
+        } catch (DataIntegrityViolationException e) {
+            // this candidate is the one booked concurrently
+            return Optional.empty();
+        }
+    }
+
+}
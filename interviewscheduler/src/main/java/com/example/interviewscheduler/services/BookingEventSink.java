@@ -0,0 +1,22 @@
+package com.example.interviewscheduler.services;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.example.interviewscheduler.models.BookingOutboxEvent;
+
+/**
+ * A system told about slot creations, bookings and cancellations (the ATS, email), fed by
+ * BookingOutboxRelay. Every BookingEventSink bean receives every event.
+ *
+ * Delivery is at least once: a batch comes again after any sink failed it, or when the relay
+ * stopped before recording the delivery. Sinks drop the events whose id they already took.
+ */
+public interface BookingEventSink {
+
+    /**
+     * Takes a batch in id order. Throwing makes the relay retry the whole batch later.
+     */
+    void deliver(List<BookingOutboxEvent> events) throws IOException;
+
+}
@@ -0,0 +1,170 @@
+package com.example.interviewscheduler.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.models.BookingOutboxEvent;
+import com.example.interviewscheduler.repositories.BookingOutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Drains the booking outbox (see V7) into every BookingEventSink, so creating and booking slots
+ * never waits on the systems told about them.
+ *
+ * A single background worker relays batches of RELAY_BATCH_SIZE in id order, each in its own
+ * transaction: the batch is read, handed to every sink, then deleted, so it stays in the outbox
+ * until the delivery committed (at least once). With no sink registered the batches are just
+ * deleted, so the outbox does not grow. An advisory lock lets only one instance relay at a time.
+ * That keeps the order per slot, not overall: ids are taken at insert, not at commit, so a later
+ * id can be relayed before an earlier one commits. The row lock of a slot serialises the writes
+ * to it, so the events of one slot do commit in id order. The transaction only writes once the sinks
+ * took the batch, so a slow sink does not hold back the change feed (ChangeFeedService).
+ *
+ * Runs after slot events of this instance and every RELAY_MILLIS, for the writes of others and
+ * the retries; requests to relay while a run is queued are coalesced.
+ *
+ * Metrics: interviewscheduler.outbox.relayed (events delivered), interviewscheduler.outbox.failures
+ * (batches failed), interviewscheduler.outbox.delivery.lag (outbox write to delivery, per event)
+ * and interviewscheduler.outbox.lag (age of the oldest event still waiting, in seconds).
+ */
+@Service
+public class BookingOutboxRelay {
+
+    static final int RELAY_BATCH_SIZE = 100;
+    static final long RELAY_MILLIS = 1000;
+
+    @Autowired
+    BookingOutboxRepository bookingOutboxRepository;
+
+    @Autowired(required = false)
+    List<BookingEventSink> sinks = List.of();
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private Logger logger = Logger.getLogger(BookingOutboxRelay.class.getName());
+
+    Executor relayer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "booking-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean relayRequested = new AtomicBoolean();
+
+    // created_at of the oldest event waiting, in epoch millis; 0 when none is known to wait
+    private final AtomicLong oldestWaiting = new AtomicLong();
+    private final Counter relayed;
+    private final Counter failures;
+    private final Timer deliveryLag;
+
+    public BookingOutboxRelay(MeterRegistry meterRegistry){
+        relayed = meterRegistry.counter("interviewscheduler.outbox.relayed");
+        failures = meterRegistry.counter("interviewscheduler.outbox.failures");
+        deliveryLag = meterRegistry.timer("interviewscheduler.outbox.delivery.lag");
+        Gauge.builder("interviewscheduler.outbox.lag", oldestWaiting, BookingOutboxRelay::secondsSince)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotEvent(InterviewSlotEvent event){
+        requestRelay();
+    }
+
+    @Scheduled(fixedDelay = RELAY_MILLIS)
+    public void requestRelay(){
+        if (relayRequested.compareAndSet(false, true)){
+            relayer.execute(() -> {
+                // cleared first, so an event during the run queues another one
+                relayRequested.set(false);
+                try {
+                    relay();
+                } catch (RuntimeException e) {
+                    failures.increment();
+                    logger.log(Level.WARNING, "Relaying booking events failed, retrying later", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Relays batches until the outbox is empty or another instance is relaying. Returns the
+     * number of events delivered.
+     */
+    public int relay(){
+        int delivered = 0;
+        List<BookingOutboxEvent> batch;
+        do {
+            batch = transactionTemplate.execute(status -> relayBatch());
+            Instant now = Instant.now();
+            for (BookingOutboxEvent event : batch){
+                deliveryLag.record(Duration.between(event.getCreatedAt(), now));
+            }
+            relayed.increment(batch.size());
+            delivered += batch.size();
+        } while (batch.size() == RELAY_BATCH_SIZE);
+
+        // a short batch drained the outbox; a failed one left oldestWaiting at its first event
+        oldestWaiting.set(0);
+        return delivered;
+    }
+
+    @PreDestroy
+    void shutdown(){
+        if (relayer instanceof ExecutorService executorService){
+            executorService.shutdownNow();
+        }
+    }
+
+    /* --- HELPER --- */
+    private List<BookingOutboxEvent> relayBatch(){
+        if (!bookingOutboxRepository.tryLockRelay()){
+            // another instance is relaying and reports the lag
+            return List.of();
+        }
+        List<BookingOutboxEvent> batch = bookingOutboxRepository.findFirstBatch(PageRequest.of(0, RELAY_BATCH_SIZE));
+        if (batch.isEmpty()){
+            return batch;
+        }
+        oldestWaiting.set(batch.get(0).getCreatedAt().toEpochMilli());
+        for (BookingEventSink sink : sinks){
+            try {
+                sink.deliver(batch);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        bookingOutboxRepository.deleteByIdIn(batch.stream().map(BookingOutboxEvent::getId).toList());
+        return batch;
+    }
+
+    private static double secondsSince(AtomicLong epochMillis){
+        long since = epochMillis.get();
+        return since == 0 ? 0 : Math.max(0, System.currentTimeMillis() - since) / 1000.0;
+    }
+
+}
@@ -6,9 +6,15 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.example.interviewscheduler.dtos.CandidateDTO;
+import com.example.interviewscheduler.dtos.CandidateView;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.exceptions.BadRequestException;
 import com.example.interviewscheduler.exceptions.DuplicatedUserException;
 import com.example.interviewscheduler.exceptions.UserNotFoundException;
 import com.example.interviewscheduler.models.Candidate;
@@ -21,12 +27,13 @@ public class CandidateService {
     @Autowired
     private CandidateRepository candidateRepository;
 
-	private Logger logger = Logger.getLogger(CandidateService.class.getName());
+    @Autowired
+    private WriteVersions writeVersions;
 
-    public Candidate register(CandidateDTO candidateDTO) throws DuplicatedUserException {
-        Optional<Candidate> optionalCandidateFromDB = candidateRepository.findByEmail(candidateDTO.getEmail());
+	private Logger logger = Logger.getLogger(CandidateService.class.getName());
 
-        if (optionalCandidateFromDB.isPresent()){
+    public CandidateView register(CandidateDTO candidateDTO) throws DuplicatedUserException {
+        if (candidateRepository.findIdByEmail(candidateDTO.getEmail()).isPresent()){
             logger.log(Level.INFO, "Email already in use: {0}", candidateDTO.getEmail());
             throw new DuplicatedUserException("Candidate Already Exists!");
         }
@@ -35,11 +42,18 @@ public class CandidateService {
         candidateToSave.setEmail(candidateDTO.getEmail());
         candidateToSave.setName(candidateDTO.getName());
 
-        candidateRepository.save(candidateToSave);
+        try {
+            candidateRepository.save(candidateToSave);
+        } catch (DataIntegrityViolationException e) {
+            // registered concurrently, between the lookup above and this insert
+            logger.log(Level.INFO, "Email already in use: {0}", candidateToSave.getEmail());
+            throw new DuplicatedUserException("Candidate Already Exists!");
+        }
+        writeVersions.bump(WriteVersions.Collection.CANDIDATES);
 
         logger.log(Level.INFO, "Candidate with email {0} is now registered!", candidateToSave.getEmail());
 
-        return candidateToSave;
+        return CandidateView.of(candidateToSave);
     }
 
     public Candidate getCandidateById(long id) {
@@ -47,12 +61,13 @@ public class CandidateService {
         return returnCandidate(optionalCandidate);
     }
 
-    public Candidate getCandidateByEmail(String email) {
-        Optional<Candidate> optionalCandidate = candidateRepository.findByEmail(email);
-        return returnCandidate(optionalCandidate);
+    public CandidateView getCandidateByEmail(String email) {
+        Optional<Candidate> optionalCandidate = candidateRepository.findIdByEmail(email).flatMap(candidateRepository::findById);
+        Candidate candidate = returnCandidate(optionalCandidate);
+        return candidate == null ? null : CandidateView.of(candidate);
     }
 
-    public InterviewSlot getInterviewSlotByCandidateId(long id) throws UserNotFoundException {
+    public InterviewSlotView getInterviewSlotByCandidateId(long id) throws UserNotFoundException {
         Candidate candidate = getCandidateById(id);
         if (candidate == null){
             logger.log(Level.INFO, "Candidate Not Found!");
@@ -64,11 +79,22 @@ public class CandidateService {
             return null;
         }
         logger.log(Level.INFO, "Candidate has an Assigned Slot");
-        return interviewSlot;
+        return InterviewSlotView.of(interviewSlot);
+    }
+
+    public List<CandidateView> getAllCandidates() {
+        return candidateRepository.findAllViews();
+    }
+
+    public String getAllCandidatesETag() {
+        return writeVersions.etag(WriteVersions.Collection.CANDIDATES);
     }
 
-    public List<Candidate> getAllCandidates() {
-        return candidateRepository.findAll();
+    public PageDTO<CandidateView> getCandidatesPage(String cursor, int size) throws BadRequestException {
+        int pageSize = PageCursor.checkPageSize(size);
+        long afterId = cursor == null ? 0L : PageCursor.decodeId(cursor);
+        List<CandidateView> rows = candidateRepository.findViewsAfter(afterId, PageRequest.of(0, pageSize + 1));
+        return PageCursor.toPage(rows, pageSize, candidate -> PageCursor.encode(candidate.id()));
     }
 
     /* --- HELPER --- */
@@ -0,0 +1,188 @@
+package com.example.interviewscheduler.services;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.example.interviewscheduler.dtos.ChangesView;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.models.ChangeTombstone;
+import com.example.interviewscheduler.repositories.CandidateRepository;
+import com.example.interviewscheduler.repositories.ChangeTombstoneRepository;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository;
+import com.example.interviewscheduler.repositories.InterviewerRepository;
+
+/**
+ * Delta sync: what changed since a change version, so clients poll for changes instead of
+ * downloading whole lists.
+ *
+ * Every slot, candidate and interviewer row carries the change version of its last write, and
+ * deletes leave tombstones; both are kept by database triggers (V6), so every write path counts.
+ * The version is the id of the writing transaction. Only versions below the oldest transaction
+ * still running are served, so a transaction that commits late cannot land behind a version a
+ * client has already moved past. A long-running transaction therefore holds the feed back
+ * until it ends.
+ *
+ * A row changed twice is served once, in its current state. Each kind returns at most limit
+ * rows per call; a call stops before the first version that did not fit, so a transaction is
+ * only split when it alone wrote more than limit rows of one kind. Such a transaction (a bulk
+ * import, or V6 itself, which stamped every existing row with its own id) is paged through by
+ * id: the call returns next = its version with a cursor, and the following calls pass both
+ * until it is done.
+ */
+@Service
+public class ChangeFeedService {
+
+    static final int MAX_LIMIT = 1000;
+
+    @Autowired
+    InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    CandidateRepository candidateRepository;
+
+    @Autowired
+    InterviewerRepository interviewerRepository;
+
+    @Autowired
+    ChangeTombstoneRepository changeTombstoneRepository;
+
+    public ChangesView getChangesSince(long since, String cursor, int limit) throws BadRequestException{
+        if (since < 0){
+            throw new BadRequestException("Change version cannot be negative!");
+        }
+        if (limit < 1 || limit > MAX_LIMIT){
+            throw new BadRequestException("Between 1 and " + MAX_LIMIT + " changes per kind are allowed!");
+        }
+
+        long upTo = changeTombstoneRepository.findStableChangeVersion();
+        if (cursor != null){
+            PageCursor.ChangeKey after = PageCursor.decodeChangeKey(cursor);
+            if (after.version() != since || since >= upTo){
+                throw new BadRequestException("Invalid page cursor!");
+            }
+            return getVersionPage(since, after, upTo, limit);
+        }
+        if (since >= upTo){
+            return new ChangesView(since, since, false, null, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        }
+
+        Changes changes = findChangedBetween(since, upTo, limit + 1);
+        long next = Math.min(upTo, changes.firstVersionOverLimit(limit));
+        long first = changes.firstVersion();
+        if (next == first){
+            // a single transaction wrote more than limit rows of one kind: page through it
+            return getVersionPage(since, PageCursor.ChangeKey.start(first), upTo, limit);
+        }
+        return toView(since, next, next < upTo, null, next, changes);
+    }
+
+    /* --- HELPER --- */
+    // the next limit rows of each kind within one version, after the ids of the key
+    private ChangesView getVersionPage(long since, PageCursor.ChangeKey after, long upTo, int limit){
+        long version = after.version();
+        Changes changes = new Changes(
+            interviewSlotRepository.findChangedInVersion(version, after.slotId(), limit + 1),
+            candidateRepository.findChangedInVersion(version, after.candidateId(), limit + 1),
+            interviewerRepository.findChangedInVersion(version, after.interviewerId(), limit + 1),
+            changeTombstoneRepository.findChangedInVersion(version, after.tombstoneId(), PageRequest.of(0, limit + 1)));
+        if (changes.firstVersionOverLimit(limit) == Long.MAX_VALUE){
+            return toView(since, version + 1, version + 1 < upTo, null, version + 1, changes);
+        }
+
+        Changes page = new Changes(
+            first(changes.slots(), limit),
+            first(changes.candidates(), limit),
+            first(changes.interviewers(), limit),
+            first(changes.tombstones(), limit));
+        PageCursor.ChangeKey key = new PageCursor.ChangeKey(version,
+            lastId(page.slots(), InterviewSlotRepository.ChangedSlot::getId, after.slotId()),
+            lastId(page.candidates(), CandidateRepository.ChangedCandidate::getId, after.candidateId()),
+            lastId(page.interviewers(), InterviewerRepository.ChangedInterviewer::getId, after.interviewerId()),
+            lastId(page.tombstones(), ChangeTombstone::getId, after.tombstoneId()));
+        return toView(since, version, true, PageCursor.encode(key), version + 1, page);
+    }
+
+    // the rows of changes written below end
+    private ChangesView toView(long since, long next, boolean more, String cursor, long end, Changes changes){
+        List<ChangeTombstone> tombstones = before(changes.tombstones(), ChangeTombstone::getChangeVersion, end, Function.identity());
+        return new ChangesView(
+            since,
+            next,
+            more,
+            cursor,
+            before(changes.slots(), InterviewSlotRepository.ChangedSlot::getChangeVersion, end, InterviewSlotRepository.ChangedSlot::toView),
+            before(changes.candidates(), CandidateRepository.ChangedCandidate::getChangeVersion, end, CandidateRepository.ChangedCandidate::toView),
+            before(changes.interviewers(), InterviewerRepository.ChangedInterviewer::getChangeVersion, end, InterviewerRepository.ChangedInterviewer::toView),
+            deletedIds(tombstones, ChangeTombstone.SLOT),
+            deletedIds(tombstones, ChangeTombstone.CANDIDATE),
+            deletedIds(tombstones, ChangeTombstone.INTERVIEWER)
+        );
+    }
+
+    private record Changes(
+        List<InterviewSlotRepository.ChangedSlot> slots,
+        List<CandidateRepository.ChangedCandidate> candidates,
+        List<InterviewerRepository.ChangedInterviewer> interviewers,
+        List<ChangeTombstone> tombstones
+    ) {
+
+        long firstVersion(){
+            return Math.min(
+                Math.min(firstVersion(slots, InterviewSlotRepository.ChangedSlot::getChangeVersion, 0),
+                    firstVersion(candidates, CandidateRepository.ChangedCandidate::getChangeVersion, 0)),
+                Math.min(firstVersion(interviewers, InterviewerRepository.ChangedInterviewer::getChangeVersion, 0),
+                    firstVersion(tombstones, ChangeTombstone::getChangeVersion, 0)));
+        }
+
+        // rows come in version order; the row past the limit holds the first version not served whole
+        long firstVersionOverLimit(int limit){
+            return Math.min(
+                Math.min(firstVersion(slots, InterviewSlotRepository.ChangedSlot::getChangeVersion, limit),
+                    firstVersion(candidates, CandidateRepository.ChangedCandidate::getChangeVersion, limit)),
+                Math.min(firstVersion(interviewers, InterviewerRepository.ChangedInterviewer::getChangeVersion, limit),
+                    firstVersion(tombstones, ChangeTombstone::getChangeVersion, limit)));
+        }
+
+        private static <T> long firstVersion(List<T> rows, ToLongFunction<T> version, int from){
+            return rows.size() > from ? version.applyAsLong(rows.get(from)) : Long.MAX_VALUE;
+        }
+    }
+
+    private Changes findChangedBetween(long since, long upTo, int limit){
+        return new Changes(
+            interviewSlotRepository.findChangedBetween(since, upTo, limit),
+            candidateRepository.findChangedBetween(since, upTo, limit),
+            interviewerRepository.findChangedBetween(since, upTo, limit),
+            changeTombstoneRepository.findChangedBetween(since, upTo, PageRequest.of(0, limit))
+        );
+    }
+
+    private static <T> List<T> first(List<T> rows, int limit){
+        return rows.size() > limit ? rows.subList(0, limit) : rows;
+    }
+
+    private static <T> long lastId(List<T> rows, ToLongFunction<T> id, long none){
+        return rows.isEmpty() ? none : id.applyAsLong(rows.get(rows.size() - 1));
+    }
+
+    private static <T, V> List<V> before(List<T> rows, ToLongFunction<T> version, long end, Function<T, V> toView){
+        return rows.stream()
+            .filter(row -> version.applyAsLong(row) < end)
+            .map(toView)
+            .collect(Collectors.toList());
+    }
+
+    private static List<Long> deletedIds(List<ChangeTombstone> tombstones, String entityType){
+        return tombstones.stream()
+            .filter(tombstone -> tombstone.getEntityType().equals(entityType))
+            .map(ChangeTombstone::getEntityId)
+            .collect(Collectors.toList());
+    }
+
+}
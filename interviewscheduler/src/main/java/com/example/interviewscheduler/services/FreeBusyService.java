@@ -0,0 +1,162 @@
+package com.example.interviewscheduler.services;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.interviewscheduler.dtos.FreeBusyView;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository;
+
+/**
+ * Free/busy hours of every interviewer, kept as one pair of 24-bit masks per interviewer and day.
+ * Slots start on the hour, so a slot is one bit: the hour it starts in.
+ *
+ * Like SlotAvailabilityIndex, the masks are loaded at startup and then follow the
+ * InterviewSlotEvents of this instance, dropping those older than the last one applied for
+ * their slot (see SlotVersions).
+ *
+ * Only the days from PAST_DAYS before today on are kept, so memory follows the slots ahead
+ * rather than the whole history: days that fall out of that window are dropped at the start of
+ * every day, with their slot versions, and read as empty. Events of slots before it are ignored.
+ */
+@Service
+public class FreeBusyService {
+
+    static final int MAX_DAYS = 92;
+    static final int MAX_INTERVIEWERS = 500;
+    // days before today still served, so a week view started in the past stays filled
+    static final int PAST_DAYS = 7;
+    static final String PRUNE_CRON = "0 0 0 * * *";
+    private static final int DAY_MASK = (1 << 24) - 1;
+
+    @Autowired
+    InterviewSlotRepository interviewSlotRepository;
+
+    private Logger logger = Logger.getLogger(FreeBusyService.class.getName());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // interviewer id -> epoch day -> hours with a slot in the low 24 bits, booked hours in the next 24
+    private final Map<Long, Map<Long, Long>> masks = new HashMap<>();
+    private final SlotVersions slotVersions = new SlotVersions();
+    // the first day kept, as an epoch day
+    private long firstDay = Long.MIN_VALUE;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild(){
+        lock.writeLock().lock();
+        try {
+            masks.clear();
+            slotVersions.clear();
+            LocalDate first = LocalDate.now().minusDays(PAST_DAYS);
+            firstDay = first.toEpochDay();
+            List<InterviewSlotRepository.SlotHour> slotHours = interviewSlotRepository.findSlotHoursFrom(first.atStartOfDay());
+            for (InterviewSlotRepository.SlotHour slotHour : slotHours){
+                boolean booked = slotHour.getCandidateId() != null;
+                slotVersions.load(slotHour.getSlotId(), slotHour.getVersion(), booked, slotHour.getTime().toLocalDate());
+                mark(slotHour.getInterviewerId(), slotHour.getTime(), booked);
+            }
+            logger.log(Level.INFO, "Free/busy masks loaded for {0} slots", slotHours.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(cron = PRUNE_CRON)
+    public void prunePastDays(){
+        pruneBefore(LocalDate.now().minusDays(PAST_DAYS));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotEvent(InterviewSlotEvent event){
+        lock.writeLock().lock();
+        try {
+            if (event.time().toLocalDate().toEpochDay() >= firstDay && slotVersions.advance(event) != null){
+                mark(event.interviewerId(), event.time(), event.booked());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the free and busy bitmaps of each interviewer over [from, from + days),
+     * in the order asked; unknown interviewers get empty bitmaps.
+     */
+    public FreeBusyView getFreeBusy(List<Long> interviewerIds, LocalDate from, int days) throws BadRequestException{
+        if (interviewerIds == null || interviewerIds.isEmpty() || interviewerIds.size() > MAX_INTERVIEWERS){
+            throw new BadRequestException("Between 1 and " + MAX_INTERVIEWERS + " interviewers are required!");
+        }
+        if (from == null || days < 1 || days > MAX_DAYS){
+            throw new BadRequestException("Between 1 and " + MAX_DAYS + " days are required!");
+        }
+
+        long firstDay = from.toEpochDay();
+        Base64.Encoder encoder = Base64.getEncoder();
+        List<FreeBusyView.InterviewerBitmaps> bitmaps = new ArrayList<>(interviewerIds.size());
+        lock.readLock().lock();
+        try {
+            for (Long interviewerId : interviewerIds){
+                Map<Long, Long> interviewerMasks = masks.getOrDefault(interviewerId, Map.of());
+                byte[] free = new byte[days * 3];
+                byte[] busy = new byte[days * 3];
+                for (int day = 0; day < days; day++){
+                    long dayMasks = interviewerMasks.getOrDefault(firstDay + day, 0L);
+                    int slots = (int) (dayMasks & DAY_MASK);
+                    int booked = (int) (dayMasks >>> 24);
+                    pack(free, day, slots & ~booked);
+                    pack(busy, day, booked);
+                }
+                bitmaps.add(new FreeBusyView.InterviewerBitmaps(interviewerId, encoder.encodeToString(free), encoder.encodeToString(busy)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new FreeBusyView(from, days, bitmaps);
+    }
+
+    // drops the days before the given one, and the versions of their slots
+    void pruneBefore(LocalDate day){
+        lock.writeLock().lock();
+        try {
+            firstDay = Math.max(firstDay, day.toEpochDay());
+            masks.values().forEach(days -> days.keySet().removeIf(epochDay -> epochDay < firstDay));
+            masks.values().removeIf(Map::isEmpty);
+            slotVersions.pruneBefore(LocalDate.ofEpochDay(firstDay));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* --- HELPER --- */
+    private void mark(long interviewerId, LocalDateTime time, boolean booked){
+        long hour = 1L << time.getHour();
+        long bookedHour = hour << 24;
+        masks.computeIfAbsent(interviewerId, id -> new HashMap<>())
+            .merge(time.toLocalDate().toEpochDay(), hour | (booked ? bookedHour : 0L),
+                (current, slot) -> (current & ~bookedHour) | slot);
+    }
+
+    private static void pack(byte[] bitmap, int day, int mask){
+        bitmap[day * 3] = (byte) mask;
+        bitmap[day * 3 + 1] = (byte) (mask >>> 8);
+        bitmap[day * 3 + 2] = (byte) (mask >>> 16);
+    }
+
+}
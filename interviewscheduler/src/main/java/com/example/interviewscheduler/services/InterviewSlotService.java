@@ -1,16 +1,43 @@
 package com.example.interviewscheduler.services;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import com.example.interviewscheduler.dtos.BulkInterviewSlotDTO;
 import com.example.interviewscheduler.dtos.InterviewSlotDTO;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
 import com.example.interviewscheduler.dtos.InterviewerDTO;
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.dtos.RecurringInterviewSlotDTO;
+import com.example.interviewscheduler.dtos.SlotAssignmentPolicy;
+import com.example.interviewscheduler.dtos.SlotState;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
 import com.example.interviewscheduler.exceptions.BadRequestException;
 import com.example.interviewscheduler.exceptions.ConflictException;
 import com.example.interviewscheduler.exceptions.PastDateException;
@@ -25,6 +52,14 @@ import com.example.interviewscheduler.repositories.InterviewerRepository;
 
 @Service
 public class InterviewSlotService {
+    static final int EXPORT_CHUNK_SIZE = 500;
+    static final LocalDateTime EXPORT_MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    static final LocalDateTime EXPORT_MAX_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+    static final int MAX_BULK_SLOTS = 1000;
+    static final int SLOT_MINUTES = 60;
+    // NOT IN () is not valid SQL, so an empty exclusion list is sent as a slot id that never exists
+    static final List<Long> NO_SLOT_IDS = List.of(-1L);
+
     @Autowired
     InterviewSlotRepository interviewSlotRepository;
 
@@ -34,9 +69,30 @@ public class InterviewSlotService {
     @Autowired
     InterviewerRepository interviewerRepository;
 
+    @Autowired
+    SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @Autowired
+    SlotHoldService slotHoldService;
+
+    @Autowired
+    InterviewerSelector interviewerSelector;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    WriteVersions writeVersions;
+
+    @Autowired
+    SingleFlight singleFlight;
+
     private Logger logger = Logger.getLogger(InterviewSlotService.class.getName());
 
-    public InterviewSlot create(InterviewSlotDTO interviewSlotDTO) throws BadRequestException, PastDateException, UserNotFoundException, ConflictException{
+    public InterviewSlotView create(InterviewSlotDTO interviewSlotDTO) throws BadRequestException, PastDateException, UserNotFoundException, ConflictException{
 
         if (interviewSlotDTO.getTime()==null || interviewSlotDTO.getInterviewer()==null){
             logger.log(Level.WARNING, "Time and Interview Required to create InterviewSlot instance!");
@@ -59,66 +115,386 @@ public class InterviewSlotService {
         interviewSlotToSave.setTime(interviewSlotDTO.getTime());
         interviewSlotToSave.setInterviewer(interviewer);
 
-        interviewSlotRepository.save(interviewSlotToSave);
+        try {
+            interviewSlotRepository.save(interviewSlotToSave);
+        } catch (DataIntegrityViolationException e) {
+            // created concurrently, between the lookup above and this insert
+            logger.log(Level.WARNING, "Slot Already Exists!");
+            throw new ConflictException("Slot Already Exists!");
+        }
+        eventPublisher.publishEvent(InterviewSlotEvent.of(InterviewSlotEvent.Type.CREATED, interviewSlotToSave));
 
         logger.log(Level.INFO, "Interview Slot created!");
 
-        return interviewSlotToSave;
+        return InterviewSlotView.of(interviewSlotToSave);
+    }
+
+    public List<InterviewSlotView> createBulk(BulkInterviewSlotDTO bulkInterviewSlotDTO) throws BadRequestException, PastDateException, UserNotFoundException, ConflictException{
+        List<LocalDateTime> times = bulkInterviewSlotDTO.getTimes();
+        if (bulkInterviewSlotDTO.getInterviewer()==null || times==null || times.isEmpty() || times.stream().anyMatch(Objects::isNull)){
+            logger.log(Level.WARNING, "Times and Interviewer Required to create InterviewSlot instances!");
+            throw new BadRequestException("Slots need set Times and an Interviewer!");
+        }
+        if (times.size() > MAX_BULK_SLOTS){
+            throw new BadRequestException("At most " + MAX_BULK_SLOTS + " Slots can be created at once!");
+        }
+        return createAll(bulkInterviewSlotDTO.getInterviewer(), new TreeSet<>(times));
+    }
+
+    public List<InterviewSlotView> createRecurring(RecurringInterviewSlotDTO recurringInterviewSlotDTO) throws BadRequestException, PastDateException, UserNotFoundException, ConflictException{
+        if (recurringInterviewSlotDTO.getInterviewer()==null
+                || recurringInterviewSlotDTO.getStartDate()==null || recurringInterviewSlotDTO.getEndDate()==null
+                || recurringInterviewSlotDTO.getStartTime()==null || recurringInterviewSlotDTO.getEndTime()==null
+                || recurringInterviewSlotDTO.getDaysOfWeek()==null || recurringInterviewSlotDTO.getDaysOfWeek().isEmpty()){
+            logger.log(Level.WARNING, "Incomplete recurrence to create InterviewSlot instances!");
+            throw new BadRequestException("Recurrence needs dates, times, days of the week and an Interviewer!");
+        }
+        if (recurringInterviewSlotDTO.getEndDate().isBefore(recurringInterviewSlotDTO.getStartDate())
+                || !recurringInterviewSlotDTO.getStartTime().isBefore(recurringInterviewSlotDTO.getEndTime())){
+            throw new BadRequestException("Recurrence must end after it starts!");
+        }
+        return createAll(recurringInterviewSlotDTO.getInterviewer(), expandRecurrence(recurringInterviewSlotDTO));
     }
 
-    public InterviewSlot get(Long id){
+    // listings below read the views directly
+    public InterviewSlotView get(Long id){
         Optional<InterviewSlot> optionalInterviewSlot = interviewSlotRepository.findById(id);
         if (optionalInterviewSlot.isEmpty()){
             logger.log(Level.INFO, "Interview Slot not found!");
             return null;
         }
         logger.log(Level.INFO, "Interview Slot found: @{0}", optionalInterviewSlot.get().getTime());
-        return optionalInterviewSlot.get();
+        return InterviewSlotView.of(optionalInterviewSlot.get());
+    }
+
+    public List<InterviewSlotView> getAll(){
+        return interviewSlotRepository.findAllViews();
+    }
+
+    public String getAllSlotsETag(){
+        return writeVersions.etag(WriteVersions.Collection.SLOTS);
+    }
+
+    public PageDTO<InterviewSlotView> getPage(String cursor, int size) throws BadRequestException{
+        int pageSize = PageCursor.checkPageSize(size);
+        List<InterviewSlotView> rows;
+        if (cursor == null){
+            rows = interviewSlotRepository.findFirstViewPage(PageRequest.of(0, pageSize + 1));
+        } else {
+            PageCursor.SlotKey after = PageCursor.decodeSlotKey(cursor);
+            rows = interviewSlotRepository.findViewPageAfter(after.time(), after.id(), PageRequest.of(0, pageSize + 1));
+        }
+        return PageCursor.toPage(rows, pageSize, slot -> PageCursor.encode(slot.time(), slot.id()));
+    }
+
+    /**
+     * Books the slot with a single conditional update, so concurrent requests for the same
+     * slot (or the same candidate) cannot double-book. The lookups below only run to explain
+     * a rejected claim. A slot held by another candidate is refused up front.
+     */
+    public InterviewSlotView assignToCandidate(Long interviewSlotId, Long candidateId) throws UserNotFoundException, BadRequestException, UnavailableSlotException, ConflictException{
+        if (slotHoldService.isHeldByOther(interviewSlotId, candidateId)){
+            logger.log(Level.INFO, "Slot held by another Candidate");
+            throw new UnavailableSlotException("Slot held by another Candidate!");
+        }
+        int claimed;
+        try {
+            claimed = interviewSlotRepository.claimSlot(interviewSlotId, candidateId);
+        } catch (DataIntegrityViolationException e) {
+            // the candidate booked another slot concurrently
+            logger.log(Level.INFO, "Candidate already has Slot Assigned!");
+            throw new ConflictException("Candidate already has Slot Assigned!");
+        }
+        if (claimed == 0){
+            throwClaimRejection(interviewSlotId, candidateId);
+        }
+        interviewSlotRepository.evictBooking(candidateId);
+        return getChangedSlot(interviewSlotId);
+    }
+
+    /**
+     * Books any free slot at the given time in one statement. Concurrent bookings skip the
+     * slots locked by each other instead of queueing on the same row, so a popular hour
+     * fills up without a round of 409s and retries. Slots held by other candidates are skipped.
+     *
+     * The free slots are tried in the order the policy gives them (see InterviewerSelector),
+     * so the bookings of a popular hour are spread over its interviewers.
+     */
+    public InterviewSlotView assignFirstAvailableSlotAt(LocalDateTime time, Long candidateId, SlotAssignmentPolicy policy) throws UserNotFoundException, BadRequestException, UnavailableSlotException, ConflictException{
+        if (time == null || candidateId == null || policy == null){
+            throw new BadRequestException("Slot time, Candidate and policy are required!");
+        }
+        List<InterviewSlotView> freeSlots = slotAvailabilityIndex.findAvailableByTime(time);
+        if (freeSlots.isEmpty()){
+            logger.log(Level.INFO, "No available Slot at {0}", time);
+            throw new UnavailableSlotException("No available Slot at that time!");
+        }
+
+        Optional<Long> claimedSlotId;
+        try {
+            List<Long> heldSlotIds = slotHoldService.findHeldByOthersAt(time, candidateId);
+            List<Long> preferredSlotIds = interviewerSelector.order(freeSlots, policy).stream().map(InterviewSlotView::id).toList();
+            claimedSlotId = interviewSlotRepository.claimFirstAvailableSlotAt(time, candidateId, heldSlotIds.isEmpty() ? NO_SLOT_IDS : heldSlotIds, preferredSlotIds);
+        } catch (DataIntegrityViolationException e) {
+            // the candidate booked another slot concurrently
+            logger.log(Level.INFO, "Candidate already has Slot Assigned!");
+            throw new ConflictException("Candidate already has Slot Assigned!");
+        }
+        if (claimedSlotId.isEmpty()){
+            throwCandidateRejection(candidateId);
+            logger.log(Level.INFO, "No available Slot at {0}", time);
+            throw new UnavailableSlotException("No available Slot at that time!");
+        }
+        interviewSlotRepository.evictBooking(candidateId);
+        return getChangedSlot(claimedSlotId.get());
+    }
+
+    /**
+     * Frees the candidate's slot in a single statement and returns it, now unassigned.
+     */
+    public InterviewSlotView cancel(Long candidateId) throws UserNotFoundException, BadRequestException{
+        if (candidateId == null){
+            throw new BadRequestException("Candidate is required!");
+        }
+        Optional<Long> releasedSlotId = interviewSlotRepository.releaseCandidateSlot(candidateId);
+        if (releasedSlotId.isEmpty()){
+            throwNoBookingRejection(candidateId);
+        }
+        interviewSlotRepository.evictBooking(candidateId);
+        return getChangedSlot(releasedSlotId.get());
+    }
+
+    /**
+     * Moves the candidate's booking to another slot in one short transaction (see
+     * InterviewSlotRepository.moveBooking): the candidate either keeps the old slot or gets the
+     * new one, and no one else can take either slot in between.
+     */
+    public InterviewSlotView reschedule(Long candidateId, Long newSlotId) throws UserNotFoundException, BadRequestException, UnavailableSlotException{
+        if (candidateId == null || newSlotId == null){
+            throw new BadRequestException("Candidate and Slot are required!");
+        }
+        Optional<Long> currentSlotId = interviewSlotRepository.findSlotIdByCandidateId(candidateId);
+        if (currentSlotId.isEmpty()){
+            throwNoBookingRejection(candidateId);
+        }
+        if (currentSlotId.get().equals(newSlotId)){
+            return get(newSlotId);
+        }
+        if (slotHoldService.isHeldByOther(newSlotId, candidateId)){
+            logger.log(Level.INFO, "Slot held by another Candidate");
+            throw new UnavailableSlotException("Slot held by another Candidate!");
+        }
+
+        if (!interviewSlotRepository.moveBooking(candidateId, currentSlotId.get(), newSlotId)){
+            if (interviewSlotRepository.findById(newSlotId).isEmpty()){
+                logger.log(Level.INFO, "Slot not found");
+                throw new BadRequestException("Slot not found!");
+            }
+            // the new slot was taken, or the old booking changed meanwhile
+            logger.log(Level.INFO, "Slot already assigned!");
+            throw new UnavailableSlotException("Slot assigned to a Candidate!");
+        }
+        interviewSlotRepository.evictBooking(candidateId);
+        getChangedSlot(currentSlotId.get());
+        return getChangedSlot(newSlotId);
     }
 
-    public List<InterviewSlot> getAll(){
-        return interviewSlotRepository.findAll();
+    // concurrent callers share one read; keyed by the index version, so nobody is handed a
+    // list older than the changes they have already seen
+    public List<InterviewSlotView> getAvailableSlots(){
+        return singleFlight.join("available", slotAvailabilityIndex.version(),
+            () -> Collections.unmodifiableList(slotAvailabilityIndex.findAvailable()));
     }
 
-    public InterviewSlot assignToCandidate(Long interviewSlotId, Long candidateId) throws UserNotFoundException, BadRequestException, UnavailableSlotException, ConflictException{
+    // versioned by the index itself, as holds change the list without a write
+    public String getAvailableSlotsETag(){
+        return writeVersions.etag("available", slotAvailabilityIndex.version());
+    }
+
+    // most preferred first, by the policy of the bookings by time
+    // the read is shared, the ordering is not: RANDOM must still spread the callers
+    public List<InterviewSlotView> getAvailableSlotsByTime(LocalDateTime time, SlotAssignmentPolicy policy){
+        List<InterviewSlotView> slots = singleFlight.join("available-by-time", new AvailableAt(slotAvailabilityIndex.version(), time),
+            () -> Collections.unmodifiableList(slotAvailabilityIndex.findAvailableByTime(time)));
+        return interviewerSelector.order(slots, policy);
+    }
+
+    public List<InterviewSlotView> getAvailableSlotsBetween(LocalDateTime from, LocalDateTime to, Long interviewerId, int limit) throws BadRequestException{
+        if (from == null || to == null || !from.isBefore(to)){
+            logger.log(Level.WARNING, "Invalid availability window!");
+            throw new BadRequestException("Availability window start must be before its end!");
+        }
+        return slotAvailabilityIndex.findAvailableBetween(from, to, interviewerId, PageCursor.checkPageSize(limit));
+    }
+
+    public PageDTO<InterviewSlotView> getAvailablePage(String cursor, int size) throws BadRequestException{
+        int pageSize = PageCursor.checkPageSize(size);
+        List<InterviewSlotView> rows;
+        if (cursor == null){
+            rows = slotAvailabilityIndex.findAvailableAfter(null, 0L, pageSize + 1);
+        } else {
+            PageCursor.SlotKey after = PageCursor.decodeSlotKey(cursor);
+            rows = slotAvailabilityIndex.findAvailableAfter(after.time(), after.id(), pageSize + 1);
+        }
+        return PageCursor.toPage(rows, pageSize, slot -> PageCursor.encode(slot.time(), slot.id()));
+    }
+
+    public void checkExportRange(LocalDateTime from, LocalDateTime to) throws BadRequestException{
+        if (from != null && to != null && !from.isBefore(to)){
+            throw new BadRequestException("Export range start must be before its end!");
+        }
+    }
+
+    /**
+     * Writes the slots in [from, to) as newline-delimited JSON while they are read from the
+     * database, flushing every chunk. The rows are read models, so the persistence context stays empty.
+     * Returns the number of slots written.
+     */
+    @Transactional(readOnly = true)
+    public long exportSlots(LocalDateTime from, LocalDateTime to, SlotState state, OutputStream out) throws IOException{
+        ObjectWriter writer = objectMapper.writerFor(InterviewSlotView.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long written = 0;
+        try (Stream<InterviewSlotView> slots = interviewSlotRepository.streamViewsForExport(
+                from == null ? EXPORT_MIN_TIME : from,
+                to == null ? EXPORT_MAX_TIME : to,
+                state.name());
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<InterviewSlotView> iterator = slots.iterator();
+            while (iterator.hasNext()){
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                if (++written % EXPORT_CHUNK_SIZE == 0){
+                    generator.flush();
+                }
+            }
+        }
+        logger.log(Level.INFO, "Exported {0} Interview Slots", written);
+        return written;
+    }
+
+    /* --- HELPER --- */
+    private record AvailableAt(long version, LocalDateTime time) {}
+
+    /**
+     * Creates every slot or none: the interviewer is resolved once, conflicts come from a
+     * single range query, and the inserts are batched (pooled sequence ids).
+     */
+    private List<InterviewSlotView> createAll(InterviewerDTO interviewerDTO, NavigableSet<LocalDateTime> times) throws BadRequestException, PastDateException, UserNotFoundException, ConflictException{
+        if (times.isEmpty()){
+            throw new BadRequestException("No Slots to create!");
+        }
+        if (times.first().isBefore(LocalDateTime.now())){
+            logger.log(Level.WARNING, "Creating Slots is not possible with past dates!");
+            throw new PastDateException("Creating Slots is not possible with past dates!");
+        }
+
+        Interviewer interviewer = getInterviewerFromDB(interviewerDTO);
+        for (LocalDateTime takenTime : interviewSlotRepository.findTimesByInterviewerBetween(interviewer, times.first(), times.last())){
+            if (times.contains(takenTime)){
+                logger.log(Level.WARNING, "Slot Already Exists: @{0}", takenTime);
+                throw new ConflictException("Slot Already Exists!");
+            }
+        }
+
+        List<InterviewSlot> interviewSlotsToSave = new ArrayList<>(times.size());
+        for (LocalDateTime time : times){
+            InterviewSlot interviewSlotToSave = new InterviewSlot();
+            interviewSlotToSave.setTime(time);
+            interviewSlotToSave.setInterviewer(interviewer);
+            interviewSlotsToSave.add(interviewSlotToSave);
+        }
+        try {
+            interviewSlotRepository.saveAll(interviewSlotsToSave);
+        } catch (DataIntegrityViolationException e) {
+            // created concurrently, between the lookup above and these inserts
+            logger.log(Level.WARNING, "Slot Already Exists!");
+            throw new ConflictException("Slot Already Exists!");
+        }
+        for (InterviewSlot interviewSlot : interviewSlotsToSave){
+            eventPublisher.publishEvent(InterviewSlotEvent.of(InterviewSlotEvent.Type.CREATED, interviewSlot));
+        }
+
+        logger.log(Level.INFO, "{0} Interview Slots created!", interviewSlotsToSave.size());
+
+        return interviewSlotsToSave.stream().map(InterviewSlotView::of).toList();
+    }
+
+    private NavigableSet<LocalDateTime> expandRecurrence(RecurringInterviewSlotDTO recurringInterviewSlotDTO) throws BadRequestException{
+        NavigableSet<LocalDateTime> times = new TreeSet<>();
+        // minutes of the day, so a slot ending at midnight cannot wrap around
+        int firstMinute = recurringInterviewSlotDTO.getStartTime().toSecondOfDay() / 60;
+        int endMinute = recurringInterviewSlotDTO.getEndTime().toSecondOfDay() / 60;
+        for (LocalDate date = recurringInterviewSlotDTO.getStartDate(); !date.isAfter(recurringInterviewSlotDTO.getEndDate()); date = date.plusDays(1)){
+            if (!recurringInterviewSlotDTO.getDaysOfWeek().contains(date.getDayOfWeek())){
+                continue;
+            }
+            for (int minute = firstMinute; minute + SLOT_MINUTES <= endMinute; minute += SLOT_MINUTES){
+                times.add(date.atTime(LocalTime.ofSecondOfDay(minute * 60L)));
+                if (times.size() > MAX_BULK_SLOTS){
+                    throw new BadRequestException("At most " + MAX_BULK_SLOTS + " Slots can be created at once!");
+                }
+            }
+        }
+        return times;
+    }
+
+    private void throwClaimRejection(Long interviewSlotId, Long candidateId) throws UserNotFoundException, BadRequestException, UnavailableSlotException, ConflictException{
         Optional<InterviewSlot> optionalSlotFromDB = interviewSlotRepository.findById(interviewSlotId);
         if (optionalSlotFromDB.isEmpty()){
             logger.log(Level.INFO, "Slot not found");
             throw new BadRequestException("Slot not found!");
         }
-        InterviewSlot slotFromDB = optionalSlotFromDB.get();
-        if (slotFromDB.getCandidate()!=null){
+        if (optionalSlotFromDB.get().getCandidate()!=null){
             logger.log(Level.INFO, "Slot already assigned!");
             throw new UnavailableSlotException("Slot assigned to a Candidate!");
         }
 
+        throwCandidateRejection(candidateId);
+        // the slot was taken and released again between the claim and these lookups
+        logger.log(Level.INFO, "Slot already assigned!");
+        throw new UnavailableSlotException("Slot assigned to a Candidate!");
+    }
+
+    private void throwCandidateRejection(Long candidateId) throws UserNotFoundException, ConflictException{
         Optional<Candidate> optionalCandidateFromDB = candidateRepository.findById(candidateId);
         if (optionalCandidateFromDB.isEmpty()){
             logger.log(Level.INFO, "Assign Slot to Existing Candidate");
             throw new UserNotFoundException("Candidate not found!");
         }
-        Candidate candidateFromDB = optionalCandidateFromDB.get();
-        if (candidateFromDB.getSlot()!=null){
+        if (optionalCandidateFromDB.get().getSlot()!=null){
             logger.log(Level.INFO, "Candidate already has Slot Assigned!");
             throw new ConflictException("Candidate already has Slot Assigned!");
         }
-
-        slotFromDB.setCandidate(candidateFromDB);
-        interviewSlotRepository.save(slotFromDB);
-        return slotFromDB;
     }
 
-    public List<InterviewSlot> getAvailableSlots(){
-        return interviewSlotRepository.findAvailableSlots();
+    private void throwNoBookingRejection(Long candidateId) throws UserNotFoundException, BadRequestException{
+        if (candidateRepository.findById(candidateId).isEmpty()){
+            logger.log(Level.INFO, "Candidate not found");
+            throw new UserNotFoundException("Candidate not found!");
+        }
+        logger.log(Level.INFO, "Candidate has no Slot Assigned!");
+        throw new BadRequestException("Candidate has no Slot Assigned!");
     }
 
-    public List<InterviewSlot> getAvailableSlotsByTime(LocalDateTime time){
-        return interviewSlotRepository.findAvailableSlotsByTime(time);
+    // reloads a slot after a booking change and tells the listeners about it. The event is built
+    // from the state read back, which a later change may already have replaced: its type follows
+    // that state and its version says how recent it is
+    private InterviewSlotView getChangedSlot(Long interviewSlotId) throws BadRequestException{
+        Optional<InterviewSlot> optionalSlotFromDB = interviewSlotRepository.findById(interviewSlotId);
+        if (optionalSlotFromDB.isEmpty()){
+            logger.log(Level.INFO, "Slot not found");
+            throw new BadRequestException("Slot not found!");
+        }
+        InterviewSlot slotFromDB = optionalSlotFromDB.get();
+        InterviewSlotEvent.Type type = slotFromDB.getCandidate() == null ? InterviewSlotEvent.Type.CANCELLED : InterviewSlotEvent.Type.BOOKED;
+        eventPublisher.publishEvent(InterviewSlotEvent.of(type, slotFromDB));
+        return InterviewSlotView.of(slotFromDB);
     }
 
-    /* --- HELPER --- */
     private Interviewer getInterviewerFromDB(InterviewerDTO interviewerDTO) throws UserNotFoundException{
-        Optional<Interviewer> optionalInterviewer = interviewerRepository.findByEmail(interviewerDTO.getEmail());
+        Optional<Interviewer> optionalInterviewer = interviewerRepository.findIdByEmail(interviewerDTO.getEmail()).flatMap(interviewerRepository::findById);
         if (optionalInterviewer.isEmpty()){
             logger.log(Level.INFO, "Interviewer not Found");
             throw new UserNotFoundException("Interviewer not found!");
@@ -0,0 +1,208 @@
+package com.example.interviewscheduler.services;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.dtos.SlotAssignmentPolicy;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository;
+
+/**
+ * Orders the free slots at one time by a SlotAssignmentPolicy, so bookings by time are spread
+ * over the interviewers instead of all going to the first one.
+ *
+ * The load of an interviewer is counted in memory, as booked interviews per day, loaded at
+ * startup and then following the InterviewSlotEvents of this instance, so choosing a slot
+ * runs no aggregate query. An event counts as the change from the state last applied for its
+ * slot, and an older one is dropped (see SlotVersions), so a repeated or late event never
+ * counts a booking twice.
+ *
+ * Slots are only ever chosen from now on, so only the days from LOAD_WINDOW_DAYS before today
+ * are kept: the load covers them, and the days that fall out of that window are dropped at
+ * the start of every day, with their slot versions. Events of slots before it are ignored.
+ */
+@Component
+public class InterviewerSelector {
+
+    // days either side of the slot's day counted in an interviewer's load
+    static final int LOAD_WINDOW_DAYS = 3;
+    static final String PRUNE_CRON = "0 0 0 * * *";
+
+    @Autowired
+    InterviewSlotRepository interviewSlotRepository;
+
+    private Logger logger = Logger.getLogger(InterviewerSelector.class.getName());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // interviewer id -> epoch day -> booked interviews that day
+    private final Map<Long, NavigableMap<Long, Integer>> bookingsByDay = new HashMap<>();
+    private final AtomicLong lastBookedInterviewerId = new AtomicLong(Long.MIN_VALUE);
+    private final SlotVersions slotVersions = new SlotVersions();
+    // the first day kept, as an epoch day
+    private long firstDay = Long.MIN_VALUE;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild(){
+        lock.writeLock().lock();
+        try {
+            bookingsByDay.clear();
+            slotVersions.clear();
+            LocalDate first = LocalDate.now().minusDays(LOAD_WINDOW_DAYS);
+            firstDay = first.toEpochDay();
+            int booked = 0;
+            for (InterviewSlotRepository.SlotHour slotHour : interviewSlotRepository.findSlotHoursFrom(first.atStartOfDay())){
+                slotVersions.load(slotHour.getSlotId(), slotHour.getVersion(), slotHour.getCandidateId() != null, slotHour.getTime().toLocalDate());
+                if (slotHour.getCandidateId() != null){
+                    count(slotHour.getInterviewerId(), slotHour.getTime().toLocalDate(), 1);
+                    booked++;
+                }
+            }
+            logger.log(Level.INFO, "Interviewer load loaded for {0} booked slots", booked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(cron = PRUNE_CRON)
+    public void prunePastDays(){
+        pruneBefore(LocalDate.now().minusDays(LOAD_WINDOW_DAYS));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotEvent(InterviewSlotEvent event){
+        lock.writeLock().lock();
+        try {
+            if (event.time().toLocalDate().toEpochDay() < firstDay){
+                return;
+            }
+            SlotVersions.Applied before = slotVersions.advance(event);
+            if (before == null){
+                return;
+            }
+            if (event.type() == InterviewSlotEvent.Type.BOOKED){
+                lastBookedInterviewerId.set(event.interviewerId());
+            }
+            int change = (event.booked() ? 1 : 0) - (before.booked() ? 1 : 0);
+            if (change != 0){
+                count(event.interviewerId(), event.time().toLocalDate(), change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the slots, all at the same time, most preferred first.
+     */
+    public List<InterviewSlotView> order(List<InterviewSlotView> slots, SlotAssignmentPolicy policy){
+        List<InterviewSlotView> ordered = new ArrayList<>(slots);
+        if (ordered.size() < 2){
+            return ordered;
+        }
+        switch (policy) {
+            case LEAST_LOADED:
+                Map<Long, Integer> loads = loads(ordered);
+                ordered.sort(Comparator.<InterviewSlotView>comparingInt(slot -> loads.get(slot.interviewerId()))
+                    .thenComparingLong(InterviewSlotView::id));
+                break;
+            case ROUND_ROBIN:
+                // interviewers after the last one booked first, then wrap around
+                long last = lastBookedInterviewerId.get();
+                ordered.sort(Comparator.<InterviewSlotView, Boolean>comparing(slot -> slot.interviewerId() <= last)
+                    .thenComparingLong(InterviewSlotView::interviewerId)
+                    .thenComparingLong(InterviewSlotView::id));
+                break;
+            case RANDOM:
+                Collections.shuffle(ordered, ThreadLocalRandom.current());
+                break;
+        }
+        return ordered;
+    }
+
+    /**
+     * Booked interviews of the interviewer within LOAD_WINDOW_DAYS of the day.
+     */
+    public int load(long interviewerId, LocalDate day){
+        lock.readLock().lock();
+        try {
+            return countAround(interviewerId, day.toEpochDay());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // drops the days before the given one, and the versions of their slots
+    void pruneBefore(LocalDate day){
+        lock.writeLock().lock();
+        try {
+            firstDay = Math.max(firstDay, day.toEpochDay());
+            bookingsByDay.values().forEach(days -> days.headMap(firstDay).clear());
+            bookingsByDay.values().removeIf(Map::isEmpty);
+            slotVersions.pruneBefore(LocalDate.ofEpochDay(firstDay));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* --- HELPER --- */
+    private Map<Long, Integer> loads(List<InterviewSlotView> slots){
+        Map<Long, Integer> loads = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (InterviewSlotView slot : slots){
+                loads.computeIfAbsent(slot.interviewerId(), id -> countAround(id, slot.time().toLocalDate().toEpochDay()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return loads;
+    }
+
+    private int countAround(long interviewerId, long day){
+        NavigableMap<Long, Integer> days = bookingsByDay.get(interviewerId);
+        if (days == null){
+            return 0;
+        }
+        int load = 0;
+        for (int bookings : days.subMap(day - LOAD_WINDOW_DAYS, true, day + LOAD_WINDOW_DAYS, true).values()){
+            load += bookings;
+        }
+        return load;
+    }
+
+    private void count(long interviewerId, LocalDate day, int change){
+        NavigableMap<Long, Integer> days = bookingsByDay.computeIfAbsent(interviewerId, id -> new TreeMap<>());
+        // never below zero; a day back at zero is dropped, so the maps only hold days with bookings
+        int bookings = Math.max(0, days.getOrDefault(day.toEpochDay(), 0) + change);
+        if (bookings == 0){
+            days.remove(day.toEpochDay());
+        } else {
+            days.put(day.toEpochDay(), bookings);
+        }
+        if (days.isEmpty()){
+            bookingsByDay.remove(interviewerId);
+        }
+    }
+
+}
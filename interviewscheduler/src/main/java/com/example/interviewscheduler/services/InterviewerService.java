@@ -1,33 +1,48 @@
 package com.example.interviewscheduler.services;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.example.interviewscheduler.dtos.CalendarSlotView;
+import com.example.interviewscheduler.dtos.CalendarView;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
 import com.example.interviewscheduler.dtos.InterviewerDTO;
+import com.example.interviewscheduler.dtos.InterviewerView;
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.exceptions.BadRequestException;
 import com.example.interviewscheduler.exceptions.DuplicatedUserException;
 import com.example.interviewscheduler.exceptions.UserNotFoundException;
-import com.example.interviewscheduler.models.InterviewSlot;
 import com.example.interviewscheduler.models.Interviewer;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository;
 import com.example.interviewscheduler.repositories.InterviewerRepository;
 
 @Service
 public class InterviewerService {
 
+    // longest calendar window, and the most days counted on each side of it
+    static final int MAX_CALENDAR_DAYS = 42;
+
     @Autowired
     InterviewerRepository interviewerRepository;
 
-    private Logger logger = Logger.getLogger(InterviewerService.class.getName());
+    @Autowired
+    InterviewSlotRepository interviewSlotRepository;
 
-    public Interviewer register(InterviewerDTO interviewerDTO) throws DuplicatedUserException {
-        Optional<Interviewer> optionalInterviewerFromDB = interviewerRepository.findByEmail(interviewerDTO.getEmail());
+    private Logger logger = Logger.getLogger(InterviewerService.class.getName());
 
-        if (optionalInterviewerFromDB.isPresent()){
+    public InterviewerView register(InterviewerDTO interviewerDTO) throws DuplicatedUserException {
+        if (interviewerRepository.findIdByEmail(interviewerDTO.getEmail()).isPresent()){
             logger.log(Level.INFO, "Email already in use: {0}", interviewerDTO.getEmail());
             throw new DuplicatedUserException("Interviewer Already Exists!");
         }
@@ -36,11 +51,17 @@ public class InterviewerService {
         interviewerToSave.setEmail(interviewerDTO.getEmail());
         interviewerToSave.setName(interviewerDTO.getName());
 
-        interviewerRepository.save(interviewerToSave);
+        try {
+            interviewerRepository.save(interviewerToSave);
+        } catch (DataIntegrityViolationException e) {
+            // registered concurrently, between the lookup above and this insert
+            logger.log(Level.INFO, "Email already in use: {0}", interviewerToSave.getEmail());
+            throw new DuplicatedUserException("Interviewer Already Exists!");
+        }
 
         logger.log(Level.INFO, "Interviewer with email {0} is now registered!", interviewerToSave.getEmail());
 
-        return interviewerToSave;
+        return InterviewerView.of(interviewerToSave);
     }
 
     public Interviewer getInterviewerById(long id) {
@@ -48,27 +69,61 @@ public class InterviewerService {
         return returnInterviewer(optionalInterviewer);
     }
 
-    public Interviewer getInterviewerByEmail(String email) {
-        Optional<Interviewer> optionalInterviewer = interviewerRepository.findByEmail(email);
-        return returnInterviewer(optionalInterviewer);
+    public InterviewerView getInterviewerByEmail(String email) {
+        Optional<Interviewer> optionalInterviewer = interviewerRepository.findIdByEmail(email).flatMap(interviewerRepository::findById);
+        Interviewer interviewer = returnInterviewer(optionalInterviewer);
+        return interviewer == null ? null : InterviewerView.of(interviewer);
     }
 
-    public Set<InterviewSlot> getAllInterviewSlotsByInterviewer(long id) throws UserNotFoundException {
-        Interviewer interviewer = getInterviewerById(id);
-        if (interviewer == null){
+    public List<InterviewSlotView> getAllInterviewSlotsByInterviewer(long id) throws UserNotFoundException {
+        if (interviewerRepository.findById(id).isEmpty()){
             logger.log(Level.INFO, "Interviewer Not Found!");
             throw new UserNotFoundException("Interviewer Not Found!");
         }
-        Set<InterviewSlot> interviewSlots = interviewer.getSlots();
-        if (interviewSlots == null){
+        List<InterviewSlotView> interviewSlots = interviewSlotRepository.findViewsByInterviewerId(id);
+        if (interviewSlots.isEmpty()){
             logger.log(Level.INFO, "Interviewer does not have Interview Slots");
-            return Set.of();
         }
         return interviewSlots;
     }
 
-    public List<Interviewer> getAllInterviewers() {
-        return interviewerRepository.findAll();
+    /**
+     * Returns the interviewer's slots in [from, to) and, when countDays is positive, the slot
+     * counts per day for the countDays days before and after the window.
+     */
+    public CalendarView getCalendar(long id, LocalDateTime from, LocalDateTime to, int countDays) throws UserNotFoundException, BadRequestException {
+        if (from == null || to == null || !from.isBefore(to) || to.isAfter(from.plusDays(MAX_CALENDAR_DAYS))){
+            logger.log(Level.WARNING, "Invalid calendar window!");
+            throw new BadRequestException("Calendar window start must be before its end and at most " + MAX_CALENDAR_DAYS + " days earlier!");
+        }
+        if (countDays < 0 || countDays > MAX_CALENDAR_DAYS){
+            throw new BadRequestException("Days to count must be between 0 and " + MAX_CALENDAR_DAYS + "!");
+        }
+        if (interviewerRepository.findById(id).isEmpty()){
+            logger.log(Level.INFO, "Interviewer Not Found!");
+            throw new UserNotFoundException("Interviewer Not Found!");
+        }
+
+        List<CalendarSlotView> slots = interviewSlotRepository.findCalendar(id, from, to);
+        Map<LocalDate, Long> dayCounts = new LinkedHashMap<>();
+        if (countDays > 0){
+            for (InterviewSlotRepository.DayCount dayCount : interviewSlotRepository.countByDayOutside(
+                    id, from.minusDays(countDays), to.plusDays(countDays), from, to)){
+                dayCounts.put(dayCount.getDay(), dayCount.getSlots());
+            }
+        }
+        return new CalendarView(id, from, to, slots, dayCounts);
+    }
+
+    public List<InterviewerView> getAllInterviewers() {
+        return interviewerRepository.findAllViews();
+    }
+
+    public PageDTO<InterviewerView> getInterviewersPage(String cursor, int size) throws BadRequestException {
+        int pageSize = PageCursor.checkPageSize(size);
+        long afterId = cursor == null ? 0L : PageCursor.decodeId(cursor);
+        List<InterviewerView> rows = interviewerRepository.findViewsAfter(afterId, PageRequest.of(0, pageSize + 1));
+        return PageCursor.toPage(rows, pageSize, interviewer -> PageCursor.encode(interviewer.id()));
     }
 
     /* --- HELPER --- */
@@ -0,0 +1,36 @@
+package com.example.interviewscheduler.services;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.interviewscheduler.models.BookingOutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes every relayed booking event to the log, one JSON object per line. Enough to follow the
+ * outbox locally; route this logger to a file to keep them. Only registered with
+ * interviewscheduler.outbox.log-sink=true, so deployments do not log every booking.
+ */
+@Component
+@ConditionalOnProperty(name = "interviewscheduler.outbox.log-sink", havingValue = "true")
+public class LogBookingEventSink implements BookingEventSink {
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private Logger logger = Logger.getLogger(LogBookingEventSink.class.getName());
+
+    @Override
+    public void deliver(List<BookingOutboxEvent> events) throws IOException{
+        for (BookingOutboxEvent event : events){
+            logger.log(Level.INFO, "{0}", objectMapper.writeValueAsString(event));
+        }
+    }
+
+}
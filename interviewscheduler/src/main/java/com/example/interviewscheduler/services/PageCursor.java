@@ -0,0 +1,119 @@
+package com.example.interviewscheduler.services;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+
+/**
+ * Opaque keyset cursors for the paginated listings.
+ * Slots are keyed by (time, id), candidates and interviewers by id. Inside one change version
+ * the change feed keys each kind by id (ChangeKey).
+ */
+public final class PageCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String SEPARATOR = "|";
+
+    private PageCursor(){
+    }
+
+    public static int checkPageSize(int size) throws BadRequestException{
+        if (size < 1){
+            throw new BadRequestException("Page size must be positive!");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    public static String encode(long id){
+        return encodeText(Long.toString(id));
+    }
+
+    public static String encode(LocalDateTime time, long id){
+        return encodeText(time + SEPARATOR + id);
+    }
+
+    public static String encode(ChangeKey key){
+        return encodeText(key.version() + SEPARATOR + key.slotId() + SEPARATOR + key.candidateId()
+            + SEPARATOR + key.interviewerId() + SEPARATOR + key.tombstoneId());
+    }
+
+    public static long decodeId(String cursor) throws BadRequestException{
+        try {
+            return Long.parseLong(decodeText(cursor));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid page cursor!");
+        }
+    }
+
+    public static SlotKey decodeSlotKey(String cursor) throws BadRequestException{
+        String text = decodeText(cursor);
+        int separator = text.indexOf(SEPARATOR);
+        if (separator < 0){
+            throw new BadRequestException("Invalid page cursor!");
+        }
+        try {
+            return new SlotKey(LocalDateTime.parse(text.substring(0, separator)), Long.parseLong(text.substring(separator + 1)));
+        } catch (DateTimeParseException|NumberFormatException e) {
+            throw new BadRequestException("Invalid page cursor!");
+        }
+    }
+
+    public static ChangeKey decodeChangeKey(String cursor) throws BadRequestException{
+        String[] parts = decodeText(cursor).split(Pattern.quote(SEPARATOR));
+        if (parts.length != 5){
+            throw new BadRequestException("Invalid page cursor!");
+        }
+        try {
+            return new ChangeKey(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]),
+                Long.parseLong(parts[3]), Long.parseLong(parts[4]));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid page cursor!");
+        }
+    }
+
+    /**
+     * Builds a page out of rows fetched with a limit of size + 1; the extra row only
+     * tells whether a following page exists.
+     */
+    public static <T> PageDTO<T> toPage(List<T> rows, int size, Function<T, String> cursorOf){
+        if (rows.size() <= size){
+            return new PageDTO<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new PageDTO<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+
+    /* --- HELPER --- */
+    private static String encodeText(String text){
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeText(String cursor) throws BadRequestException{
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid page cursor!");
+        }
+    }
+
+    public record SlotKey(LocalDateTime time, long id) {
+    }
+
+    // the last id served of each kind within one change version
+    public record ChangeKey(long version, long slotId, long candidateId, long interviewerId, long tombstoneId) {
+
+        public static ChangeKey start(long version){
+            return new ChangeKey(version, 0L, 0L, 0L, 0L);
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.example.interviewscheduler.services;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces concurrent identical reads: a caller that finds the same read already in flight
+ * waits for it and shares its result instead of running it again. Nothing is kept once the
+ * read returns, so a later caller always runs a new one.
+ *
+ * Callers of a read are counted by name under interviewscheduler.singleflight.calls, with
+ * result=led for those that ran it and result=coalesced for those that joined. The arguments
+ * only key the flights, not the metrics, so the number of meters stays bounded.
+ *
+ * The shared result is handed to every caller of the flight; reads must return values that
+ * nobody changes afterwards.
+ */
+@Component
+public class SingleFlight {
+
+    static final String CALLS_METRIC = "interviewscheduler.singleflight.calls";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry){
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs the read, or joins the one already running under the same name and key. A failure
+     * of the read is rethrown to every caller of the flight.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V join(String name, Object key, Supplier<V> read){
+        FlightKey flightKey = new FlightKey(name, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flightKey, flight);
+        if (running != null){
+            count(name, "coalesced");
+            return (V) await(running);
+        }
+
+        count(name, "led");
+        try {
+            V value = read.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /* --- HELPER --- */
+    private record FlightKey(String name, Object key) {}
+
+    private void count(String name, String result){
+        meterRegistry.counter(CALLS_METRIC, "key", name, "result", result).increment();
+    }
+
+    private static Object await(CompletableFuture<Object> flight){
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // the leader already threw it; rethrow as it was
+            if (e.getCause() instanceof RuntimeException runtimeException){
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error){
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,320 @@
+package com.example.interviewscheduler.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.models.InterviewSlot;
+import com.example.interviewscheduler.models.Interviewer;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository;
+
+/**
+ * In-process index of the unassigned interview slots, ordered by (time, slot id) and
+ * grouped per interviewer, so the availability queries never reach the database.
+ *
+ * The index is loaded once at startup and then follows the InterviewSlotEvents published
+ * after each commit. It reflects the writes of this instance only. An event older than the
+ * last one applied for its slot is dropped (see SlotVersions), so a booking and its
+ * cancellation finishing in the other order cannot put a booked slot back.
+ *
+ * Slots under a SlotHoldService hold stay in the index but are marked in a concurrent map that
+ * every availability query skips, until the hold is released or the slot is booked. Placing
+ * and releasing a hold take no lock, so holds never queue behind the readers or each other;
+ * only slot events and the rebuild take the write lock.
+ */
+@Component
+public class SlotAvailabilityIndex {
+
+    private static final Comparator<AvailableSlot> BY_TIME_AND_ID = Comparator
+        .comparing(AvailableSlot::time)
+        .thenComparingLong(AvailableSlot::slotId);
+
+    @Autowired
+    InterviewSlotRepository interviewSlotRepository;
+
+    private Logger logger = Logger.getLogger(SlotAvailabilityIndex.class.getName());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableSet<AvailableSlot> byTime = new TreeSet<>(BY_TIME_AND_ID);
+    private final Map<Long, NavigableSet<AvailableSlot>> byInterviewer = new HashMap<>();
+    // written under the write lock; concurrent so hold can read it without the lock
+    private final Map<Long, AvailableSlot> bySlotId = new ConcurrentHashMap<>();
+    private final Map<Long, AvailableSlot> heldBySlotId = new ConcurrentHashMap<>();
+    private final SlotVersions slotVersions = new SlotVersions();
+    // bumped on every change to the free slots, held ones excluded
+    private final AtomicLong version = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild(){
+        lock.writeLock().lock();
+        try {
+            byTime.clear();
+            byInterviewer.clear();
+            bySlotId.clear();
+            heldBySlotId.clear();
+            slotVersions.clear();
+            version.incrementAndGet();
+            // the booked slots stay unseen: every event of this instance comes after the load
+            for (InterviewSlot slot : interviewSlotRepository.findAvailableSlots()){
+                slotVersions.load(slot.getId(), slot.getVersion(), false, slot.getTime().toLocalDate());
+                add(AvailableSlot.of(slot));
+            }
+            logger.log(Level.INFO, "Availability index loaded with {0} slots", bySlotId.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotEvent(InterviewSlotEvent event){
+        lock.writeLock().lock();
+        try {
+            if (slotVersions.advance(event) == null){
+                return;
+            }
+            if (event.booked()){
+                remove(event.slotId());
+                heldBySlotId.remove(event.slotId());
+            } else {
+                add(AvailableSlot.of(event));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<InterviewSlotView> findAvailable(){
+        lock.readLock().lock();
+        try {
+            return toViews(byTime);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<InterviewSlotView> findAvailableByTime(LocalDateTime time){
+        lock.readLock().lock();
+        try {
+            return toViews(atTime(time));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // stops at the first free slot that is not held, unlike size()
+    public boolean hasAvailable(){
+        lock.readLock().lock();
+        try {
+            for (Long slotId : bySlotId.keySet()){
+                if (!heldBySlotId.containsKey(slotId)){
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean hasAvailableAt(LocalDateTime time){
+        lock.readLock().lock();
+        try {
+            for (AvailableSlot slot : byTime.tailSet(new AvailableSlot(Long.MIN_VALUE, time, 0L, null), true)){
+                if (!slot.time().equals(time)){
+                    return false;
+                }
+                if (!heldBySlotId.containsKey(slot.slotId())){
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to limit free slots with from <= time < to, in (time, slot id) order,
+     * optionally restricted to one interviewer.
+     */
+    public List<InterviewSlotView> findAvailableBetween(LocalDateTime from, LocalDateTime to, Long interviewerId, int limit){
+        lock.readLock().lock();
+        try {
+            NavigableSet<AvailableSlot> slots = interviewerId == null ? byTime : byInterviewer.get(interviewerId);
+            if (slots == null){
+                return new ArrayList<>();
+            }
+            return toViews(slots.subSet(
+                new AvailableSlot(Long.MIN_VALUE, from, 0L, null), true,
+                new AvailableSlot(Long.MIN_VALUE, to, 0L, null), false), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to limit free slots strictly after the (time, slotId) key,
+     * or from the earliest one when time is null.
+     */
+    public List<InterviewSlotView> findAvailableAfter(LocalDateTime time, long slotId, int limit){
+        lock.readLock().lock();
+        try {
+            NavigableSet<AvailableSlot> tail = time == null
+                ? byTime
+                : byTime.tailSet(new AvailableSlot(slotId, time, 0L, null), false);
+            return toViews(tail, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Takes a free slot out of the availability queries, without locking. Returns false when
+     * the slot is not free (booked, unknown or already held), so only one hold can win it.
+     */
+    public boolean hold(long slotId){
+        AvailableSlot slot = bySlotId.get(slotId);
+        if (slot == null || heldBySlotId.putIfAbsent(slotId, slot) != null){
+            return false;
+        }
+        // a booking removes the slot before its hold mark: if it is gone now, the booking
+        // may have missed the mark just placed
+        if (!slot.equals(bySlotId.get(slotId))){
+            heldBySlotId.remove(slotId, slot);
+            return false;
+        }
+        version.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Puts a held slot back among the free ones, without locking; does nothing if it was
+     * booked meanwhile.
+     */
+    public void release(long slotId){
+        if (heldBySlotId.remove(slotId) != null){
+            version.incrementAndGet();
+        }
+    }
+
+    public List<Long> findHeldAt(LocalDateTime time){
+        lock.readLock().lock();
+        try {
+            List<Long> slotIds = new ArrayList<>();
+            for (AvailableSlot slot : atTime(time)){
+                if (heldBySlotId.containsKey(slot.slotId())){
+                    slotIds.add(slot.slotId());
+                }
+            }
+            return slotIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Changes whenever findAvailable would return something else.
+     */
+    public long version(){
+        return version.get();
+    }
+
+    // free slots that are not held
+    public int size(){
+        lock.readLock().lock();
+        try {
+            int size = 0;
+            for (Long slotId : bySlotId.keySet()){
+                if (!heldBySlotId.containsKey(slotId)){
+                    size++;
+                }
+            }
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* --- HELPER --- */
+    private void add(AvailableSlot slot){
+        remove(slot.slotId());
+        bySlotId.put(slot.slotId(), slot);
+        byTime.add(slot);
+        byInterviewer.computeIfAbsent(slot.interviewerId(), id -> new TreeSet<>(BY_TIME_AND_ID)).add(slot);
+        version.incrementAndGet();
+    }
+
+    private void remove(long slotId){
+        AvailableSlot slot = bySlotId.remove(slotId);
+        if (slot == null){
+            return;
+        }
+        byTime.remove(slot);
+        NavigableSet<AvailableSlot> interviewerSlots = byInterviewer.get(slot.interviewerId());
+        interviewerSlots.remove(slot);
+        if (interviewerSlots.isEmpty()){
+            byInterviewer.remove(slot.interviewerId());
+        }
+        version.incrementAndGet();
+    }
+
+    private NavigableSet<AvailableSlot> atTime(LocalDateTime time){
+        return byTime.subSet(
+            new AvailableSlot(Long.MIN_VALUE, time, 0L, null), true,
+            new AvailableSlot(Long.MAX_VALUE, time, 0L, null), true);
+    }
+
+    private List<InterviewSlotView> toViews(NavigableSet<AvailableSlot> slots){
+        return toViews(slots, Integer.MAX_VALUE);
+    }
+
+    // skips the held slots; stops after limit slots, without sizing the (possibly large) view first
+    private List<InterviewSlotView> toViews(NavigableSet<AvailableSlot> slots, int limit){
+        List<InterviewSlotView> views = new ArrayList<>();
+        for (AvailableSlot slot : slots){
+            if (views.size() == limit){
+                break;
+            }
+            if (!heldBySlotId.containsKey(slot.slotId())){
+                views.add(slot.toView());
+            }
+        }
+        return views;
+    }
+
+    private record AvailableSlot(long slotId, LocalDateTime time, long interviewerId, String interviewerName) {
+
+        static AvailableSlot of(InterviewSlot slot){
+            Interviewer interviewer = slot.getInterviewer();
+            return new AvailableSlot(slot.getId(), slot.getTime(), interviewer.getId(), interviewer.getName());
+        }
+
+        static AvailableSlot of(InterviewSlotEvent event){
+            return new AvailableSlot(event.slotId(), event.time(), event.interviewerId(), event.interviewerName());
+        }
+
+        InterviewSlotView toView(){
+            return new InterviewSlotView(slotId, time, interviewerId, interviewerName, null, null);
+        }
+    }
+
+}
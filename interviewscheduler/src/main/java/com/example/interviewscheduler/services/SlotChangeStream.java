@@ -0,0 +1,200 @@
+package com.example.interviewscheduler.services;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.interviewscheduler.dtos.SlotChangeView;
+import com.example.interviewscheduler.dtos.SlotHoldChangeView;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.events.SlotHoldEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Server-Sent Events stream of slot changes: slot-created, slot-booked and slot-freed, each
+ * with a SlotChangeView as data, and slot-held and slot-released, with a SlotHoldChangeView,
+ * so clients can keep their slot list current instead of polling it.
+ *
+ * Subscribers are async SseEmitters, so an open stream holds no thread. Each change is
+ * serialized once and offered to the bounded queue of every subscriber; a small pool of
+ * publisher threads drains each queue into its emitter, one run per subscriber at a time.
+ * A slow client only backs up its own queue and ties up at most one publisher thread while a
+ * write to it blocks; one that falls SUBSCRIBER_QUEUE_SIZE changes behind is completed rather
+ * than buffered without end, and reconnects. A subscriber whose connection fails is dropped,
+ * and a periodic comment finds the connections closed without one.
+ *
+ * Event ids count the changes seen by this instance; they are not kept across restarts and do
+ * not order the changes of a slot. The version in SlotChangeView does (see there).
+ */
+@Service
+public class SlotChangeStream {
+
+    static final long SUBSCRIPTION_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    static final long HEARTBEAT_MILLIS = 15 * 1000L;
+    // how long a client waits before reconnecting once the stream ends
+    static final long RECONNECT_MILLIS = 3 * 1000L;
+    // changes waiting for one subscriber before it is dropped
+    static final int SUBSCRIBER_QUEUE_SIZE = 256;
+    static final int PUBLISHER_THREADS = 4;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private Logger logger = Logger.getLogger(SlotChangeStream.class.getName());
+
+    Executor publisher = Executors.newFixedThreadPool(PUBLISHER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "slot-change-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lastChangeId = new AtomicLong();
+
+    public SseEmitter subscribe(){
+        SseEmitter emitter = new SseEmitter(SUBSCRIPTION_TIMEOUT_MILLIS);
+        subscribe(emitter);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotEvent(InterviewSlotEvent event){
+        publish(eventName(event.type()), SlotChangeView.of(event));
+    }
+
+    @EventListener
+    public void onSlotHoldEvent(SlotHoldEvent event){
+        publish(event.type() == SlotHoldEvent.Type.HELD ? "slot-held" : "slot-released", SlotHoldChangeView.of(event));
+    }
+
+    @Scheduled(fixedDelay = HEARTBEAT_MILLIS)
+    public void heartbeat(){
+        publish(Change.HEARTBEAT);
+    }
+
+    public int size(){
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown(){
+        if (publisher instanceof ExecutorService executorService){
+            executorService.shutdownNow();
+        }
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+    }
+
+    /* --- HELPER --- */
+    void subscribe(SseEmitter emitter){
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(SUBSCRIBER_QUEUE_SIZE), new AtomicBoolean(), new AtomicBoolean());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        try {
+            // sent right away, so the client sees the stream open before any change
+            emitter.send(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("subscribed"));
+        } catch (IOException e) {
+            return;
+        }
+        subscribers.add(subscriber);
+    }
+
+    private void publish(String name, Object view){
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(view);
+        } catch (JsonProcessingException e) {
+            logger.log(Level.WARNING, "Slot change could not be serialized", e);
+            return;
+        }
+        publish(new Change(lastChangeId.incrementAndGet(), name, data));
+    }
+
+    private void publish(Change change){
+        for (Subscriber subscriber : subscribers){
+            if (!subscriber.pending().offer(change)){
+                // fell behind: completed by its own send run, which may still be blocked on it
+                subscribers.remove(subscriber);
+                subscriber.dropped().set(true);
+                logger.log(Level.INFO, "Slot stream subscriber fell behind, dropped");
+            }
+            requestSend(subscriber);
+        }
+    }
+
+    // at most one run per subscriber, so its events go out in order
+    private void requestSend(Subscriber subscriber){
+        if (subscriber.sending().compareAndSet(false, true)){
+            publisher.execute(() -> send(subscriber));
+        }
+    }
+
+    private void send(Subscriber subscriber){
+        try {
+            do {
+                for (Change change = subscriber.pending().poll(); change != null && !subscriber.dropped().get(); change = subscriber.pending().poll()){
+                    subscriber.emitter().send(change.toEvent());
+                }
+                if (subscriber.dropped().get()){
+                    subscriber.pending().clear();
+                    subscriber.emitter().complete();
+                }
+                subscriber.sending().set(false);
+                // a change queued after the last poll but before the flag was cleared
+            } while (!subscriber.pending().isEmpty() && subscriber.sending().compareAndSet(false, true));
+        } catch (IOException|IllegalStateException e) {
+            // the client went away or the stream already ended; the container completes it
+            subscribers.remove(subscriber);
+            subscriber.pending().clear();
+            subscriber.sending().set(false);
+        } catch (RuntimeException e) {
+            subscriber.sending().set(false);
+            logger.log(Level.WARNING, "Publishing slot changes failed", e);
+        }
+    }
+
+    private static String eventName(InterviewSlotEvent.Type type){
+        switch (type) {
+            case CREATED:
+                return "slot-created";
+            case BOOKED:
+                return "slot-booked";
+            default:
+                return "slot-freed";
+        }
+    }
+
+    private record Subscriber(SseEmitter emitter, BlockingQueue<Change> pending, AtomicBoolean sending, AtomicBoolean dropped) {}
+
+    private record Change(long id, String name, String data) {
+
+        static final Change HEARTBEAT = new Change(0, null, null);
+
+        SseEmitter.SseEventBuilder toEvent(){
+            if (name == null){
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(Long.toString(id)).name(name).data(data);
+        }
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.example.interviewscheduler.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.interviewscheduler.dtos.SlotHoldView;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.events.SlotHoldEvent;
+import com.example.interviewscheduler.exceptions.ConflictException;
+import com.example.interviewscheduler.exceptions.UnavailableSlotException;
+import com.example.interviewscheduler.exceptions.UserNotFoundException;
+import com.example.interviewscheduler.models.Candidate;
+import com.example.interviewscheduler.repositories.CandidateRepository;
+
+/**
+ * Short holds a candidate places on a free slot while confirming it. A held slot leaves the
+ * SlotAvailabilityIndex and cannot be booked by anyone else until the hold is confirmed,
+ * released or lapses; a candidate holds at most one slot at a time.
+ *
+ * Holds are kept in concurrent maps, and the index marks a held slot without taking its lock,
+ * so placing, releasing or expiring a hold never takes a global lock. Expiry uses a hashed
+ * timing wheel with one bucket per second: a hold is appended to the bucket of the second it
+ * lapses in, and each sweep only drains the buckets whose second has passed.
+ * Renewed or released holds are left in their old bucket and skipped when it is drained.
+ *
+ * Placing, renewing and ending a hold publish a SlotHoldEvent (see SlotChangeStream).
+ *
+ * Like the availability index, holds live in this instance only.
+ */
+@Service
+public class SlotHoldService {
+
+    static final Duration HOLD_TTL = Duration.ofMinutes(2);
+    static final long TICK_MILLIS = 1000;
+    // one lap of the wheel is longer than a hold, so a bucket only ever mixes due holds with later laps
+    static final int WHEEL_SIZE = (int) (HOLD_TTL.toMillis() / TICK_MILLIS) + 2;
+
+    @Autowired
+    SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @Autowired
+    CandidateRepository candidateRepository;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    private Logger logger = Logger.getLogger(SlotHoldService.class.getName());
+
+    private final Map<Long, Hold> holdsBySlot = new ConcurrentHashMap<>();
+    private final Map<Long, Hold> holdsByCandidate = new ConcurrentHashMap<>();
+    private final List<Queue<Hold>> wheel = new ArrayList<>(WHEEL_SIZE);
+    // last tick drained, only touched by sweep
+    private long sweptTick = Long.MIN_VALUE;
+
+    public SlotHoldService(){
+        for (int i = 0; i < WHEEL_SIZE; i++){
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    /**
+     * Holds the slot for the candidate for HOLD_TTL, or renews the candidate's hold on it.
+     * Any hold the candidate had on another slot is released.
+     */
+    public SlotHoldView hold(long slotId, long candidateId) throws UserNotFoundException, ConflictException, UnavailableSlotException{
+        return hold(slotId, candidateId, System.currentTimeMillis());
+    }
+
+    /**
+     * Returns false when the candidate holds no such slot.
+     */
+    public boolean release(long slotId, long candidateId){
+        Hold hold = holdsBySlot.get(slotId);
+        return hold != null && hold.candidateId() == candidateId && releaseHold(hold);
+    }
+
+    public boolean isHeldByOther(long slotId, long candidateId){
+        Hold hold = holdsBySlot.get(slotId);
+        return hold != null && hold.candidateId() != candidateId && hold.expiresAt() > System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the slots at that time that are held, other than by this candidate.
+     */
+    public List<Long> findHeldByOthersAt(LocalDateTime time, long candidateId){
+        List<Long> slotIds = new ArrayList<>();
+        for (Long slotId : slotAvailabilityIndex.findHeldAt(time)){
+            Hold hold = holdsBySlot.get(slotId);
+            if (hold == null || hold.candidateId() != candidateId){
+                slotIds.add(slotId);
+            }
+        }
+        return slotIds;
+    }
+
+    /**
+     * A booking ends the candidate's hold; a hold elsewhere goes back to the free slots.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotEvent(InterviewSlotEvent event){
+        if (event.type() != InterviewSlotEvent.Type.BOOKED){
+            return;
+        }
+        dropHold(holdsBySlot.get(event.slotId()), event.slotId());
+        if (event.candidateId() != null){
+            dropHold(holdsByCandidate.get(event.candidateId()), event.slotId());
+        }
+    }
+
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void sweepExpiredHolds(){
+        int expired = sweep(System.currentTimeMillis());
+        if (expired > 0){
+            logger.log(Level.FINE, "Released {0} expired Slot holds", expired);
+        }
+    }
+
+    public int size(){
+        return holdsBySlot.size();
+    }
+
+    /* --- HELPER --- */
+    private record Hold(long slotId, long candidateId, long expiresAt) {
+
+        SlotHoldView toView(){
+            return new SlotHoldView(slotId, candidateId, Instant.ofEpochMilli(expiresAt));
+        }
+    }
+
+    SlotHoldView hold(long slotId, long candidateId, long now) throws UserNotFoundException, ConflictException, UnavailableSlotException{
+        Optional<Candidate> optionalCandidate = candidateRepository.findById(candidateId);
+        if (optionalCandidate.isEmpty()){
+            logger.log(Level.INFO, "Hold Slot for Existing Candidate");
+            throw new UserNotFoundException("Candidate not found!");
+        }
+        if (optionalCandidate.get().getSlot() != null){
+            logger.log(Level.INFO, "Candidate already has Slot Assigned!");
+            throw new ConflictException("Candidate already has Slot Assigned!");
+        }
+
+        Hold hold = new Hold(slotId, candidateId, now + HOLD_TTL.toMillis());
+        Hold existing = holdsBySlot.get(slotId);
+        if (existing == null){
+            // the index hands a free slot to one hold only
+            if (!slotAvailabilityIndex.hold(slotId)){
+                logger.log(Level.INFO, "Slot not available to hold");
+                throw new UnavailableSlotException("Slot not available!");
+            }
+            holdsBySlot.put(slotId, hold);
+        } else if ((existing.candidateId() != candidateId && existing.expiresAt() > now)
+                || !holdsBySlot.replace(slotId, existing, hold)){
+            logger.log(Level.INFO, "Slot held by another Candidate");
+            throw new UnavailableSlotException("Slot held by another Candidate!");
+        } else if (existing.candidateId() != candidateId){
+            // took over a lapsed hold the sweeper had not reached yet
+            holdsByCandidate.remove(existing.candidateId(), existing);
+        }
+
+        Hold previous = holdsByCandidate.put(candidateId, hold);
+        if (previous != null && previous.slotId() != slotId){
+            releaseHold(previous);
+        }
+        wheel.get(bucketOf(Math.floorDiv(hold.expiresAt() + TICK_MILLIS - 1, TICK_MILLIS))).add(hold);
+        eventPublisher.publishEvent(new SlotHoldEvent(SlotHoldEvent.Type.HELD, slotId, Instant.ofEpochMilli(hold.expiresAt())));
+        return hold.toView();
+    }
+
+    /**
+     * Drains the buckets of the ticks up to now and releases the holds that lapsed.
+     */
+    synchronized int sweep(long now){
+        long tick = Math.floorDiv(now, TICK_MILLIS);
+        int expired = 0;
+        for (long t = Math.max(sweptTick + 1, tick - WHEEL_SIZE + 1); t <= tick; t++){
+            Queue<Hold> bucket = wheel.get(bucketOf(t));
+            for (int pending = bucket.size(); pending > 0; pending--){
+                Hold hold = bucket.poll();
+                if (hold == null){
+                    break;
+                }
+                if (hold.expiresAt() > now){
+                    bucket.add(hold);
+                } else if (releaseHold(hold)){
+                    expired++;
+                }
+            }
+        }
+        sweptTick = tick;
+        return expired;
+    }
+
+    private int bucketOf(long tick){
+        return (int) Math.floorMod(tick, (long) WHEEL_SIZE);
+    }
+
+    // false when the hold was already renewed, released or taken over
+    private boolean releaseHold(Hold hold){
+        if (!holdsBySlot.remove(hold.slotId(), hold)){
+            return false;
+        }
+        holdsByCandidate.remove(hold.candidateId(), hold);
+        slotAvailabilityIndex.release(hold.slotId());
+        eventPublisher.publishEvent(new SlotHoldEvent(SlotHoldEvent.Type.RELEASED, hold.slotId(), null));
+        return true;
+    }
+
+    // the booked slot already left the index; any other held slot is free again
+    private void dropHold(Hold hold, long bookedSlotId){
+        if (hold == null || !holdsBySlot.remove(hold.slotId(), hold)){
+            return;
+        }
+        holdsByCandidate.remove(hold.candidateId(), hold);
+        if (hold.slotId() != bookedSlotId){
+            slotAvailabilityIndex.release(hold.slotId());
+            eventPublisher.publishEvent(new SlotHoldEvent(SlotHoldEvent.Type.RELEASED, hold.slotId(), null));
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.example.interviewscheduler.services;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * Maximum matching of candidates to slots when every candidate accepts a window of consecutive
+ * slots, in O((n + m) log m) for n candidates and m slots.
+ *
+ * Candidates are taken by the end of their window, earliest first, and each gets the first slot
+ * still free in its window: it has the fewest choices left among the candidates still waiting,
+ * and the earliest slot is the one they need least. Ties go to the earlier candidate.
+ */
+final class SlotMatcher {
+
+    static final int UNMATCHED = -1;
+
+    private SlotMatcher(){
+    }
+
+    /**
+     * Returns, per candidate, the index of its matched slot or UNMATCHED. Candidate c accepts
+     * the slots [first[c], end[c]) of [0, slotCount); an empty window matches nothing.
+     */
+    static int[] match(int[] first, int[] end, int slotCount){
+        int[] slotOfCandidate = new int[first.length];
+        Arrays.fill(slotOfCandidate, UNMATCHED);
+        NavigableSet<Integer> freeSlots = new TreeSet<>();
+        for (int slot = 0; slot < slotCount; slot++){
+            freeSlots.add(slot);
+        }
+
+        // a stable sort, so equal ends keep the input order
+        int[] byEnd = IntStream.range(0, first.length).boxed()
+            .sorted(Comparator.comparingInt(candidate -> end[candidate]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+        for (int candidate : byEnd){
+            Integer slot = freeSlots.ceiling(first[candidate]);
+            if (slot != null && slot < end[candidate]){
+                slotOfCandidate[candidate] = slot;
+                freeSlots.remove(slot);
+            }
+        }
+        return slotOfCandidate;
+    }
+
+}
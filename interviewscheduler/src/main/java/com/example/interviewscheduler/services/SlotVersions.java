@@ -0,0 +1,58 @@
+package com.example.interviewscheduler.services;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+
+/**
+ * The last slot version an in-memory read model applied, per slot, and whether that left the
+ * slot booked. An InterviewSlotEvent at or below the applied version is stale: a later change
+ * of the slot, published by a thread that finished first, was already applied.
+ *
+ * The day of each slot is kept too, so an owner that only follows a window of days can drop
+ * the slots that fell out of it (pruneBefore).
+ *
+ * Not thread-safe; the owner calls it under its own write lock.
+ */
+final class SlotVersions {
+
+    // a slot the owner has not seen since its load: created after it, so free before its first event
+    static final Applied UNSEEN = new Applied(-1, false);
+
+    private final Map<Long, Entry> bySlotId = new HashMap<>();
+
+    void clear(){
+        bySlotId.clear();
+    }
+
+    void load(long slotId, long version, boolean booked, LocalDate day){
+        bySlotId.put(slotId, new Entry(new Applied(version, booked), day.toEpochDay()));
+    }
+
+    // forgets the slots on days before the given one
+    void pruneBefore(LocalDate day){
+        long firstDay = day.toEpochDay();
+        bySlotId.values().removeIf(entry -> entry.day() < firstDay);
+    }
+
+    /**
+     * Records the event as applied and returns the state applied before it, or returns null
+     * without recording anything when the event is stale.
+     */
+    Applied advance(InterviewSlotEvent event){
+        Entry entry = bySlotId.get(event.slotId());
+        Applied before = entry == null ? UNSEEN : entry.applied();
+        if (event.version() <= before.version()){
+            return null;
+        }
+        bySlotId.put(event.slotId(), new Entry(new Applied(event.version(), event.booked()), event.time().toLocalDate().toEpochDay()));
+        return before;
+    }
+
+    record Applied(long version, boolean booked) {}
+
+    private record Entry(Applied applied, long day) {}
+
+}
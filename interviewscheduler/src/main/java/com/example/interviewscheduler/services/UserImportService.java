@@ -0,0 +1,288 @@
+package com.example.interviewscheduler.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.example.interviewscheduler.dtos.ImportFormat;
+import com.example.interviewscheduler.dtos.ImportRowResultDTO;
+import com.example.interviewscheduler.dtos.ImportStatus;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.models.Candidate;
+import com.example.interviewscheduler.models.Interviewer;
+import com.example.interviewscheduler.repositories.CandidateRepository;
+import com.example.interviewscheduler.repositories.InterviewerRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Bulk registration of candidates and interviewers from CSV or NDJSON uploads.
+ * The upload is read line by line and handled in batches of IMPORT_BATCH_SIZE rows:
+ * one query finds the emails already registered and one batched insert creates the rest.
+ * A result line is written for every row; rows rejected while parsing are reported
+ * straight away, so the report is not in upload order.
+ */
+@Service
+public class UserImportService {
+
+    static final int IMPORT_BATCH_SIZE = 500;
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WriteVersions writeVersions;
+
+    private Logger logger = Logger.getLogger(UserImportService.class.getName());
+
+    /**
+     * Returns the number of candidates created.
+     */
+    public long importCandidates(InputStream in, ImportFormat format, OutputStream out) throws IOException{
+        long created = importUsers(in, format, out, candidateRepository::findEmailsByEmailIn, this::saveCandidates);
+        logger.log(Level.INFO, "Imported {0} Candidates", created);
+        return created;
+    }
+
+    /**
+     * Returns the number of interviewers created.
+     */
+    public long importInterviewers(InputStream in, ImportFormat format, OutputStream out) throws IOException{
+        long created = importUsers(in, format, out, interviewerRepository::findEmailsByEmailIn, this::saveInterviewers);
+        logger.log(Level.INFO, "Imported {0} Interviewers", created);
+        return created;
+    }
+
+    /* --- HELPER --- */
+    private record ImportRow(long line, String name, String email) {}
+
+    private long importUsers(InputStream in, ImportFormat format, OutputStream out,
+            Function<Collection<String>, Set<String>> findRegisteredEmails,
+            Function<List<ImportRow>, List<Long>> insert) throws IOException{
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        ObjectWriter writer = objectMapper.writerFor(ImportRowResultDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        int[] csvColumns = null;
+        long lineNumber = 0;
+        long created = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            String line;
+            while ((line = reader.readLine()) != null){
+                lineNumber++;
+                if (line.isBlank()){
+                    continue;
+                }
+                if (format == ImportFormat.CSV && csvColumns == null){
+                    csvColumns = readCsvHeader(line);
+                    if (csvColumns != null){
+                        continue;
+                    }
+                    csvColumns = new int[]{0, 1};
+                }
+
+                ImportRow row;
+                try {
+                    row = format == ImportFormat.CSV ? parseCsvRow(lineNumber, line, csvColumns) : parseJsonRow(lineNumber, line);
+                } catch (BadRequestException e) {
+                    writeResult(writer, generator, new ImportRowResultDTO(lineNumber, null, ImportStatus.INVALID, null, e.getMessage()));
+                    continue;
+                }
+                if (!seenEmails.add(row.email())){
+                    writeResult(writer, generator, new ImportRowResultDTO(row.line(), row.email(), ImportStatus.DUPLICATE, null, "Email repeated in this upload"));
+                    continue;
+                }
+
+                batch.add(row);
+                if (batch.size() == IMPORT_BATCH_SIZE){
+                    created += importBatch(batch, findRegisteredEmails, insert, writer, generator);
+                    batch.clear();
+                }
+            }
+            created += importBatch(batch, findRegisteredEmails, insert, writer, generator);
+        }
+        return created;
+    }
+
+    private long importBatch(List<ImportRow> batch, Function<Collection<String>, Set<String>> findRegisteredEmails,
+            Function<List<ImportRow>, List<Long>> insert, ObjectWriter writer, JsonGenerator generator) throws IOException{
+        if (batch.isEmpty()){
+            return 0;
+        }
+        Set<String> registeredEmails = findRegisteredEmails.apply(batch.stream().map(ImportRow::email).toList());
+        List<ImportRow> rowsToInsert = new ArrayList<>(batch.size());
+        for (ImportRow row : batch){
+            if (registeredEmails.contains(row.email())){
+                writeResult(writer, generator, new ImportRowResultDTO(row.line(), row.email(), ImportStatus.EXISTING, null, "Email already registered"));
+            } else {
+                rowsToInsert.add(row);
+            }
+        }
+
+        long created = 0;
+        try {
+            List<Long> ids = insert.apply(rowsToInsert);
+            for (int i = 0; i < rowsToInsert.size(); i++){
+                ImportRow row = rowsToInsert.get(i);
+                writeResult(writer, generator, new ImportRowResultDTO(row.line(), row.email(), ImportStatus.CREATED, ids.get(i), null));
+            }
+            created = rowsToInsert.size();
+        } catch (DataIntegrityViolationException e) {
+            // someone registered one of these emails since the lookup; retry the batch row by row
+            logger.log(Level.INFO, "Batch insert rejected, retrying {0} rows one by one", rowsToInsert.size());
+            for (ImportRow row : rowsToInsert){
+                try {
+                    Long id = insert.apply(List.of(row)).get(0);
+                    writeResult(writer, generator, new ImportRowResultDTO(row.line(), row.email(), ImportStatus.CREATED, id, null));
+                    created++;
+                } catch (DataIntegrityViolationException rowException) {
+                    writeResult(writer, generator, new ImportRowResultDTO(row.line(), row.email(), ImportStatus.EXISTING, null, "Email already registered"));
+                }
+            }
+        }
+        generator.flush();
+        return created;
+    }
+
+    private List<Long> saveCandidates(List<ImportRow> rows){
+        List<Candidate> candidates = new ArrayList<>(rows.size());
+        for (ImportRow row : rows){
+            Candidate candidate = new Candidate();
+            candidate.setName(row.name());
+            candidate.setEmail(row.email());
+            candidates.add(candidate);
+        }
+        candidateRepository.saveAll(candidates);
+        writeVersions.bump(WriteVersions.Collection.CANDIDATES);
+        return candidates.stream().map(Candidate::getId).toList();
+    }
+
+    private List<Long> saveInterviewers(List<ImportRow> rows){
+        List<Interviewer> interviewers = new ArrayList<>(rows.size());
+        for (ImportRow row : rows){
+            Interviewer interviewer = new Interviewer();
+            interviewer.setName(row.name());
+            interviewer.setEmail(row.email());
+            interviewers.add(interviewer);
+        }
+        interviewerRepository.saveAll(interviewers);
+        return interviewers.stream().map(Interviewer::getId).toList();
+    }
+
+    private void writeResult(ObjectWriter writer, JsonGenerator generator, ImportRowResultDTO result) throws IOException{
+        writer.writeValue(generator, result);
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Returns the name and email column positions when the line is a header, null otherwise
+     * (headerless files are read as name,email).
+     */
+    private int[] readCsvHeader(String line){
+        List<String> cells = splitCsvLine(line);
+        int nameColumn = -1;
+        int emailColumn = -1;
+        for (int i = 0; i < cells.size(); i++){
+            String cell = cells.get(i).trim().toLowerCase();
+            if (cell.equals("name")){
+                nameColumn = i;
+            } else if (cell.equals("email")){
+                emailColumn = i;
+            }
+        }
+        return nameColumn < 0 || emailColumn < 0 ? null : new int[]{nameColumn, emailColumn};
+    }
+
+    private ImportRow parseCsvRow(long lineNumber, String line, int[] columns) throws BadRequestException{
+        List<String> cells = splitCsvLine(line);
+        if (cells.size() <= Math.max(columns[0], columns[1])){
+            throw new BadRequestException("Missing columns");
+        }
+        return checkRow(lineNumber, cells.get(columns[0]), cells.get(columns[1]));
+    }
+
+    private ImportRow parseJsonRow(long lineNumber, String line) throws BadRequestException{
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Malformed JSON");
+        }
+        if (!node.isObject()){
+            throw new BadRequestException("Malformed JSON");
+        }
+        return checkRow(lineNumber, node.path("name").asText(null), node.path("email").asText(null));
+    }
+
+    private ImportRow checkRow(long lineNumber, String name, String email) throws BadRequestException{
+        if (name == null || name.isBlank()){
+            throw new BadRequestException("Name is required");
+        }
+        if (email == null || !EMAIL_PATTERN.matcher(email.trim()).matches()){
+            throw new BadRequestException("Invalid email");
+        }
+        return new ImportRow(lineNumber, name.trim(), email.trim());
+    }
+
+    /**
+     * Splits one CSV record; fields may be double-quoted, with "" for a literal quote.
+     */
+    private static List<String> splitCsvLine(String line){
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++){
+            char c = line.charAt(i);
+            if (quoted){
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"'){
+                    cell.append('"');
+                    i++;
+                } else if (c == '"'){
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"'){
+                quoted = true;
+            } else if (c == ','){
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+}
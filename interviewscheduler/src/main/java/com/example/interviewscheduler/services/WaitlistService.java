@@ -0,0 +1,203 @@
+package com.example.interviewscheduler.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.dtos.WaitlistDTO;
+import com.example.interviewscheduler.dtos.WaitlistEntryView;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.exceptions.ConflictException;
+import com.example.interviewscheduler.exceptions.UnavailableSlotException;
+import com.example.interviewscheduler.exceptions.UserNotFoundException;
+import com.example.interviewscheduler.models.Candidate;
+import com.example.interviewscheduler.models.WaitlistEntry;
+import com.example.interviewscheduler.repositories.CandidateRepository;
+import com.example.interviewscheduler.repositories.WaitlistRepository;
+
+/**
+ * Candidates waiting for a slot. Whenever a slot is created or cancelled, a single background
+ * worker walks the waitlist in matching order (highest priority first, then first come, first
+ * served) in batches of MATCH_BATCH_SIZE, and books each candidate the earliest free slot in
+ * their window.
+ *
+ * Each booking goes through InterviewSlotService.assignToCandidate, a single conditional update
+ * in its own short transaction, so the worker holds no transaction across a batch and competes
+ * fairly with candidates booking directly. Requests to match while a run is queued are coalesced.
+ */
+@Service
+public class WaitlistService {
+
+    static final int MATCH_BATCH_SIZE = 100;
+    // free slots tried per candidate before moving on, in case the first ones are taken meanwhile
+    static final int SLOTS_TRIED_PER_CANDIDATE = 3;
+
+    @Autowired
+    WaitlistRepository waitlistRepository;
+
+    @Autowired
+    CandidateRepository candidateRepository;
+
+    @Autowired
+    InterviewSlotService interviewSlotService;
+
+    @Autowired
+    SlotAvailabilityIndex slotAvailabilityIndex;
+
+    private Logger logger = Logger.getLogger(WaitlistService.class.getName());
+
+    Executor matcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "waitlist-matcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean matchRequested = new AtomicBoolean();
+
+    public WaitlistEntryView join(WaitlistDTO waitlistDTO) throws BadRequestException, UserNotFoundException, ConflictException{
+        if (waitlistDTO.getCandidateId() == null){
+            throw new BadRequestException("Candidate is required!");
+        }
+        if (waitlistDTO.getEarliest() != null && waitlistDTO.getLatest() != null && !waitlistDTO.getEarliest().isBefore(waitlistDTO.getLatest())){
+            throw new BadRequestException("Earliest time must be before latest time!");
+        }
+        Optional<Candidate> optionalCandidate = candidateRepository.findById(waitlistDTO.getCandidateId());
+        if (optionalCandidate.isEmpty()){
+            logger.log(Level.INFO, "Join Waitlist as Existing Candidate");
+            throw new UserNotFoundException("Candidate not found!");
+        }
+        if (optionalCandidate.get().getSlot() != null){
+            logger.log(Level.INFO, "Candidate already has Slot Assigned!");
+            throw new ConflictException("Candidate already has Slot Assigned!");
+        }
+        if (waitlistRepository.existsByCandidateId(waitlistDTO.getCandidateId())){
+            logger.log(Level.INFO, "Candidate already on the Waitlist!");
+            throw new ConflictException("Candidate already on the Waitlist!");
+        }
+
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setCandidate(optionalCandidate.get());
+        entry.setEarliest(waitlistDTO.getEarliest());
+        entry.setLatest(waitlistDTO.getLatest());
+        entry.setPriority(waitlistDTO.getPriority());
+        entry.setCreatedAt(LocalDateTime.now());
+        try {
+            waitlistRepository.save(entry);
+        } catch (DataIntegrityViolationException e) {
+            // the candidate joined concurrently
+            logger.log(Level.INFO, "Candidate already on the Waitlist!");
+            throw new ConflictException("Candidate already on the Waitlist!");
+        }
+        // a matching slot may already be free
+        requestMatch();
+        return WaitlistEntryView.of(entry);
+    }
+
+    public WaitlistEntryView get(long candidateId){
+        return waitlistRepository.findViewByCandidateId(candidateId).orElse(null);
+    }
+
+    /**
+     * Returns false when the candidate was not waiting.
+     */
+    public boolean leave(long candidateId){
+        return waitlistRepository.deleteByCandidateId(candidateId) > 0;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotEvent(InterviewSlotEvent event){
+        if (event.type() == InterviewSlotEvent.Type.CANCELLED
+                || (event.type() == InterviewSlotEvent.Type.CREATED && event.candidateId() == null)){
+            requestMatch();
+        }
+    }
+
+    /**
+     * Books waiting candidates into free slots, in matching order, until the waitlist or the
+     * free slots run out. Returns the number of candidates assigned.
+     */
+    public int assignWaitingCandidates(){
+        int assigned = 0;
+        List<WaitlistEntryView> batch = waitlistRepository.findFirstBatch(PageRequest.of(0, MATCH_BATCH_SIZE));
+        while (!batch.isEmpty() && slotAvailabilityIndex.hasAvailable()){
+            for (WaitlistEntryView entry : batch){
+                if (assign(entry)){
+                    assigned++;
+                }
+            }
+            WaitlistEntryView last = batch.get(batch.size() - 1);
+            batch = batch.size() < MATCH_BATCH_SIZE
+                ? List.of()
+                : waitlistRepository.findBatchAfter(last.priority(), last.id(), PageRequest.of(0, MATCH_BATCH_SIZE));
+        }
+        if (assigned > 0){
+            logger.log(Level.INFO, "Assigned {0} waiting Candidates", assigned);
+        }
+        return assigned;
+    }
+
+    @PreDestroy
+    void shutdown(){
+        if (matcher instanceof ExecutorService executorService){
+            executorService.shutdownNow();
+        }
+    }
+
+    /* --- HELPER --- */
+    private void requestMatch(){
+        if (matchRequested.compareAndSet(false, true)){
+            matcher.execute(() -> {
+                // cleared first, so a slot opening during the run queues another one
+                matchRequested.set(false);
+                try {
+                    assignWaitingCandidates();
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "Waitlist matching failed", e);
+                }
+            });
+        }
+    }
+
+    // true when the candidate got a slot; entries that can never be served are dropped
+    private boolean assign(WaitlistEntryView entry){
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = entry.earliest() == null || entry.earliest().isBefore(now) ? now : entry.earliest();
+        LocalDateTime to = entry.latest() == null ? LocalDateTime.MAX : entry.latest();
+        if (!from.isBefore(to)){
+            // the window has passed
+            waitlistRepository.deleteByCandidateId(entry.candidateId());
+            return false;
+        }
+
+        for (InterviewSlotView slot : slotAvailabilityIndex.findAvailableBetween(from, to, null, SLOTS_TRIED_PER_CANDIDATE)){
+            try {
+                interviewSlotService.assignToCandidate(slot.id(), entry.candidateId());
+                waitlistRepository.deleteByCandidateId(entry.candidateId());
+                return true;
+            } catch (UnavailableSlotException|BadRequestException e) {
+                // taken or held since the index was read; try the next one
+            } catch (ConflictException|UserNotFoundException e) {
+                // booked by other means, or no longer registered
+                waitlistRepository.deleteByCandidateId(entry.candidateId());
+                return false;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.example.interviewscheduler.services;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+
+/**
+ * Write-version counters of the listed collections, for the ETags of their GET endpoints.
+ * A counter is bumped after every committed write to its collection, so while the ETag of a
+ * listing is unchanged so is the listing, and a conditional GET is answered without a query.
+ *
+ * Like SlotAvailabilityIndex, the counters follow the writes of this instance only. They start
+ * over on restart; the ETag carries the instance's start time, so old tags never match.
+ */
+@Component
+public class WriteVersions {
+
+    public enum Collection {
+        SLOTS,
+        CANDIDATES
+    }
+
+    private final String instance = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Map<Collection, AtomicLong> versions = new EnumMap<>(Collection.class);
+
+    public WriteVersions(){
+        for (Collection collection : Collection.values()){
+            versions.put(collection, new AtomicLong());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotEvent(InterviewSlotEvent event){
+        bump(Collection.SLOTS);
+    }
+
+    /**
+     * Call once the write has committed; a listing read before that would otherwise be
+     * cached by clients under the new version.
+     */
+    public void bump(Collection collection){
+        versions.get(collection).incrementAndGet();
+    }
+
+    /**
+     * Strong ETag (without quotes) of the collection's current version. Read it before the
+     * listing, so a write in between only makes the tag older than the body, never newer.
+     */
+    public String etag(Collection collection){
+        return etag(collection.name(), versions.get(collection).get());
+    }
+
+    public String etag(String name, long version){
+        return name.toLowerCase() + "-" + instance + "-" + version;
+    }
+
+}
@@ -0,0 +1,27 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update).
+-- Existing databases are baselined at this version and skip this script.
+
+CREATE TABLE interviewer (
+    id bigserial NOT NULL,
+    name varchar(255),
+    email varchar(255),
+    CONSTRAINT interviewer_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE candidate (
+    id bigserial NOT NULL,
+    name varchar(255),
+    email varchar(255),
+    CONSTRAINT candidate_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE interview_slot (
+    slot_id bigserial NOT NULL,
+    slot_time timestamp NOT NULL,
+    candidate_id int8,
+    interviewer_id int8 NOT NULL,
+    CONSTRAINT interview_slot_pkey PRIMARY KEY (slot_id),
+    CONSTRAINT uk_interview_slot_candidate UNIQUE (candidate_id),
+    CONSTRAINT fk_interview_slot_candidate FOREIGN KEY (candidate_id) REFERENCES candidate (id),
+    CONSTRAINT fk_interview_slot_interviewer FOREIGN KEY (interviewer_id) REFERENCES interviewer (id)
+);
@@ -0,0 +1,12 @@
+-- findByEmail on both user tables; also makes registration race-free.
+CREATE UNIQUE INDEX ux_interviewer_email ON interviewer (email);
+CREATE UNIQUE INDEX ux_candidate_email ON candidate (email);
+
+-- findByTimeAndInterviewer and the per-interviewer listings; one slot per interviewer and time.
+CREATE UNIQUE INDEX ux_interview_slot_interviewer_time ON interview_slot (interviewer_id, slot_time);
+
+-- availability queries (candidate IS NULL), ordered or filtered by time.
+CREATE INDEX idx_interview_slot_available_time ON interview_slot (slot_time) WHERE candidate_id IS NULL;
+
+-- keyset pagination over (slot_time, slot_id); may already exist where Hibernate created it.
+CREATE INDEX IF NOT EXISTS idx_interview_slot_time_id ON interview_slot (slot_time, slot_id);
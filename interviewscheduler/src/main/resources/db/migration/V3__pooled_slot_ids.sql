@@ -0,0 +1,3 @@
+-- InterviewSlot ids come from a pooled sequence (allocationSize = 50) so Hibernate can
+-- batch the inserts; each nextval reserves a block of 50 ids for one application instance.
+ALTER SEQUENCE interview_slot_slot_id_seq INCREMENT BY 50;
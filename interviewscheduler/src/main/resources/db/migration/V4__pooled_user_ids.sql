@@ -0,0 +1,4 @@
+-- Candidate and Interviewer ids come from pooled sequences (allocationSize = 50) so the
+-- bulk import can batch its inserts, as V3 did for interview slots.
+ALTER SEQUENCE candidate_id_seq INCREMENT BY 50;
+ALTER SEQUENCE interviewer_id_seq INCREMENT BY 50;
@@ -0,0 +1,16 @@
+-- Candidates waiting for a slot, assigned by WaitlistService as slots open.
+-- Ids come straight from the sequence (no pooling), so id order is arrival order.
+CREATE TABLE waitlist_entry (
+    id bigserial NOT NULL,
+    candidate_id int8 NOT NULL,
+    earliest timestamp,
+    latest timestamp,
+    priority int4 NOT NULL DEFAULT 0,
+    created_at timestamp NOT NULL,
+    CONSTRAINT waitlist_entry_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_waitlist_entry_candidate UNIQUE (candidate_id),
+    CONSTRAINT fk_waitlist_entry_candidate FOREIGN KEY (candidate_id) REFERENCES candidate (id) ON DELETE CASCADE
+);
+
+-- matching order: highest priority first, then first come, first served
+CREATE INDEX idx_waitlist_entry_order ON waitlist_entry (priority DESC, id);
@@ -0,0 +1,52 @@
+-- Delta sync (ChangeFeedService): every row carries the change version of its last write, and
+-- deleted rows leave a tombstone. The version is the id of the writing transaction, set by
+-- trigger, so native and bulk statements are covered as well as entity saves.
+-- Transaction ids are handed out in start order, not commit order; readers only trust versions
+-- below txid_snapshot_xmin, where every transaction has finished.
+CREATE FUNCTION set_change_version() RETURNS trigger AS $$
+BEGIN
+    NEW.change_version := txid_current();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE interview_slot ADD COLUMN change_version int8 NOT NULL DEFAULT txid_current();
+ALTER TABLE candidate ADD COLUMN change_version int8 NOT NULL DEFAULT txid_current();
+ALTER TABLE interviewer ADD COLUMN change_version int8 NOT NULL DEFAULT txid_current();
+
+CREATE TRIGGER trg_interview_slot_change_version BEFORE INSERT OR UPDATE ON interview_slot
+    FOR EACH ROW EXECUTE PROCEDURE set_change_version();
+CREATE TRIGGER trg_candidate_change_version BEFORE INSERT OR UPDATE ON candidate
+    FOR EACH ROW EXECUTE PROCEDURE set_change_version();
+CREATE TRIGGER trg_interviewer_change_version BEFORE INSERT OR UPDATE ON interviewer
+    FOR EACH ROW EXECUTE PROCEDURE set_change_version();
+
+CREATE INDEX idx_interview_slot_change_version ON interview_slot (change_version, slot_id);
+CREATE INDEX idx_candidate_change_version ON candidate (change_version, id);
+CREATE INDEX idx_interviewer_change_version ON interviewer (change_version, id);
+
+CREATE TABLE change_tombstone (
+    id bigserial NOT NULL,
+    entity_type varchar(16) NOT NULL,
+    entity_id int8 NOT NULL,
+    change_version int8 NOT NULL DEFAULT txid_current(),
+    CONSTRAINT change_tombstone_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_change_tombstone_change_version ON change_tombstone (change_version, id);
+
+-- TG_ARGV[0]: entity type recorded in the tombstone, TG_ARGV[1]: id column of the table
+CREATE FUNCTION record_change_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO change_tombstone (entity_type, entity_id)
+        VALUES (TG_ARGV[0], (to_jsonb(OLD) ->> TG_ARGV[1])::int8);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_interview_slot_tombstone AFTER DELETE ON interview_slot
+    FOR EACH ROW EXECUTE PROCEDURE record_change_tombstone('SLOT', 'slot_id');
+CREATE TRIGGER trg_candidate_tombstone AFTER DELETE ON candidate
+    FOR EACH ROW EXECUTE PROCEDURE record_change_tombstone('CANDIDATE', 'id');
+CREATE TRIGGER trg_interviewer_tombstone AFTER DELETE ON interviewer
+    FOR EACH ROW EXECUTE PROCEDURE record_change_tombstone('INTERVIEWER', 'id');
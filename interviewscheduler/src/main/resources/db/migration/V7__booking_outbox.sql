@@ -0,0 +1,36 @@
+-- Transactional outbox of booking events, drained by BookingOutboxRelay. Rows are written by
+-- trigger, in the transaction that changes the slot, so an event exists if and only if its
+-- change committed, whichever statement made it (entity save, conditional claim, native batch).
+CREATE TABLE booking_outbox (
+    id bigserial NOT NULL,
+    event_type varchar(16) NOT NULL,
+    slot_id int8 NOT NULL,
+    slot_time timestamp NOT NULL,
+    interviewer_id int8 NOT NULL,
+    candidate_id int8,
+    created_at timestamptz NOT NULL DEFAULT clock_timestamp(),
+    CONSTRAINT booking_outbox_pkey PRIMARY KEY (id)
+);
+
+-- CREATED on insert; BOOKED or CANCELLED when the candidate changes, a cancel naming the
+-- candidate that left the slot
+CREATE FUNCTION record_booking_event() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO booking_outbox (event_type, slot_id, slot_time, interviewer_id, candidate_id)
+            VALUES ('CREATED', NEW.slot_id, NEW.slot_time, NEW.interviewer_id, NEW.candidate_id);
+    ELSIF NEW.candidate_id IS NULL THEN
+        INSERT INTO booking_outbox (event_type, slot_id, slot_time, interviewer_id, candidate_id)
+            VALUES ('CANCELLED', NEW.slot_id, NEW.slot_time, NEW.interviewer_id, OLD.candidate_id);
+    ELSE
+        INSERT INTO booking_outbox (event_type, slot_id, slot_time, interviewer_id, candidate_id)
+            VALUES ('BOOKED', NEW.slot_id, NEW.slot_time, NEW.interviewer_id, NEW.candidate_id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_interview_slot_created_outbox AFTER INSERT ON interview_slot
+    FOR EACH ROW EXECUTE PROCEDURE record_booking_event();
+CREATE TRIGGER trg_interview_slot_booking_outbox AFTER UPDATE OF candidate_id ON interview_slot
+    FOR EACH ROW WHEN (OLD.candidate_id IS DISTINCT FROM NEW.candidate_id) EXECUTE PROCEDURE record_booking_event();
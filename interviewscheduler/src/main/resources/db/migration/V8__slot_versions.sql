@@ -0,0 +1,15 @@
+-- Per-slot version for the InterviewSlotEvents: 0 when the slot is created, one more on every
+-- update. Updates of a row are serialised by its row lock, so the version only grows for a
+-- slot, unlike change_version (transaction ids follow start order, not commit order). The
+-- in-memory read models drop an event whose version they have already passed.
+CREATE FUNCTION bump_slot_version() RETURNS trigger AS $$
+BEGIN
+    NEW.slot_version := OLD.slot_version + 1;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE interview_slot ADD COLUMN slot_version int8 NOT NULL DEFAULT 0;
+
+CREATE TRIGGER trg_interview_slot_version BEFORE UPDATE ON interview_slot
+    FOR EACH ROW EXECUTE PROCEDURE bump_slot_version();
@@ -2,6 +2,8 @@ package com.example.interviewscheduler.controllers;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,26 +22,32 @@ import org.springframework.test.web.servlet.MockMvc;
 import io.restassured.http.ContentType;
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import com.example.interviewscheduler.dtos.CandidateDTO;
+import com.example.interviewscheduler.dtos.CandidateView;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.dtos.ImportFormat;
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.exceptions.BadRequestException;
 import com.example.interviewscheduler.exceptions.DuplicatedUserException;
 import com.example.interviewscheduler.exceptions.UserNotFoundException;
 import com.example.interviewscheduler.models.InterviewSlot;
 import com.example.interviewscheduler.models.Interviewer;
-import com.example.interviewscheduler.models.Candidate;
 import com.example.interviewscheduler.services.CandidateService;
+import com.example.interviewscheduler.services.UserImportService;
 
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
 
 @WebMvcTest(value = CandidateController.class)
 class CandidateControllerTest {
     private final String API_CANDIDATE_ENDPOINT = "api/scheduler/candidate";
     private final int N_CANDIDATE_ATTRIBUTES = 3;
-    private final int N_INTERVIEW_SLOT_ATTRIBUTES = 4;
+    private final int N_INTERVIEW_SLOT_ATTRIBUTES = 6;
 
     CandidateDTO candidateDTO;
-    Candidate candidate;
-    Candidate candidate2;
-    List<Candidate> allCandidates;
+    CandidateView candidate;
+    CandidateView candidate2;
+    List<CandidateView> allCandidates;
 
     @Autowired
     private MockMvc mvc;
@@ -47,6 +55,9 @@ class CandidateControllerTest {
     @MockBean
     private CandidateService candidateService;
 
+    @MockBean
+    private UserImportService userImportService;
+
     @BeforeEach
     void setUp(){
         RestAssuredMockMvc.mockMvc(mvc);
@@ -87,6 +98,22 @@ class CandidateControllerTest {
     }
         
 
+    /* ENDPOINT: api/scheduler/candidate/import */
+        // Import Candidates
+    @Test
+    void testWhenImportCandidates_thenStreamNdjsonReport() throws Exception {
+        given()
+            .contentType( "text/csv" ).body( "email,name\nines@gmail.com,Ines\n" )
+            .post( API_CANDIDATE_ENDPOINT + "/import" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .header( "Content-Type", startsWith( "application/x-ndjson" ) )
+            ;
+
+        // the report is written asynchronously, after the response status is committed
+        verify( userImportService, timeout( 1000 ) ).importCandidates( any(), eq( ImportFormat.CSV ), any() );
+    }
+
     /* ENDPOINT: api/scheduler/candidate */
         // Get All Candidates
     @Test
@@ -103,13 +130,70 @@ class CandidateControllerTest {
         verify( candidateService, times( 1 ) ).getAllCandidates();
     }
 
+    @Test
+    void testWhenGetAllCandidatesChanged_thenReturnListWithNewETag() {
+        when(candidateService.getAllCandidatesETag()).thenReturn("candidates-x-3");
+        when(candidateService.getAllCandidates()).thenReturn(allCandidates);
+
+        given()
+            .header( "If-None-Match", "\"candidates-x-2\"" )
+            .contentType( ContentType.JSON ).get( API_CANDIDATE_ENDPOINT )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .header( "ETag", is( "\"candidates-x-3\"" ) ).and()
+            .body("size()", is(allCandidates.size()))
+            ;
+    }
+
+    @Test
+    void testWhenGetAllCandidatesUnchanged_thenReturnNotModified() {
+        when(candidateService.getAllCandidatesETag()).thenReturn("candidates-x-3");
+
+        given()
+            .header( "If-None-Match", "\"candidates-x-3\"" )
+            .contentType( ContentType.JSON ).get( API_CANDIDATE_ENDPOINT )
+        .then().assertThat()
+            .status( HttpStatus.NOT_MODIFIED )
+            ;
+
+        verify( candidateService, times( 0 ) ).getAllCandidates();
+    }
+
+        // Get Page of Candidates
+    @Test
+    void testWhenGetCandidatesPage_thenReturnPage() throws BadRequestException {
+        when(candidateService.getCandidatesPage(null, 50)).thenReturn(new PageDTO<>(allCandidates, null));
+
+        given()
+            .contentType( ContentType.JSON ).get( API_CANDIDATE_ENDPOINT + "/page" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("items.size()", is(allCandidates.size()))
+            ;
+
+        verify( candidateService, times( 1 ) ).getCandidatesPage( null, 50 );
+    }
+
+    @Test
+    void testWhenGetCandidatesPageWithInvalidCursor_thenReturnBadRequest() throws BadRequestException {
+        when(candidateService.getCandidatesPage("invalid", 50)).thenThrow(BadRequestException.class);
+
+        given()
+            .contentType( ContentType.JSON ).get( API_CANDIDATE_ENDPOINT + "/page?cursor=invalid" )
+        .then().assertThat()
+            .status( HttpStatus.BAD_REQUEST )
+            ;
+
+        verify( candidateService, times( 1 ) ).getCandidatesPage( "invalid", 50 );
+    }
+
         // Login Candidate
     @Test
     void testWhenloginValidCandidate_thenReturnCandidate() throws DuplicatedUserException{
-        when(candidateService.getCandidateByEmail(candidate.getEmail())).thenReturn(candidate);
+        when(candidateService.getCandidateByEmail(candidate.email())).thenReturn(candidate);
 
         given()
-            .contentType( ContentType.JSON ).post( API_CANDIDATE_ENDPOINT +"/{email}", candidate.getEmail())
+            .contentType( ContentType.JSON ).post( API_CANDIDATE_ENDPOINT +"/{email}", candidate.email())
         .then().assertThat()
             .status( HttpStatus.OK ).and()
             .body("size()", is(N_CANDIDATE_ATTRIBUTES))
@@ -120,10 +204,10 @@ class CandidateControllerTest {
 
     @Test
     void testWhenLoginNonExistingCandidate_thenReturnNotFound() throws DuplicatedUserException{
-        when(candidateService.getCandidateByEmail(candidate.getEmail())).thenReturn(null);
+        when(candidateService.getCandidateByEmail(candidate.email())).thenReturn(null);
 
         given()
-            .contentType( ContentType.JSON ).post( API_CANDIDATE_ENDPOINT +"/{email}", candidate.getEmail())
+            .contentType( ContentType.JSON ).post( API_CANDIDATE_ENDPOINT +"/{email}", candidate.email())
         .then().assertThat()
             .status( HttpStatus.NOT_FOUND )
             ;
@@ -135,13 +219,13 @@ class CandidateControllerTest {
         // Get Slot by Candidate ID
     @Test
     void testWhenGetInterviewSlotsByValidCandidateID_thenReturnSet() throws UserNotFoundException{
-        InterviewSlot interviewSlot = createInterviewSlot();
+        InterviewSlotView interviewSlot = createInterviewSlot();
         // Set<InterviewSlot> slots = Set.of(interviewSlot);
 
-        when(candidateService.getInterviewSlotByCandidateId(candidate.getId())).thenReturn(interviewSlot);
+        when(candidateService.getInterviewSlotByCandidateId(candidate.id())).thenReturn(interviewSlot);
 
         given()
-            .contentType( ContentType.JSON ).get( API_CANDIDATE_ENDPOINT + "/interviewslot/{id}", candidate.getId() )
+            .contentType( ContentType.JSON ).get( API_CANDIDATE_ENDPOINT + "/interviewslot/{id}", candidate.id() )
         .then().assertThat()
             .status( HttpStatus.OK ).and()
             .body("size()", is(N_INTERVIEW_SLOT_ATTRIBUTES))
@@ -152,10 +236,10 @@ class CandidateControllerTest {
 
     @Test
     void testWhenGetInterviewSlotsByInvalidCandidateID_thenReturnNotFound() throws UserNotFoundException{
-        when(candidateService.getInterviewSlotByCandidateId(candidate.getId())).thenThrow(UserNotFoundException.class);
+        when(candidateService.getInterviewSlotByCandidateId(candidate.id())).thenThrow(UserNotFoundException.class);
 
         given()
-            .contentType( ContentType.JSON ).get( API_CANDIDATE_ENDPOINT + "/interviewslot/{id}", candidate.getId() )
+            .contentType( ContentType.JSON ).get( API_CANDIDATE_ENDPOINT + "/interviewslot/{id}", candidate.id() )
         .then().assertThat()
             .status( HttpStatus.NOT_FOUND )
         ;
@@ -165,21 +249,17 @@ class CandidateControllerTest {
 
     /* --- HELPERS --- */
 
-    private InterviewSlot createInterviewSlot() {
+    private InterviewSlotView createInterviewSlot() {
         InterviewSlot interviewSlot = new InterviewSlot();
         Interviewer interviewer = createInterviewer(1L);
         interviewSlot.setInterviewer(interviewer);
         interviewSlot.setTime(LocalDateTime.parse("2040-08-30T10:00:00"));
 
-        return interviewSlot;
+        return InterviewSlotView.of(interviewSlot);
     }
 
-    private Candidate createCandidate(long id){
-        Candidate candidate = new Candidate();
-        candidate.setName("Carlos");
-        candidate.setEmail("carlos"+id+"@gmail.com");
-
-        return candidate;
+    private CandidateView createCandidate(long id){
+        return new CandidateView(id, "Carlos", "carlos"+id+"@gmail.com");
     }
 
     private CandidateDTO createCandidateDTO(long id){
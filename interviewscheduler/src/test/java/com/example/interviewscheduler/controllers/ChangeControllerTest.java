@@ -0,0 +1,83 @@
+package com.example.interviewscheduler.controllers;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import com.example.interviewscheduler.dtos.CandidateView;
+import com.example.interviewscheduler.dtos.ChangesView;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.services.ChangeFeedService;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.Matchers.is;
+
+@WebMvcTest(value = ChangeController.class)
+class ChangeControllerTest {
+    private final String API_CHANGES_ENDPOINT = "api/scheduler/changes";
+
+    ChangesView changes;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp(){
+        RestAssuredMockMvc.mockMvc(mvc);
+        changes = new ChangesView(100L, 120L, false, null,
+            List.of(new InterviewSlotView(3L, LocalDateTime.parse("2042-08-30T10:00:00"), 2L, "Carlos", 1L, "Ines")),
+            List.of(new CandidateView(1L, "Ines", "ines@gmail.com")),
+            List.of(),
+            List.of(4L),
+            List.of(),
+            List.of());
+    }
+
+    /* ENDPOINT: api/scheduler/changes */
+        // Get Changes Since a Version
+    @Test
+    void testWhenGetChangesSince_thenReturnChangesAndNextVersion() throws BadRequestException{
+        when(changeFeedService.getChangesSince(100L, null, 500)).thenReturn(changes);
+
+        given()
+            .get( API_CHANGES_ENDPOINT + "?since=100" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("next", is(120)).and()
+            .body("more", is(false)).and()
+            .body("slots[0].candidateId", is(1)).and()
+            .body("candidates[0].email", is("ines@gmail.com")).and()
+            .body("deletedSlotIds[0]", is(4))
+            ;
+
+        verify( changeFeedService, times( 1 ) ).getChangesSince( 100L, null, 500 );
+    }
+
+    @Test
+    void testWhenGetChangesWithInvalidLimit_thenReturnBadRequest() throws BadRequestException{
+        when(changeFeedService.getChangesSince(0L, null, 5000)).thenThrow(BadRequestException.class);
+
+        given()
+            .get( API_CHANGES_ENDPOINT + "?limit=5000" )
+        .then().assertThat()
+            .status( HttpStatus.BAD_REQUEST )
+            ;
+    }
+
+}
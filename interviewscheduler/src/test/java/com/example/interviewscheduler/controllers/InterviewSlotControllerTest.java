@@ -1,10 +1,15 @@
 package com.example.interviewscheduler.controllers;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -15,11 +20,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.restassured.http.ContentType;
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import com.example.interviewscheduler.dtos.AutoMatchCandidateDTO;
+import com.example.interviewscheduler.dtos.AutoMatchDTO;
+import com.example.interviewscheduler.dtos.AutoMatchView;
 import com.example.interviewscheduler.dtos.InterviewSlotDTO;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
 import com.example.interviewscheduler.dtos.InterviewerDTO;
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.dtos.SlotAssignmentPolicy;
+import com.example.interviewscheduler.dtos.SlotHoldView;
+import com.example.interviewscheduler.dtos.SlotState;
 import com.example.interviewscheduler.exceptions.BadRequestException;
 import com.example.interviewscheduler.exceptions.ConflictException;
 import com.example.interviewscheduler.exceptions.PastDateException;
@@ -28,21 +42,25 @@ import com.example.interviewscheduler.exceptions.UserNotFoundException;
 import com.example.interviewscheduler.models.Candidate;
 import com.example.interviewscheduler.models.InterviewSlot;
 import com.example.interviewscheduler.models.Interviewer;
+import com.example.interviewscheduler.services.AutoMatchService;
 import com.example.interviewscheduler.services.InterviewSlotService;
+import com.example.interviewscheduler.services.SlotChangeStream;
+import com.example.interviewscheduler.services.SlotHoldService;
 
 
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
 
 @WebMvcTest(value = InterviewSlotController.class)
 class InterviewSlotControllerTest {
     private final String API_INTERVIEWSLOT_ENDPOINT = "api/scheduler/interviewslot";
-    private final int N_INTERVIEW_SLOT_ATTRIBUTES = 4;
+    private final int N_INTERVIEW_SLOT_ATTRIBUTES = 6;
 
     InterviewSlotDTO interviewSlotDTO;
-    InterviewSlot interviewSlot;
-    InterviewSlot unavailableInterviewSlot;
-    List<InterviewSlot> allInterviewSlots;
+    InterviewSlotView interviewSlot;
+    InterviewSlotView unavailableInterviewSlot;
+    List<InterviewSlotView> allInterviewSlots;
 
     @Autowired
     private MockMvc mvc;
@@ -50,13 +68,21 @@ class InterviewSlotControllerTest {
     @MockBean
     private InterviewSlotService interviewSlotService;
 
+    @MockBean
+    private SlotHoldService slotHoldService;
+
+    @MockBean
+    private AutoMatchService autoMatchService;
+
+    @MockBean
+    private SlotChangeStream slotChangeStream;
+
     @BeforeEach
     void setUp(){
         RestAssuredMockMvc.mockMvc(mvc);
         interviewSlotDTO = createInterviewSlotDTO();
-        interviewSlot = createInterviewSlot();
-        unavailableInterviewSlot = createInterviewSlot();
-        unavailableInterviewSlot.setCandidate(createCandidate(1L));
+        interviewSlot = createInterviewSlot(null);
+        unavailableInterviewSlot = createInterviewSlot(createCandidate(1L));
 
         allInterviewSlots = List.of(interviewSlot, unavailableInterviewSlot);
     }
@@ -115,13 +141,45 @@ class InterviewSlotControllerTest {
 
         verify( interviewSlotService, times( 1 ) ).create( any() );
     }
+        // Post Slots in Bulk
+    @Test
+    void testWhenCreateValidBulkOfInterviewSlots_thenReturnCreatedInterviewSlots() throws BadRequestException, PastDateException, UserNotFoundException, ConflictException{
+        when(interviewSlotService.createBulk(any())).thenReturn(allInterviewSlots);
+
+        given()
+            .contentType( ContentType.JSON ).body( "{\"interviewer\":{\"name\":\"Carlos\",\"email\":\"carlos1@gmail.com\"},\"times\":[\"2040-08-30T10:00:00\",\"2040-08-30T11:00:00\"]}" )
+            .post( API_INTERVIEWSLOT_ENDPOINT + "/bulk" )
+        .then().assertThat()
+            .status( HttpStatus.CREATED ).and()
+            .body("size()", is(allInterviewSlots.size()))
+            ;
+
+        verify( interviewSlotService, times( 1 ) ).createBulk( any() );
+    }
+
+    @Test
+    void testWhenCreateRecurringInterviewSlotsOverExistingOnes_thenReturnConflict() throws BadRequestException, PastDateException, UserNotFoundException, ConflictException{
+        when(interviewSlotService.createRecurring(any())).thenThrow(ConflictException.class);
+
+        given()
+            .contentType( ContentType.JSON )
+            .body( "{\"interviewer\":{\"name\":\"Carlos\",\"email\":\"carlos1@gmail.com\"},\"startDate\":\"2040-08-01\",\"endDate\":\"2040-08-31\","
+                + "\"daysOfWeek\":[\"MONDAY\",\"FRIDAY\"],\"startTime\":\"09:00\",\"endTime\":\"18:00\"}" )
+            .post( API_INTERVIEWSLOT_ENDPOINT + "/recurring" )
+        .then().assertThat()
+            .status( HttpStatus.CONFLICT )
+            ;
+
+        verify( interviewSlotService, times( 1 ) ).createRecurring( any() );
+    }
+
         // Get Slot by ID
     @Test
     void testWhenGetInterviewValidId_thenReturnInterviewSlot(){
-        when(interviewSlotService.get(interviewSlot.getId())).thenReturn(interviewSlot);
+        when(interviewSlotService.get(interviewSlot.id())).thenReturn(interviewSlot);
 
         given()
-        .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/{id}", interviewSlot.getId() )
+        .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/{id}", interviewSlot.id() )
         .then().assertThat()
             .status( HttpStatus.OK ).and()
             .body("size()", is(N_INTERVIEW_SLOT_ATTRIBUTES))
@@ -132,10 +190,10 @@ class InterviewSlotControllerTest {
 
     @Test
     void testWhenGetInterviewInvalidId_thenReturnNotFound(){
-        when(interviewSlotService.get(interviewSlot.getId())).thenReturn(null);
+        when(interviewSlotService.get(interviewSlot.id())).thenReturn(null);
 
         given()
-            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/{id}", interviewSlot.getId() )
+            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/{id}", interviewSlot.id() )
         .then().assertThat()
             .status( HttpStatus.NOT_FOUND )
             ;
@@ -158,16 +216,59 @@ class InterviewSlotControllerTest {
         verify( interviewSlotService, times( 1 ) ).getAll();
     }
 
+    @Test
+    void testWhenGetAllInterviewSlotsUnchanged_thenReturnNotModified(){
+        when(interviewSlotService.getAllSlotsETag()).thenReturn("slots-x-7");
+
+        given()
+            .header( "If-None-Match", "\"slots-x-7\"" )
+            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT )
+        .then().assertThat()
+            .status( HttpStatus.NOT_MODIFIED )
+            ;
+
+        verify( interviewSlotService, times( 0 ) ).getAll();
+    }
+
+        // Get Page of Slots
+    @Test
+    void testWhenGetInterviewSlotsPage_thenReturnPage() throws BadRequestException{
+        when(interviewSlotService.getPage(null, 50)).thenReturn(new PageDTO<>(allInterviewSlots, "next-cursor"));
+
+        given()
+            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/page" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("items.size()", is(allInterviewSlots.size())).and()
+            .body("next", is("next-cursor"))
+            ;
+
+        verify( interviewSlotService, times( 1 ) ).getPage( null, 50 );
+    }
+
+    @Test
+    void testWhenGetInterviewSlotsPageWithInvalidCursor_thenReturnBadRequest() throws BadRequestException{
+        when(interviewSlotService.getPage("invalid", 10)).thenThrow(BadRequestException.class);
+
+        given()
+            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/page?cursor=invalid&size=10" )
+        .then().assertThat()
+            .status( HttpStatus.BAD_REQUEST )
+            ;
+
+        verify( interviewSlotService, times( 1 ) ).getPage( any(), anyInt() );
+    }
+
         // Put Candidate to Slot
     @Test
     void testWhenValidAssignSlotToCandidate_thenReturnUpdatedInterviewSlot() throws UserNotFoundException, BadRequestException, UnavailableSlotException, ConflictException{
         Candidate candidate = createCandidate(1L);
-        interviewSlot.setCandidate(candidate);
+        InterviewSlotView bookedInterviewSlot = createInterviewSlot(candidate);
 
-        when(interviewSlotService.assignToCandidate(interviewSlot.getId(),candidate.getId())).thenReturn(interviewSlot);
+        when(interviewSlotService.assignToCandidate(bookedInterviewSlot.id(),candidate.getId())).thenReturn(bookedInterviewSlot);
 
         given()
-            .contentType( ContentType.JSON ).put( API_INTERVIEWSLOT_ENDPOINT +"?slotId="+interviewSlot.getId()+"&candidateId="+candidate.getId())
+            .contentType( ContentType.JSON ).put( API_INTERVIEWSLOT_ENDPOINT +"?slotId="+bookedInterviewSlot.id()+"&candidateId="+candidate.getId())
         .then().assertThat()
             .status( HttpStatus.OK ).and()
             .body("size()", is(N_INTERVIEW_SLOT_ATTRIBUTES))
@@ -179,10 +280,10 @@ class InterviewSlotControllerTest {
     @Test
     void testWhenValidAssignSlotToCandidate_thenReturnNotFound() throws UserNotFoundException, BadRequestException, UnavailableSlotException, ConflictException{
         Candidate candidate = createCandidate(1L);
-        when(interviewSlotService.assignToCandidate(interviewSlot.getId(),candidate.getId())).thenThrow(UserNotFoundException.class);
+        when(interviewSlotService.assignToCandidate(interviewSlot.id(),candidate.getId())).thenThrow(UserNotFoundException.class);
 
         given()
-            .contentType( ContentType.JSON ).put( API_INTERVIEWSLOT_ENDPOINT +"?slotId="+interviewSlot.getId()+"&candidateId="+candidate.getId())
+            .contentType( ContentType.JSON ).put( API_INTERVIEWSLOT_ENDPOINT +"?slotId="+interviewSlot.id()+"&candidateId="+candidate.getId())
         .then().assertThat()
             .status( HttpStatus.NOT_FOUND )
             ;
@@ -193,10 +294,10 @@ class InterviewSlotControllerTest {
     @Test
     void testWhenValidAssignSlotToCandidate_thenReturnBadRequest() throws UserNotFoundException, BadRequestException, UnavailableSlotException, ConflictException{
         Candidate candidate = createCandidate(1L);
-        when(interviewSlotService.assignToCandidate(interviewSlot.getId(),candidate.getId())).thenThrow(BadRequestException.class);
+        when(interviewSlotService.assignToCandidate(interviewSlot.id(),candidate.getId())).thenThrow(BadRequestException.class);
 
         given()
-            .contentType( ContentType.JSON ).put( API_INTERVIEWSLOT_ENDPOINT +"?slotId="+interviewSlot.getId()+"&candidateId="+candidate.getId())
+            .contentType( ContentType.JSON ).put( API_INTERVIEWSLOT_ENDPOINT +"?slotId="+interviewSlot.id()+"&candidateId="+candidate.getId())
         .then().assertThat()
             .status( HttpStatus.BAD_REQUEST )
             ;
@@ -207,10 +308,10 @@ class InterviewSlotControllerTest {
     @Test
     void testWhenValidAssignSlotToCandidate_thenReturnConflict()throws UserNotFoundException, BadRequestException, UnavailableSlotException, ConflictException{
         Candidate candidate = createCandidate(1L);
-        when(interviewSlotService.assignToCandidate(interviewSlot.getId(),candidate.getId())).thenThrow(UnavailableSlotException.class);
+        when(interviewSlotService.assignToCandidate(interviewSlot.id(),candidate.getId())).thenThrow(UnavailableSlotException.class);
 
         given()
-            .contentType( ContentType.JSON ).put( API_INTERVIEWSLOT_ENDPOINT +"?slotId="+interviewSlot.getId()+"&candidateId="+candidate.getId())
+            .contentType( ContentType.JSON ).put( API_INTERVIEWSLOT_ENDPOINT +"?slotId="+interviewSlot.id()+"&candidateId="+candidate.getId())
         .then().assertThat()
             .status( HttpStatus.CONFLICT )
             ;
@@ -218,11 +319,250 @@ class InterviewSlotControllerTest {
         verify( interviewSlotService, times( 1 ) ).assignToCandidate(any(), any());
     }
 
+    /* ENDPOINT: api/scheduler/interviewSlot/export */
+        // Export Slots as NDJSON
+    @Test
+    void testWhenExportInterviewSlots_thenStreamNdjson() throws Exception{
+        given()
+            .get( API_INTERVIEWSLOT_ENDPOINT + "/export?state=UNASSIGNED&from=2040-08-30T00:00:00" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .header( "Content-Type", startsWith( "application/x-ndjson" ) )
+            ;
+
+        // the body is written on an async thread, possibly after the response is read
+        verify( interviewSlotService, timeout( 1000 ).times( 1 ) ).exportSlots( eq( LocalDateTime.parse("2040-08-30T00:00:00") ), eq( null ), eq( SlotState.UNASSIGNED ), any() );
+    }
+
+    @Test
+    void testWhenExportInterviewSlotsWithInvalidRange_thenReturnBadRequest() throws Exception{
+        doThrow( new BadRequestException("Export range start must be before its end!") ).when( interviewSlotService ).checkExportRange( any(), any() );
+
+        given()
+            .get( API_INTERVIEWSLOT_ENDPOINT + "/export?from=2040-08-30T00:00:00&to=2040-08-29T00:00:00" )
+        .then().assertThat()
+            .status( HttpStatus.BAD_REQUEST )
+            ;
+
+        verify( interviewSlotService, times( 0 ) ).exportSlots( any(), any(), any(), any() );
+    }
+
+    /* ENDPOINT: api/scheduler/interviewSlot/stream */
+        // Stream Slot Changes
+    @Test
+    void testWhenStreamSlotChanges_thenReturnEventStream() throws Exception{
+        SseEmitter emitter = new SseEmitter();
+        emitter.send(SseEmitter.event().id("1").name("slot-created").data("{\"slotId\":3}"));
+        emitter.complete();
+        when(slotChangeStream.subscribe()).thenReturn(emitter);
+
+        given()
+            .get( API_INTERVIEWSLOT_ENDPOINT + "/stream" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .header( "Content-Type", startsWith( "text/event-stream" ) )
+            ;
+
+        verify( slotChangeStream, times( 1 ) ).subscribe();
+    }
+
+    /* ENDPOINT: api/scheduler/interviewSlot/bytime */
+        // Assign First Available Slot at a Time
+    @Test
+    void testWhenAssignSlotAtTimeToCandidate_thenReturnBookedInterviewSlot() throws UserNotFoundException, BadRequestException, UnavailableSlotException, ConflictException{
+        when(interviewSlotService.assignFirstAvailableSlotAt(unavailableInterviewSlot.time(), 1L, SlotAssignmentPolicy.LEAST_LOADED)).thenReturn(unavailableInterviewSlot);
+
+        given()
+            .put( API_INTERVIEWSLOT_ENDPOINT + "/bytime?time=" + unavailableInterviewSlot.time() + "&candidateId=1" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("candidateId", is(1)).and()
+            .body("candidateName", is("Carl"))
+            ;
+
+        verify( interviewSlotService, times( 1 ) ).assignFirstAvailableSlotAt( unavailableInterviewSlot.time(), 1L, SlotAssignmentPolicy.LEAST_LOADED );
+    }
+
+    @Test
+    void testWhenAssignSlotAtFullTime_thenReturnConflict() throws UserNotFoundException, BadRequestException, UnavailableSlotException, ConflictException{
+        when(interviewSlotService.assignFirstAvailableSlotAt(any(), any(), any())).thenThrow(new UnavailableSlotException("No available Slot at that time!"));
+
+        given()
+            .put( API_INTERVIEWSLOT_ENDPOINT + "/bytime?time=2040-08-30T10:00:00&candidateId=1" )
+        .then().assertThat()
+            .status( HttpStatus.CONFLICT )
+            ;
+    }
+
+    @Test
+    void testWhenAssignSlotAtTimeWithPolicy_thenPolicyIsPassedOn() throws UserNotFoundException, BadRequestException, UnavailableSlotException, ConflictException{
+        when(interviewSlotService.assignFirstAvailableSlotAt(unavailableInterviewSlot.time(), 1L, SlotAssignmentPolicy.ROUND_ROBIN)).thenReturn(unavailableInterviewSlot);
+
+        given()
+            .put( API_INTERVIEWSLOT_ENDPOINT + "/bytime?time=" + unavailableInterviewSlot.time() + "&candidateId=1&policy=ROUND_ROBIN" )
+        .then().assertThat()
+            .status( HttpStatus.OK )
+            ;
+
+        verify( interviewSlotService, times( 1 ) ).assignFirstAvailableSlotAt( unavailableInterviewSlot.time(), 1L, SlotAssignmentPolicy.ROUND_ROBIN );
+    }
+
+    @Test
+    void testWhenAssignSlotAtTimeWithUnknownPolicy_thenReturnBadRequest() throws UserNotFoundException, BadRequestException, UnavailableSlotException, ConflictException{
+        given()
+            .put( API_INTERVIEWSLOT_ENDPOINT + "/bytime?time=" + unavailableInterviewSlot.time() + "&candidateId=1&policy=FIRST" )
+        .then().assertThat()
+            .status( HttpStatus.BAD_REQUEST )
+            ;
+
+        verify( interviewSlotService, times( 0 ) ).assignFirstAvailableSlotAt( any(), any(), any() );
+    }
+
+    /* ENDPOINT: api/scheduler/interviewSlot/automatch */
+        // Match Candidates to Free Slots in a Batch
+    @Test
+    void testWhenAutoMatchCandidates_thenReturnAssignmentsAndUnmatched() throws BadRequestException{
+        AutoMatchDTO autoMatchDTO = new AutoMatchDTO(List.of(
+            new AutoMatchCandidateDTO(1L, null, null, null), new AutoMatchCandidateDTO(2L, null, null, null)));
+        when(autoMatchService.match(autoMatchDTO)).thenReturn(new AutoMatchView(2, 1, 3L, 12L, 83.3,
+            List.of(new AutoMatchView.Assignment(5L, interviewSlot.time(), 1L, 1L)), List.of(2L)));
+
+        given()
+            .contentType( ContentType.JSON ).body( autoMatchDTO ).post( API_INTERVIEWSLOT_ENDPOINT + "/automatch" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("matched", is(1)).and()
+            .body("assignments[0].slotId", is(5)).and()
+            .body("unmatchedCandidateIds[0]", is(2))
+            ;
+
+        verify( autoMatchService, times( 1 ) ).match( any() );
+    }
+
+    @Test
+    void testWhenAutoMatchWithoutCandidates_thenReturnBadRequest() throws BadRequestException{
+        AutoMatchDTO autoMatchDTO = new AutoMatchDTO(List.of());
+        when(autoMatchService.match(autoMatchDTO)).thenThrow(BadRequestException.class);
+
+        given()
+            .contentType( ContentType.JSON ).body( autoMatchDTO ).post( API_INTERVIEWSLOT_ENDPOINT + "/automatch" )
+        .then().assertThat()
+            .status( HttpStatus.BAD_REQUEST )
+            ;
+
+        verify( autoMatchService, times( 1 ) ).match( any() );
+    }
+
+    /* ENDPOINT: api/scheduler/interviewSlot/cancel */
+        // Cancel a Booking
+    @Test
+    void testWhenCancelBooking_thenReturnFreedInterviewSlot() throws UserNotFoundException, BadRequestException{
+        when(interviewSlotService.cancel(1L)).thenReturn(interviewSlot);
+
+        given()
+            .put( API_INTERVIEWSLOT_ENDPOINT + "/cancel?candidateId=1" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("candidateId", is((Object) null))
+            ;
+
+        verify( interviewSlotService, times( 1 ) ).cancel( 1L );
+    }
+
+    @Test
+    void testWhenCancelWithoutBooking_thenReturnBadRequest() throws UserNotFoundException, BadRequestException{
+        when(interviewSlotService.cancel(1L)).thenThrow(new BadRequestException("Candidate has no Slot Assigned!"));
+
+        given()
+            .put( API_INTERVIEWSLOT_ENDPOINT + "/cancel?candidateId=1" )
+        .then().assertThat()
+            .status( HttpStatus.BAD_REQUEST )
+            ;
+    }
+
+    /* ENDPOINT: api/scheduler/interviewSlot/reschedule */
+        // Reschedule a Booking
+    @Test
+    void testWhenReschedule_thenReturnNewInterviewSlot() throws UserNotFoundException, BadRequestException, UnavailableSlotException{
+        when(interviewSlotService.reschedule(1L, 7L)).thenReturn(unavailableInterviewSlot);
+
+        given()
+            .put( API_INTERVIEWSLOT_ENDPOINT + "/reschedule?candidateId=1&slotId=7" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("candidateId", is(1))
+            ;
+
+        verify( interviewSlotService, times( 1 ) ).reschedule( 1L, 7L );
+    }
+
+    @Test
+    void testWhenRescheduleToTakenSlot_thenReturnConflict() throws UserNotFoundException, BadRequestException, UnavailableSlotException{
+        when(interviewSlotService.reschedule(1L, 7L)).thenThrow(new UnavailableSlotException("Slot assigned to a Candidate!"));
+
+        given()
+            .put( API_INTERVIEWSLOT_ENDPOINT + "/reschedule?candidateId=1&slotId=7" )
+        .then().assertThat()
+            .status( HttpStatus.CONFLICT )
+            ;
+    }
+
+    /* ENDPOINT: api/scheduler/interviewSlot/hold */
+        // Hold a Slot
+    @Test
+    void testWhenHoldSlot_thenReturnHold() throws UserNotFoundException, UnavailableSlotException, ConflictException{
+        when(slotHoldService.hold(3L, 1L)).thenReturn(new SlotHoldView(3L, 1L, Instant.parse("2042-08-30T10:02:00Z")));
+
+        given()
+            .post( API_INTERVIEWSLOT_ENDPOINT + "/hold?slotId=3&candidateId=1" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("slotId", is(3)).and()
+            .body("candidateId", is(1))
+            ;
+
+        verify( slotHoldService, times( 1 ) ).hold( 3L, 1L );
+    }
+
+    @Test
+    void testWhenHoldSlotHeldByAnother_thenReturnConflict() throws UserNotFoundException, UnavailableSlotException, ConflictException{
+        when(slotHoldService.hold(3L, 1L)).thenThrow(new UnavailableSlotException("Slot held by another Candidate!"));
+
+        given()
+            .post( API_INTERVIEWSLOT_ENDPOINT + "/hold?slotId=3&candidateId=1" )
+        .then().assertThat()
+            .status( HttpStatus.CONFLICT )
+            ;
+    }
+
+        // Release a Held Slot
+    @Test
+    void testWhenReleaseHeldSlot_thenReturnNoContent(){
+        when(slotHoldService.release(3L, 1L)).thenReturn(true);
+
+        given()
+            .delete( API_INTERVIEWSLOT_ENDPOINT + "/hold?slotId=3&candidateId=1" )
+        .then().assertThat()
+            .status( HttpStatus.NO_CONTENT )
+            ;
+    }
+
+    @Test
+    void testWhenReleaseSlotNotHeld_thenReturnNotFound(){
+        when(slotHoldService.release(3L, 1L)).thenReturn(false);
+
+        given()
+            .delete( API_INTERVIEWSLOT_ENDPOINT + "/hold?slotId=3&candidateId=1" )
+        .then().assertThat()
+            .status( HttpStatus.NOT_FOUND )
+            ;
+    }
+
     /* ENDPOINT: api/scheduler/interviewSlot/available */
         // Get Available Slots
     @Test
     void testWhenGetAvailableInterviewSlots_thenReturnList(){
-        List<InterviewSlot> availableSlots = List.of(interviewSlot);
+        List<InterviewSlotView> availableSlots = List.of(interviewSlot);
         when(interviewSlotService.getAvailableSlots()).thenReturn(availableSlots);
 
         given()
@@ -234,45 +574,119 @@ class InterviewSlotControllerTest {
         
         verify( interviewSlotService, times( 1 ) ).getAvailableSlots();
     }
+
+    @Test
+    void testWhenGetAvailableInterviewSlots_thenReturnETag(){
+        when(interviewSlotService.getAvailableSlotsETag()).thenReturn("available-x-4");
+        when(interviewSlotService.getAvailableSlots()).thenReturn(List.of(interviewSlot));
+
+        given()
+            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/available")
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .header( "ETag", is( "\"available-x-4\"" ) )
+            ;
+    }
+
+    @Test
+    void testWhenGetAvailableInterviewSlotsUnchanged_thenReturnNotModified(){
+        when(interviewSlotService.getAvailableSlotsETag()).thenReturn("available-x-4");
+
+        given()
+            .header( "If-None-Match", "\"available-x-4\"" )
+            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/available")
+        .then().assertThat()
+            .status( HttpStatus.NOT_MODIFIED ).and()
+            .header( "ETag", is( "\"available-x-4\"" ) )
+            ;
+
+        verify( interviewSlotService, times( 0 ) ).getAvailableSlots();
+    }
+
+    /* ENDPOINT: api/scheduler/interviewSlot/available/page */
+        // Get Page of Available Slots
+    @Test
+    void testWhenGetAvailableInterviewSlotsPage_thenReturnPage() throws BadRequestException{
+        when(interviewSlotService.getAvailablePage("cursor", 20)).thenReturn(new PageDTO<>(List.of(interviewSlot), null));
+
+        given()
+            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/available/page?cursor=cursor&size=20" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("items.size()", is(1))
+            ;
+
+        verify( interviewSlotService, times( 1 ) ).getAvailablePage( "cursor", 20 );
+    }
+
+    /* ENDPOINT: api/scheduler/interviewSlot/available/range */
+        // Get Available Slots in a Time Window
+    @Test
+    void testWhenGetAvailableInterviewSlotsInRange_thenReturnList() throws BadRequestException{
+        LocalDateTime from = LocalDateTime.parse("2040-08-30T00:00:00");
+        when(interviewSlotService.getAvailableSlotsBetween(from, from.plusWeeks(1), 1L, 500)).thenReturn(List.of(interviewSlot));
+
+        given()
+            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/available/range?from=" + from + "&to=" + from.plusWeeks(1) + "&interviewerId=1" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("size()", is(1))
+            ;
+
+        verify( interviewSlotService, times( 1 ) ).getAvailableSlotsBetween( from, from.plusWeeks(1), 1L, 500 );
+    }
+
+    @Test
+    void testWhenGetAvailableInterviewSlotsInInvalidRange_thenReturnBadRequest() throws BadRequestException{
+        when(interviewSlotService.getAvailableSlotsBetween(any(), any(), any(), anyInt())).thenThrow(new BadRequestException("Availability window start must be before its end!"));
+
+        given()
+            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/available/range?from=2040-08-30T00:00:00&to=2040-08-29T00:00:00" )
+        .then().assertThat()
+            .status( HttpStatus.BAD_REQUEST )
+            ;
+    }
+
     /* ENDPOINT: api/scheduler/interviewSlot/availablebytime */
         // Get Available Slots by Time
     @Test
     void testWhenGetAvailableInterviewSlotsByValidTime_thenReturnInterviewSLot(){
-        List<InterviewSlot> availableSlotByTime = List.of(interviewSlot);
-        when(interviewSlotService.getAvailableSlotsByTime(interviewSlot.getTime())).thenReturn(availableSlotByTime);
+        List<InterviewSlotView> availableSlotByTime = List.of(interviewSlot);
+        when(interviewSlotService.getAvailableSlotsByTime(interviewSlot.time(), SlotAssignmentPolicy.LEAST_LOADED)).thenReturn(availableSlotByTime);
 
         given()
-            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/availablebytime?time="+interviewSlot.getTime())
+            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/availablebytime?time="+interviewSlot.time())
         .then().log().body().assertThat()
             .status( HttpStatus.OK ).and()
             .body("size()", is(N_INTERVIEW_SLOT_ATTRIBUTES))
             ;
         
-        verify( interviewSlotService, times( 1 ) ).getAvailableSlotsByTime(any());
+        verify( interviewSlotService, times( 1 ) ).getAvailableSlotsByTime(any(), any());
     }
 
     @Test
     void testWhenGetAvailableInterviewSlotsByInvalidTime_thenReturnNotFound(){
-        when(interviewSlotService.getAvailableSlotsByTime(interviewSlot.getTime())).thenReturn(List.of());
+        when(interviewSlotService.getAvailableSlotsByTime(interviewSlot.time(), SlotAssignmentPolicy.LEAST_LOADED)).thenReturn(List.of());
 
         given()
-            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/availablebytime?time="+interviewSlot.getTime())
+            .contentType( ContentType.JSON ).get( API_INTERVIEWSLOT_ENDPOINT + "/availablebytime?time="+interviewSlot.time())
         .then().assertThat()
             .status( HttpStatus.NOT_FOUND )
             ;
 
-        verify( interviewSlotService, times( 1 ) ).getAvailableSlotsByTime(any());
+        verify( interviewSlotService, times( 1 ) ).getAvailableSlotsByTime(any(), any());
     }
 
     /* --- HELPERS --- */
 
-    private InterviewSlot createInterviewSlot() {
+    private InterviewSlotView createInterviewSlot(Candidate candidate) {
         InterviewSlot interviewSlot = new InterviewSlot();
         Interviewer interviewer = createInterviewer(1L);
         interviewSlot.setInterviewer(interviewer);
         interviewSlot.setTime(LocalDateTime.parse("2040-08-30T10:00:00"));
+        interviewSlot.setCandidate(candidate);
 
-        return interviewSlot;
+        return InterviewSlotView.of(interviewSlot);
     }
 
     private Interviewer createInterviewer(long id){
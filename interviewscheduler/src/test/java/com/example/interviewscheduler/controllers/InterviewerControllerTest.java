@@ -2,13 +2,16 @@ package com.example.interviewscheduler.controllers;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,15 +23,24 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import io.restassured.http.ContentType;
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import com.example.interviewscheduler.dtos.CalendarSlotView;
+import com.example.interviewscheduler.dtos.CalendarView;
+import com.example.interviewscheduler.dtos.FreeBusyView;
 import com.example.interviewscheduler.dtos.InterviewerDTO;
+import com.example.interviewscheduler.dtos.InterviewerView;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.dtos.ImportFormat;
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.exceptions.BadRequestException;
 import com.example.interviewscheduler.exceptions.DuplicatedUserException;
 import com.example.interviewscheduler.exceptions.UserNotFoundException;
-import com.example.interviewscheduler.models.InterviewSlot;
-import com.example.interviewscheduler.models.Interviewer;
+import com.example.interviewscheduler.services.FreeBusyService;
 import com.example.interviewscheduler.services.InterviewerService;
+import com.example.interviewscheduler.services.UserImportService;
 
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
 
 @WebMvcTest(value = InterviewerController.class)
 class InterviewerControllerTest {
@@ -36,9 +48,9 @@ class InterviewerControllerTest {
     private final int N_INTERVIEWER_ATTRIBUTES = 3;
 
     InterviewerDTO interviewerDTO;
-    Interviewer interviewer;
-    Interviewer interviewer2;
-    List<Interviewer> allInterviewers;
+    InterviewerView interviewer;
+    InterviewerView interviewer2;
+    List<InterviewerView> allInterviewers;
 
     @Autowired
     private MockMvc mvc;
@@ -46,6 +58,12 @@ class InterviewerControllerTest {
     @MockBean
     private InterviewerService interviewerService;
 
+    @MockBean
+    private UserImportService userImportService;
+
+    @MockBean
+    private FreeBusyService freeBusyService;
+
     @BeforeEach
     void setUp(){
         RestAssuredMockMvc.mockMvc(mvc);
@@ -86,6 +104,22 @@ class InterviewerControllerTest {
     }
         
 
+    /* ENDPOINT: api/scheduler/interviewer/import */
+        // Import Interviewers
+    @Test
+    void testWhenImportInterviewers_thenStreamNdjsonReport() throws Exception {
+        given()
+            .contentType( "application/x-ndjson" ).body( "{\"name\":\"Carlos\",\"email\":\"carlos1@gmail.com\"}\n" )
+            .post( API_INTERVIEWER_ENDPOINT + "/import" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .header( "Content-Type", startsWith( "application/x-ndjson" ) )
+            ;
+
+        // the report is written asynchronously, after the response status is committed
+        verify( userImportService, timeout( 1000 ) ).importInterviewers( any(), eq( ImportFormat.NDJSON ), any() );
+    }
+
     /* ENDPOINT: api/scheduler/interviewer */
         // Get All Interviewers
     @Test
@@ -102,13 +136,41 @@ class InterviewerControllerTest {
         verify( interviewerService, times( 1 ) ).getAllInterviewers();
     }
 
+        // Get Page of Interviewers
+    @Test
+    void testWhenGetInterviewersPage_thenReturnPage() throws BadRequestException {
+        when(interviewerService.getInterviewersPage(null, 50)).thenReturn(new PageDTO<>(allInterviewers, null));
+
+        given()
+            .contentType( ContentType.JSON ).get( API_INTERVIEWER_ENDPOINT + "/page" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("items.size()", is(allInterviewers.size()))
+            ;
+
+        verify( interviewerService, times( 1 ) ).getInterviewersPage( null, 50 );
+    }
+
+    @Test
+    void testWhenGetInterviewersPageWithInvalidCursor_thenReturnBadRequest() throws BadRequestException {
+        when(interviewerService.getInterviewersPage("invalid", 50)).thenThrow(BadRequestException.class);
+
+        given()
+            .contentType( ContentType.JSON ).get( API_INTERVIEWER_ENDPOINT + "/page?cursor=invalid" )
+        .then().assertThat()
+            .status( HttpStatus.BAD_REQUEST )
+            ;
+
+        verify( interviewerService, times( 1 ) ).getInterviewersPage( "invalid", 50 );
+    }
+
         // Login Interviewer
     @Test
     void testWhenloginValidInterviewer_thenReturnInterviewer() throws DuplicatedUserException{
-        when(interviewerService.getInterviewerByEmail(interviewer.getEmail())).thenReturn(interviewer);
+        when(interviewerService.getInterviewerByEmail(interviewer.email())).thenReturn(interviewer);
 
         given()
-            .contentType( ContentType.JSON ).post( API_INTERVIEWER_ENDPOINT +"/{email}", interviewer.getEmail())
+            .contentType( ContentType.JSON ).post( API_INTERVIEWER_ENDPOINT +"/{email}", interviewer.email())
         .then().assertThat()
             .status( HttpStatus.OK ).and()
             .body("size()", is(N_INTERVIEWER_ATTRIBUTES))
@@ -119,10 +181,10 @@ class InterviewerControllerTest {
 
     @Test
     void testWhenCreateExistingInterviewer_thenReturnNotFound() throws DuplicatedUserException{
-        when(interviewerService.getInterviewerByEmail(interviewer.getEmail())).thenReturn(null);
+        when(interviewerService.getInterviewerByEmail(interviewer.email())).thenReturn(null);
 
         given()
-            .contentType( ContentType.JSON ).post( API_INTERVIEWER_ENDPOINT +"/{email}", interviewer.getEmail())
+            .contentType( ContentType.JSON ).post( API_INTERVIEWER_ENDPOINT +"/{email}", interviewer.email())
         .then().assertThat()
             .status( HttpStatus.NOT_FOUND )
             ;
@@ -134,17 +196,16 @@ class InterviewerControllerTest {
         // Get Slot by Interviewer ID
     @Test
     void testWhenGetInterviewSlotsByValidInterviewerID_thenReturnSet() throws UserNotFoundException{
-        InterviewSlot interviewSlot = createInterviewSlot();
-        interviewSlot.setInterviewer(interviewer);
-        Set<InterviewSlot> slots = Set.of(interviewSlot);
+        List<InterviewSlotView> slots = List.of(createInterviewSlot(interviewer));
 
-        when(interviewerService.getAllInterviewSlotsByInterviewer(interviewer.getId())).thenReturn(slots);
+        when(interviewerService.getAllInterviewSlotsByInterviewer(interviewer.id())).thenReturn(slots);
 
         given()
-            .contentType( ContentType.JSON ).get( API_INTERVIEWER_ENDPOINT + "/interviewslot/{id}", interviewer.getId() )
+            .contentType( ContentType.JSON ).get( API_INTERVIEWER_ENDPOINT + "/interviewslot/{id}", interviewer.id() )
         .then().assertThat()
             .status( HttpStatus.OK ).and()
-            .body("size()", is(slots.size()))
+            .body("size()", is(slots.size())).and()
+            .body("[0].interviewerId", is((int) interviewer.id()))
             ;
 
         verify( interviewerService, times( 1 ) ).getAllInterviewSlotsByInterviewer(anyLong());
@@ -152,10 +213,10 @@ class InterviewerControllerTest {
 
     @Test
     void testWhenGetInterviewSlotsByInvalidInterviewerID_thenReturnNotFound() throws UserNotFoundException{
-        when(interviewerService.getAllInterviewSlotsByInterviewer(interviewer.getId())).thenThrow(UserNotFoundException.class);
+        when(interviewerService.getAllInterviewSlotsByInterviewer(interviewer.id())).thenThrow(UserNotFoundException.class);
 
         given()
-            .contentType( ContentType.JSON ).get( API_INTERVIEWER_ENDPOINT + "/interviewslot/{id}", interviewer.getId() )
+            .contentType( ContentType.JSON ).get( API_INTERVIEWER_ENDPOINT + "/interviewslot/{id}", interviewer.id() )
         .then().assertThat()
             .status( HttpStatus.NOT_FOUND )
         ;
@@ -163,23 +224,81 @@ class InterviewerControllerTest {
         verify( interviewerService, times( 1 ) ).getAllInterviewSlotsByInterviewer(anyLong());
     }
 
-    /* --- HELPERS --- */
+    /* ENDPOINT: api/scheduler/interviewer/calendar/{id} */
+    @Test
+    void testWhenGetCalendar_thenReturnCompactSlotsAndDayCounts() throws Exception{
+        LocalDateTime from = LocalDateTime.parse("2040-08-27T00:00:00");
+        CalendarView calendar = new CalendarView(interviewer.id(), from, from.plusWeeks(1),
+            List.of(new CalendarSlotView(1L, LocalDateTime.parse("2040-08-30T10:00:00"), 3L, "Ines")),
+            Map.of(LocalDate.parse("2040-09-04"), 2L));
 
-    private InterviewSlot createInterviewSlot() {
-        InterviewSlot interviewSlot = new InterviewSlot();
-        Interviewer interviewer = createInterviewer(1L);
-        interviewSlot.setInterviewer(interviewer);
-        interviewSlot.setTime(LocalDateTime.parse("2040-08-30T10:00:00"));
+        when(interviewerService.getCalendar(interviewer.id(), from, from.plusWeeks(1), 7)).thenReturn(calendar);
 
-        return interviewSlot;
+        given()
+            .contentType( ContentType.JSON )
+            .param( "from", "2040-08-27T00:00:00" ).param( "to", "2040-09-03T00:00:00" ).param( "countDays", 7 )
+            .get( API_INTERVIEWER_ENDPOINT + "/calendar/{id}", interviewer.id() )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("slots.size()", is(1)).and()
+            .body("slots[0].candidateName", is("Ines")).and()
+            .body("dayCounts.'2040-09-04'", is(2))
+            ;
+    }
+
+    @Test
+    void testWhenGetCalendarWithInvalidWindow_thenReturnBadRequest() throws Exception{
+        when(interviewerService.getCalendar(anyLong(), any(), any(), eq(0))).thenThrow(BadRequestException.class);
+
+        given()
+            .contentType( ContentType.JSON )
+            .param( "from", "2040-09-03T00:00:00" ).param( "to", "2040-08-27T00:00:00" )
+            .get( API_INTERVIEWER_ENDPOINT + "/calendar/{id}", interviewer.id() )
+        .then().assertThat()
+            .status( HttpStatus.BAD_REQUEST )
+        ;
+    }
+
+    /* ENDPOINT: api/scheduler/interviewer/freebusy */
+    @Test
+    void testWhenGetFreeBusy_thenReturnBitmapsPerInterviewer() throws BadRequestException{
+        LocalDate from = LocalDate.parse("2040-08-27");
+        FreeBusyView freeBusy = new FreeBusyView(from, 1, List.of(
+            new FreeBusyView.InterviewerBitmaps(1L, "AAQA", "AAAA"),
+            new FreeBusyView.InterviewerBitmaps(2L, "AAAA", "AAQA")));
+
+        when(freeBusyService.getFreeBusy(List.of(1L, 2L), from, 1)).thenReturn(freeBusy);
+
+        given()
+            .param( "interviewerIds", "1,2" ).param( "from", "2040-08-27" ).param( "days", 1 )
+            .get( API_INTERVIEWER_ENDPOINT + "/freebusy" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("interviewers.size()", is(2)).and()
+            .body("interviewers[1].busy", is("AAQA"))
+            ;
     }
 
-    private Interviewer createInterviewer(long id){
-        Interviewer interviewer = new Interviewer();
-        interviewer.setName("Carlos");
-        interviewer.setEmail("carlos"+id+"@gmail.com");
+    @Test
+    void testWhenGetFreeBusyForTooManyDays_thenReturnBadRequest() throws BadRequestException{
+        when(freeBusyService.getFreeBusy(any(), any(), eq(1000))).thenThrow(BadRequestException.class);
+
+        given()
+            .param( "interviewerIds", "1" ).param( "from", "2040-08-27" ).param( "days", 1000 )
+            .get( API_INTERVIEWER_ENDPOINT + "/freebusy" )
+        .then().assertThat()
+            .status( HttpStatus.BAD_REQUEST )
+        ;
+    }
+
+    /* --- HELPERS --- */
+
+    private InterviewSlotView createInterviewSlot(InterviewerView interviewer) {
+        return new InterviewSlotView(1L, LocalDateTime.parse("2040-08-30T10:00:00"), interviewer.id(), interviewer.name(), null, null);
+    }
 
-        return interviewer;
+    private InterviewerView createInterviewer(long id){
+        return new InterviewerView(id, "Carlos", "carlos"+id+"@gmail.com");
     }
 
     private InterviewerDTO createInterviewerDTO(long id){
@@ -0,0 +1,132 @@
+package com.example.interviewscheduler.controllers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.restassured.http.ContentType;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import com.example.interviewscheduler.dtos.WaitlistDTO;
+import com.example.interviewscheduler.dtos.WaitlistEntryView;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.exceptions.ConflictException;
+import com.example.interviewscheduler.exceptions.UserNotFoundException;
+import com.example.interviewscheduler.services.WaitlistService;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.Matchers.is;
+
+@WebMvcTest(value = WaitlistController.class)
+class WaitlistControllerTest {
+    private final String API_WAITLIST_ENDPOINT = "api/scheduler/waitlist";
+
+    WaitlistDTO waitlistDTO;
+    WaitlistEntryView entry;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private WaitlistService waitlistService;
+
+    @BeforeEach
+    void setUp(){
+        RestAssuredMockMvc.mockMvc(mvc);
+        waitlistDTO = new WaitlistDTO(1L, null, LocalDateTime.parse("2042-08-30T18:00:00"), 0);
+        entry = new WaitlistEntryView(5L, 1L, null, waitlistDTO.getLatest(), 0, LocalDateTime.parse("2042-08-01T10:00:00"));
+    }
+
+    /* ENDPOINT: api/scheduler/waitlist */
+        // Join the Waitlist
+    @Test
+    void testWhenJoinWaitlist_thenReturnCreatedEntry() throws BadRequestException, UserNotFoundException, ConflictException{
+        when(waitlistService.join(waitlistDTO)).thenReturn(entry);
+
+        given()
+            .contentType( ContentType.JSON ).body( waitlistDTO ).post( API_WAITLIST_ENDPOINT )
+        .then().assertThat()
+            .status( HttpStatus.CREATED ).and()
+            .body("id", is(5)).and()
+            .body("candidateId", is(1))
+            ;
+
+        verify( waitlistService, times( 1 ) ).join( any() );
+    }
+
+    @Test
+    void testWhenJoinWaitlistTwice_thenReturnConflict() throws BadRequestException, UserNotFoundException, ConflictException{
+        when(waitlistService.join(waitlistDTO)).thenThrow(ConflictException.class);
+
+        given()
+            .contentType( ContentType.JSON ).body( waitlistDTO ).post( API_WAITLIST_ENDPOINT )
+        .then().assertThat()
+            .status( HttpStatus.CONFLICT )
+            ;
+    }
+
+    @Test
+    void testWhenJoinWaitlistAsUnknownCandidate_thenReturnNotFound() throws BadRequestException, UserNotFoundException, ConflictException{
+        when(waitlistService.join(waitlistDTO)).thenThrow(UserNotFoundException.class);
+
+        given()
+            .contentType( ContentType.JSON ).body( waitlistDTO ).post( API_WAITLIST_ENDPOINT )
+        .then().assertThat()
+            .status( HttpStatus.NOT_FOUND )
+            ;
+    }
+
+    /* ENDPOINT: api/scheduler/waitlist/{candidateId} */
+        // Get a Candidate's Entry
+    @Test
+    void testWhenGetWaitingCandidate_thenReturnEntry(){
+        when(waitlistService.get(1L)).thenReturn(entry);
+
+        given()
+            .get( API_WAITLIST_ENDPOINT + "/1" )
+        .then().assertThat()
+            .status( HttpStatus.OK ).and()
+            .body("latest", is("2042-08-30T18:00:00"))
+            ;
+    }
+
+    @Test
+    void testWhenGetCandidateNotWaiting_thenReturnNotFound(){
+        given()
+            .get( API_WAITLIST_ENDPOINT + "/1" )
+        .then().assertThat()
+            .status( HttpStatus.NOT_FOUND )
+            ;
+    }
+
+        // Leave the Waitlist
+    @Test
+    void testWhenLeaveWaitlist_thenReturnNoContent(){
+        when(waitlistService.leave(1L)).thenReturn(true);
+
+        given()
+            .delete( API_WAITLIST_ENDPOINT + "/1" )
+        .then().assertThat()
+            .status( HttpStatus.NO_CONTENT )
+            ;
+    }
+
+    @Test
+    void testWhenLeaveWaitlistNotJoined_thenReturnNotFound(){
+        given()
+            .delete( API_WAITLIST_ENDPOINT + "/1" )
+        .then().assertThat()
+            .status( HttpStatus.NOT_FOUND )
+            ;
+    }
+}
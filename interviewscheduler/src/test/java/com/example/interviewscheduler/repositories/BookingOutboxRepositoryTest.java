@@ -0,0 +1,118 @@
+package com.example.interviewscheduler.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.interviewscheduler.models.BookingOutboxEvent;
+import com.example.interviewscheduler.models.Candidate;
+import com.example.interviewscheduler.models.InterviewSlot;
+import com.example.interviewscheduler.models.Interviewer;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookingOutboxRepositoryTest {
+
+    @Container
+	public static PostgreSQLContainer container = new PostgreSQLContainer("postgres:12")
+		.withUsername("xgeeks")
+		.withPassword("password")
+		.withDatabaseName("scheduler");
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", container::getJdbcUrl);
+		registry.add("spring.datasource.password", container::getPassword);
+		registry.add("spring.datasource.username", container::getUsername);
+	}
+
+    @Autowired
+    private BookingOutboxRepository bookingOutboxRepository;
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void whenSlotCreatedBookedAndCancelled_findFirstBatchShouldReturnTheEventsInOrder(){
+        InterviewSlot interviewSlot = createAndSaveInterviewSlot(1L);
+        Candidate candidate = createAndSaveCandidate(1L);
+
+        interviewSlotRepository.claimSlot(interviewSlot.getId(), candidate.getId());
+        interviewSlotRepository.releaseSlot(interviewSlot.getId(), candidate.getId());
+
+        List<BookingOutboxEvent> events = bookingOutboxRepository.findFirstBatch(PageRequest.of(0, 10));
+        assertThat(events).extracting(BookingOutboxEvent::getEventType, BookingOutboxEvent::getSlotId, BookingOutboxEvent::getCandidateId)
+            .containsExactly(
+                tuple(BookingOutboxEvent.CREATED, interviewSlot.getId(), null),
+                tuple(BookingOutboxEvent.BOOKED, interviewSlot.getId(), candidate.getId()),
+                tuple(BookingOutboxEvent.CANCELLED, interviewSlot.getId(), candidate.getId()));
+        assertThat(events.get(0).getSlotTime()).isEqualTo(interviewSlot.getTime());
+        assertThat(events.get(0).getInterviewerId()).isEqualTo(interviewSlot.getInterviewer().getId());
+    }
+
+    @Test
+    void whenOtherColumnsChange_noEventShouldBeRecorded(){
+        InterviewSlot interviewSlot = createAndSaveInterviewSlot(1L);
+
+        interviewSlot.setTime(LocalDateTime.parse("2042-08-30T11:00:00"));
+        entityManager.persistAndFlush(interviewSlot);
+
+        assertThat(bookingOutboxRepository.findFirstBatch(PageRequest.of(0, 10))).hasSize(1);
+    }
+
+    @Test
+    void whenBatchDeleted_findFirstBatchShouldReturnTheNextEvents(){
+        createAndSaveInterviewSlot(1L);
+        createAndSaveInterviewSlot(2L);
+        createAndSaveInterviewSlot(3L);
+
+        List<BookingOutboxEvent> first = bookingOutboxRepository.findFirstBatch(PageRequest.of(0, 2));
+        int deleted = bookingOutboxRepository.deleteByIdIn(first.stream().map(BookingOutboxEvent::getId).toList());
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(bookingOutboxRepository.findFirstBatch(PageRequest.of(0, 2))).hasSize(1)
+            .allMatch(event -> event.getId() > first.get(1).getId());
+    }
+
+    /* -- HELPER -- */
+    private InterviewSlot createAndSaveInterviewSlot(long id){
+        Interviewer interviewer = new Interviewer();
+        interviewer.setName("Carlos");
+        interviewer.setEmail("carlos"+id+"@gmail.com");
+        entityManager.persistAndFlush(interviewer);
+
+        InterviewSlot interviewSlot = new InterviewSlot();
+        interviewSlot.setInterviewer(interviewer);
+        interviewSlot.setTime(LocalDateTime.parse("2042-08-30T10:00:00"));
+        entityManager.persistAndFlush(interviewSlot);
+
+        return interviewSlot;
+    }
+
+    private Candidate createAndSaveCandidate(long id){
+        Candidate candidate = new Candidate();
+        candidate.setName("Ines");
+        candidate.setEmail("ines"+id+"@gmail.com");
+        entityManager.persistAndFlush(candidate);
+
+        return candidate;
+    }
+}
@@ -2,23 +2,31 @@ package com.example.interviewscheduler.repositories;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import com.example.interviewscheduler.dtos.CandidateView;
 import com.example.interviewscheduler.models.Candidate;
+import com.example.interviewscheduler.models.InterviewSlot;
+import com.example.interviewscheduler.models.Interviewer;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Testcontainers
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class CandidateRepositoryTest {
@@ -49,25 +57,19 @@ class CandidateRepositoryTest {
     }
 
     @Test
-    void whenCandidateSaved_findByCorrectEmailShouldReturnCorrectCandidate(){
+    void whenCandidateSaved_findIdByCorrectEmailShouldReturnCorrectId(){
         Candidate candidate1 = createAndSaveCandidate(1L);
-        
-        Optional<Candidate> optionalCandidateFromDB = candidateRepository.findByEmail(candidate1.getEmail());
-        assertThat(optionalCandidateFromDB).isPresent();
+        createAndSaveCandidate(2L);
 
-        Candidate candidateFromDB = optionalCandidateFromDB.get();
-        assertThat(candidateFromDB.getEmail()).isEqualTo(candidate1.getEmail());
-        assertThat(candidateFromDB.getName()).isEqualTo(candidate1.getName());
-        assertThat(candidateFromDB.getId()).isEqualTo(candidate1.getId());
+        assertThat(candidateRepository.findIdByEmail(candidate1.getEmail())).contains(candidate1.getId());
     }
 
     @Test
-    void whenCandidateSaved_findByIncorrectEmailShouldReturnEmptyOptionalObject(){
+    void whenCandidateSaved_findIdByIncorrectEmailShouldReturnEmptyOptionalObject(){
         createAndSaveCandidate(1L);
         createAndSaveCandidate(2L);
         
-        Optional<Candidate> optionalCandidateFromDB = candidateRepository.findByEmail("invalid@email.com");
-        assertThat(optionalCandidateFromDB).isEmpty();
+        assertThat(candidateRepository.findIdByEmail("invalid@email.com")).isEmpty();
 
     }
 
@@ -94,7 +96,93 @@ class CandidateRepositoryTest {
 
     }
 
+    @Test
+    void whenCandidatesSaved_findEmailsByEmailInShouldReturnOnlyRegisteredEmails(){
+        Candidate candidate1 = createAndSaveCandidate(1L);
+        Candidate candidate2 = createAndSaveCandidate(2L);
+
+        assertThat(candidateRepository.findEmailsByEmailIn(List.of(candidate1.getEmail(), candidate2.getEmail(), "invalid@email.com")))
+            .containsExactlyInAnyOrder(candidate1.getEmail(), candidate2.getEmail());
+    }
+
+    @Test
+    void whenCandidatesSaved_findUnassignedIdsByIdInShouldSkipBookedAndUnknownIds(){
+        Candidate candidate1 = createAndSaveCandidate(1L);
+        Candidate candidate2 = createAndSaveCandidateWithSlot(2L);
+
+        assertThat(candidateRepository.findUnassignedIdsByIdIn(List.of(candidate1.getId(), candidate2.getId(), -1L)))
+            .containsExactly(candidate1.getId());
+    }
+
+    /* Fetch Plans: the inverse slot is loaded in the same statement */
+    @Test
+    void findAllShouldLoadSlotsInOneStatement(){
+        for (long id = 1; id <= 5; id++){
+            createAndSaveCandidateWithSlot(id);
+        }
+        createAndSaveCandidate(6L);
+        Statistics statistics = clearAndGetStatistics();
+
+        List<Candidate> candidates = candidateRepository.findAll();
+
+        assertThat(candidates).hasSize(6);
+        assertThat(candidates).filteredOn(candidate -> candidate.getSlot() != null)
+            .hasSize(5)
+            .allMatch(candidate -> candidate.getSlot().getInterviewer().getEmail() != null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findPageAndLookupsShouldLoadSlotsInOneStatementEach(){
+        for (long id = 1; id <= 5; id++){
+            createAndSaveCandidateWithSlot(id);
+        }
+        Statistics statistics = clearAndGetStatistics();
+
+        List<CandidateView> page = candidateRepository.findViewsAfter(0L, PageRequest.of(0, 3));
+        assertThat(page).extracting(CandidateView::email).containsExactly("carlos1@gmail.com", "carlos2@gmail.com", "carlos3@gmail.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        entityManager.clear();
+        assertThat(candidateRepository.findById(page.get(0).id())).get().extracting(Candidate::getSlot).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void whenCandidateSaved_findChangedBetweenShouldReturnItAtTheWritingTransaction(){
+        Candidate candidate1 = createAndSaveCandidate(1L);
+
+        List<CandidateRepository.ChangedCandidate> changed = candidateRepository.findChangedBetween(0L, Long.MAX_VALUE, 10);
+
+        assertThat(changed).extracting(CandidateRepository.ChangedCandidate::toView).containsExactly(CandidateView.of(candidate1));
+        assertThat(candidateRepository.findChangedBetween(changed.get(0).getChangeVersion() + 1, Long.MAX_VALUE, 10)).isEmpty();
+    }
+
     /* -- HELPER -- */
+    private Candidate createAndSaveCandidateWithSlot(long id) {
+        Candidate candidate = createAndSaveCandidate(id);
+
+        Interviewer interviewer = new Interviewer();
+        interviewer.setName("Ines");
+        interviewer.setEmail("ines"+id+"@gmail.com");
+        entityManager.persistAndFlush(interviewer);
+
+        InterviewSlot interviewSlot = new InterviewSlot();
+        interviewSlot.setInterviewer(interviewer);
+        interviewSlot.setCandidate(candidate);
+        interviewSlot.setTime(LocalDateTime.parse("2042-08-30T10:00:00").plusHours(id));
+        entityManager.persistAndFlush(interviewSlot);
+
+        return candidate;
+    }
+
+    private Statistics clearAndGetStatistics(){
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
     private Candidate createAndSaveCandidate(long id) {
         Candidate candidate = new Candidate();
 
@@ -0,0 +1,92 @@
+package com.example.interviewscheduler.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.interviewscheduler.models.ChangeTombstone;
+import com.example.interviewscheduler.models.InterviewSlot;
+import com.example.interviewscheduler.models.Interviewer;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ChangeTombstoneRepositoryTest {
+
+    @Container
+	public static PostgreSQLContainer container = new PostgreSQLContainer("postgres:12")
+		.withUsername("xgeeks")
+		.withPassword("password")
+		.withDatabaseName("scheduler");
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", container::getJdbcUrl);
+		registry.add("spring.datasource.password", container::getPassword);
+		registry.add("spring.datasource.username", container::getUsername);
+	}
+
+    @Autowired
+    private ChangeTombstoneRepository changeTombstoneRepository;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void whenRowsDeleted_findChangedBetweenShouldReturnTheirTombstones(){
+        InterviewSlot interviewSlot = createAndSaveInterviewSlot(1L);
+        long slotId = interviewSlot.getId();
+        long interviewerId = interviewSlot.getInterviewer().getId();
+
+        entityManager.remove(interviewSlot);
+        entityManager.remove(interviewSlot.getInterviewer());
+        entityManager.flush();
+
+        List<ChangeTombstone> tombstones = changeTombstoneRepository.findChangedBetween(0L, Long.MAX_VALUE, PageRequest.of(0, 10));
+        assertThat(tombstones).extracting(ChangeTombstone::getEntityType, ChangeTombstone::getEntityId)
+            .containsExactly(
+                tuple(ChangeTombstone.SLOT, slotId),
+                tuple(ChangeTombstone.INTERVIEWER, interviewerId));
+    }
+
+    @Test
+    void whenTransactionStillRunning_stableChangeVersionShouldNotPassIt(){
+        createAndSaveInterviewSlot(1L);
+        long version = interviewerRepository.findChangedBetween(0L, Long.MAX_VALUE, 1).get(0).getChangeVersion();
+
+        // this test's own transaction has not committed yet
+        assertThat(changeTombstoneRepository.findStableChangeVersion()).isLessThanOrEqualTo(version);
+    }
+
+    /* -- HELPER -- */
+    private InterviewSlot createAndSaveInterviewSlot(long id){
+        Interviewer interviewer = new Interviewer();
+        interviewer.setName("Carlos");
+        interviewer.setEmail("carlos"+id+"@gmail.com");
+        entityManager.persistAndFlush(interviewer);
+
+        InterviewSlot interviewSlot = new InterviewSlot();
+        interviewSlot.setInterviewer(interviewer);
+        interviewSlot.setTime(LocalDateTime.parse("2042-08-30T10:00:00"));
+        entityManager.persistAndFlush(interviewSlot);
+
+        return interviewSlot;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.interviewscheduler.repositories;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.interviewscheduler.models.Candidate;
+import com.example.interviewscheduler.models.InterviewSlot;
+
+@ExtendWith(MockitoExtension.class)
+class InterviewSlotCacheRepositoryImplTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache cache;
+
+    @InjectMocks
+    private InterviewSlotCacheRepositoryImpl interviewSlotCacheRepository;
+
+    @Test
+    void whenBookingEvicted_thenCandidateIsDropped(){
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        interviewSlotCacheRepository.evictBooking(7L);
+
+        verify(cache, VerificationModeFactory.times(1)).evictEntityData(Candidate.class, 7L);
+        verify(cache, VerificationModeFactory.times(0)).evictEntityData(eq(InterviewSlot.class), any());
+        verify(cache, VerificationModeFactory.times(0)).evictQueryRegion(any());
+    }
+}
@@ -4,10 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,16 +19,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import com.example.interviewscheduler.dtos.CalendarSlotView;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.models.Candidate;
 import com.example.interviewscheduler.models.InterviewSlot;
 import com.example.interviewscheduler.models.Interviewer;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Testcontainers
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class InterviewSlotRepositoryTest {
@@ -58,7 +66,7 @@ class InterviewSlotRepositoryTest {
 
     @BeforeEach
     void setUp(){
-        interviewSlot1 = createAndSaveInterviewSlot();
+        interviewSlot1 = createAndSaveInterviewSlot(1L);
     }
 
     /* Saving Interview Slot */
@@ -98,7 +106,7 @@ class InterviewSlotRepositoryTest {
 
     @Test
     void whenInvalidTimeAndInterviewer_findByTimeAndInterviewerShouldReturnEmptyOptionalObject(){  
-        createAndSaveInterviewer(1L);
+        createAndSaveInterviewer(3L);
 
         Optional<InterviewSlot> optionalInterviewSlotFromDB = interviewSlotRepository
             .findByTimeAndInterviewer(LocalDateTime.now(), createAndSaveInterviewer(2L)); // testing interviewer, 
@@ -109,10 +117,23 @@ class InterviewSlotRepositoryTest {
         assertThat(optionalInterviewSlotFromDB).isEmpty();
     }
 
+    /* Find Slot Times by Interviewer */
+    @Test
+    void findTimesByInterviewerBetweenShouldReturnOnlyTheirTimesInRange(){
+        createAndSaveInterviewSlot(2L);
+
+        List<LocalDateTime> times = interviewSlotRepository.findTimesByInterviewerBetween(
+            interviewSlot1.getInterviewer(), interviewSlot1.getTime().minusDays(1), interviewSlot1.getTime());
+
+        assertThat(times).containsExactly(interviewSlot1.getTime());
+        assertThat(interviewSlotRepository.findTimesByInterviewerBetween(
+            interviewSlot1.getInterviewer(), interviewSlot1.getTime().plusHours(1), interviewSlot1.getTime().plusDays(1))).isEmpty();
+    }
+
     /* Find Available Slots */
     @Test
     void findAvailableSlotsShouldReturnListOfInterviewSlots(){
-        InterviewSlot interviewSlot2 = createAndSaveInterviewSlot();
+        InterviewSlot interviewSlot2 = createAndSaveInterviewSlot(2L);
         List<InterviewSlot> listOfSlots = List.of(interviewSlot1, interviewSlot2);
         
         List<InterviewSlot> listInterviewSlotFromDB = interviewSlotRepository
@@ -125,22 +146,304 @@ class InterviewSlotRepositoryTest {
         }
     }
 
-    /* Find Available Slots by Time */
+    /* Claiming Slots */
     @Test
-    void findAvailableSlotsByTimeShouldReturnListOfInterviewSlots(){
-        
-        List<InterviewSlot> listInterviewSlotFromDB = interviewSlotRepository
-            .findAvailableSlotsByTime(interviewSlot1.getTime());
-        
-        assertThat(listInterviewSlotFromDB).hasSameSizeAs(List.of(interviewSlot1))
-            .isEqualTo(List.of(interviewSlot1));
-        assertThat(listInterviewSlotFromDB.get(0).getTime()).isEqualTo(interviewSlot1.getTime());
+    void whenClaimFreeSlot_thenSlotIsAssignedToCandidate(){
+        Candidate candidate = createAndSaveCandidate(1L);
+
+        int claimed = interviewSlotRepository.claimSlot(interviewSlot1.getId(), candidate.getId());
+
+        assertThat(claimed).isEqualTo(1);
+        assertThat(interviewSlotRepository.findById(interviewSlot1.getId()).get().getCandidate().getId()).isEqualTo(candidate.getId());
+    }
+
+    @Test
+    void whenClaimTakenSlotOrWithBookedCandidate_thenNothingIsUpdated(){
+        Candidate candidate1 = createAndSaveCandidate(1L);
+        Candidate candidate2 = createAndSaveCandidate(2L);
+        InterviewSlot interviewSlot2 = createAndSaveInterviewSlot(2L);
+        interviewSlotRepository.claimSlot(interviewSlot1.getId(), candidate1.getId());
+
+        assertThat(interviewSlotRepository.claimSlot(interviewSlot1.getId(), candidate2.getId())).isZero();
+        assertThat(interviewSlotRepository.claimSlot(interviewSlot2.getId(), candidate1.getId())).isZero();
+        assertThat(interviewSlotRepository.claimSlot(interviewSlot2.getId(), -1L)).isZero();
+        assertThat(interviewSlotRepository.findById(interviewSlot2.getId()).get().getCandidate()).isNull();
+    }
+
+    @Test
+    void whenClaimFirstAvailableSlotAtTime_thenReturnClaimedSlotId(){
+        Candidate candidate = createAndSaveCandidate(1L);
+
+        Optional<Long> claimedSlotId = interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot1.getTime(), candidate.getId(), List.of(-1L), List.of());
+
+        assertThat(claimedSlotId).contains(interviewSlot1.getId());
+        assertThat(interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot1.getTime(), createAndSaveCandidate(2L).getId(), List.of(-1L), List.of())).isEmpty();
+    }
+
+    @Test
+    void whenClaimFirstAvailableSlotAtTimeExcludingSlots_thenSkipExcludedSlots(){
+        InterviewSlot interviewSlot2 = createAndSaveInterviewSlot(2L);
+        Candidate candidate = createAndSaveCandidate(1L);
+
+        assertThat(interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot1.getTime(), candidate.getId(),
+            List.of(interviewSlot1.getId(), interviewSlot2.getId()), List.of())).isEmpty();
+        assertThat(interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot1.getTime(), candidate.getId(),
+            List.of(interviewSlot1.getId()), List.of())).contains(interviewSlot2.getId());
+    }
+
+    @Test
+    void whenClaimFirstAvailableSlotAtTimeWithPreferredOrder_thenTakeSlotsInThatOrder(){
+        InterviewSlot interviewSlot2 = createAndSaveInterviewSlot(2L);
+        InterviewSlot interviewSlot3 = createAndSaveInterviewSlot(3L);
+
+        assertThat(interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot1.getTime(), createAndSaveCandidate(1L).getId(),
+            List.of(-1L), List.of(interviewSlot3.getId(), interviewSlot1.getId()))).contains(interviewSlot3.getId());
+        assertThat(interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot1.getTime(), createAndSaveCandidate(2L).getId(),
+            List.of(-1L), List.of(interviewSlot3.getId(), interviewSlot1.getId()))).contains(interviewSlot1.getId());
+        // slots missing from the order come after it
+        assertThat(interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot1.getTime(), createAndSaveCandidate(3L).getId(),
+            List.of(-1L), List.of(interviewSlot3.getId(), interviewSlot1.getId()))).contains(interviewSlot2.getId());
+    }
+
+    @Test
+    void whenClaimSlotsInBatch_thenOnlyFreeSlotsAndUnbookedCandidatesAreBooked(){
+        Candidate candidate1 = createAndSaveCandidate(1L);
+        Candidate candidate2 = createAndSaveCandidate(2L);
+        Candidate candidate3 = createAndSaveCandidate(3L);
+        InterviewSlot interviewSlot2 = createAndSaveInterviewSlot(2L);
+        InterviewSlot interviewSlot3 = createAndSaveInterviewSlot(3L);
+        interviewSlotRepository.claimSlot(interviewSlot1.getId(), candidate1.getId());
+
+        List<InterviewSlotRepository.BookedSlot> bookedSlots = interviewSlotRepository.claimSlots(
+            List.of(interviewSlot1.getId(), interviewSlot2.getId(), interviewSlot3.getId()),
+            List.of(candidate2.getId(), candidate3.getId(), candidate1.getId()));
+
+        // slot 1 is taken and candidate 1 already booked: only the middle pair goes through
+        assertThat(bookedSlots).hasSize(1);
+        assertThat(bookedSlots.get(0).getSlotId()).isEqualTo(interviewSlot2.getId());
+        assertThat(bookedSlots.get(0).getCandidateId()).isEqualTo(candidate3.getId());
+        assertThat(interviewSlotRepository.findSlotIdByCandidateId(candidate3.getId())).contains(interviewSlot2.getId());
+        assertThat(interviewSlotRepository.findSlotIdByCandidateId(candidate2.getId())).isEmpty();
+    }
+
+    @Test
+    void whenCandidateSlotReleased_thenSlotIsFreeAndIdReturned(){
+        Candidate candidate = createAndSaveCandidate(1L);
+        interviewSlotRepository.claimSlot(interviewSlot1.getId(), candidate.getId());
+
+        assertThat(interviewSlotRepository.findSlotIdByCandidateId(candidate.getId())).contains(interviewSlot1.getId());
+        assertThat(interviewSlotRepository.releaseCandidateSlot(candidate.getId())).contains(interviewSlot1.getId());
+        assertThat(interviewSlotRepository.releaseCandidateSlot(candidate.getId())).isEmpty();
+        entityManager.clear();
+        assertThat(interviewSlotRepository.findById(interviewSlot1.getId()).get().getCandidate()).isNull();
+    }
+
+    @Test
+    void whenSlotBookedAndReleased_thenVersionGrowsWithEachChange(){
+        Candidate candidate = createAndSaveCandidate(1L);
+        assertThat(interviewSlotRepository.findById(interviewSlot1.getId()).get().getVersion()).isZero();
+
+        interviewSlotRepository.claimSlot(interviewSlot1.getId(), candidate.getId());
+        InterviewSlot booked = interviewSlotRepository.findById(interviewSlot1.getId()).get();
+        interviewSlotRepository.releaseCandidateSlot(candidate.getId());
+        entityManager.clear();
+        InterviewSlot released = interviewSlotRepository.findById(interviewSlot1.getId()).get();
+
+        assertThat(booked.getCandidate().getId()).isEqualTo(candidate.getId());
+        assertThat(booked.getVersion()).isEqualTo(1L);
+        assertThat(released.getCandidate()).isNull();
+        assertThat(released.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void whenBookingMoved_thenOldSlotIsFreeAndNewSlotBooked(){
+        Candidate candidate = createAndSaveCandidate(1L);
+        InterviewSlot interviewSlot2 = createAndSaveInterviewSlot(2L);
+        interviewSlotRepository.claimSlot(interviewSlot1.getId(), candidate.getId());
+
+        assertThat(interviewSlotRepository.moveBooking(candidate.getId(), interviewSlot1.getId(), interviewSlot2.getId())).isTrue();
+
+        assertThat(interviewSlotRepository.findSlotIdByCandidateId(candidate.getId())).contains(interviewSlot2.getId());
+        assertThat(interviewSlotRepository.findById(interviewSlot1.getId()).get().getCandidate()).isNull();
+    }
+
+    @Test
+    void whenBookingMovedByAnotherCandidate_thenNothingChanges(){
+        Candidate candidate1 = createAndSaveCandidate(1L);
+        Candidate candidate2 = createAndSaveCandidate(2L);
+        InterviewSlot interviewSlot2 = createAndSaveInterviewSlot(2L);
+        interviewSlotRepository.claimSlot(interviewSlot1.getId(), candidate1.getId());
+
+        assertThat(interviewSlotRepository.moveBooking(candidate2.getId(), interviewSlot1.getId(), interviewSlot2.getId())).isFalse();
+
+        assertThat(interviewSlotRepository.findSlotIdByCandidateId(candidate1.getId())).contains(interviewSlot1.getId());
+        assertThat(interviewSlotRepository.findById(interviewSlot2.getId()).get().getCandidate()).isNull();
+    }
+
+    /* Fetch Plans: one statement whatever the row count */
+    @Test
+    void findAllShouldLoadInterviewersAndCandidatesInOneStatement(){
+        createAndSaveAssignedInterviewSlots(5);
+        Statistics statistics = clearAndGetStatistics();
+
+        List<InterviewSlot> interviewSlots = interviewSlotRepository.findAll();
+
+        assertThat(interviewSlots).hasSize(6);
+        assertThat(interviewSlots).filteredOn(slot -> slot.getCandidate() != null).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findViewPagesShouldReadInterviewersAndCandidatesInOneStatementEach(){
+        List<InterviewSlot> assignedSlots = createAndSaveAssignedInterviewSlots(5);
+        Statistics statistics = clearAndGetStatistics();
+
+        List<InterviewSlotView> firstPage = interviewSlotRepository.findFirstViewPage(PageRequest.of(0, 3));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        InterviewSlotView last = firstPage.get(2);
+        List<InterviewSlotView> nextPage = interviewSlotRepository.findViewPageAfter(last.time(), last.id(), PageRequest.of(0, 3));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        assertThat(firstPage).extracting(InterviewSlotView::id).containsExactly(interviewSlot1.getId(), assignedSlots.get(0).getId(), assignedSlots.get(1).getId());
+        assertThat(firstPage.get(0).candidateId()).isNull();
+        assertThat(nextPage).extracting(InterviewSlotView::id).containsExactly(assignedSlots.get(2).getId(), assignedSlots.get(3).getId(), assignedSlots.get(4).getId());
+        assertThat(nextPage).allMatch(slot -> slot.candidateName() != null && slot.interviewerName() != null);
+        // views are read straight into records, nothing ends up in the persistence context
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findViewsByInterviewerIdShouldReturnTheirSlotsOrderedByTime(){
+        Interviewer interviewer = interviewSlot1.getInterviewer();
+        InterviewSlot laterSlot = new InterviewSlot();
+        laterSlot.setInterviewer(interviewer);
+        laterSlot.setCandidate(createAndSaveCandidate(9L));
+        laterSlot.setTime(LocalDateTime.parse("2042-08-30T12:00:00"));
+        entityManager.persistAndFlush(laterSlot);
+        createAndSaveAssignedInterviewSlots(2);
+        Statistics statistics = clearAndGetStatistics();
+
+        List<InterviewSlotView> interviewSlots = interviewSlotRepository.findViewsByInterviewerId(interviewer.getId());
+
+        assertThat(interviewSlots).extracting(InterviewSlotView::id).containsExactly(interviewSlot1.getId(), laterSlot.getId());
+        assertThat(interviewSlots.get(1).candidateName()).isEqualTo("Ines");
+        assertThat(interviewSlots).allMatch(slot -> slot.interviewerId() == interviewer.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /* Interviewer Calendar */
+    @Test
+    void findCalendarShouldReturnOnlyTheWindow_andCountDaysAroundIt(){
+        Interviewer interviewer = interviewSlot1.getInterviewer();
+        LocalDateTime day = LocalDateTime.parse("2042-08-30T00:00:00");
+        for (LocalDateTime time : List.of(day.minusDays(2).plusHours(9), day.minusDays(2).plusHours(10), day.plusHours(14), day.plusDays(1).plusHours(9), day.plusDays(9))){
+            InterviewSlot interviewSlot = new InterviewSlot();
+            interviewSlot.setInterviewer(interviewer);
+            interviewSlot.setTime(time);
+            entityManager.persistAndFlush(interviewSlot);
+        }
+        createAndSaveAssignedInterviewSlots(2);
+        Statistics statistics = clearAndGetStatistics();
+
+        List<CalendarSlotView> calendar = interviewSlotRepository.findCalendar(interviewer.getId(), day, day.plusDays(1));
+        List<InterviewSlotRepository.DayCount> dayCounts = interviewSlotRepository.countByDayOutside(
+            interviewer.getId(), day.minusDays(7), day.plusDays(8), day, day.plusDays(1));
+
+        assertThat(calendar).extracting(CalendarSlotView::time).containsExactly(interviewSlot1.getTime(), day.plusHours(14));
+        assertThat(dayCounts).extracting(InterviewSlotRepository.DayCount::getDay)
+            .containsExactly(LocalDate.parse("2042-08-28"), LocalDate.parse("2042-08-31"));
+        assertThat(dayCounts).extracting(InterviewSlotRepository.DayCount::getSlots).containsExactly(2L, 1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    /* Free/Busy */
+    @Test
+    void findSlotHoursFromShouldReturnInterviewerTimeAndCandidateOfEverySlotFromThatTime(){
+        InterviewSlot assignedSlot = createAndSaveAssignedInterviewSlots(1).get(0);
+        Statistics statistics = clearAndGetStatistics();
+
+        List<InterviewSlotRepository.SlotHour> slotHours = interviewSlotRepository.findSlotHoursFrom(interviewSlot1.getTime());
+
+        assertThat(slotHours).hasSize(2);
+        assertThat(slotHours).anyMatch(slotHour -> slotHour.getInterviewerId() == interviewSlot1.getInterviewer().getId()
+            && slotHour.getTime().equals(interviewSlot1.getTime()) && slotHour.getCandidateId() == null);
+        assertThat(slotHours).anyMatch(slotHour -> slotHour.getInterviewerId() == assignedSlot.getInterviewer().getId()
+            && assignedSlot.getCandidate().getId() == slotHour.getCandidateId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(interviewSlotRepository.findSlotHoursFrom(interviewSlot1.getTime().plusMinutes(1)))
+            .extracting(InterviewSlotRepository.SlotHour::getSlotId).containsExactly(assignedSlot.getId());
+    }
+
+    @Test
+    void findByIdShouldLoadInterviewerAndCandidateInOneStatement(){
+        InterviewSlot assignedSlot = createAndSaveAssignedInterviewSlots(1).get(0);
+        Statistics statistics = clearAndGetStatistics();
+
+        Optional<InterviewSlot> optionalInterviewSlotFromDB = interviewSlotRepository.findById(assignedSlot.getId());
+
+        assertThat(optionalInterviewSlotFromDB).isPresent();
+        assertThat(optionalInterviewSlotFromDB.get().getCandidate().getEmail()).isEqualTo(assignedSlot.getCandidate().getEmail());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /* Delta Sync */
+    @Test
+    void whenSlotWritten_findChangedBetweenShouldReturnItAtTheWritingTransaction(){
+        InterviewSlot assignedSlot = createAndSaveAssignedInterviewSlots(1).get(0);
+
+        List<InterviewSlotRepository.ChangedSlot> changed = interviewSlotRepository.findChangedBetween(0L, Long.MAX_VALUE, 10);
+
+        assertThat(changed).extracting(InterviewSlotRepository.ChangedSlot::toView)
+            .containsExactlyInAnyOrder(InterviewSlotView.of(interviewSlot1), InterviewSlotView.of(assignedSlot));
+        // one transaction, one version
+        long version = changed.get(0).getChangeVersion();
+        assertThat(changed).allMatch(slot -> slot.getChangeVersion() == version);
+        assertThat(interviewSlotRepository.findChangedBetween(0L, version, 10)).isEmpty();
+        assertThat(interviewSlotRepository.findChangedBetween(version + 1, Long.MAX_VALUE, 10)).isEmpty();
+        assertThat(interviewSlotRepository.findChangedBetween(0L, Long.MAX_VALUE, 1)).hasSize(1);
+    }
+
+    @Test
+    void whenTransactionWroteSeveralSlots_findChangedInVersionShouldPageThemById(){
+        InterviewSlot assignedSlot = createAndSaveAssignedInterviewSlots(1).get(0);
+        long version = interviewSlotRepository.findChangedBetween(0L, Long.MAX_VALUE, 1).get(0).getChangeVersion();
+        long firstId = Math.min(interviewSlot1.getId(), assignedSlot.getId());
+        long lastId = Math.max(interviewSlot1.getId(), assignedSlot.getId());
+
+        List<InterviewSlotRepository.ChangedSlot> firstPage = interviewSlotRepository.findChangedInVersion(version, 0L, 1);
+        List<InterviewSlotRepository.ChangedSlot> secondPage = interviewSlotRepository.findChangedInVersion(version, firstId, 1);
+
+        assertThat(firstPage).extracting(InterviewSlotRepository.ChangedSlot::getId).containsExactly(firstId);
+        assertThat(secondPage).extracting(InterviewSlotRepository.ChangedSlot::getId).containsExactly(lastId);
+        assertThat(interviewSlotRepository.findChangedInVersion(version, lastId, 1)).isEmpty();
+        assertThat(interviewSlotRepository.findChangedInVersion(version + 1, 0L, 1)).isEmpty();
     }
 
     /* -- HELPERS -- */
-    private InterviewSlot createAndSaveInterviewSlot() {
+    private List<InterviewSlot> createAndSaveAssignedInterviewSlots(int count){
+        List<InterviewSlot> interviewSlots = new ArrayList<>();
+        for (int i = 1; i <= count; i++){
+            InterviewSlot interviewSlot = new InterviewSlot();
+            interviewSlot.setInterviewer(createAndSaveInterviewer(10L + i));
+            interviewSlot.setCandidate(createAndSaveCandidate(i));
+            interviewSlot.setTime(LocalDateTime.parse("2042-08-30T10:00:00").plusHours(i));
+            entityManager.persistAndFlush(interviewSlot);
+            interviewSlots.add(interviewSlot);
+        }
+        return interviewSlots;
+    }
+
+    private Statistics clearAndGetStatistics(){
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private InterviewSlot createAndSaveInterviewSlot(long interviewerId) {
         InterviewSlot interviewSlot = new InterviewSlot();
-        Interviewer interviewer = createAndSaveInterviewer(1L);
+        Interviewer interviewer = createAndSaveInterviewer(interviewerId);
 
         interviewSlot.setInterviewer(interviewer);
         interviewSlot.setTime(LocalDateTime.parse("2042-08-30T10:00:00"));
@@ -150,6 +453,16 @@ class InterviewSlotRepositoryTest {
         return interviewSlot;
     }
 
+    private Candidate createAndSaveCandidate(long id){
+        Candidate candidate = new Candidate();
+
+        candidate.setName("Ines");
+        candidate.setEmail("ines"+id+"@gmail.com");
+        entityManager.persistAndFlush(candidate);
+
+        return candidate;
+    }
+
     private Interviewer createAndSaveInterviewer(long id){
 
         Interviewer interviewer = createInterviewer(id);
@@ -2,6 +2,7 @@ package com.example.interviewscheduler.repositories;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.AfterEach;
@@ -16,6 +17,7 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import com.example.interviewscheduler.dtos.InterviewerView;
 import com.example.interviewscheduler.models.Interviewer;
 
 @DataJpaTest
@@ -49,24 +51,18 @@ class InterviewerRepositoryTest {
     }
 
     @Test
-    void whenInterviewerSaved_findByCorrectEmailShouldReturnCorrectInterviewer(){
+    void whenInterviewerSaved_findIdByCorrectEmailShouldReturnCorrectId(){
         Interviewer interviewer1 = createAndSaveInterviewer(1L);
-        
-        Optional<Interviewer> optionalInterviewerFromDB = interviewerRepository.findByEmail(interviewer1.getEmail());
-        assertThat(optionalInterviewerFromDB).isPresent();
+        createAndSaveInterviewer(2L);
 
-        Interviewer interviewerFromDB = optionalInterviewerFromDB.get();
-        assertThat(interviewerFromDB.getEmail()).isEqualTo(interviewer1.getEmail());
-        assertThat(interviewerFromDB.getName()).isEqualTo(interviewer1.getName());
-        assertThat(interviewerFromDB.getId()).isEqualTo(interviewer1.getId());
+        assertThat(interviewerRepository.findIdByEmail(interviewer1.getEmail())).contains(interviewer1.getId());
     }
 
     @Test
-    void whenInterviewerSaved_findByIncorrectEmailShouldReturnEmptyOptionalObject(){
+    void whenInterviewerSaved_findIdByIncorrectEmailShouldReturnEmptyOptionalObject(){
         createAndSaveInterviewer(1L);
         
-        Optional<Interviewer> optionalInterviewerFromDB = interviewerRepository.findByEmail("invalid@email.com");
-        assertThat(optionalInterviewerFromDB).isEmpty();
+        assertThat(interviewerRepository.findIdByEmail("invalid@email.com")).isEmpty();
 
     }
 
@@ -93,6 +89,25 @@ class InterviewerRepositoryTest {
 
     }
 
+    @Test
+    void whenInterviewersSaved_findEmailsByEmailInShouldReturnOnlyRegisteredEmails(){
+        Interviewer interviewer1 = createAndSaveInterviewer(1L);
+        Interviewer interviewer2 = createAndSaveInterviewer(2L);
+
+        assertThat(interviewerRepository.findEmailsByEmailIn(List.of(interviewer1.getEmail(), interviewer2.getEmail(), "invalid@email.com")))
+            .containsExactlyInAnyOrder(interviewer1.getEmail(), interviewer2.getEmail());
+    }
+
+    @Test
+    void whenInterviewerSaved_findChangedBetweenShouldReturnItAtTheWritingTransaction(){
+        Interviewer interviewer1 = createAndSaveInterviewer(1L);
+
+        List<InterviewerRepository.ChangedInterviewer> changed = interviewerRepository.findChangedBetween(0L, Long.MAX_VALUE, 10);
+
+        assertThat(changed).extracting(InterviewerRepository.ChangedInterviewer::toView).containsExactly(InterviewerView.of(interviewer1));
+        assertThat(interviewerRepository.findChangedBetween(changed.get(0).getChangeVersion() + 1, Long.MAX_VALUE, 10)).isEmpty();
+    }
+
     /* -- HELPER -- */
     private Interviewer createAndSaveInterviewer(long id) {
         Interviewer interviewer = new Interviewer();
@@ -0,0 +1,115 @@
+package com.example.interviewscheduler.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.AopTestUtils;
+
+import com.example.interviewscheduler.models.Candidate;
+import com.example.interviewscheduler.models.Interviewer;
+
+/**
+ * Checks the cache annotations on the repositories against mocked repositories,
+ * counting the calls that get past the cache.
+ */
+@SpringJUnitConfig
+class RepositoryCachingTest {
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+
+        @Bean
+        CacheManager cacheManager(){
+            return new ConcurrentMapCacheManager("candidateIdsByEmail", "interviewersById", "interviewerIdsByEmail");
+        }
+
+        @Bean
+        CandidateRepository candidateRepository(){
+            return Mockito.mock(CandidateRepository.class);
+        }
+
+        @Bean
+        InterviewerRepository interviewerRepository(){
+            return Mockito.mock(InterviewerRepository.class);
+        }
+    }
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Candidate candidate;
+
+    @BeforeEach
+    void setUp(){
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        reset(mocked(candidateRepository), mocked(interviewerRepository));
+        candidate = new Candidate(7L, "Ines", "ines@gmail.com", null);
+        when(mocked(candidateRepository).findById(7L)).thenReturn(Optional.of(candidate));
+    }
+
+    /* Lookups */
+    @Test
+    void whenCandidateLookedUpTwice_thenIdIsQueriedOnceAndRowEachTime(){
+        when(mocked(candidateRepository).findIdByEmail("ines@gmail.com")).thenReturn(Optional.of(7L));
+
+        assertThat(candidateRepository.findIdByEmail("ines@gmail.com")).contains(7L);
+        assertThat(candidateRepository.findIdByEmail("ines@gmail.com")).contains(7L);
+        assertThat(candidateRepository.findById(7L)).contains(candidate);
+        assertThat(candidateRepository.findById(7L)).contains(candidate);
+
+        verify(mocked(candidateRepository), VerificationModeFactory.times(1)).findIdByEmail("ines@gmail.com");
+        // the row holds the booking, which changes outside the cache
+        verify(mocked(candidateRepository), VerificationModeFactory.times(2)).findById(7L);
+    }
+
+    @Test
+    void whenLookupMisses_thenMissIsNotCached(){
+        when(mocked(interviewerRepository).findIdByEmail("carlos@gmail.com")).thenReturn(Optional.empty());
+
+        assertThat(interviewerRepository.findIdByEmail("carlos@gmail.com")).isEmpty();
+        assertThat(interviewerRepository.findIdByEmail("carlos@gmail.com")).isEmpty();
+
+        verify(mocked(interviewerRepository), VerificationModeFactory.times(2)).findIdByEmail("carlos@gmail.com");
+    }
+
+    /* Invalidation */
+    @Test
+    void whenInterviewerSaved_thenCachedRowIsEvicted(){
+        Interviewer interviewer = new Interviewer(3L, "Carlos", "carlos@gmail.com", null);
+        when(mocked(interviewerRepository).findById(3L)).thenReturn(Optional.of(interviewer));
+        interviewerRepository.findById(3L);
+
+        interviewerRepository.save(interviewer);
+        interviewerRepository.findById(3L);
+
+        verify(mocked(interviewerRepository), VerificationModeFactory.times(2)).findById(3L);
+    }
+
+    /* -- HELPERS -- */
+    // the mock behind the caching proxy, which only sees the calls the cache let through
+    private static <T> T mocked(T proxy){
+        return AopTestUtils.getUltimateTargetObject(proxy);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.interviewscheduler.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.interviewscheduler.dtos.WaitlistEntryView;
+import com.example.interviewscheduler.models.Candidate;
+import com.example.interviewscheduler.models.WaitlistEntry;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class WaitlistRepositoryTest {
+
+    @Container
+	public static PostgreSQLContainer container = new PostgreSQLContainer("postgres:12")
+		.withUsername("xgeeks")
+		.withPassword("password")
+		.withDatabaseName("scheduler");
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", container::getJdbcUrl);
+		registry.add("spring.datasource.password", container::getPassword);
+		registry.add("spring.datasource.username", container::getUsername);
+	}
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @AfterEach
+    void resetDB(){
+        waitlistRepository.deleteAll();
+        entityManager.clear();
+    }
+
+    @Test
+    void whenCandidateWaiting_thenFindEntryByCandidate(){
+        WaitlistEntry entry = createAndSaveEntry(1L, 0);
+
+        assertThat(waitlistRepository.existsByCandidateId(entry.getCandidate().getId())).isTrue();
+        assertThat(waitlistRepository.findViewByCandidateId(entry.getCandidate().getId()))
+            .map(WaitlistEntryView::id).contains(entry.getId());
+        assertThat(waitlistRepository.existsByCandidateId(-1L)).isFalse();
+    }
+
+    @Test
+    void whenReadInBatches_thenHigherPriorityFirstThenArrivalOrder(){
+        WaitlistEntry first = createAndSaveEntry(1L, 0);
+        WaitlistEntry urgent = createAndSaveEntry(2L, 5);
+        WaitlistEntry second = createAndSaveEntry(3L, 0);
+
+        List<WaitlistEntryView> batch = waitlistRepository.findFirstBatch(PageRequest.of(0, 2));
+        assertThat(batch).extracting(WaitlistEntryView::id).containsExactly(urgent.getId(), first.getId());
+
+        WaitlistEntryView last = batch.get(1);
+        assertThat(waitlistRepository.findBatchAfter(last.priority(), last.id(), PageRequest.of(0, 2)))
+            .extracting(WaitlistEntryView::id).containsExactly(second.getId());
+    }
+
+    @Test
+    void whenCandidateLeaves_thenEntryIsDeleted(){
+        WaitlistEntry entry = createAndSaveEntry(1L, 0);
+
+        assertThat(waitlistRepository.deleteByCandidateId(entry.getCandidate().getId())).isEqualTo(1);
+        assertThat(waitlistRepository.deleteByCandidateId(entry.getCandidate().getId())).isZero();
+        assertThat(waitlistRepository.findAll()).isEmpty();
+    }
+
+    /* -- HELPERS -- */
+    private WaitlistEntry createAndSaveEntry(long candidateId, int priority){
+        Candidate candidate = new Candidate();
+        candidate.setName("Ines");
+        candidate.setEmail("ines"+candidateId+"@gmail.com");
+        entityManager.persistAndFlush(candidate);
+
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setCandidate(candidate);
+        entry.setLatest(LocalDateTime.parse("2042-08-30T18:00:00"));
+        entry.setPriority(priority);
+        entry.setCreatedAt(LocalDateTime.now());
+        entityManager.persistAndFlush(entry);
+
+        return entry;
+    }
+}
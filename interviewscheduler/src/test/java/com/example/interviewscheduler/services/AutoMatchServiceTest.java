@@ -0,0 +1,256 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.example.interviewscheduler.dtos.AutoMatchCandidateDTO;
+import com.example.interviewscheduler.dtos.AutoMatchDTO;
+import com.example.interviewscheduler.dtos.AutoMatchView;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.models.Interviewer;
+import com.example.interviewscheduler.repositories.CandidateRepository;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository.BookedSlot;
+import com.example.interviewscheduler.repositories.InterviewerRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AutoMatchServiceTest {
+
+    @Mock
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private InterviewerRepository interviewerRepository;
+
+    @Mock
+    private SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @Mock
+    private SlotHoldService slotHoldService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AutoMatchService autoMatchService;
+
+    /* Matching */
+    @Test
+    void whenCandidatesCompeteForSlots_thenMaximumMatchingIsBookedInOneBatch() throws BadRequestException{
+        givenFreeSlots(createSlotView(10L, "10:00"), createSlotView(11L, "11:00"));
+        when(candidateRepository.findUnassignedIdsByIdIn(List.of(3L, 2L, 1L))).thenReturn(Set.of(1L, 2L, 3L));
+        when(interviewerRepository.findById(1L)).thenReturn(Optional.of(new Interviewer(1L, "Carlos", "carlos@gmail.com", null)));
+        // candidate 3 would take 10:00 first, but candidate 1 accepts nothing else
+        when(interviewSlotRepository.claimSlots(List.of(11L, 10L), List.of(3L, 1L)))
+            .thenReturn(List.of(createBookedSlot(11L, 3L), createBookedSlot(10L, 1L)));
+
+        AutoMatchView result = autoMatchService.match(new AutoMatchDTO(List.of(
+            new AutoMatchCandidateDTO(3L, at("09:00"), at("12:00"), null),
+            new AutoMatchCandidateDTO(2L, null, null, null),
+            new AutoMatchCandidateDTO(1L, at("10:00"), at("11:00"), null))));
+
+        assertThat(result.candidates()).isEqualTo(3);
+        assertThat(result.matched()).isEqualTo(2);
+        assertThat(result.assignments()).extracting(AutoMatchView.Assignment::candidateId).containsExactly(3L, 1L);
+        assertThat(result.unmatchedCandidateIds()).containsExactly(2L);
+        verify(interviewSlotRepository, VerificationModeFactory.times(1)).evictBooking(1L);
+        verify(interviewSlotRepository, VerificationModeFactory.times(1)).evictBooking(3L);
+        verify(eventPublisher, VerificationModeFactory.times(2)).publishEvent(any(InterviewSlotEvent.class));
+        verify(interviewerRepository, VerificationModeFactory.times(1)).findById(1L);
+    }
+
+    @Test
+    void whenCandidateHasNoWindow_thenItGetsALeftSlotClosestToItsPreferredTime() throws BadRequestException{
+        givenFreeSlots(createSlotView(10L, "10:00"), createSlotView(11L, "11:00"), createSlotView(12L, "12:00"));
+        when(candidateRepository.findUnassignedIdsByIdIn(List.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(interviewerRepository.findById(1L)).thenReturn(Optional.of(new Interviewer(1L, "Carlos", "carlos@gmail.com", null)));
+        when(interviewSlotRepository.claimSlots(List.of(12L, 11L), List.of(1L, 2L)))
+            .thenReturn(List.of(createBookedSlot(12L, 1L), createBookedSlot(11L, 2L)));
+
+        AutoMatchView result = autoMatchService.match(new AutoMatchDTO(List.of(
+            new AutoMatchCandidateDTO(1L, null, null, at("11:10")),
+            new AutoMatchCandidateDTO(2L, at("11:00"), null, at("11:20")))));
+
+        // the windowed candidate is matched first and takes 11:00; 12:00 is then closer to 11:10 than 10:00
+        assertThat(result.matched()).isEqualTo(2);
+        assertThat(result.assignments()).extracting(AutoMatchView.Assignment::slotId).containsExactly(12L, 11L);
+    }
+
+    @Test
+    void whenLeftSlotInWindowIsCloserToPreferredTime_thenCandidateMovesToIt() throws BadRequestException{
+        givenFreeSlots(createSlotView(10L, "10:00"), createSlotView(11L, "11:00"), createSlotView(12L, "12:00"));
+        when(candidateRepository.findUnassignedIdsByIdIn(List.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(interviewerRepository.findById(1L)).thenReturn(Optional.of(new Interviewer(1L, "Carlos", "carlos@gmail.com", null)));
+        when(interviewSlotRepository.claimSlots(List.of(12L, 10L), List.of(1L, 2L)))
+            .thenReturn(List.of(createBookedSlot(12L, 1L), createBookedSlot(10L, 2L)));
+
+        AutoMatchView result = autoMatchService.match(new AutoMatchDTO(List.of(
+            new AutoMatchCandidateDTO(1L, at("10:00"), at("13:00"), at("12:30")),
+            new AutoMatchCandidateDTO(2L, at("10:00"), at("10:30"), null))));
+
+        // candidate 2 takes 10:00 first; candidate 1 is given 11:00, then trades it for the closer 12:00
+        assertThat(result.matched()).isEqualTo(2);
+        assertThat(result.assignments()).extracting(AutoMatchView.Assignment::slotId).containsExactly(12L, 10L);
+    }
+
+    @Test
+    void whenTwoCandidatesPreferCloseTimes_thenInputOrderDecidesEvenIfASwapWereCloser() throws BadRequestException{
+        givenFreeSlots(createSlotView(10L, "10:00"), createSlotView(11L, "11:00"), createSlotView(12L, "12:00"));
+        when(candidateRepository.findUnassignedIdsByIdIn(List.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(interviewerRepository.findById(1L)).thenReturn(Optional.of(new Interviewer(1L, "Carlos", "carlos@gmail.com", null)));
+        when(interviewSlotRepository.claimSlots(List.of(12L, 11L), List.of(1L, 2L)))
+            .thenReturn(List.of(createBookedSlot(12L, 1L), createBookedSlot(11L, 2L)));
+
+        AutoMatchView result = autoMatchService.match(new AutoMatchDTO(List.of(
+            new AutoMatchCandidateDTO(1L, at("10:00"), at("13:00"), at("11:30")),
+            new AutoMatchCandidateDTO(2L, at("10:00"), at("13:00"), at("12:00")))));
+
+        // not preference-optimal: 11:00 and 12:00 would be 30 minutes off in all, this is 90.
+        // Candidate 1 moves from 10:00 to 12:00 first; candidate 2 then finds only 10:00 left, farther than its 11:00
+        assertThat(result.matched()).isEqualTo(2);
+        assertThat(result.assignments()).extracting(AutoMatchView.Assignment::slotId).containsExactly(12L, 11L);
+    }
+
+    @Test
+    void whenCandidatesAreUnknownOrBooked_thenTheyAreReportedUnmatched() throws BadRequestException{
+        givenFreeSlots(createSlotView(10L, "10:00"), createSlotView(11L, "11:00"));
+        when(candidateRepository.findUnassignedIdsByIdIn(List.of(1L, 2L))).thenReturn(Set.of(2L));
+        when(interviewerRepository.findById(1L)).thenReturn(Optional.of(new Interviewer(1L, "Carlos", "carlos@gmail.com", null)));
+        when(interviewSlotRepository.claimSlots(List.of(10L), List.of(2L))).thenReturn(List.of(createBookedSlot(10L, 2L)));
+
+        AutoMatchView result = autoMatchService.match(new AutoMatchDTO(List.of(
+            new AutoMatchCandidateDTO(1L, null, null, null),
+            new AutoMatchCandidateDTO(2L, null, null, null))));
+
+        assertThat(result.matched()).isEqualTo(1);
+        assertThat(result.unmatchedCandidateIds()).containsExactly(1L);
+    }
+
+    @Test
+    void whenMoreMatchesThanBatchSize_thenBookInSeveralBatches() throws BadRequestException{
+        int candidates = AutoMatchService.COMMIT_BATCH_SIZE + 1;
+        InterviewSlotView[] slots = new InterviewSlotView[candidates];
+        AutoMatchCandidateDTO[] preferences = new AutoMatchCandidateDTO[candidates];
+        for (int i = 0; i < candidates; i++){
+            slots[i] = new InterviewSlotView(i, LocalDateTime.parse("2042-08-30T10:00:00").plusHours(i), 1L, "Carlos", null, null);
+            preferences[i] = new AutoMatchCandidateDTO((long) i, null, null, null);
+        }
+        givenFreeSlots(slots);
+        when(candidateRepository.findUnassignedIdsByIdIn(anyList())).thenAnswer(invocation -> Set.copyOf(invocation.<List<Long>>getArgument(0)));
+
+        AutoMatchView result = autoMatchService.match(new AutoMatchDTO(List.of(preferences)));
+
+        // nothing booked by the mocked repository
+        assertThat(result.matched()).isZero();
+        assertThat(result.unmatchedCandidateIds()).hasSize(candidates);
+        verify(candidateRepository, VerificationModeFactory.times(2)).findUnassignedIdsByIdIn(anyList());
+        verify(interviewSlotRepository, VerificationModeFactory.times(2)).claimSlots(anyList(), anyList());
+    }
+
+    @Test
+    void whenBatchHitsConcurrentBooking_thenClaimPairByPair() throws BadRequestException{
+        givenFreeSlots(createSlotView(10L, "10:00"), createSlotView(11L, "11:00"));
+        when(candidateRepository.findUnassignedIdsByIdIn(List.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(interviewerRepository.findById(1L)).thenReturn(Optional.of(new Interviewer(1L, "Carlos", "carlos@gmail.com", null)));
+        when(interviewSlotRepository.claimSlots(List.of(10L, 11L), List.of(1L, 2L)))
+            .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+        when(interviewSlotRepository.claimSlots(List.of(10L), List.of(1L))).thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+        when(interviewSlotRepository.claimSlots(List.of(11L), List.of(2L))).thenReturn(List.of(createBookedSlot(11L, 2L)));
+
+        AutoMatchView result = autoMatchService.match(new AutoMatchDTO(List.of(
+            new AutoMatchCandidateDTO(1L, null, null, null),
+            new AutoMatchCandidateDTO(2L, null, null, null))));
+
+        assertThat(result.assignments()).extracting(AutoMatchView.Assignment::slotId).containsExactly(11L);
+        assertThat(result.unmatchedCandidateIds()).containsExactly(1L);
+        verify(interviewSlotRepository, VerificationModeFactory.times(1)).evictBooking(anyLong());
+    }
+
+    @Test
+    void whenSlotHeldMeanwhile_thenItIsNotBooked() throws BadRequestException{
+        givenFreeSlots(createSlotView(10L, "10:00"));
+        when(candidateRepository.findUnassignedIdsByIdIn(List.of(1L))).thenReturn(Set.of(1L));
+        when(slotHoldService.isHeldByOther(10L, 1L)).thenReturn(true);
+
+        AutoMatchView result = autoMatchService.match(new AutoMatchDTO(List.of(new AutoMatchCandidateDTO(1L, null, null, null))));
+
+        assertThat(result.matched()).isZero();
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).claimSlots(anyList(), anyList());
+    }
+
+    /* Validation */
+    @Test
+    void whenCandidateListedTwice_thenThrowBadRequestException(){
+        assertThrows( BadRequestException.class, () -> {
+            autoMatchService.match(new AutoMatchDTO(List.of(
+                new AutoMatchCandidateDTO(1L, null, null, null), new AutoMatchCandidateDTO(1L, null, null, null))));
+            } );
+
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(0)).findAvailableBetween(any(), any(), any(), eq(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void whenWindowIsEmpty_thenThrowBadRequestException(){
+        assertThrows( BadRequestException.class, () -> {
+            autoMatchService.match(new AutoMatchDTO(List.of(new AutoMatchCandidateDTO(1L, at("12:00"), at("10:00"), null))));
+            } );
+    }
+
+    /* -- HELPERS -- */
+    private void givenFreeSlots(InterviewSlotView... slots){
+        when(slotAvailabilityIndex.findAvailableBetween(any(), eq(LocalDateTime.MAX), isNull(), eq(Integer.MAX_VALUE))).thenReturn(List.of(slots));
+    }
+
+    private LocalDateTime at(String time){
+        return LocalDateTime.parse("2042-08-30T" + time + ":00");
+    }
+
+    private InterviewSlotView createSlotView(long id, String time){
+        return new InterviewSlotView(id, at(time), 1L, "Carlos", null, null);
+    }
+
+    private BookedSlot createBookedSlot(long slotId, long candidateId){
+        return new BookedSlot() {
+            @Override
+            public long getSlotId(){
+                return slotId;
+            }
+
+            @Override
+            public long getCandidateId(){
+                return candidateId;
+            }
+
+            @Override
+            public long getVersion(){
+                return 1L;
+            }
+        };
+    }
+}
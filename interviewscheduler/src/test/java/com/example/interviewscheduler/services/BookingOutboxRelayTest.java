@@ -0,0 +1,113 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.interviewscheduler.models.BookingOutboxEvent;
+import com.example.interviewscheduler.repositories.BookingOutboxRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BookingOutboxRelayTest {
+
+    private static final PageRequest BATCH = PageRequest.of(0, BookingOutboxRelay.RELAY_BATCH_SIZE);
+
+    @Mock
+    private BookingOutboxRepository bookingOutboxRepository;
+
+    @Mock
+    private BookingEventSink atsSink;
+
+    @Mock
+    private BookingEventSink emailSink;
+
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BookingOutboxRelay bookingOutboxRelay;
+
+    @BeforeEach
+    void setUp(){
+        bookingOutboxRelay = new BookingOutboxRelay(meterRegistry);
+        bookingOutboxRelay.bookingOutboxRepository = bookingOutboxRepository;
+        bookingOutboxRelay.sinks = List.of(atsSink, emailSink);
+        bookingOutboxRelay.transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        // run the relay inline
+        bookingOutboxRelay.relayer = Runnable::run;
+    }
+
+    @Test
+    void whenEventsWaiting_thenEverySinkGetsThemInBatches_andTheyAreDeleted() throws IOException{
+        List<BookingOutboxEvent> full = events(1L, BookingOutboxRelay.RELAY_BATCH_SIZE);
+        List<BookingOutboxEvent> rest = events(BookingOutboxRelay.RELAY_BATCH_SIZE + 1L, 2);
+        when(bookingOutboxRepository.tryLockRelay()).thenReturn(true);
+        when(bookingOutboxRepository.findFirstBatch(BATCH)).thenReturn(full, rest);
+
+        int delivered = bookingOutboxRelay.relay();
+
+        assertThat(delivered).isEqualTo(BookingOutboxRelay.RELAY_BATCH_SIZE + 2);
+        verify(atsSink).deliver(full);
+        verify(atsSink).deliver(rest);
+        verify(emailSink).deliver(rest);
+        verify(bookingOutboxRepository).deleteByIdIn(List.of(101L, 102L));
+        assertThat(meterRegistry.counter("interviewscheduler.outbox.relayed").count()).isEqualTo(delivered);
+        assertThat(meterRegistry.timer("interviewscheduler.outbox.delivery.lag").count()).isEqualTo(delivered);
+        assertThat(meterRegistry.get("interviewscheduler.outbox.lag").gauge().value()).isZero();
+    }
+
+    @Test
+    void whenSinkFails_thenBatchStaysInTheOutbox_andLagIsReported() throws IOException{
+        List<BookingOutboxEvent> batch = events(1L, 2);
+        when(bookingOutboxRepository.tryLockRelay()).thenReturn(true);
+        when(bookingOutboxRepository.findFirstBatch(BATCH)).thenReturn(batch);
+        doThrow(new IOException("ATS unavailable")).when(emailSink).deliver(any());
+
+        bookingOutboxRelay.requestRelay();
+
+        verify(atsSink).deliver(batch);
+        verify(bookingOutboxRepository, VerificationModeFactory.times(0)).deleteByIdIn(any());
+        assertThat(meterRegistry.counter("interviewscheduler.outbox.failures").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("interviewscheduler.outbox.relayed").count()).isZero();
+        assertThat(meterRegistry.get("interviewscheduler.outbox.lag").gauge().value()).isGreaterThanOrEqualTo(60);
+    }
+
+    @Test
+    void whenAnotherInstanceRelays_thenDeliverNothing() throws IOException{
+        when(bookingOutboxRepository.tryLockRelay()).thenReturn(false);
+
+        assertThat(bookingOutboxRelay.relay()).isZero();
+
+        verify(bookingOutboxRepository, VerificationModeFactory.times(0)).findFirstBatch(any());
+        verify(atsSink, VerificationModeFactory.times(0)).deliver(any());
+    }
+
+    /* -- HELPERS -- */
+    // written a minute ago
+    private static List<BookingOutboxEvent> events(long firstId, int count){
+        Instant createdAt = Instant.now().minusSeconds(60);
+        return LongStream.range(firstId, firstId + count)
+            .mapToObj(id -> new BookingOutboxEvent(id, BookingOutboxEvent.BOOKED, id, LocalDateTime.parse("2042-08-30T10:00:00"), 2L, 1L, createdAt))
+            .collect(Collectors.toList());
+    }
+}
@@ -3,6 +3,7 @@ package com.example.interviewscheduler.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,8 +18,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.internal.verification.VerificationModeFactory;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
 import com.example.interviewscheduler.dtos.CandidateDTO;
+import com.example.interviewscheduler.dtos.CandidateView;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.exceptions.BadRequestException;
 import com.example.interviewscheduler.exceptions.DuplicatedUserException;
 import com.example.interviewscheduler.exceptions.UserNotFoundException;
 import com.example.interviewscheduler.models.Candidate;
@@ -32,6 +39,9 @@ class CandidateServiceTest {
     @Mock
     private CandidateRepository candidateRepository;
 
+    @Mock
+    private WriteVersions writeVersions;
+
     @InjectMocks
     private CandidateService candidateService;
 
@@ -47,13 +57,13 @@ class CandidateServiceTest {
     /* Registering new Candidates */
     @Test
     void whenValidCandidateDTOObject_thenSaveCandidate_andReturnCandidate() throws DuplicatedUserException{
-        when(candidateRepository.findByEmail(candidate.getEmail())).thenReturn(Optional.empty());
+        when(candidateRepository.findIdByEmail(candidate.getEmail())).thenReturn(Optional.empty());
 
-        Candidate candidateSaved = candidateService.register(candidateDTO);
+        CandidateView candidateSaved = candidateService.register(candidateDTO);
 
-        assertThat(candidateSaved.getEmail()).isEqualTo(candidate.getEmail());
-        assertThat(candidateSaved.getName()).isEqualTo(candidate.getName());
-        assertThat(candidateSaved.getId()).isEqualTo(candidate.getId());
+        assertThat(candidateSaved.email()).isEqualTo(candidate.getEmail());
+        assertThat(candidateSaved.name()).isEqualTo(candidate.getName());
+        assertThat(candidateSaved.id()).isEqualTo(candidate.getId());
 
         verifySaveCandidateIsCalledOnce();
 
@@ -61,7 +71,7 @@ class CandidateServiceTest {
 
     @Test
     void whenEmailAlreadyInUse_thenThrowDuplicatedUserException(){
-        when( candidateRepository.findByEmail( candidate.getEmail() ) ).thenReturn( Optional.of( candidate ) );
+        when( candidateRepository.findIdByEmail( candidate.getEmail() ) ).thenReturn( Optional.of( candidate.getId() ) );
 
         assertThrows( DuplicatedUserException.class, () -> {
         candidateService.register( candidateDTO );
@@ -70,6 +80,16 @@ class CandidateServiceTest {
         verifySaveCandidateIsNeverCalled();
     }
 
+    @Test
+    void whenEmailRegisteredConcurrently_thenThrowDuplicatedUserException(){
+        when( candidateRepository.findIdByEmail( any() ) ).thenReturn( Optional.empty() );
+        when( candidateRepository.save( any() ) ).thenThrow( new DataIntegrityViolationException("duplicate key value violates unique constraint") );
+
+        assertThrows( DuplicatedUserException.class, () -> {
+        candidateService.register( candidateDTO );
+        } );
+    }
+
     /* Finding Candidate by ID */
     @Test
     void whenValidId_thenReturnCandidate(){
@@ -98,27 +118,28 @@ class CandidateServiceTest {
     /* Finding Candidate by Email */
     @Test
     void whenValidEmail_thenReturnCandidate(){
-        when(candidateRepository.findByEmail(candidate.getEmail())).thenReturn(Optional.of(candidate));
+        when(candidateRepository.findIdByEmail(candidate.getEmail())).thenReturn(Optional.of(candidate.getId()));
+        when(candidateRepository.findById(candidate.getId())).thenReturn(Optional.of(candidate));
 
-        Candidate candidateFromDB = candidateService.getCandidateByEmail(candidate.getEmail());
+        CandidateView candidateFromDB = candidateService.getCandidateByEmail(candidate.getEmail());
 
-        assertThat(candidateFromDB.getEmail()).isEqualTo(candidate.getEmail());
-        assertThat(candidateFromDB.getName()).isEqualTo(candidate.getName());
-        assertThat(candidateFromDB.getId()).isEqualTo(candidate.getId());
+        assertThat(candidateFromDB.email()).isEqualTo(candidate.getEmail());
+        assertThat(candidateFromDB.name()).isEqualTo(candidate.getName());
+        assertThat(candidateFromDB.id()).isEqualTo(candidate.getId());
 
-        verifyFindByEmailIsCalledOnce();
+        verifyFindIdByEmailIsCalledOnce();
     }
 
     @Test
     void whenInvalidEmail_thenReturnNullObject(){
 
-        when( candidateRepository.findByEmail( any() ) ).thenReturn( Optional.empty());
+        when( candidateRepository.findIdByEmail( any() ) ).thenReturn( Optional.empty());
 
-        Candidate candidateFromDB = candidateService.getCandidateByEmail("invalid@email.com");
+        CandidateView candidateFromDB = candidateService.getCandidateByEmail("invalid@email.com");
 
         assertThat(candidateFromDB).isNull();
 
-        verifyFindByEmailIsCalledOnce();
+        verifyFindIdByEmailIsCalledOnce();
 
     }
 
@@ -131,13 +152,14 @@ class CandidateServiceTest {
 
         when(candidateRepository.findById(candidate.getId())).thenReturn(Optional.of(candidate));
 
-        InterviewSlot interviewSlotFomDB = candidateService.getInterviewSlotByCandidateId(candidate.getId());
+        InterviewSlotView interviewSlotFomDB = candidateService.getInterviewSlotByCandidateId(candidate.getId());
 
 
-        assertThat(interviewSlotFomDB.getInterviewer()).isEqualTo(candidateSlot.getInterviewer());
-        assertThat(interviewSlotFomDB.getCandidate()).isNotNull();
-        assertThat(interviewSlotFomDB.getCandidate()).isEqualTo(candidateSlot.getCandidate());
-        assertThat(interviewSlotFomDB.getTime()).isEqualTo(candidateSlot.getTime());
+        assertThat(interviewSlotFomDB.interviewerName()).isEqualTo(candidateSlot.getInterviewer().getName());
+        assertThat(interviewSlotFomDB.candidateId()).isNotNull();
+        assertThat(interviewSlotFomDB.candidateId()).isEqualTo(candidate.getId());
+        assertThat(interviewSlotFomDB.candidateName()).isEqualTo(candidate.getName());
+        assertThat(interviewSlotFomDB.time()).isEqualTo(candidateSlot.getTime());
 
         verifyFindByIdIsCalledOnce();
     }
@@ -146,7 +168,7 @@ class CandidateServiceTest {
     void whenGetUnassignedInterviewSlot_thenReturnNullObject() throws UserNotFoundException{
         when(candidateRepository.findById(candidate.getId())).thenReturn(Optional.of(candidate));
 
-        InterviewSlot interviewSlot = candidateService.getInterviewSlotByCandidateId(candidate.getId());
+        InterviewSlotView interviewSlot = candidateService.getInterviewSlotByCandidateId(candidate.getId());
         
         assertThat(interviewSlot).isNull();
 
@@ -167,18 +189,41 @@ class CandidateServiceTest {
     /* Getting All Candidates */
     @Test
     void whenGetAllCandidates_thenReturnListOfCandidates() throws UserNotFoundException{
-        Candidate candidate2 = new Candidate(1L, "candidate2", "candidate2@gmail.com", null);
-        List<Candidate> listOfCandidates = List.of(candidate, candidate2);
+        CandidateView candidate2 = new CandidateView(1L, "candidate2", "candidate2@gmail.com");
+        List<CandidateView> listOfCandidates = List.of(CandidateView.of(candidate), candidate2);
 
-        when(candidateRepository.findAll()).thenReturn(listOfCandidates);
+        when(candidateRepository.findAllViews()).thenReturn(listOfCandidates);
 
-        List<Candidate> listOfCandidatesFomDB = candidateService.getAllCandidates();
+        List<CandidateView> listOfCandidatesFomDB = candidateService.getAllCandidates();
 
         assertThat(listOfCandidatesFomDB).hasSize(listOfCandidates.size()).isEqualTo(listOfCandidates);
 
         verifyFindAllIsCalledOnce();
     }
 
+    /* Paging through Candidates */
+    @Test
+    void whenGetCandidatesPage_thenReturnPageWithNextCursor() throws BadRequestException{
+        CandidateView candidate1 = CandidateView.of(candidate);
+        CandidateView candidate2 = new CandidateView(1L, "candidate2", "candidate2@gmail.com");
+        CandidateView candidate3 = new CandidateView(2L, "candidate3", "candidate3@gmail.com");
+        when(candidateRepository.findViewsAfter(0L, PageRequest.of(0, 3))).thenReturn(List.of(candidate1, candidate2, candidate3));
+
+        PageDTO<CandidateView> page = candidateService.getCandidatesPage(null, 2);
+
+        assertThat(page.getItems()).containsExactly(candidate1, candidate2);
+        assertThat(PageCursor.decodeId(page.getNext())).isEqualTo(candidate2.id());
+    }
+
+    @Test
+    void whenGetCandidatesPageWithInvalidCursor_thenThrowBadRequestException(){
+        assertThrows( BadRequestException.class, () -> {
+        candidateService.getCandidatesPage("not-a-cursor", 2);
+        } );
+
+        verify( candidateRepository, VerificationModeFactory.times( 0 ) ).findViewsAfter( anyLong(), any() );
+    }
+
     /* --- HELPERS --- */
     void verifySaveCandidateIsCalledOnce(){
         verify( candidateRepository, VerificationModeFactory.times( 1 ) ).save( any() );
@@ -188,8 +233,8 @@ class CandidateServiceTest {
         verify( candidateRepository, VerificationModeFactory.times( 0 ) ).save( any() );
     }
 
-    void verifyFindByEmailIsCalledOnce(){
-        verify( candidateRepository, VerificationModeFactory.times( 1 ) ).findByEmail( any() );
+    void verifyFindIdByEmailIsCalledOnce(){
+        verify( candidateRepository, VerificationModeFactory.times( 1 ) ).findIdByEmail( any() );
     }
 
     void verifyFindByIdIsCalledOnce(){
@@ -197,7 +242,7 @@ class CandidateServiceTest {
     }
 
     private void verifyFindAllIsCalledOnce(){
-        verify( candidateRepository, VerificationModeFactory.times( 1 ) ).findAll();
+        verify( candidateRepository, VerificationModeFactory.times( 1 ) ).findAllViews();
     }
 
     private InterviewSlot createInterviewSlot() {
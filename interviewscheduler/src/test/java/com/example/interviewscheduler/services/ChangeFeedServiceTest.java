@@ -0,0 +1,209 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.interviewscheduler.dtos.ChangesView;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.models.ChangeTombstone;
+import com.example.interviewscheduler.repositories.CandidateRepository;
+import com.example.interviewscheduler.repositories.ChangeTombstoneRepository;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository;
+import com.example.interviewscheduler.repositories.InterviewerRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedServiceTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.parse("2042-08-30T10:00:00");
+
+    @Mock
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private InterviewerRepository interviewerRepository;
+
+    @Mock
+    private ChangeTombstoneRepository changeTombstoneRepository;
+
+    @InjectMocks
+    private ChangeFeedService changeFeedService;
+
+    @Test
+    void whenChangesFit_thenServeAllUpToTheStableVersion() throws BadRequestException{
+        when(changeTombstoneRepository.findStableChangeVersion()).thenReturn(200L);
+        givenChanges(100L, 200L, 3,
+            List.of(changedSlot(3L, 1L, 105L)),
+            List.of(changedCandidate(1L, 105L)),
+            List.of(),
+            List.of(tombstone(ChangeTombstone.SLOT, 4L, 110L), tombstone(ChangeTombstone.CANDIDATE, 8L, 110L)));
+
+        ChangesView changes = changeFeedService.getChangesSince(100L, null, 2);
+
+        assertThat(changes.since()).isEqualTo(100L);
+        assertThat(changes.next()).isEqualTo(200L);
+        assertThat(changes.more()).isFalse();
+        assertThat(changes.slots()).hasSize(1);
+        assertThat(changes.slots().get(0).candidateId()).isEqualTo(1L);
+        assertThat(changes.candidates()).extracting("email").containsExactly("c1@gmail.com");
+        assertThat(changes.interviewers()).isEmpty();
+        assertThat(changes.deletedSlotIds()).containsExactly(4L);
+        assertThat(changes.deletedCandidateIds()).containsExactly(8L);
+        assertThat(changes.deletedInterviewerIds()).isEmpty();
+    }
+
+    @Test
+    void whenKindOverLimit_thenStopBeforeTheFirstVersionNotServedWhole() throws BadRequestException{
+        when(changeTombstoneRepository.findStableChangeVersion()).thenReturn(200L);
+        givenChanges(100L, 200L, 3,
+            List.of(changedSlot(3L, null, 101L), changedSlot(5L, null, 102L), changedSlot(6L, null, 150L)),
+            List.of(changedCandidate(1L, 140L), changedCandidate(2L, 150L)),
+            List.of(),
+            List.of());
+
+        ChangesView changes = changeFeedService.getChangesSince(100L, null, 2);
+
+        assertThat(changes.next()).isEqualTo(150L);
+        assertThat(changes.more()).isTrue();
+        assertThat(changes.slots()).extracting("id").containsExactly(3L, 5L);
+        // same version as the slot that did not fit
+        assertThat(changes.candidates()).extracting("id").containsExactly(1L);
+    }
+
+    @Test
+    void whenOneTransactionOverLimit_thenServeItsFirstPageWithCursor() throws BadRequestException{
+        when(changeTombstoneRepository.findStableChangeVersion()).thenReturn(200L);
+        givenChanges(100L, 200L, 3,
+            List.of(changedSlot(3L, null, 120L), changedSlot(5L, null, 120L), changedSlot(6L, null, 120L)),
+            List.of(),
+            List.of(),
+            List.of());
+        givenChangesInVersion(120L, 0L, 3,
+            List.of(changedSlot(3L, null, 120L), changedSlot(5L, null, 120L), changedSlot(6L, null, 120L)),
+            List.of(),
+            List.of(),
+            List.of());
+
+        ChangesView changes = changeFeedService.getChangesSince(100L, null, 2);
+
+        assertThat(changes.next()).isEqualTo(120L);
+        assertThat(changes.more()).isTrue();
+        assertThat(changes.slots()).extracting("id").containsExactly(3L, 5L);
+        assertThat(PageCursor.decodeChangeKey(changes.cursor())).isEqualTo(new PageCursor.ChangeKey(120L, 5L, 0L, 0L, 0L));
+    }
+
+    @Test
+    void whenCursorInsideTransaction_thenServeTheRestAndMoveOn() throws BadRequestException{
+        when(changeTombstoneRepository.findStableChangeVersion()).thenReturn(200L);
+        givenChangesInVersion(120L, 5L, 3,
+            List.of(changedSlot(6L, null, 120L), changedSlot(7L, null, 120L)),
+            List.of(),
+            List.of(),
+            List.of(tombstone(ChangeTombstone.CANDIDATE, 8L, 120L)));
+
+        ChangesView changes = changeFeedService.getChangesSince(120L, PageCursor.encode(new PageCursor.ChangeKey(120L, 5L, 0L, 0L, 0L)), 2);
+
+        assertThat(changes.next()).isEqualTo(121L);
+        assertThat(changes.more()).isTrue();
+        assertThat(changes.cursor()).isNull();
+        assertThat(changes.slots()).extracting("id").containsExactly(6L, 7L);
+        assertThat(changes.deletedCandidateIds()).containsExactly(8L);
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).findChangedBetween(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void whenCursorOfAnotherVersion_thenThrowBadRequestException(){
+        when(changeTombstoneRepository.findStableChangeVersion()).thenReturn(200L);
+        String cursor = PageCursor.encode(new PageCursor.ChangeKey(120L, 5L, 0L, 0L, 0L));
+
+        assertThrows( BadRequestException.class, () -> {
+            changeFeedService.getChangesSince(130L, cursor, 2);
+            } );
+        assertThrows( BadRequestException.class, () -> {
+            changeFeedService.getChangesSince(120L, "not-a-cursor", 2);
+            } );
+    }
+
+    @Test
+    void whenNoStableChanges_thenReturnEmptyAtTheSameVersion() throws BadRequestException{
+        when(changeTombstoneRepository.findStableChangeVersion()).thenReturn(200L);
+
+        ChangesView changes = changeFeedService.getChangesSince(200L, null, 500);
+
+        assertThat(changes.next()).isEqualTo(200L);
+        assertThat(changes.more()).isFalse();
+        assertThat(changes.slots()).isEmpty();
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).findChangedBetween(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void whenInvalidVersionOrLimit_thenThrowBadRequestException(){
+        assertThrows( BadRequestException.class, () -> {
+            changeFeedService.getChangesSince(-1L, null, 500);
+            } );
+        assertThrows( BadRequestException.class, () -> {
+            changeFeedService.getChangesSince(0L, null, ChangeFeedService.MAX_LIMIT + 1);
+            } );
+    }
+
+    /* -- HELPERS -- */
+    private void givenChanges(long since, long upTo, int limit, List<InterviewSlotRepository.ChangedSlot> slots,
+            List<CandidateRepository.ChangedCandidate> candidates, List<InterviewerRepository.ChangedInterviewer> interviewers,
+            List<ChangeTombstone> tombstones){
+        when(interviewSlotRepository.findChangedBetween(since, upTo, limit)).thenReturn(slots);
+        when(candidateRepository.findChangedBetween(since, upTo, limit)).thenReturn(candidates);
+        when(interviewerRepository.findChangedBetween(since, upTo, limit)).thenReturn(interviewers);
+        when(changeTombstoneRepository.findChangedBetween(since, upTo, PageRequest.of(0, limit))).thenReturn(tombstones);
+    }
+
+    private void givenChangesInVersion(long version, long afterId, int limit, List<InterviewSlotRepository.ChangedSlot> slots,
+            List<CandidateRepository.ChangedCandidate> candidates, List<InterviewerRepository.ChangedInterviewer> interviewers,
+            List<ChangeTombstone> tombstones){
+        when(interviewSlotRepository.findChangedInVersion(version, afterId, limit)).thenReturn(slots);
+        when(candidateRepository.findChangedInVersion(version, 0L, limit)).thenReturn(candidates);
+        when(interviewerRepository.findChangedInVersion(version, 0L, limit)).thenReturn(interviewers);
+        when(changeTombstoneRepository.findChangedInVersion(version, 0L, PageRequest.of(0, limit))).thenReturn(tombstones);
+    }
+
+    private static InterviewSlotRepository.ChangedSlot changedSlot(long id, Long candidateId, long changeVersion){
+        return new InterviewSlotRepository.ChangedSlot() {
+            public long getId(){ return id; }
+            public LocalDateTime getTime(){ return TIME; }
+            public long getInterviewerId(){ return 2L; }
+            public String getInterviewerName(){ return "Carlos"; }
+            public Long getCandidateId(){ return candidateId; }
+            public String getCandidateName(){ return candidateId == null ? null : "C" + candidateId; }
+            public long getChangeVersion(){ return changeVersion; }
+        };
+    }
+
+    private static CandidateRepository.ChangedCandidate changedCandidate(long id, long changeVersion){
+        return new CandidateRepository.ChangedCandidate() {
+            public long getId(){ return id; }
+            public String getName(){ return "C" + id; }
+            public String getEmail(){ return "c" + id + "@gmail.com"; }
+            public long getChangeVersion(){ return changeVersion; }
+        };
+    }
+
+    private static ChangeTombstone tombstone(String entityType, long entityId, long changeVersion){
+        return new ChangeTombstone(entityId * 10, entityType, entityId, changeVersion);
+    }
+}
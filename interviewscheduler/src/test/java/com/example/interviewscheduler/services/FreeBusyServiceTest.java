@@ -0,0 +1,147 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.interviewscheduler.dtos.FreeBusyView;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository;
+
+@ExtendWith(MockitoExtension.class)
+class FreeBusyServiceTest {
+
+    private static final LocalDate DAY = LocalDate.parse("2042-08-30");
+
+    @Mock
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @InjectMocks
+    private FreeBusyService freeBusyService;
+
+    @BeforeEach
+    void setUp(){
+        when(interviewSlotRepository.findSlotHoursFrom(LocalDate.now().minusDays(FreeBusyService.PAST_DAYS).atStartOfDay())).thenReturn(List.of(
+            createSlotHour(1L, 1L, DAY.atTime(9, 0), null),
+            createSlotHour(2L, 1L, DAY.atTime(10, 0), 5L),
+            createSlotHour(3L, 1L, DAY.plusDays(1).atTime(23, 0), null),
+            createSlotHour(4L, 2L, DAY.atTime(0, 0), null)));
+        freeBusyService.rebuild();
+    }
+
+    /* Rebuilding from the Database */
+    @Test
+    void whenRebuilt_thenFreeAndBookedHoursAreSeparated() throws BadRequestException{
+        FreeBusyView freeBusy = freeBusyService.getFreeBusy(List.of(1L, 2L), DAY, 2);
+
+        assertThat(freeBusy.interviewers()).extracting(FreeBusyView.InterviewerBitmaps::interviewerId).containsExactly(1L, 2L);
+        assertThat(masks(freeBusy.interviewers().get(0).free())).containsExactly(1 << 9, 1 << 23);
+        assertThat(masks(freeBusy.interviewers().get(0).busy())).containsExactly(1 << 10, 0);
+        assertThat(masks(freeBusy.interviewers().get(1).free())).containsExactly(1, 0);
+    }
+
+    @Test
+    void whenUnknownInterviewer_thenReturnEmptyBitmaps() throws BadRequestException{
+        FreeBusyView freeBusy = freeBusyService.getFreeBusy(List.of(9L), DAY, 3);
+
+        assertThat(masks(freeBusy.interviewers().get(0).free())).containsExactly(0, 0, 0);
+        assertThat(masks(freeBusy.interviewers().get(0).busy())).containsExactly(0, 0, 0);
+    }
+
+    /* Following Slot Events */
+    @Test
+    void whenSlotCreatedAndBooked_thenHourMovesFromFreeToBusy() throws BadRequestException{
+        LocalDateTime time = DAY.atTime(15, 0);
+
+        freeBusyService.onSlotEvent(new InterviewSlotEvent(InterviewSlotEvent.Type.CREATED, 7L, time, 2L, "Carlos", "carlos2@gmail.com", null, 0L));
+        assertThat(masks(freeBusyService.getFreeBusy(List.of(2L), DAY, 1).interviewers().get(0).free())).containsExactly(1 | 1 << 15);
+
+        freeBusyService.onSlotEvent(new InterviewSlotEvent(InterviewSlotEvent.Type.BOOKED, 7L, time, 2L, "Carlos", "carlos2@gmail.com", 3L, 1L));
+        FreeBusyView.InterviewerBitmaps bitmaps = freeBusyService.getFreeBusy(List.of(2L), DAY, 1).interviewers().get(0);
+        assertThat(masks(bitmaps.free())).containsExactly(1);
+        assertThat(masks(bitmaps.busy())).containsExactly(1 << 15);
+    }
+
+    @Test
+    void whenBookingCancelled_thenHourMovesBackToFree() throws BadRequestException{
+        freeBusyService.onSlotEvent(new InterviewSlotEvent(InterviewSlotEvent.Type.CANCELLED, 2L, DAY.atTime(10, 0), 1L, "Carlos", "carlos1@gmail.com", 5L, 1L));
+
+        FreeBusyView.InterviewerBitmaps bitmaps = freeBusyService.getFreeBusy(List.of(1L), DAY, 1).interviewers().get(0);
+        assertThat(masks(bitmaps.free())).containsExactly(1 << 9 | 1 << 10);
+        assertThat(masks(bitmaps.busy())).containsExactly(0);
+    }
+
+    @Test
+    void whenCancellationArrivesAfterLaterBooking_thenHourStaysBusy() throws BadRequestException{
+        freeBusyService.onSlotEvent(new InterviewSlotEvent(InterviewSlotEvent.Type.BOOKED, 2L, DAY.atTime(10, 0), 1L, "Carlos", "carlos1@gmail.com", 6L, 2L));
+        freeBusyService.onSlotEvent(new InterviewSlotEvent(InterviewSlotEvent.Type.CANCELLED, 2L, DAY.atTime(10, 0), 1L, "Carlos", "carlos1@gmail.com", 5L, 1L));
+
+        FreeBusyView.InterviewerBitmaps bitmaps = freeBusyService.getFreeBusy(List.of(1L), DAY, 1).interviewers().get(0);
+        assertThat(masks(bitmaps.free())).containsExactly(1 << 9);
+        assertThat(masks(bitmaps.busy())).containsExactly(1 << 10);
+    }
+
+    /* Pruning Past Days */
+    @Test
+    void whenDaysPruned_thenTheyReadEmptyAndTheirEventsAreIgnored() throws BadRequestException{
+        freeBusyService.pruneBefore(DAY.plusDays(1));
+
+        freeBusyService.onSlotEvent(new InterviewSlotEvent(InterviewSlotEvent.Type.CREATED, 8L, DAY.atTime(15, 0), 1L, "Carlos", "carlos1@gmail.com", null, 0L));
+
+        FreeBusyView.InterviewerBitmaps bitmaps = freeBusyService.getFreeBusy(List.of(1L), DAY, 2).interviewers().get(0);
+        assertThat(masks(bitmaps.free())).containsExactly(0, 1 << 23);
+        assertThat(masks(bitmaps.busy())).containsExactly(0, 0);
+    }
+
+    /* Validating Requests */
+
+    @Test
+    void whenTooManyDays_thenThrowBadRequestException(){
+        assertThrows( BadRequestException.class, () -> {
+        freeBusyService.getFreeBusy(List.of(1L), DAY, FreeBusyService.MAX_DAYS + 1);
+        } );
+    }
+
+    @Test
+    void whenTooManyInterviewers_thenThrowBadRequestException(){
+        List<Long> interviewerIds = Collections.nCopies(FreeBusyService.MAX_INTERVIEWERS + 1, 1L);
+
+        assertThrows( BadRequestException.class, () -> {
+        freeBusyService.getFreeBusy(interviewerIds, DAY, 1);
+        } );
+    }
+
+    /* -- HELPERS -- */
+    private int[] masks(String bitmap){
+        byte[] bytes = Base64.getDecoder().decode(bitmap);
+        int[] masks = new int[bytes.length / 3];
+        for (int day = 0; day < masks.length; day++){
+            masks[day] = (bytes[day * 3] & 0xFF) | (bytes[day * 3 + 1] & 0xFF) << 8 | (bytes[day * 3 + 2] & 0xFF) << 16;
+        }
+        return masks;
+    }
+
+    private InterviewSlotRepository.SlotHour createSlotHour(long slotId, long interviewerId, LocalDateTime time, Long candidateId){
+        return new InterviewSlotRepository.SlotHour() {
+            public long getSlotId(){ return slotId; }
+            public long getVersion(){ return 0L; }
+            public long getInterviewerId(){ return interviewerId; }
+            public LocalDateTime getTime(){ return time; }
+            public Long getCandidateId(){ return candidateId; }
+        };
+    }
+}
@@ -3,23 +3,45 @@ package com.example.interviewscheduler.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.internal.verification.VerificationModeFactory;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import com.example.interviewscheduler.dtos.BulkInterviewSlotDTO;
 import com.example.interviewscheduler.dtos.InterviewSlotDTO;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
 import com.example.interviewscheduler.dtos.InterviewerDTO;
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.dtos.RecurringInterviewSlotDTO;
+import com.example.interviewscheduler.dtos.SlotAssignmentPolicy;
+import com.example.interviewscheduler.dtos.SlotState;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
 import com.example.interviewscheduler.exceptions.BadRequestException;
 import com.example.interviewscheduler.exceptions.ConflictException;
 import com.example.interviewscheduler.exceptions.PastDateException;
@@ -31,6 +53,10 @@ import com.example.interviewscheduler.models.Interviewer;
 import com.example.interviewscheduler.repositories.CandidateRepository;
 import com.example.interviewscheduler.repositories.InterviewSlotRepository;
 import com.example.interviewscheduler.repositories.InterviewerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class InterviewSlotServiceTest {
@@ -43,6 +69,24 @@ class InterviewSlotServiceTest {
     @Mock
     private InterviewerRepository interviewerRepository;
 
+    @Mock
+    private SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @Mock
+    private SlotHoldService slotHoldService;
+
+    @Mock
+    private InterviewerSelector interviewerSelector;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
     @InjectMocks
     private InterviewSlotService interviewSlotService;
 
@@ -60,7 +104,8 @@ class InterviewSlotServiceTest {
     @Test
     void whenValidInterviewSlotDTOObject_thenSaveInterviewSlot_andReturnInterviewSlot() throws Exception{
         Interviewer interviewer = createInterviewer(1L);
-        when(interviewerRepository.findByEmail(interviewer.getEmail())).thenReturn(Optional.of(interviewer));
+        when(interviewerRepository.findIdByEmail(interviewer.getEmail())).thenReturn(Optional.of(interviewer.getId()));
+        when(interviewerRepository.findById(interviewer.getId())).thenReturn(Optional.of(interviewer));
         
         interviewSlotService.create(interviewSlotDTO);
 
@@ -69,13 +114,15 @@ class InterviewSlotServiceTest {
         assertThat(interviewSlot.getId()).isEqualTo(interviewSlot.getId());
 
         verifySaveInterviewSlotIsCalledOnce();
+        verifyEventIsPublished(InterviewSlotEvent.Type.CREATED);
     }
 
     @Test
     void whenInterviewSlotExists_thenThrowConflictException(){
         Interviewer interviewer = createInterviewer(1L);
 
-        when(interviewerRepository.findByEmail(interviewer.getEmail())).thenReturn(Optional.of(interviewer));
+        when(interviewerRepository.findIdByEmail(interviewer.getEmail())).thenReturn(Optional.of(interviewer.getId()));
+        when(interviewerRepository.findById(interviewer.getId())).thenReturn(Optional.of(interviewer));
         when(interviewSlotRepository.findByTimeAndInterviewer(any(), any())).thenReturn(Optional.of(interviewSlot));
 
         assertThrows( ConflictException.class, () -> {
@@ -85,6 +132,21 @@ class InterviewSlotServiceTest {
         verifySaveInterviewSlotIsNeverCalled();
     }
 
+    @Test
+    void whenInterviewSlotCreatedConcurrently_thenThrowConflictException(){
+        Interviewer interviewer = createInterviewer(1L);
+
+        when(interviewerRepository.findIdByEmail(interviewer.getEmail())).thenReturn(Optional.of(interviewer.getId()));
+        when(interviewerRepository.findById(interviewer.getId())).thenReturn(Optional.of(interviewer));
+        when(interviewSlotRepository.save(any())).thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        assertThrows( ConflictException.class, () -> {
+        interviewSlotService.create( interviewSlotDTO );
+        } );
+
+        verify(eventPublisher, VerificationModeFactory.times(0)).publishEvent(any(Object.class));
+    }
+
     @Test
     void whenInterviewSlotDTOObjectWithNullInterviewer_thenThrowBadRequestException(){
         interviewSlotDTO.setInterviewer(null);
@@ -119,17 +181,119 @@ class InterviewSlotServiceTest {
         
     }
 
+    /* Creating Interview Slots in Bulk */
+    @Test
+    void whenValidBulkOfTimes_thenSaveAllInOneBatch_andPublishEvents() throws Exception{
+        Interviewer interviewer = createInterviewer(1L);
+        LocalDateTime time = LocalDateTime.parse("2042-08-30T10:00:00");
+        BulkInterviewSlotDTO bulkDTO = new BulkInterviewSlotDTO(createInterviewerDTO(1L), List.of(time.plusHours(1), time, time));
+        when(interviewerRepository.findIdByEmail(interviewer.getEmail())).thenReturn(Optional.of(interviewer.getId()));
+        when(interviewerRepository.findById(interviewer.getId())).thenReturn(Optional.of(interviewer));
+        when(interviewSlotRepository.findTimesByInterviewerBetween(interviewer, time, time.plusHours(1))).thenReturn(List.of());
+
+        List<InterviewSlotView> interviewSlots = interviewSlotService.createBulk(bulkDTO);
+
+        assertThat(interviewSlots).extracting(InterviewSlotView::time).containsExactly(time, time.plusHours(1));
+        verify(interviewerRepository, VerificationModeFactory.times(1)).findIdByEmail(any());
+        verify(interviewSlotRepository, VerificationModeFactory.times(1)).saveAll(any());
+        verifySaveInterviewSlotIsNeverCalled();
+        verify(eventPublisher, VerificationModeFactory.times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void whenBulkOverlapsExistingSlot_thenThrowConflictException_andSaveNothing(){
+        Interviewer interviewer = createInterviewer(1L);
+        LocalDateTime time = LocalDateTime.parse("2042-08-30T10:00:00");
+        BulkInterviewSlotDTO bulkDTO = new BulkInterviewSlotDTO(createInterviewerDTO(1L), List.of(time, time.plusHours(1)));
+        when(interviewerRepository.findIdByEmail(interviewer.getEmail())).thenReturn(Optional.of(interviewer.getId()));
+        when(interviewerRepository.findById(interviewer.getId())).thenReturn(Optional.of(interviewer));
+        when(interviewSlotRepository.findTimesByInterviewerBetween(interviewer, time, time.plusHours(1))).thenReturn(List.of(time.plusHours(1)));
+
+        assertThrows( ConflictException.class, () -> {
+        interviewSlotService.createBulk( bulkDTO );
+        } );
+
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).saveAll(any());
+    }
+
+    @Test
+    void whenBulkWithPastTime_thenThrowPastDateException(){
+        BulkInterviewSlotDTO bulkDTO = new BulkInterviewSlotDTO(createInterviewerDTO(1L), List.of(LocalDateTime.parse("2020-08-30T10:00:00")));
+
+        assertThrows( PastDateException.class, () -> {
+        interviewSlotService.createBulk( bulkDTO );
+        } );
+
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).saveAll(any());
+    }
+
+    @Test
+    void whenBulkWithoutTimes_thenThrowBadRequestException(){
+        BulkInterviewSlotDTO bulkDTO = new BulkInterviewSlotDTO(createInterviewerDTO(1L), List.of());
+
+        assertThrows( BadRequestException.class, () -> {
+        interviewSlotService.createBulk( bulkDTO );
+        } );
+    }
+
+    /* Creating Recurring Interview Slots */
+    @Test
+    void whenWeeklyRecurrence_thenCreateHourlySlotsOnSelectedDays() throws Exception{
+        Interviewer interviewer = createInterviewer(1L);
+        // 2042-09-01 is a Monday
+        RecurringInterviewSlotDTO recurringDTO = new RecurringInterviewSlotDTO(createInterviewerDTO(1L),
+            LocalDate.parse("2042-09-01"), LocalDate.parse("2042-09-14"), Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY),
+            LocalTime.parse("09:00"), LocalTime.parse("11:30"));
+        when(interviewerRepository.findIdByEmail(interviewer.getEmail())).thenReturn(Optional.of(interviewer.getId()));
+        when(interviewerRepository.findById(interviewer.getId())).thenReturn(Optional.of(interviewer));
+
+        List<InterviewSlotView> interviewSlots = interviewSlotService.createRecurring(recurringDTO);
+
+        assertThat(interviewSlots).extracting(InterviewSlotView::time).containsExactly(
+            LocalDateTime.parse("2042-09-01T09:00:00"), LocalDateTime.parse("2042-09-01T10:00:00"),
+            LocalDateTime.parse("2042-09-03T09:00:00"), LocalDateTime.parse("2042-09-03T10:00:00"),
+            LocalDateTime.parse("2042-09-08T09:00:00"), LocalDateTime.parse("2042-09-08T10:00:00"),
+            LocalDateTime.parse("2042-09-10T09:00:00"), LocalDateTime.parse("2042-09-10T10:00:00"));
+        verify(interviewSlotRepository, VerificationModeFactory.times(1))
+            .findTimesByInterviewerBetween(interviewer, LocalDateTime.parse("2042-09-01T09:00:00"), LocalDateTime.parse("2042-09-10T10:00:00"));
+        verify(interviewSlotRepository, VerificationModeFactory.times(1)).saveAll(any());
+    }
+
+    @Test
+    void whenRecurrenceEndsBeforeItStarts_thenThrowBadRequestException(){
+        RecurringInterviewSlotDTO recurringDTO = new RecurringInterviewSlotDTO(createInterviewerDTO(1L),
+            LocalDate.parse("2042-09-14"), LocalDate.parse("2042-09-01"), Set.of(DayOfWeek.MONDAY),
+            LocalTime.parse("09:00"), LocalTime.parse("18:00"));
+
+        assertThrows( BadRequestException.class, () -> {
+        interviewSlotService.createRecurring( recurringDTO );
+        } );
+    }
+
+    @Test
+    void whenRecurrenceExceedsBulkLimit_thenThrowBadRequestException(){
+        RecurringInterviewSlotDTO recurringDTO = new RecurringInterviewSlotDTO(createInterviewerDTO(1L),
+            LocalDate.parse("2042-01-01"), LocalDate.parse("2043-12-31"), Set.of(DayOfWeek.values()),
+            LocalTime.parse("00:00"), LocalTime.parse("23:00"));
+
+        assertThrows( BadRequestException.class, () -> {
+        interviewSlotService.createRecurring( recurringDTO );
+        } );
+
+        verify(interviewerRepository, VerificationModeFactory.times(0)).findIdByEmail(any());
+    }
+
     /* Getting All Interview Slots */
     @Test
     void whenGetAll_thenReturnList(){
-        List<InterviewSlot> listOfSlots = List.of(
-            createInterviewSlot(LocalDateTime.parse("2040-08-30T10:00:00")),
-            createInterviewSlot(LocalDateTime.parse("2042-08-31T10:00:00")),
-            createInterviewSlot(LocalDateTime.parse("2044-09-01T10:00:00"))
+        List<InterviewSlotView> listOfSlots = List.of(
+            createInterviewSlotView(1L, LocalDateTime.parse("2040-08-30T10:00:00")),
+            createInterviewSlotView(2L, LocalDateTime.parse("2042-08-31T10:00:00")),
+            createInterviewSlotView(3L, LocalDateTime.parse("2044-09-01T10:00:00"))
             );
-        when(interviewSlotRepository.findAll()).thenReturn(listOfSlots);
+        when(interviewSlotRepository.findAllViews()).thenReturn(listOfSlots);
 
-        List<InterviewSlot> listOfInterviewSlotsFromDB = interviewSlotService.getAll();
+        List<InterviewSlotView> listOfInterviewSlotsFromDB = interviewSlotService.getAll();
 
         assertThat(listOfInterviewSlotsFromDB).hasSize(listOfSlots.size()).isEqualTo(listOfSlots);
 
@@ -137,22 +301,71 @@ class InterviewSlotServiceTest {
     }
 
 
+    /* Paging through All Interview Slots */
+    @Test
+    void whenGetFirstPage_thenReturnPageWithNextCursor() throws BadRequestException{
+        InterviewSlotView firstSlot = createInterviewSlotView(3L, LocalDateTime.parse("2040-08-30T10:00:00"));
+        InterviewSlotView secondSlot = createInterviewSlotView(7L, LocalDateTime.parse("2040-08-30T11:00:00"));
+        InterviewSlotView extraSlot = createInterviewSlotView(2L, LocalDateTime.parse("2040-08-30T12:00:00"));
+        when(interviewSlotRepository.findFirstViewPage(PageRequest.of(0, 3))).thenReturn(List.of(firstSlot, secondSlot, extraSlot));
+
+        PageDTO<InterviewSlotView> page = interviewSlotService.getPage(null, 2);
+
+        assertThat(page.getItems()).containsExactly(firstSlot, secondSlot);
+        assertThat(PageCursor.decodeSlotKey(page.getNext())).isEqualTo(new PageCursor.SlotKey(secondSlot.time(), 7L));
+    }
+
+    @Test
+    void whenGetPageAfterCursor_thenQueryFromCursorKey() throws BadRequestException{
+        LocalDateTime time = LocalDateTime.parse("2040-08-30T11:00:00");
+        List<InterviewSlotView> listOfSlots = List.of(createInterviewSlotView(2L, LocalDateTime.parse("2040-08-30T12:00:00")));
+        when(interviewSlotRepository.findViewPageAfter(time, 7L, PageRequest.of(0, 3))).thenReturn(listOfSlots);
+
+        PageDTO<InterviewSlotView> page = interviewSlotService.getPage(PageCursor.encode(time, 7L), 2);
+
+        assertThat(page.getItems()).isEqualTo(listOfSlots);
+        assertThat(page.getNext()).isNull();
+    }
+
+    @Test
+    void whenGetPageWithInvalidCursor_thenThrowBadRequestException(){
+        assertThrows( BadRequestException.class, () -> {
+            interviewSlotService.getPage("not-a-cursor", 2);
+            } );
+
+        verify( interviewSlotRepository, VerificationModeFactory.times( 0 ) ).findViewPageAfter(any(), anyLong(), any());
+    }
+
+    @Test
+    void whenGetPageWithInvalidSize_thenThrowBadRequestException(){
+        assertThrows( BadRequestException.class, () -> {
+            interviewSlotService.getPage(null, 0);
+            } );
+    }
+
     /* Assigning Interview Slot to a Candidate */
     @Test
     void whenAssignInterviewSlotWithExistentCandidateId_thenReturnUpdatedInterviewSlot() throws Exception{
         Candidate candidate = createCandidate(0L);
-        when(candidateRepository.findById(candidate.getId())).thenReturn(Optional.of(candidate));
-        when(interviewSlotRepository.findById(interviewSlot.getId())).thenReturn(Optional.of(interviewSlot));
+        when(interviewSlotRepository.claimSlot(interviewSlot.getId(), candidate.getId())).thenReturn(1);
+        when(interviewSlotRepository.findById(interviewSlot.getId())).thenAnswer(invocation -> {
+            interviewSlot.setCandidate(candidate);
+            return Optional.of(interviewSlot);
+        });
 
-        InterviewSlot interviewSlotFromDB = interviewSlotService.assignToCandidate(interviewSlot.getId(), candidate.getId());
+        InterviewSlotView interviewSlotFromDB = interviewSlotService.assignToCandidate(interviewSlot.getId(), candidate.getId());
 
-        assertThat(interviewSlotFromDB.getId()).isEqualTo(interviewSlot.getId());
-        assertThat(interviewSlotFromDB.getTime()).isEqualTo(interviewSlot.getTime());
-        assertThat(interviewSlotFromDB.getInterviewer()).isEqualTo(interviewSlot.getInterviewer());
-        assertThat(interviewSlotFromDB.getCandidate().getName()).isEqualTo(candidate.getName());
-        assertThat(interviewSlotFromDB.getCandidate().getEmail()).isEqualTo(candidate.getEmail());
+        assertThat(interviewSlotFromDB.id()).isEqualTo(interviewSlot.getId());
+        assertThat(interviewSlotFromDB.time()).isEqualTo(interviewSlot.getTime());
+        assertThat(interviewSlotFromDB.interviewerName()).isEqualTo(interviewSlot.getInterviewer().getName());
+        assertThat(interviewSlotFromDB.candidateId()).isEqualTo(candidate.getId());
+        assertThat(interviewSlotFromDB.candidateName()).isEqualTo(candidate.getName());
 
-        verifySaveInterviewSlotIsCalledOnce();
+        verifyClaimSlotIsCalledOnce();
+        verifySaveInterviewSlotIsNeverCalled();
+        verify(candidateRepository, VerificationModeFactory.times(0)).findById(any());
+        verify(interviewSlotRepository, VerificationModeFactory.times(1)).evictBooking(candidate.getId());
+        verifyEventIsPublished(InterviewSlotEvent.Type.BOOKED);
     }
 
     @Test
@@ -162,7 +375,7 @@ class InterviewSlotServiceTest {
         when(candidateRepository.findById(candidate.getId())).thenReturn(Optional.of(candidate));
 
         assertThrows( BadRequestException.class, () -> {
-            interviewSlotService.assignToCandidate(-1L, any());
+            interviewSlotService.assignToCandidate(-1L, candidate.getId());
             } );
     
             verifySaveInterviewSlotIsNeverCalled();
@@ -180,6 +393,7 @@ class InterviewSlotServiceTest {
             } );
 
         verifySaveInterviewSlotIsNeverCalled();
+        verifyClaimSlotIsCalledOnce();
 
     }
 
@@ -195,10 +409,12 @@ class InterviewSlotServiceTest {
         verifySaveInterviewSlotIsNeverCalled();
     }
 
+    @Test
     void whenAssignToOccupiedCandidate_thenThrowConflictException() {
         Candidate candidate = createCandidate(1L);
-        interviewSlot.setId(5L);
-        candidate.setSlot(interviewSlot);
+        InterviewSlot candidateSlot = createInterviewSlot(LocalDateTime.parse("2040-08-30T11:00:00"));
+        candidateSlot.setId(5L);
+        candidate.setSlot(candidateSlot);
         interviewSlot.setId(1L);
 
         when(interviewSlotRepository.findById(interviewSlot.getId())).thenReturn(Optional.of(interviewSlot));
@@ -212,16 +428,254 @@ class InterviewSlotServiceTest {
 
     }
 
+    @Test
+    void whenCandidateBooksAnotherSlotConcurrently_thenThrowConflictException() {
+        Candidate candidate = createCandidate(1L);
+        when(interviewSlotRepository.claimSlot(interviewSlot.getId(), candidate.getId()))
+            .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        assertThrows( ConflictException.class, () -> {
+            interviewSlotService.assignToCandidate(interviewSlot.getId(), candidate.getId());
+            } );
+
+        verify(eventPublisher, VerificationModeFactory.times(0)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void whenAssignSlotHeldByAnotherCandidate_thenThrowUnavailableSlotExceptionWithoutClaiming() {
+        interviewSlot.setId(7L);
+        when(slotHoldService.isHeldByOther(7L, 1L)).thenReturn(true);
+
+        assertThrows( UnavailableSlotException.class, () -> {
+            interviewSlotService.assignToCandidate(7L, 1L);
+            } );
+
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).claimSlot(anyLong(), anyLong());
+    }
+
+    /* Assigning First Available Interview Slot at a Time */
+    @Test
+    void whenAssignSlotAtTime_thenClaimTriesSlotsInPolicyOrder() throws Exception{
+        Candidate candidate = createCandidate(1L);
+        interviewSlot.setId(8L);
+        List<InterviewSlotView> freeSlots = List.of(
+            createInterviewSlotView(7L, interviewSlot.getTime()), createInterviewSlotView(8L, interviewSlot.getTime()));
+        when(slotAvailabilityIndex.findAvailableByTime(interviewSlot.getTime())).thenReturn(freeSlots);
+        when(interviewerSelector.order(freeSlots, SlotAssignmentPolicy.ROUND_ROBIN)).thenReturn(List.of(freeSlots.get(1), freeSlots.get(0)));
+        when(interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot.getTime(), candidate.getId(), InterviewSlotService.NO_SLOT_IDS, List.of(8L, 7L)))
+            .thenReturn(Optional.of(8L));
+        when(interviewSlotRepository.findById(8L)).thenReturn(Optional.of(interviewSlot));
+
+        InterviewSlotView interviewSlotFromDB = interviewSlotService.assignFirstAvailableSlotAt(interviewSlot.getTime(), candidate.getId(), SlotAssignmentPolicy.ROUND_ROBIN);
+
+        assertThat(interviewSlotFromDB.id()).isEqualTo(8L);
+    }
+
+    @Test
+    void whenAssignFirstAvailableSlotAtTime_thenReturnBookedInterviewSlot() throws Exception{
+        Candidate candidate = createCandidate(1L);
+        interviewSlot.setId(7L);
+        givenFreeSlotsAt(interviewSlot.getTime(), 7L);
+        when(interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot.getTime(), candidate.getId(), InterviewSlotService.NO_SLOT_IDS, List.of(7L))).thenReturn(Optional.of(7L));
+        when(interviewSlotRepository.findById(7L)).thenAnswer(invocation -> {
+            interviewSlot.setCandidate(candidate);
+            return Optional.of(interviewSlot);
+        });
+
+        InterviewSlotView interviewSlotFromDB = interviewSlotService.assignFirstAvailableSlotAt(interviewSlot.getTime(), candidate.getId(), SlotAssignmentPolicy.LEAST_LOADED);
+
+        assertThat(interviewSlotFromDB.id()).isEqualTo(7L);
+        verify(candidateRepository, VerificationModeFactory.times(0)).findById(any());
+        verify(interviewSlotRepository, VerificationModeFactory.times(1)).evictBooking(candidate.getId());
+        verifyEventIsPublished(InterviewSlotEvent.Type.BOOKED);
+    }
+
+    @Test
+    void whenSlotsAtTimeHeldByOthers_thenClaimSkipsThem() throws Exception{
+        Candidate candidate = createCandidate(1L);
+        interviewSlot.setId(7L);
+        givenFreeSlotsAt(interviewSlot.getTime(), 7L);
+        when(slotHoldService.findHeldByOthersAt(interviewSlot.getTime(), candidate.getId())).thenReturn(List.of(3L, 4L));
+        when(interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot.getTime(), candidate.getId(), List.of(3L, 4L), List.of(7L))).thenReturn(Optional.of(7L));
+        when(interviewSlotRepository.findById(7L)).thenReturn(Optional.of(interviewSlot));
+
+        InterviewSlotView interviewSlotFromDB = interviewSlotService.assignFirstAvailableSlotAt(interviewSlot.getTime(), candidate.getId(), SlotAssignmentPolicy.LEAST_LOADED);
+
+        assertThat(interviewSlotFromDB.id()).isEqualTo(7L);
+    }
+
+    @Test
+    void whenNoSlotIndexedAtTime_thenThrowUnavailableSlotExceptionWithoutQuerying(){
+        when(slotAvailabilityIndex.findAvailableByTime(interviewSlot.getTime())).thenReturn(List.of());
+
+        assertThrows( UnavailableSlotException.class, () -> {
+            interviewSlotService.assignFirstAvailableSlotAt(interviewSlot.getTime(), 1L, SlotAssignmentPolicy.LEAST_LOADED);
+            } );
+
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).claimFirstAvailableSlotAt(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    void whenAllSlotsAtTimeTaken_thenThrowUnavailableSlotException(){
+        Candidate candidate = createCandidate(1L);
+        givenFreeSlotsAt(interviewSlot.getTime(), 7L);
+        when(interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot.getTime(), candidate.getId(), InterviewSlotService.NO_SLOT_IDS, List.of(7L))).thenReturn(Optional.empty());
+        when(candidateRepository.findById(candidate.getId())).thenReturn(Optional.of(candidate));
+
+        assertThrows( UnavailableSlotException.class, () -> {
+            interviewSlotService.assignFirstAvailableSlotAt(interviewSlot.getTime(), candidate.getId(), SlotAssignmentPolicy.LEAST_LOADED);
+            } );
+
+        verify(eventPublisher, VerificationModeFactory.times(0)).publishEvent(any(Object.class));
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).evictBooking(anyLong());
+    }
+
+    @Test
+    void whenAssignSlotAtTimeToOccupiedCandidate_thenThrowConflictException(){
+        Candidate candidate = createCandidate(1L);
+        candidate.setSlot(createInterviewSlot(LocalDateTime.parse("2040-08-30T11:00:00")));
+        givenFreeSlotsAt(interviewSlot.getTime(), 7L);
+        when(interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot.getTime(), candidate.getId(), InterviewSlotService.NO_SLOT_IDS, List.of(7L))).thenReturn(Optional.empty());
+        when(candidateRepository.findById(candidate.getId())).thenReturn(Optional.of(candidate));
+
+        assertThrows( ConflictException.class, () -> {
+            interviewSlotService.assignFirstAvailableSlotAt(interviewSlot.getTime(), candidate.getId(), SlotAssignmentPolicy.LEAST_LOADED);
+            } );
+    }
+
+    @Test
+    void whenAssignSlotAtTimeWithNonExistingCandidateId_thenThrowUserNotFoundException(){
+        givenFreeSlotsAt(interviewSlot.getTime(), 7L);
+        when(interviewSlotRepository.claimFirstAvailableSlotAt(interviewSlot.getTime(), -1L, InterviewSlotService.NO_SLOT_IDS, List.of(7L))).thenReturn(Optional.empty());
+        when(candidateRepository.findById(any())).thenReturn(Optional.empty());
+
+        assertThrows( UserNotFoundException.class, () -> {
+            interviewSlotService.assignFirstAvailableSlotAt(interviewSlot.getTime(), -1L, SlotAssignmentPolicy.LEAST_LOADED);
+            } );
+    }
+
+    /* Cancelling a Booking */
+    @Test
+    void whenCancelBooking_thenReturnFreedInterviewSlot() throws Exception{
+        interviewSlot.setId(7L);
+        when(interviewSlotRepository.releaseCandidateSlot(1L)).thenReturn(Optional.of(7L));
+        when(interviewSlotRepository.findById(7L)).thenReturn(Optional.of(interviewSlot));
+
+        InterviewSlotView interviewSlotFromDB = interviewSlotService.cancel(1L);
+
+        assertThat(interviewSlotFromDB.id()).isEqualTo(7L);
+        assertThat(interviewSlotFromDB.candidateId()).isNull();
+        verify(interviewSlotRepository, VerificationModeFactory.times(1)).evictBooking(1L);
+        verifyEventIsPublished(InterviewSlotEvent.Type.CANCELLED);
+    }
+
+    @Test
+    void whenSlotRebookedBeforeItIsReadBack_thenEventFollowsTheStateRead() throws Exception{
+        interviewSlot.setId(7L);
+        interviewSlot.setCandidate(createCandidate(2L));
+        interviewSlot.setVersion(2L);
+        when(interviewSlotRepository.releaseCandidateSlot(1L)).thenReturn(Optional.of(7L));
+        when(interviewSlotRepository.findById(7L)).thenReturn(Optional.of(interviewSlot));
+
+        interviewSlotService.cancel(1L);
+
+        verify(eventPublisher, VerificationModeFactory.times(1)).publishEvent(argThat((Object event) -> event instanceof InterviewSlotEvent slotEvent
+            && slotEvent.type() == InterviewSlotEvent.Type.BOOKED && slotEvent.candidateId() == 2L && slotEvent.version() == 2L));
+    }
+
+    @Test
+    void whenCancelWithoutBooking_thenThrowBadRequestException(){
+        Candidate candidate = createCandidate(1L);
+        when(interviewSlotRepository.releaseCandidateSlot(1L)).thenReturn(Optional.empty());
+        when(candidateRepository.findById(1L)).thenReturn(Optional.of(candidate));
+
+        assertThrows( BadRequestException.class, () -> {
+            interviewSlotService.cancel(1L);
+            } );
+
+        verify(eventPublisher, VerificationModeFactory.times(0)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void whenCancelForNonExistingCandidate_thenThrowUserNotFoundException(){
+        when(interviewSlotRepository.releaseCandidateSlot(-1L)).thenReturn(Optional.empty());
+        when(candidateRepository.findById(-1L)).thenReturn(Optional.empty());
+
+        assertThrows( UserNotFoundException.class, () -> {
+            interviewSlotService.cancel(-1L);
+            } );
+    }
+
+    /* Rescheduling a Booking */
+    @Test
+    void whenReschedule_thenOldSlotIsFreedAndNewSlotBooked() throws Exception{
+        InterviewSlot oldSlot = createInterviewSlot(LocalDateTime.parse("2040-08-30T11:00:00"));
+        oldSlot.setId(5L);
+        interviewSlot.setId(7L);
+        interviewSlot.setCandidate(createCandidate(1L));
+        when(interviewSlotRepository.findSlotIdByCandidateId(1L)).thenReturn(Optional.of(5L));
+        when(interviewSlotRepository.moveBooking(1L, 5L, 7L)).thenReturn(true);
+        when(interviewSlotRepository.findById(5L)).thenReturn(Optional.of(oldSlot));
+        when(interviewSlotRepository.findById(7L)).thenReturn(Optional.of(interviewSlot));
+
+        InterviewSlotView interviewSlotFromDB = interviewSlotService.reschedule(1L, 7L);
+
+        assertThat(interviewSlotFromDB.id()).isEqualTo(7L);
+        assertThat(interviewSlotFromDB.candidateId()).isEqualTo(1L);
+        verify(interviewSlotRepository, VerificationModeFactory.times(1)).evictBooking(1L);
+        verifyEventIsPublished(InterviewSlotEvent.Type.CANCELLED);
+        verifyEventIsPublished(InterviewSlotEvent.Type.BOOKED);
+    }
+
+    @Test
+    void whenRescheduleToTakenSlot_thenThrowUnavailableSlotException(){
+        interviewSlot.setId(7L);
+        when(interviewSlotRepository.findSlotIdByCandidateId(1L)).thenReturn(Optional.of(5L));
+        when(interviewSlotRepository.moveBooking(1L, 5L, 7L)).thenReturn(false);
+        when(interviewSlotRepository.findById(7L)).thenReturn(Optional.of(interviewSlot));
+
+        assertThrows( UnavailableSlotException.class, () -> {
+            interviewSlotService.reschedule(1L, 7L);
+            } );
+
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).evictBooking(anyLong());
+        verify(eventPublisher, VerificationModeFactory.times(0)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void whenRescheduleToSlotHeldByAnotherCandidate_thenThrowUnavailableSlotExceptionWithoutMoving(){
+        when(interviewSlotRepository.findSlotIdByCandidateId(1L)).thenReturn(Optional.of(5L));
+        when(slotHoldService.isHeldByOther(7L, 1L)).thenReturn(true);
+
+        assertThrows( UnavailableSlotException.class, () -> {
+            interviewSlotService.reschedule(1L, 7L);
+            } );
+
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).moveBooking(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void whenRescheduleWithoutBooking_thenThrowBadRequestException(){
+        when(interviewSlotRepository.findSlotIdByCandidateId(1L)).thenReturn(Optional.empty());
+        when(candidateRepository.findById(1L)).thenReturn(Optional.of(createCandidate(1L)));
+
+        assertThrows( BadRequestException.class, () -> {
+            interviewSlotService.reschedule(1L, 7L);
+            } );
+
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).moveBooking(anyLong(), anyLong(), anyLong());
+    }
+
     /* Getting Interview Slot by ID */
     @Test
     void whenValidId_thenReturnInterviewSlot(){
         when(interviewSlotRepository.findById(interviewSlot.getId())).thenReturn(Optional.of(interviewSlot));
 
-        InterviewSlot interviewSlotFromDB = interviewSlotService.get(interviewSlot.getId());
+        InterviewSlotView interviewSlotFromDB = interviewSlotService.get(interviewSlot.getId());
 
-        assertThat(interviewSlotFromDB.getTime()).isEqualTo(interviewSlot.getTime());
-        assertThat(interviewSlotFromDB.getInterviewer()).isEqualTo(interviewSlot.getInterviewer());
-        assertThat(interviewSlotFromDB.getCandidate()).isEqualTo(interviewSlot.getCandidate());
+        assertThat(interviewSlotFromDB.time()).isEqualTo(interviewSlot.getTime());
+        assertThat(interviewSlotFromDB.interviewerName()).isEqualTo(interviewSlot.getInterviewer().getName());
+        assertThat(interviewSlotFromDB.candidateId()).isNull();
 
         verifyFindByIdIsCalledOnce();
     }
@@ -230,7 +684,7 @@ class InterviewSlotServiceTest {
     void whenValidIdButNonExistentInterviewSlot_thenReturnNullObject(){
         when(interviewSlotRepository.findById(any())).thenReturn(Optional.empty());
 
-        InterviewSlot interviewSlotFromDB = interviewSlotService.get(5L);
+        InterviewSlotView interviewSlotFromDB = interviewSlotService.get(5L);
 
         assertThat(interviewSlotFromDB).isNull();
         
@@ -240,33 +694,100 @@ class InterviewSlotServiceTest {
     /* Getting Available Interview Slots */
     @Test
     void whenGetAvailableSlots_thenReturnLisOfInterviewSlot(){
-        List<InterviewSlot> listOfSlots = List.of(
-            createInterviewSlot(LocalDateTime.parse("2042-08-30T10:00:00")),
-            createInterviewSlot(LocalDateTime.parse("2042-09-01T10:00:00"))
+        List<InterviewSlotView> listOfSlots = List.of(
+            createInterviewSlotView(1L, LocalDateTime.parse("2042-08-30T10:00:00")),
+            createInterviewSlotView(2L, LocalDateTime.parse("2042-09-01T10:00:00"))
             );
 
-        when(interviewSlotRepository.findAvailableSlots()).thenReturn(listOfSlots);
+        when(slotAvailabilityIndex.findAvailable()).thenReturn(listOfSlots);
 
-        List<InterviewSlot> listOfInterviewSlotsFromDB = interviewSlotService.getAvailableSlots();
+        List<InterviewSlotView> listOfInterviewSlotsFromIndex = interviewSlotService.getAvailableSlots();
 
-        assertThat(listOfInterviewSlotsFromDB).hasSize(listOfSlots.size()).isEqualTo(listOfSlots);
+        assertThat(listOfInterviewSlotsFromIndex).hasSize(listOfSlots.size()).isEqualTo(listOfSlots);
 
-        verifyFindAvailableSlotsIsCalledOnce();
+        verifyFindAvailableSlotsIsAnsweredByIndex();
     }
 
     /* Getting Available Interview Slots by Time*/
     @Test
     void whenGetAvailableSlotsByTime_thenReturnLisOfInterviewSlot(){
-        InterviewSlot interviewSlot = createInterviewSlot(LocalDateTime.parse("2042-08-30T10:00:00"));
-        List<InterviewSlot> listOfSlots = List.of(interviewSlot);
+        InterviewSlotView interviewSlot = createInterviewSlotView(1L, LocalDateTime.parse("2042-08-30T10:00:00"));
+        List<InterviewSlotView> listOfSlots = List.of(interviewSlot);
             
-        when(interviewSlotRepository.findAvailableSlotsByTime(any())).thenReturn(listOfSlots);
+        when(slotAvailabilityIndex.findAvailableByTime(any())).thenReturn(listOfSlots);
+        when(interviewerSelector.order(listOfSlots, SlotAssignmentPolicy.LEAST_LOADED)).thenReturn(listOfSlots);
 
-        List<InterviewSlot> listOfInterviewSlotsFromDB = interviewSlotService.getAvailableSlotsByTime(interviewSlot.getTime());
+        List<InterviewSlotView> listOfInterviewSlotsFromIndex = interviewSlotService.getAvailableSlotsByTime(interviewSlot.time(), SlotAssignmentPolicy.LEAST_LOADED);
 
-        assertThat(listOfInterviewSlotsFromDB).hasSize(listOfSlots.size()).isEqualTo(listOfSlots);
+        assertThat(listOfInterviewSlotsFromIndex).hasSize(listOfSlots.size()).isEqualTo(listOfSlots);
+
+        verifyFindAvailableSlotsByTimeIsAnsweredByIndex();
+    }
+
+    /* Getting Available Interview Slots in a Time Window */
+    @Test
+    void whenGetAvailableSlotsBetween_thenReturnListFromIndex() throws BadRequestException{
+        LocalDateTime from = LocalDateTime.parse("2042-08-30T00:00:00");
+        LocalDateTime to = from.plusWeeks(1);
+        List<InterviewSlotView> listOfSlots = List.of(InterviewSlotView.of(interviewSlot));
+        when(slotAvailabilityIndex.findAvailableBetween(from, to, 1L, 100)).thenReturn(listOfSlots);
+
+        List<InterviewSlotView> availableSlots = interviewSlotService.getAvailableSlotsBetween(from, to, 1L, 100);
 
-        verifyFindAvailableSlotsByAvailableIsCalledOnce();
+        assertThat(availableSlots).isEqualTo(listOfSlots);
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).findAvailableSlots();
+    }
+
+    @Test
+    void whenGetAvailableSlotsBetweenWithReversedWindow_thenThrowBadRequestException(){
+        LocalDateTime from = LocalDateTime.parse("2042-08-30T00:00:00");
+
+        assertThrows( BadRequestException.class, () -> {
+        interviewSlotService.getAvailableSlotsBetween(from, from.minusDays(1), null, 100);
+        } );
+
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(0)).findAvailableBetween(any(), any(), any(), anyInt());
+    }
+
+    /* Paging through Available Interview Slots */
+    @Test
+    void whenGetAvailablePage_thenReturnPageFromIndex() throws BadRequestException{
+        LocalDateTime time = LocalDateTime.parse("2042-08-30T10:00:00");
+        List<InterviewSlotView> listOfSlots = List.of(createInterviewSlotView(4L, LocalDateTime.parse("2042-08-30T11:00:00")));
+        when(slotAvailabilityIndex.findAvailableAfter(eq(time), eq(3L), anyInt())).thenReturn(listOfSlots);
+
+        PageDTO<InterviewSlotView> page = interviewSlotService.getAvailablePage(PageCursor.encode(time, 3L), 50);
+
+        assertThat(page.getItems()).isEqualTo(listOfSlots);
+        assertThat(page.getNext()).isNull();
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(1)).findAvailableAfter(time, 3L, 51);
+    }
+
+    /* Exporting Interview Slots */
+    @Test
+    void whenExportSlots_thenWriteOneJsonLinePerSlot() throws Exception{
+        InterviewSlotView freeSlot = createInterviewSlotView(1L, LocalDateTime.parse("2040-08-30T10:00:00"));
+        InterviewSlotView assignedSlot = new InterviewSlotView(2L, LocalDateTime.parse("2042-08-30T11:00:00"), 0L, "Carlos", 1L, "Ines");
+        when(interviewSlotRepository.streamViewsForExport(InterviewSlotService.EXPORT_MIN_TIME, InterviewSlotService.EXPORT_MAX_TIME, "ALL"))
+            .thenReturn(Stream.of(freeSlot, assignedSlot));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = interviewSlotService.exportSlots(null, null, SlotState.ALL, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"time\":\"2040-08-30T10:00:00\"").contains("\"candidateId\":null");
+        assertThat(lines[1]).startsWith("{").contains("\"candidateName\":\"Ines\"");
+    }
+
+    @Test
+    void whenExportRangeIsEmpty_thenThrowBadRequestException(){
+        LocalDateTime time = LocalDateTime.parse("2042-08-30T10:00:00");
+
+        assertThrows( BadRequestException.class, () -> {
+        interviewSlotService.checkExportRange(time, time);
+        } );
     }
 
     /* -- HELPERS -- */
@@ -274,24 +795,34 @@ class InterviewSlotServiceTest {
         verify( interviewSlotRepository, VerificationModeFactory.times( 1 ) ).save( any() );
     }
 
+    private void verifyClaimSlotIsCalledOnce() {
+        verify( interviewSlotRepository, VerificationModeFactory.times( 1 ) ).claimSlot( anyLong(), anyLong() );
+    }
+
     private void verifySaveInterviewSlotIsNeverCalled() {
         verify( interviewSlotRepository, VerificationModeFactory.times( 0 ) ).save( any() );
     }
 
     private void verifyFindAllIsCalledOnce() {
-        verify( interviewSlotRepository, VerificationModeFactory.times( 1 ) ).findAll();
+        verify( interviewSlotRepository, VerificationModeFactory.times( 1 ) ).findAllViews();
     }
 
     private void verifyFindByIdIsCalledOnce() {
         verify( interviewSlotRepository, VerificationModeFactory.times( 1 ) ).findById(any());
     }
 
-    private void verifyFindAvailableSlotsIsCalledOnce(){
-        verify(interviewSlotRepository, VerificationModeFactory.times(1)).findAvailableSlots();
+    private void verifyFindAvailableSlotsIsAnsweredByIndex(){
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(1)).findAvailable();
+        verify(interviewSlotRepository, VerificationModeFactory.times(0)).findAvailableSlots();
+    }
+
+    private void verifyFindAvailableSlotsByTimeIsAnsweredByIndex(){
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(1)).findAvailableByTime(any());
     }
 
-    private void verifyFindAvailableSlotsByAvailableIsCalledOnce(){
-        verify(interviewSlotRepository, VerificationModeFactory.times(1)).findAvailableSlotsByTime(any());
+    private void verifyEventIsPublished(InterviewSlotEvent.Type type){
+        verify(eventPublisher, VerificationModeFactory.times(1))
+            .publishEvent(argThat((Object event) -> event instanceof InterviewSlotEvent && ((InterviewSlotEvent) event).type() == type));
     }
 
     private InterviewSlot createInterviewSlot(LocalDateTime time) {
@@ -304,6 +835,17 @@ class InterviewSlotServiceTest {
         return interviewSlot;
     }
 
+    // one free slot at that time, first under the default policy
+    private void givenFreeSlotsAt(LocalDateTime time, long slotId){
+        List<InterviewSlotView> freeSlots = List.of(createInterviewSlotView(slotId, time));
+        when(slotAvailabilityIndex.findAvailableByTime(time)).thenReturn(freeSlots);
+        when(interviewerSelector.order(freeSlots, SlotAssignmentPolicy.LEAST_LOADED)).thenReturn(freeSlots);
+    }
+
+    private InterviewSlotView createInterviewSlotView(long id, LocalDateTime time) {
+        return new InterviewSlotView(id, time, 0L, "Carlos", null, null);
+    }
+
     private Interviewer createInterviewer(long id){
         Interviewer interviewer = new Interviewer();
 
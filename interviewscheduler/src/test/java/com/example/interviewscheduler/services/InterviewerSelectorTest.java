@@ -0,0 +1,148 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.dtos.SlotAssignmentPolicy;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository;
+
+@ExtendWith(MockitoExtension.class)
+class InterviewerSelectorTest {
+
+    private static final LocalDate DAY = LocalDate.parse("2042-08-30");
+
+    @Mock
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @InjectMocks
+    private InterviewerSelector interviewerSelector;
+
+    private List<InterviewSlotView> slotsAtTen;
+
+    @BeforeEach
+    void setUp(){
+        // interviewer 1: two interviews that day; interviewer 2: one, the day before; interviewer 3: one, far off
+        when(interviewSlotRepository.findSlotHoursFrom(LocalDate.now().minusDays(InterviewerSelector.LOAD_WINDOW_DAYS).atStartOfDay())).thenReturn(List.of(
+            createSlotHour(1L, 1L, DAY.atTime(9, 0), 5L),
+            createSlotHour(2L, 1L, DAY.atTime(11, 0), 6L),
+            createSlotHour(3L, 1L, DAY.atTime(12, 0), null),
+            createSlotHour(4L, 2L, DAY.minusDays(1).atTime(9, 0), 7L),
+            createSlotHour(5L, 3L, DAY.plusDays(InterviewerSelector.LOAD_WINDOW_DAYS + 1).atTime(9, 0), 8L)));
+        interviewerSelector.rebuild();
+        slotsAtTen = List.of(createSlotView(10L, 1L), createSlotView(11L, 2L), createSlotView(12L, 3L));
+    }
+
+    /* Counting Interviewer Load */
+    @Test
+    void whenRebuilt_thenLoadCountsBookingsWithinTheWindowOnly(){
+        assertThat(interviewerSelector.load(1L, DAY)).isEqualTo(2);
+        assertThat(interviewerSelector.load(2L, DAY)).isEqualTo(1);
+        assertThat(interviewerSelector.load(3L, DAY)).isZero();
+        assertThat(interviewerSelector.load(9L, DAY)).isZero();
+    }
+
+    @Test
+    void whenBookedAndCancelled_thenLoadFollows(){
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.BOOKED, 10L, 3L, DAY.atTime(10, 0), 1L));
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.BOOKED, 11L, 3L, DAY.plusDays(1).atTime(10, 0), 1L));
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.CANCELLED, 1L, 1L, DAY.atTime(9, 0), 1L));
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.CREATED, 12L, 2L, DAY.atTime(14, 0), 0L));
+
+        assertThat(interviewerSelector.load(3L, DAY)).isEqualTo(2);
+        assertThat(interviewerSelector.load(1L, DAY)).isEqualTo(1);
+        assertThat(interviewerSelector.load(2L, DAY)).isEqualTo(1);
+    }
+
+    @Test
+    void whenEventsRepeatedOrLate_thenEachBookingCountsOnce(){
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.BOOKED, 10L, 3L, DAY.atTime(10, 0), 1L));
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.BOOKED, 10L, 3L, DAY.atTime(10, 0), 1L));
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.BOOKED, 1L, 1L, DAY.atTime(9, 0), 2L));
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.CANCELLED, 1L, 1L, DAY.atTime(9, 0), 1L));
+
+        assertThat(interviewerSelector.load(3L, DAY)).isEqualTo(1);
+        assertThat(interviewerSelector.load(1L, DAY)).isEqualTo(2);
+    }
+
+    @Test
+    void whenFreeSlotCancelled_thenLoadStaysAtZero(){
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.CANCELLED, 3L, 1L, DAY.atTime(12, 0), 1L));
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.CANCELLED, 13L, 4L, DAY.atTime(12, 0), 1L));
+
+        assertThat(interviewerSelector.load(1L, DAY)).isEqualTo(2);
+        assertThat(interviewerSelector.load(4L, DAY)).isZero();
+    }
+
+    /* Ordering by Policy */
+    @Test
+    void whenDaysPruned_thenTheirBookingsAndLateEventsAreDropped(){
+        interviewerSelector.pruneBefore(DAY.plusDays(1));
+
+        // slot 1 was forgotten with its day: neither a late cancel nor a booking before the window counts
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.CANCELLED, 1L, 1L, DAY.atTime(9, 0), 1L));
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.BOOKED, 3L, 1L, DAY.atTime(12, 0), 1L));
+
+        assertThat(interviewerSelector.load(1L, DAY)).isZero();
+        assertThat(interviewerSelector.load(2L, DAY)).isZero();
+        assertThat(interviewerSelector.load(3L, DAY.plusDays(1))).isEqualTo(1);
+    }
+
+    @Test
+    void whenLeastLoaded_thenFewestBookingsFirst(){
+        List<InterviewSlotView> ordered = interviewerSelector.order(slotsAtTen, SlotAssignmentPolicy.LEAST_LOADED);
+
+        assertThat(ordered).extracting(InterviewSlotView::interviewerId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void whenRoundRobin_thenStartAfterTheLastBookedInterviewer(){
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.BOOKED, 10L, 2L, DAY.atTime(8, 0), 1L));
+
+        assertThat(interviewerSelector.order(slotsAtTen, SlotAssignmentPolicy.ROUND_ROBIN))
+            .extracting(InterviewSlotView::interviewerId).containsExactly(3L, 1L, 2L);
+
+        interviewerSelector.onSlotEvent(createEvent(InterviewSlotEvent.Type.BOOKED, 11L, 3L, DAY.atTime(8, 0), 1L));
+
+        assertThat(interviewerSelector.order(slotsAtTen, SlotAssignmentPolicy.ROUND_ROBIN))
+            .extracting(InterviewSlotView::interviewerId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void whenRandom_thenEverySlotIsKept(){
+        List<InterviewSlotView> ordered = interviewerSelector.order(slotsAtTen, SlotAssignmentPolicy.RANDOM);
+
+        assertThat(ordered).containsExactlyInAnyOrderElementsOf(slotsAtTen);
+    }
+
+    /* -- HELPERS -- */
+    private InterviewSlotView createSlotView(long id, long interviewerId){
+        return new InterviewSlotView(id, DAY.atTime(10, 0), interviewerId, "Carlos", null, null);
+    }
+
+    private InterviewSlotEvent createEvent(InterviewSlotEvent.Type type, long slotId, long interviewerId, LocalDateTime time, long version){
+        return new InterviewSlotEvent(type, slotId, time, interviewerId, "Carlos", "carlos@gmail.com", type == InterviewSlotEvent.Type.BOOKED ? 9L : null, version);
+    }
+
+    private InterviewSlotRepository.SlotHour createSlotHour(long slotId, long interviewerId, LocalDateTime time, Long candidateId){
+        return new InterviewSlotRepository.SlotHour() {
+            public long getSlotId(){ return slotId; }
+            public long getVersion(){ return 0L; }
+            public long getInterviewerId(){ return interviewerId; }
+            public LocalDateTime getTime(){ return time; }
+            public Long getCandidateId(){ return candidateId; }
+        };
+    }
+}
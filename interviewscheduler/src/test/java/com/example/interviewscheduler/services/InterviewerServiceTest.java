@@ -1,15 +1,18 @@
 package com.example.interviewscheduler.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,12 +21,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.internal.verification.VerificationModeFactory;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import com.example.interviewscheduler.dtos.CalendarSlotView;
+import com.example.interviewscheduler.dtos.CalendarView;
+import com.example.interviewscheduler.dtos.InterviewSlotView;
 import com.example.interviewscheduler.dtos.InterviewerDTO;
+import com.example.interviewscheduler.dtos.InterviewerView;
+import com.example.interviewscheduler.dtos.PageDTO;
+import com.example.interviewscheduler.exceptions.BadRequestException;
 import com.example.interviewscheduler.exceptions.DuplicatedUserException;
 import com.example.interviewscheduler.exceptions.UserNotFoundException;
-import com.example.interviewscheduler.models.InterviewSlot;
 import com.example.interviewscheduler.models.Interviewer;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository;
 import com.example.interviewscheduler.repositories.InterviewerRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +43,9 @@ class InterviewerServiceTest {
     @Mock
     private InterviewerRepository interviewerRepository;
 
+    @Mock
+    private InterviewSlotRepository interviewSlotRepository;
+
     @InjectMocks
     private InterviewerService interviewerService;
 
@@ -47,15 +61,13 @@ class InterviewerServiceTest {
     /* Registering new Interviewers */
     @Test
     void whenValidInterviewerDTOObject_thenSaveInterviewer_andReturnInterviewer() throws DuplicatedUserException{
-        when(interviewerRepository.findByEmail(interviewer.getEmail())).thenReturn(Optional.empty());
+        when(interviewerRepository.findIdByEmail(interviewer.getEmail())).thenReturn(Optional.empty());
 
-        Interviewer interviewerSaved = interviewerService.register(interviewerDTO);
+        InterviewerView interviewerSaved = interviewerService.register(interviewerDTO);
 
-        assertThat(interviewerSaved.getEmail()).isEqualTo(interviewer.getEmail());
-        assertThat(interviewerSaved.getName()).isEqualTo(interviewer.getName());
-        assertThat(interviewerSaved.getId()).isEqualTo(interviewer.getId());
-        // when an interviewer is registered, it starts with no slots
-        assertThat(interviewerSaved.getSlots()).isNull();
+        assertThat(interviewerSaved.email()).isEqualTo(interviewer.getEmail());
+        assertThat(interviewerSaved.name()).isEqualTo(interviewer.getName());
+        assertThat(interviewerSaved.id()).isEqualTo(interviewer.getId());
 
         verifySaveInterviewerIsCalledOnce();
 
@@ -63,7 +75,7 @@ class InterviewerServiceTest {
 
     @Test
     void whenEmailAlreadyInUse_thenThrowDuplicatedUserException(){
-        when( interviewerRepository.findByEmail( interviewer.getEmail() ) ).thenReturn( Optional.of( interviewer ) );
+        when( interviewerRepository.findIdByEmail( interviewer.getEmail() ) ).thenReturn( Optional.of( interviewer.getId() ) );
 
         assertThrows( DuplicatedUserException.class, () -> {
         interviewerService.register( interviewerDTO );
@@ -72,6 +84,16 @@ class InterviewerServiceTest {
         verifySaveInterviewerIsNeverCalled();
     }
 
+    @Test
+    void whenEmailRegisteredConcurrently_thenThrowDuplicatedUserException(){
+        when( interviewerRepository.findIdByEmail( any() ) ).thenReturn( Optional.empty() );
+        when( interviewerRepository.save( any() ) ).thenThrow( new DataIntegrityViolationException("duplicate key value violates unique constraint") );
+
+        assertThrows( DuplicatedUserException.class, () -> {
+        interviewerService.register( interviewerDTO );
+        } );
+    }
+
     /* Finding Interviewer by ID */
     @Test
     void whenValidId_thenReturnInterviewer(){
@@ -100,84 +122,172 @@ class InterviewerServiceTest {
     /* Finding Interviewer by Email */
     @Test
     void whenValidEmail_thenReturnInterviewer(){
-        when(interviewerRepository.findByEmail(interviewer.getEmail())).thenReturn(Optional.of(interviewer));
+        when(interviewerRepository.findIdByEmail(interviewer.getEmail())).thenReturn(Optional.of(interviewer.getId()));
+        when(interviewerRepository.findById(interviewer.getId())).thenReturn(Optional.of(interviewer));
 
-        Interviewer interviewerFromDB = interviewerService.getInterviewerByEmail(interviewer.getEmail());
+        InterviewerView interviewerFromDB = interviewerService.getInterviewerByEmail(interviewer.getEmail());
 
-        assertThat(interviewerFromDB.getEmail()).isEqualTo(interviewer.getEmail());
-        assertThat(interviewerFromDB.getName()).isEqualTo(interviewer.getName());
-        assertThat(interviewerFromDB.getId()).isEqualTo(interviewer.getId());
+        assertThat(interviewerFromDB.email()).isEqualTo(interviewer.getEmail());
+        assertThat(interviewerFromDB.name()).isEqualTo(interviewer.getName());
+        assertThat(interviewerFromDB.id()).isEqualTo(interviewer.getId());
 
-        verifyFindByEmailIsCalledOnce();
+        verifyFindIdByEmailIsCalledOnce();
     }
 
     @Test
     void whenInvalidEmail_thenReturnNullObject(){
 
-        when( interviewerRepository.findByEmail( any() ) ).thenReturn( Optional.empty());
+        when( interviewerRepository.findIdByEmail( any() ) ).thenReturn( Optional.empty());
 
-        Interviewer interviewerFromDB = interviewerService.getInterviewerByEmail("invalid@email.com");
+        InterviewerView interviewerFromDB = interviewerService.getInterviewerByEmail("invalid@email.com");
 
         assertThat(interviewerFromDB).isNull();
 
-        verifyFindByEmailIsCalledOnce();
+        verifyFindIdByEmailIsCalledOnce();
 
     }
 
     /* Getting Interviewer's Interview Slots */
     @Test
-    void whenGetInterviewSlots_thenReturnSetOfInterviewSlots() throws UserNotFoundException{
-        Set<InterviewSlot> setOfSlots = Set.of(
-            createInterviewSlot(LocalDateTime.parse("2022-08-30T10:00:00")),
-            createInterviewSlot(LocalDateTime.parse("2022-08-30T11:00:00")),
-            createInterviewSlot(LocalDateTime.parse("2022-08-30T12:00:00"))
+    void whenGetInterviewSlots_thenReturnListOfInterviewSlots() throws UserNotFoundException{
+        List<InterviewSlotView> listOfSlots = List.of(
+            createInterviewSlot(1L, LocalDateTime.parse("2022-08-30T10:00:00")),
+            createInterviewSlot(2L, LocalDateTime.parse("2022-08-30T11:00:00")),
+            createInterviewSlot(3L, LocalDateTime.parse("2022-08-30T12:00:00"))
             );
-        interviewer.setSlots(setOfSlots);
 
         when(interviewerRepository.findById(interviewer.getId())).thenReturn(Optional.of(interviewer));
+        when(interviewSlotRepository.findViewsByInterviewerId(interviewer.getId())).thenReturn(listOfSlots);
 
-        Set<InterviewSlot> interviewSlotsFromDB = interviewerService.getAllInterviewSlotsByInterviewer(interviewer.getId());
-        assertThat(interviewSlotsFromDB).hasSize(setOfSlots.size()).isEqualTo(setOfSlots);
+        List<InterviewSlotView> interviewSlotsFromDB = interviewerService.getAllInterviewSlotsByInterviewer(interviewer.getId());
+        assertThat(interviewSlotsFromDB).hasSize(listOfSlots.size()).isEqualTo(listOfSlots);
 
-        verifyFindByIdIsCalledOnce();
+        verifyFindViewsByInterviewerIdIsCalledOnce();
     }
 
     @Test
-    void whenGetInterviewSlotsAndInterviewerHasNoSlots_thenReturnEmptySet() throws UserNotFoundException{
+    void whenGetInterviewSlotsAndInterviewerHasNoSlots_thenReturnEmptyList() throws UserNotFoundException{
         when(interviewerRepository.findById(interviewer.getId())).thenReturn(Optional.of(interviewer));
+        when(interviewSlotRepository.findViewsByInterviewerId(interviewer.getId())).thenReturn(List.of());
 
-        Set<InterviewSlot> interviewSlotsFromDB = interviewerService.getAllInterviewSlotsByInterviewer(interviewer.getId());
+        List<InterviewSlotView> interviewSlotsFromDB = interviewerService.getAllInterviewSlotsByInterviewer(interviewer.getId());
         assertThat(interviewSlotsFromDB).isEmpty();
 
-        verifyFindByIdIsCalledOnce();
+        verifyFindViewsByInterviewerIdIsCalledOnce();
     }
 
     @Test
     void whenGetInterviewSlotsOfUnexistingInterviewer_thenThrowUserNotFoundException(){
-        when( interviewerRepository.findById( any() ) ).thenReturn( Optional.empty() );
+        when( interviewerRepository.findById( anyLong() ) ).thenReturn( Optional.empty() );
 
         assertThrows( UserNotFoundException.class, () -> {
         interviewerService.getAllInterviewSlotsByInterviewer(10L);
         } );
 
-        verifyFindAllIsNeverCalled();
+        verify( interviewSlotRepository, VerificationModeFactory.times( 0 ) ).findViewsByInterviewerId( anyLong() );
+    }
+
+    /* Getting an Interviewer's Calendar */
+    @Test
+    void whenGetCalendar_thenReturnSlotsInWindow_andCountsAroundIt() throws Exception{
+        LocalDateTime from = LocalDateTime.parse("2042-09-01T00:00:00");
+        LocalDateTime to = from.plusWeeks(1);
+        List<CalendarSlotView> slots = List.of(new CalendarSlotView(1L, from.plusHours(10), null, null));
+        InterviewSlotRepository.DayCount dayCount = mock(InterviewSlotRepository.DayCount.class);
+        when(dayCount.getDay()).thenReturn(LocalDate.parse("2042-09-09"));
+        when(dayCount.getSlots()).thenReturn(3L);
+        when(interviewerRepository.findById(interviewer.getId())).thenReturn(Optional.of(interviewer));
+        when(interviewSlotRepository.findCalendar(interviewer.getId(), from, to)).thenReturn(slots);
+        when(interviewSlotRepository.countByDayOutside(interviewer.getId(), from.minusDays(7), to.plusDays(7), from, to)).thenReturn(List.of(dayCount));
+
+        CalendarView calendar = interviewerService.getCalendar(interviewer.getId(), from, to, 7);
+
+        assertThat(calendar.slots()).isEqualTo(slots);
+        assertThat(calendar.dayCounts()).containsExactly(entry(LocalDate.parse("2042-09-09"), 3L));
+    }
+
+    @Test
+    void whenGetCalendarWithoutCountDays_thenOnlyTheWindowIsQueried() throws Exception{
+        LocalDateTime from = LocalDateTime.parse("2042-09-01T00:00:00");
+        when(interviewerRepository.findById(interviewer.getId())).thenReturn(Optional.of(interviewer));
+        when(interviewSlotRepository.findCalendar(interviewer.getId(), from, from.plusDays(1))).thenReturn(List.of());
+
+        CalendarView calendar = interviewerService.getCalendar(interviewer.getId(), from, from.plusDays(1), 0);
+
+        assertThat(calendar.slots()).isEmpty();
+        assertThat(calendar.dayCounts()).isEmpty();
+        verify( interviewSlotRepository, VerificationModeFactory.times( 0 ) ).countByDayOutside( anyLong(), any(), any(), any(), any() );
+    }
+
+    @Test
+    void whenGetCalendarWithLongestWindow_thenReturnSlotsInWindow() throws Exception{
+        LocalDateTime from = LocalDateTime.parse("2042-09-01T00:00:00");
+        LocalDateTime to = from.plusDays(InterviewerService.MAX_CALENDAR_DAYS);
+        when(interviewerRepository.findById(interviewer.getId())).thenReturn(Optional.of(interviewer));
+        when(interviewSlotRepository.findCalendar(interviewer.getId(), from, to)).thenReturn(List.of());
+
+        assertThat(interviewerService.getCalendar(interviewer.getId(), from, to, 0).slots()).isEmpty();
+    }
+
+    @Test
+    void whenGetCalendarWithTooLongWindow_thenThrowBadRequestException(){
+        LocalDateTime from = LocalDateTime.parse("2042-09-01T00:00:00");
+
+        assertThrows( BadRequestException.class, () -> {
+        interviewerService.getCalendar(interviewer.getId(), from, from.plusDays(InterviewerService.MAX_CALENDAR_DAYS).plusMinutes(1), 0);
+        } );
+
+        verify( interviewSlotRepository, VerificationModeFactory.times( 0 ) ).findCalendar( anyLong(), any(), any() );
+    }
+
+    @Test
+    void whenGetCalendarOfUnexistingInterviewer_thenThrowUserNotFoundException(){
+        LocalDateTime from = LocalDateTime.parse("2042-09-01T00:00:00");
+        when( interviewerRepository.findById( anyLong() ) ).thenReturn( Optional.empty() );
+
+        assertThrows( UserNotFoundException.class, () -> {
+        interviewerService.getCalendar(10L, from, from.plusWeeks(1), 0);
+        } );
     }
 
     /* Getting All Interviewers */
     @Test
     void whenGetAllInterviewers_thenReturnListOfInterviewers() throws UserNotFoundException{
-        Interviewer interviewer2 = new Interviewer(1L, "interviewer2", "interviewer2@gmail.com", null);
-        List<Interviewer> listOfInterviewers = List.of(interviewer, interviewer2);
+        InterviewerView interviewer2 = new InterviewerView(1L, "interviewer2", "interviewer2@gmail.com");
+        List<InterviewerView> listOfInterviewers = List.of(InterviewerView.of(interviewer), interviewer2);
 
-        when(interviewerRepository.findAll()).thenReturn(listOfInterviewers);
+        when(interviewerRepository.findAllViews()).thenReturn(listOfInterviewers);
 
-        List<Interviewer> listOfInterviewersFomDB = interviewerService.getAllInterviewers();
+        List<InterviewerView> listOfInterviewersFomDB = interviewerService.getAllInterviewers();
 
         assertThat(listOfInterviewersFomDB).hasSize(listOfInterviewers.size()).isEqualTo(listOfInterviewers);
 
         verifyFindAllIsCalledOnce();
     }
 
+    /* Paging through Interviewers */
+    @Test
+    void whenGetInterviewersPage_thenReturnPageWithNextCursor() throws BadRequestException{
+        InterviewerView interviewer1 = InterviewerView.of(interviewer);
+        InterviewerView interviewer2 = new InterviewerView(1L, "interviewer2", "interviewer2@gmail.com");
+        InterviewerView interviewer3 = new InterviewerView(2L, "interviewer3", "interviewer3@gmail.com");
+        when(interviewerRepository.findViewsAfter(0L, PageRequest.of(0, 3))).thenReturn(List.of(interviewer1, interviewer2, interviewer3));
+
+        PageDTO<InterviewerView> page = interviewerService.getInterviewersPage(null, 2);
+
+        assertThat(page.getItems()).containsExactly(interviewer1, interviewer2);
+        assertThat(PageCursor.decodeId(page.getNext())).isEqualTo(interviewer2.id());
+    }
+
+    @Test
+    void whenGetInterviewersPageWithInvalidCursor_thenThrowBadRequestException(){
+        assertThrows( BadRequestException.class, () -> {
+        interviewerService.getInterviewersPage("not-a-cursor", 2);
+        } );
+
+        verify( interviewerRepository, VerificationModeFactory.times( 0 ) ).findViewsAfter( anyLong(), any() );
+    }
+
     /* --- HELPERS --- */
     void verifySaveInterviewerIsCalledOnce(){
         verify( interviewerRepository, VerificationModeFactory.times( 1 ) ).save( any() );
@@ -187,28 +297,23 @@ class InterviewerServiceTest {
         verify( interviewerRepository, VerificationModeFactory.times( 0 ) ).save( any() );
     }
 
-    void verifyFindByEmailIsCalledOnce(){
-        verify( interviewerRepository, VerificationModeFactory.times( 1 ) ).findByEmail( any() );
+    void verifyFindIdByEmailIsCalledOnce(){
+        verify( interviewerRepository, VerificationModeFactory.times( 1 ) ).findIdByEmail( any() );
     }
 
     void verifyFindByIdIsCalledOnce(){
         verify( interviewerRepository, VerificationModeFactory.times( 1 ) ).findById( any() );
     }
 
-    void verifyFindAllIsNeverCalled(){
-        verify( interviewerRepository, VerificationModeFactory.times( 0 ) ).findAll();
+    void verifyFindViewsByInterviewerIdIsCalledOnce(){
+        verify( interviewSlotRepository, VerificationModeFactory.times( 1 ) ).findViewsByInterviewerId( anyLong() );
     }
 
     private void verifyFindAllIsCalledOnce(){
-        verify( interviewerRepository, VerificationModeFactory.times( 1 ) ).findAll();
+        verify( interviewerRepository, VerificationModeFactory.times( 1 ) ).findAllViews();
     }
 
-    private InterviewSlot createInterviewSlot(LocalDateTime time) {
-        InterviewSlot interviewSlot = new InterviewSlot();
-
-        interviewSlot.setInterviewer(interviewer);
-        interviewSlot.setTime(time);
-
-        return interviewSlot;
+    private InterviewSlotView createInterviewSlot(long id, LocalDateTime time) {
+        return new InterviewSlotView(id, time, interviewer.getId(), interviewer.getName(), null, null);
     }
 }
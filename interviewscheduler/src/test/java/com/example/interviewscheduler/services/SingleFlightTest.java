@@ -0,0 +1,105 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown(){
+        callers.shutdownNow();
+    }
+
+    @Test
+    void whenSameReadInFlight_thenCallersShareOneRead() throws Exception{
+        AtomicInteger reads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++){
+            results.add(callers.submit(() -> singleFlight.join("available", 1L, () -> {
+                reads.incrementAndGet();
+                await(release);
+                return "slots";
+            })));
+        }
+        // hold the read until every other caller has joined it
+        while (calls("available", "coalesced") < CALLERS - 1){
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (Future<String> result : results){
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("slots");
+        }
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(calls("available", "led")).isEqualTo(1);
+    }
+
+    @Test
+    void whenKeysDiffer_thenReadsAreNotShared(){
+        assertThat(singleFlight.join("available", 1L, () -> "v1")).isEqualTo("v1");
+        assertThat(singleFlight.join("available", 2L, () -> "v2")).isEqualTo("v2");
+        // and nothing is kept once a read returned
+        assertThat(singleFlight.join("available", 1L, () -> "v1 again")).isEqualTo("v1 again");
+
+        assertThat(calls("available", "led")).isEqualTo(3);
+        assertThat(calls("available", "coalesced")).isZero();
+    }
+
+    @Test
+    void whenReadFails_thenEveryCallerGetsTheFailure() throws Exception{
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<?> leader = callers.submit(() -> singleFlight.join("available-by-time", "10:00", () -> {
+            await(release);
+            throw new IllegalStateException("index not ready");
+        }));
+        while (calls("available-by-time", "led") < 1){
+            Thread.sleep(5);
+        }
+        Future<?> joiner = callers.submit(() -> singleFlight.join("available-by-time", "10:00", () -> "never"));
+        while (calls("available-by-time", "coalesced") < 1){
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (Future<?> caller : List.of(leader, joiner)){
+            Exception e = assertThrows(Exception.class, () -> caller.get(5, TimeUnit.SECONDS));
+            assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    /* -- HELPERS -- */
+    private double calls(String key, String result){
+        return meterRegistry.counter(SingleFlight.CALLS_METRIC, "key", key, "result", result).count();
+    }
+
+    private static void await(CountDownLatch latch){
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
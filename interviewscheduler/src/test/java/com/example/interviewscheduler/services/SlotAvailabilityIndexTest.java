@@ -0,0 +1,283 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.models.Candidate;
+import com.example.interviewscheduler.models.InterviewSlot;
+import com.example.interviewscheduler.models.Interviewer;
+import com.example.interviewscheduler.repositories.InterviewSlotRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SlotAvailabilityIndexTest {
+
+    @Mock
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @InjectMocks
+    private SlotAvailabilityIndex slotAvailabilityIndex;
+
+    private InterviewSlot slotAtTen;
+    private InterviewSlot slotAtNine;
+    private InterviewSlot otherSlotAtTen;
+
+    @BeforeEach
+    void setUp(){
+        slotAtTen = createInterviewSlot(3L, LocalDateTime.parse("2042-08-30T10:00:00"), createInterviewer(1L));
+        slotAtNine = createInterviewSlot(2L, LocalDateTime.parse("2042-08-30T09:00:00"), createInterviewer(1L));
+        otherSlotAtTen = createInterviewSlot(1L, LocalDateTime.parse("2042-08-30T10:00:00"), createInterviewer(2L));
+
+        when(interviewSlotRepository.findAvailableSlots()).thenReturn(List.of(slotAtTen, slotAtNine, otherSlotAtTen));
+        slotAvailabilityIndex.rebuild();
+    }
+
+    /* Rebuilding from the Database */
+    @Test
+    void whenRebuilt_thenReturnAvailableSlotsOrderedByTimeAndId(){
+        List<InterviewSlotView> availableSlots = slotAvailabilityIndex.findAvailable();
+
+        assertThat(availableSlots).extracting(InterviewSlotView::id).containsExactly(2L, 1L, 3L);
+        assertThat(availableSlots.get(0).interviewerId()).isEqualTo(slotAtNine.getInterviewer().getId());
+        assertThat(availableSlots.get(0).interviewerName()).isEqualTo(slotAtNine.getInterviewer().getName());
+        assertThat(availableSlots.get(0).candidateId()).isNull();
+    }
+
+    /* Finding Available Slots by Time */
+    @Test
+    void whenFindByTime_thenReturnOnlySlotsAtThatTime(){
+        List<InterviewSlotView> availableSlots = slotAvailabilityIndex.findAvailableByTime(slotAtTen.getTime());
+
+        assertThat(availableSlots).extracting(InterviewSlotView::id).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void whenFindByTimeWithoutSlots_thenReturnEmptyList(){
+        List<InterviewSlotView> availableSlots = slotAvailabilityIndex.findAvailableByTime(LocalDateTime.parse("2042-08-30T11:00:00"));
+
+        assertThat(availableSlots).isEmpty();
+    }
+
+    @Test
+    void whenCheckAvailabilityAtTime_thenOnlyExactTimesMatch(){
+        assertThat(slotAvailabilityIndex.hasAvailableAt(slotAtNine.getTime())).isTrue();
+        assertThat(slotAvailabilityIndex.hasAvailableAt(LocalDateTime.parse("2042-08-30T09:30:00"))).isFalse();
+        assertThat(slotAvailabilityIndex.hasAvailableAt(LocalDateTime.parse("2042-08-30T11:00:00"))).isFalse();
+    }
+
+    /* Finding Available Slots in a Time Window */
+    @Test
+    void whenFindBetween_thenReturnSlotsInWindowOrderedByTime(){
+        List<InterviewSlotView> availableSlots = slotAvailabilityIndex.findAvailableBetween(
+            LocalDateTime.parse("2042-08-30T09:00:00"), LocalDateTime.parse("2042-08-30T10:00:00"), null, 10);
+
+        assertThat(availableSlots).extracting(InterviewSlotView::id).containsExactly(2L);
+    }
+
+    @Test
+    void whenFindBetweenForInterviewer_thenReturnOnlyTheirSlots(){
+        List<InterviewSlotView> availableSlots = slotAvailabilityIndex.findAvailableBetween(
+            LocalDateTime.parse("2042-08-30T00:00:00"), LocalDateTime.parse("2042-08-31T00:00:00"), 1L, 10);
+
+        assertThat(availableSlots).extracting(InterviewSlotView::id).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void whenFindBetweenWithLimit_thenReturnEarliestSlots(){
+        List<InterviewSlotView> availableSlots = slotAvailabilityIndex.findAvailableBetween(
+            LocalDateTime.parse("2042-08-30T00:00:00"), LocalDateTime.parse("2042-08-31T00:00:00"), null, 2);
+
+        assertThat(availableSlots).extracting(InterviewSlotView::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void whenFindBetweenForUnknownInterviewer_thenReturnEmptyList(){
+        List<InterviewSlotView> availableSlots = slotAvailabilityIndex.findAvailableBetween(
+            LocalDateTime.parse("2042-08-30T00:00:00"), LocalDateTime.parse("2042-08-31T00:00:00"), 9L, 10);
+
+        assertThat(availableSlots).isEmpty();
+    }
+
+    /* Paging through Available Slots */
+    @Test
+    void whenFindAvailableAfterWithoutKey_thenReturnFirstSlots(){
+        List<InterviewSlotView> availableSlots = slotAvailabilityIndex.findAvailableAfter(null, 0L, 2);
+
+        assertThat(availableSlots).extracting(InterviewSlotView::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void whenFindAvailableAfterKey_thenReturnSlotsStrictlyAfterIt(){
+        List<InterviewSlotView> availableSlots = slotAvailabilityIndex.findAvailableAfter(otherSlotAtTen.getTime(), otherSlotAtTen.getId(), 10);
+
+        assertThat(availableSlots).extracting(InterviewSlotView::id).containsExactly(3L);
+    }
+
+    /* Following Slot Events */
+    @Test
+    void whenSlotCreated_thenSlotBecomesAvailable(){
+        InterviewSlot newSlot = createInterviewSlot(4L, LocalDateTime.parse("2042-08-30T11:00:00"), createInterviewer(2L));
+
+        slotAvailabilityIndex.onSlotEvent(InterviewSlotEvent.of(InterviewSlotEvent.Type.CREATED, newSlot));
+
+        assertThat(slotAvailabilityIndex.size()).isEqualTo(4);
+        assertThat(slotAvailabilityIndex.findAvailableByTime(newSlot.getTime())).extracting(InterviewSlotView::id).containsExactly(4L);
+    }
+
+    @Test
+    void whenSlotBooked_thenSlotIsNoLongerAvailable(){
+        book(slotAtTen);
+
+        slotAvailabilityIndex.onSlotEvent(InterviewSlotEvent.of(InterviewSlotEvent.Type.BOOKED, slotAtTen));
+
+        assertThat(slotAvailabilityIndex.size()).isEqualTo(2);
+        assertThat(slotAvailabilityIndex.findAvailableByTime(slotAtTen.getTime())).extracting(InterviewSlotView::id).containsExactly(1L);
+    }
+
+    @Test
+    void whenBookingCancelled_thenSlotIsAvailableAgain(){
+        book(slotAtTen);
+        slotAvailabilityIndex.onSlotEvent(InterviewSlotEvent.of(InterviewSlotEvent.Type.BOOKED, slotAtTen));
+        cancel(slotAtTen);
+
+        slotAvailabilityIndex.onSlotEvent(InterviewSlotEvent.of(InterviewSlotEvent.Type.CANCELLED, slotAtTen));
+
+        assertThat(slotAvailabilityIndex.size()).isEqualTo(3);
+        assertThat(slotAvailabilityIndex.findAvailableByTime(slotAtTen.getTime())).extracting(InterviewSlotView::id).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void whenCancellationArrivesAfterLaterBooking_thenItIsDropped(){
+        cancel(slotAtTen);
+        InterviewSlotEvent cancelled = InterviewSlotEvent.of(InterviewSlotEvent.Type.CANCELLED, slotAtTen);
+        book(slotAtTen);
+
+        slotAvailabilityIndex.onSlotEvent(InterviewSlotEvent.of(InterviewSlotEvent.Type.BOOKED, slotAtTen));
+        slotAvailabilityIndex.onSlotEvent(cancelled);
+
+        assertThat(slotAvailabilityIndex.size()).isEqualTo(2);
+        assertThat(slotAvailabilityIndex.findAvailableByTime(slotAtTen.getTime())).extracting(InterviewSlotView::id).containsExactly(1L);
+    }
+
+    @Test
+    void whenSameSlotCreatedTwice_thenItIsIndexedOnce(){
+        slotAvailabilityIndex.onSlotEvent(InterviewSlotEvent.of(InterviewSlotEvent.Type.CREATED, slotAtTen));
+
+        assertThat(slotAvailabilityIndex.size()).isEqualTo(3);
+    }
+
+    /* Holding Slots */
+    @Test
+    void whenSlotHeld_thenItLeavesAvailabilityUntilReleased(){
+        assertThat(slotAvailabilityIndex.hold(3L)).isTrue();
+
+        assertThat(slotAvailabilityIndex.findAvailableByTime(slotAtTen.getTime())).extracting(InterviewSlotView::id).containsExactly(1L);
+        assertThat(slotAvailabilityIndex.findHeldAt(slotAtTen.getTime())).containsExactly(3L);
+        assertThat(slotAvailabilityIndex.hold(3L)).isFalse();
+
+        slotAvailabilityIndex.release(3L);
+
+        assertThat(slotAvailabilityIndex.findAvailableByTime(slotAtTen.getTime())).extracting(InterviewSlotView::id).containsExactly(1L, 3L);
+        assertThat(slotAvailabilityIndex.findHeldAt(slotAtTen.getTime())).isEmpty();
+    }
+
+    @Test
+    void whenEverySlotAtTimeHeld_thenNoneIsAvailableAtThatTime(){
+        slotAvailabilityIndex.hold(1L);
+        slotAvailabilityIndex.hold(3L);
+
+        assertThat(slotAvailabilityIndex.hasAvailableAt(slotAtTen.getTime())).isFalse();
+        assertThat(slotAvailabilityIndex.findAvailable()).extracting(InterviewSlotView::id).containsExactly(2L);
+        assertThat(slotAvailabilityIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void whenEverySlotHeld_thenNoneIsAvailable(){
+        assertThat(slotAvailabilityIndex.hasAvailable()).isTrue();
+
+        slotAvailabilityIndex.hold(1L);
+        slotAvailabilityIndex.hold(2L);
+        slotAvailabilityIndex.hold(3L);
+        assertThat(slotAvailabilityIndex.hasAvailable()).isFalse();
+
+        slotAvailabilityIndex.release(2L);
+        assertThat(slotAvailabilityIndex.hasAvailable()).isTrue();
+    }
+
+    @Test
+    void whenHeldSlotBooked_thenReleaseDoesNotBringItBack(){
+        slotAvailabilityIndex.hold(3L);
+        book(slotAtTen);
+
+        slotAvailabilityIndex.onSlotEvent(InterviewSlotEvent.of(InterviewSlotEvent.Type.BOOKED, slotAtTen));
+        slotAvailabilityIndex.release(3L);
+
+        assertThat(slotAvailabilityIndex.size()).isEqualTo(2);
+        assertThat(slotAvailabilityIndex.findHeldAt(slotAtTen.getTime())).isEmpty();
+    }
+
+    @Test
+    void whenAvailabilityChanges_thenVersionChanges(){
+        long rebuilt = slotAvailabilityIndex.version();
+
+        slotAvailabilityIndex.hold(3L);
+        long held = slotAvailabilityIndex.version();
+        slotAvailabilityIndex.hold(3L);
+
+        assertThat(held).isNotEqualTo(rebuilt);
+        // the second hold loses and changes nothing
+        assertThat(slotAvailabilityIndex.version()).isEqualTo(held);
+
+        slotAvailabilityIndex.release(3L);
+
+        assertThat(slotAvailabilityIndex.version()).isNotEqualTo(held);
+    }
+
+    @Test
+    void whenHoldUnknownSlot_thenReturnFalse(){
+        assertThat(slotAvailabilityIndex.hold(42L)).isFalse();
+    }
+
+    /* -- HELPERS -- */
+    private InterviewSlot createInterviewSlot(long id, LocalDateTime time, Interviewer interviewer) {
+        InterviewSlot interviewSlot = new InterviewSlot();
+
+        interviewSlot.setId(id);
+        interviewSlot.setInterviewer(interviewer);
+        interviewSlot.setTime(time);
+
+        return interviewSlot;
+    }
+
+    // the changes a slot goes through, each one version up like the V8 trigger does
+    private void book(InterviewSlot interviewSlot){
+        interviewSlot.setCandidate(new Candidate(1L, "Carl", "carl@gmail.com", null));
+        interviewSlot.setVersion(interviewSlot.getVersion() + 1);
+    }
+
+    private void cancel(InterviewSlot interviewSlot){
+        interviewSlot.setCandidate(null);
+        interviewSlot.setVersion(interviewSlot.getVersion() + 1);
+    }
+
+    private Interviewer createInterviewer(long id){
+        Interviewer interviewer = new Interviewer();
+
+        interviewer.setId(id);
+        interviewer.setName("Carlos");
+        interviewer.setEmail("carlos"+id+"@gmail.com");
+
+        return interviewer;
+    }
+}
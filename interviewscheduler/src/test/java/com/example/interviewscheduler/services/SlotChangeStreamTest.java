@@ -0,0 +1,147 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.events.SlotHoldEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+@ExtendWith(MockitoExtension.class)
+class SlotChangeStreamTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.parse("2042-08-30T10:00:00");
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private SlotChangeStream slotChangeStream;
+
+    @BeforeEach
+    void setUp(){
+        // run the publisher inline
+        slotChangeStream.publisher = Runnable::run;
+    }
+
+    @Test
+    void whenSlotChanges_thenEverySubscriberGetsTheNamedEvent() throws Exception{
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        slotChangeStream.subscribe(first);
+        slotChangeStream.subscribe(second);
+
+        slotChangeStream.onSlotEvent(slotEvent(InterviewSlotEvent.Type.CREATED, null));
+        slotChangeStream.onSlotEvent(slotEvent(InterviewSlotEvent.Type.BOOKED, 1L));
+        slotChangeStream.onSlotEvent(slotEvent(InterviewSlotEvent.Type.CANCELLED, null));
+
+        List<String> sent = sentEvents(first);
+        assertThat(sent).hasSize(4);
+        assertThat(sent.get(0)).contains("retry:" + SlotChangeStream.RECONNECT_MILLIS);
+        assertThat(sent.get(1)).contains("id:1\n", "event:slot-created\n", "\"slotId\":3", "\"time\":\"2042-08-30T10:00:00\"", "\"candidateId\":null", "\"version\":1");
+        assertThat(sent.get(2)).contains("id:2\n", "event:slot-booked\n", "\"candidateId\":1");
+        assertThat(sent.get(3)).contains("id:3\n", "event:slot-freed\n");
+        assertThat(sentEvents(second)).isEqualTo(sent);
+    }
+
+    @Test
+    void whenSendFails_thenSubscriberIsDropped() throws Exception{
+        SseEmitter gone = mock(SseEmitter.class);
+        SseEmitter open = mock(SseEmitter.class);
+        slotChangeStream.subscribe(gone);
+        slotChangeStream.subscribe(open);
+        doThrow(new IOException("Broken pipe")).when(gone).send(any(SseEmitter.SseEventBuilder.class));
+
+        slotChangeStream.onSlotEvent(slotEvent(InterviewSlotEvent.Type.CREATED, null));
+        slotChangeStream.onSlotEvent(slotEvent(InterviewSlotEvent.Type.BOOKED, 1L));
+
+        assertThat(slotChangeStream.size()).isEqualTo(1);
+        verify(gone, VerificationModeFactory.times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(sentEvents(open)).hasSize(3);
+    }
+
+    @Test
+    void whenSlotHeldAndReleased_thenSubscribersGetHoldEvents() throws Exception{
+        SseEmitter emitter = mock(SseEmitter.class);
+        slotChangeStream.subscribe(emitter);
+
+        slotChangeStream.onSlotHoldEvent(new SlotHoldEvent(SlotHoldEvent.Type.HELD, 3L, Instant.parse("2042-08-30T10:02:00Z")));
+        slotChangeStream.onSlotHoldEvent(new SlotHoldEvent(SlotHoldEvent.Type.RELEASED, 3L, null));
+
+        List<String> sent = sentEvents(emitter);
+        assertThat(sent).hasSize(3);
+        assertThat(sent.get(1)).contains("event:slot-held\n", "\"slotId\":3", "\"expiresAt\":\"2042-08-30T10:02:00Z\"");
+        assertThat(sent.get(2)).contains("event:slot-released\n", "\"expiresAt\":null");
+    }
+
+    @Test
+    void whenSubscriberFallsBehind_thenItIsCompletedAndOthersKeepTheirQueue() throws Exception{
+        List<Runnable> sends = new ArrayList<>();
+        slotChangeStream.publisher = sends::add;
+        SseEmitter slow = mock(SseEmitter.class);
+        slotChangeStream.subscribe(slow);
+
+        for (int i = 0; i <= SlotChangeStream.SUBSCRIBER_QUEUE_SIZE; i++){
+            slotChangeStream.onSlotEvent(slotEvent(InterviewSlotEvent.Type.CREATED, null));
+        }
+        SseEmitter open = mock(SseEmitter.class);
+        slotChangeStream.subscribe(open);
+        slotChangeStream.onSlotEvent(slotEvent(InterviewSlotEvent.Type.BOOKED, 1L));
+        sends.forEach(Runnable::run);
+
+        assertThat(slotChangeStream.size()).isEqualTo(1);
+        verify(slow, VerificationModeFactory.times(1)).complete();
+        // only the subscribe comment got out before it fell behind
+        verify(slow, VerificationModeFactory.times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(sentEvents(open)).hasSize(2);
+    }
+
+    @Test
+    void whenNoSubscribers_thenHeartbeatSendsNothing() throws Exception{
+        slotChangeStream.heartbeat();
+
+        SseEmitter emitter = mock(SseEmitter.class);
+        slotChangeStream.subscribe(emitter);
+        slotChangeStream.heartbeat();
+
+        List<String> sent = sentEvents(emitter);
+        assertThat(sent).hasSize(2);
+        assertThat(sent.get(1)).isEqualTo(":heartbeat\n\n");
+    }
+
+    /* -- HELPERS -- */
+    private static InterviewSlotEvent slotEvent(InterviewSlotEvent.Type type, Long candidateId){
+        return new InterviewSlotEvent(type, 3L, TIME, 2L, "Carlos", "carlos@gmail.com", candidateId, 1L);
+    }
+
+    // the events sent to the emitter, as written on the wire
+    private static List<String> sentEvents(SseEmitter emitter) throws IOException{
+        ArgumentCaptor<SseEmitter.SseEventBuilder> events = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, atLeastOnce()).send(events.capture());
+        return events.getAllValues().stream()
+            .map(event -> event.build().stream().map(data -> data.getData().toString()).collect(Collectors.joining()))
+            .collect(Collectors.toList());
+    }
+}
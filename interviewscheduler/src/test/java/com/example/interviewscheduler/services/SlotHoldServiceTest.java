@@ -0,0 +1,247 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.example.interviewscheduler.dtos.SlotHoldView;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.events.SlotHoldEvent;
+import com.example.interviewscheduler.exceptions.ConflictException;
+import com.example.interviewscheduler.exceptions.UnavailableSlotException;
+import com.example.interviewscheduler.exceptions.UserNotFoundException;
+import com.example.interviewscheduler.models.Candidate;
+import com.example.interviewscheduler.models.InterviewSlot;
+import com.example.interviewscheduler.repositories.CandidateRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SlotHoldServiceTest {
+
+    private static final long TTL = SlotHoldService.HOLD_TTL.toMillis();
+
+    @Mock
+    private SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private SlotHoldService slotHoldService;
+
+    private long now;
+
+    @BeforeEach
+    void setUp(){
+        now = System.currentTimeMillis();
+    }
+
+    /* Placing Holds */
+    @Test
+    void whenHoldFreeSlot_thenSlotIsHeldForTheTtl() throws Exception{
+        givenCandidates(1L);
+        when(slotAvailabilityIndex.hold(3L)).thenReturn(true);
+
+        SlotHoldView hold = slotHoldService.hold(3L, 1L, now);
+
+        assertThat(hold.slotId()).isEqualTo(3L);
+        assertThat(hold.expiresAt()).isEqualTo(Instant.ofEpochMilli(now + TTL));
+        assertThat(slotHoldService.isHeldByOther(3L, 2L)).isTrue();
+        assertThat(slotHoldService.isHeldByOther(3L, 1L)).isFalse();
+        assertThat(slotHoldService.size()).isEqualTo(1);
+    }
+
+    @Test
+    void whenHoldSlotHeldByAnotherCandidate_thenThrowUnavailableSlotException() throws Exception{
+        givenCandidates(1L, 2L);
+        when(slotAvailabilityIndex.hold(3L)).thenReturn(true);
+        slotHoldService.hold(3L, 1L, now);
+
+        assertThrows( UnavailableSlotException.class, () -> {
+            slotHoldService.hold(3L, 2L, now + 1000);
+            } );
+    }
+
+    @Test
+    void whenHoldSlotNotFree_thenThrowUnavailableSlotException(){
+        givenCandidates(1L);
+        when(slotAvailabilityIndex.hold(3L)).thenReturn(false);
+
+        assertThrows( UnavailableSlotException.class, () -> {
+            slotHoldService.hold(3L, 1L, now);
+            } );
+
+        assertThat(slotHoldService.size()).isZero();
+    }
+
+    @Test
+    void whenHoldForCandidateWithSlot_thenThrowConflictException(){
+        when(candidateRepository.findById(1L)).thenReturn(Optional.of(new Candidate(1L, "Ines", "ines@gmail.com", new InterviewSlot())));
+
+        assertThrows( ConflictException.class, () -> {
+            slotHoldService.hold(3L, 1L, now);
+            } );
+
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(0)).hold(anyLong());
+    }
+
+    @Test
+    void whenHoldForNonExistingCandidate_thenThrowUserNotFoundException(){
+        when(candidateRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows( UserNotFoundException.class, () -> {
+            slotHoldService.hold(3L, 1L, now);
+            } );
+    }
+
+    @Test
+    void whenCandidateHoldsAnotherSlot_thenPreviousHoldIsReleased() throws Exception{
+        givenCandidates(1L);
+        when(slotAvailabilityIndex.hold(3L)).thenReturn(true);
+        when(slotAvailabilityIndex.hold(4L)).thenReturn(true);
+        slotHoldService.hold(3L, 1L, now);
+
+        slotHoldService.hold(4L, 1L, now + 1000);
+
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(1)).release(3L);
+        assertThat(slotHoldService.isHeldByOther(3L, 2L)).isFalse();
+        assertThat(slotHoldService.size()).isEqualTo(1);
+    }
+
+    /* Releasing Holds */
+    @Test
+    void whenCandidateReleasesHold_thenSlotIsFreeAgain() throws Exception{
+        givenCandidates(1L);
+        when(slotAvailabilityIndex.hold(3L)).thenReturn(true);
+        slotHoldService.hold(3L, 1L, now);
+
+        assertThat(slotHoldService.release(3L, 2L)).isFalse();
+        assertThat(slotHoldService.release(3L, 1L)).isTrue();
+
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(1)).release(3L);
+        verify(eventPublisher, VerificationModeFactory.times(1)).publishEvent(new SlotHoldEvent(SlotHoldEvent.Type.HELD, 3L, Instant.ofEpochMilli(now + TTL)));
+        verify(eventPublisher, VerificationModeFactory.times(1)).publishEvent(new SlotHoldEvent(SlotHoldEvent.Type.RELEASED, 3L, null));
+        assertThat(slotHoldService.size()).isZero();
+    }
+
+    @Test
+    void whenHeldSlotBooked_thenHoldEndsWithoutFreeingTheSlot() throws Exception{
+        givenCandidates(1L);
+        when(slotAvailabilityIndex.hold(3L)).thenReturn(true);
+        slotHoldService.hold(3L, 1L, now);
+
+        slotHoldService.onSlotEvent(bookedEvent(3L, 1L));
+
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(0)).release(anyLong());
+        verify(eventPublisher, VerificationModeFactory.times(0)).publishEvent(new SlotHoldEvent(SlotHoldEvent.Type.RELEASED, 3L, null));
+        assertThat(slotHoldService.size()).isZero();
+    }
+
+    @Test
+    void whenCandidateBooksAnotherSlot_thenHeldSlotIsFreed() throws Exception{
+        givenCandidates(1L);
+        when(slotAvailabilityIndex.hold(3L)).thenReturn(true);
+        slotHoldService.hold(3L, 1L, now);
+
+        slotHoldService.onSlotEvent(bookedEvent(5L, 1L));
+
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(1)).release(3L);
+        assertThat(slotHoldService.size()).isZero();
+    }
+
+    @Test
+    void whenFindHeldByOthersAt_thenLeaveOutTheCandidatesOwnHold() throws Exception{
+        LocalDateTime time = LocalDateTime.parse("2042-08-30T10:00:00");
+        givenCandidates(1L);
+        when(slotAvailabilityIndex.hold(3L)).thenReturn(true);
+        when(slotAvailabilityIndex.findHeldAt(time)).thenReturn(List.of(3L, 4L));
+        slotHoldService.hold(3L, 1L, now);
+
+        assertThat(slotHoldService.findHeldByOthersAt(time, 1L)).containsExactly(4L);
+        assertThat(slotHoldService.findHeldByOthersAt(time, 2L)).containsExactly(3L, 4L);
+    }
+
+    /* Expiring Holds */
+    @Test
+    void whenHoldLapses_thenSweepReleasesIt() throws Exception{
+        givenCandidates(1L);
+        when(slotAvailabilityIndex.hold(3L)).thenReturn(true);
+        slotHoldService.hold(3L, 1L, now);
+
+        assertThat(slotHoldService.sweep(now + TTL - 1000)).isZero();
+        assertThat(slotHoldService.sweep(now + TTL + 1000)).isEqualTo(1);
+
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(1)).release(3L);
+        assertThat(slotHoldService.size()).isZero();
+    }
+
+    @Test
+    void whenHoldRenewed_thenSweepKeepsItUntilTheNewExpiry() throws Exception{
+        givenCandidates(1L);
+        when(slotAvailabilityIndex.hold(3L)).thenReturn(true);
+        slotHoldService.hold(3L, 1L, now);
+        slotHoldService.hold(3L, 1L, now + 60_000);
+
+        assertThat(slotHoldService.sweep(now + TTL + 1000)).isZero();
+        assertThat(slotHoldService.size()).isEqualTo(1);
+        assertThat(slotHoldService.sweep(now + 60_000 + TTL + 1000)).isEqualTo(1);
+
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(1)).hold(3L);
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(1)).release(3L);
+    }
+
+    @Test
+    void whenLapsedHoldNotSweptYet_thenAnotherCandidateCanTakeIt() throws Exception{
+        givenCandidates(1L, 2L);
+        when(slotAvailabilityIndex.hold(3L)).thenReturn(true);
+        slotHoldService.hold(3L, 1L, now);
+
+        SlotHoldView hold = slotHoldService.hold(3L, 2L, now + TTL + 1);
+
+        assertThat(hold.candidateId()).isEqualTo(2L);
+        assertThat(slotHoldService.sweep(now + TTL + 1000)).isZero();
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(0)).release(anyLong());
+    }
+
+    @Test
+    void whenManyHoldsLapseTogether_thenOneSweepReleasesThemAll() throws Exception{
+        for (long id = 1; id <= 1000; id++){
+            when(candidateRepository.findById(id)).thenReturn(Optional.of(new Candidate(id, "Ines", "ines"+id+"@gmail.com", null)));
+            when(slotAvailabilityIndex.hold(100 + id)).thenReturn(true);
+            slotHoldService.hold(100 + id, id, now + id);
+        }
+
+        assertThat(slotHoldService.sweep(now + TTL + 2000)).isEqualTo(1000);
+        assertThat(slotHoldService.size()).isZero();
+    }
+
+    /* -- HELPERS -- */
+    private void givenCandidates(long... ids){
+        for (long id : ids){
+            when(candidateRepository.findById(id)).thenReturn(Optional.of(new Candidate(id, "Ines", "ines"+id+"@gmail.com", null)));
+        }
+    }
+
+    private InterviewSlotEvent bookedEvent(long slotId, long candidateId){
+        return new InterviewSlotEvent(InterviewSlotEvent.Type.BOOKED, slotId, LocalDateTime.parse("2042-08-30T10:00:00"),
+            1L, "Carlos", "carlos@gmail.com", candidateId, 1L);
+    }
+}
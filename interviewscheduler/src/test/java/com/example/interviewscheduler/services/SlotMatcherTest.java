@@ -0,0 +1,91 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class SlotMatcherTest {
+
+    @Test
+    void whenEarlierSlotIsAnotherCandidatesOnlyChoice_thenItIsLeftToThatCandidate(){
+        int[] slotOfCandidate = SlotMatcher.match(new int[]{ 0, 0 }, new int[]{ 2, 1 }, 2);
+
+        assertThat(slotOfCandidate).containsExactly(1, 0);
+    }
+
+    @Test
+    void whenWindowIsEmptyOrTaken_thenCandidateIsUnmatched(){
+        int[] slotOfCandidate = SlotMatcher.match(new int[]{ 0, 2, 1 }, new int[]{ 1, 3, 1 }, 3);
+
+        assertThat(slotOfCandidate).containsExactly(0, 2, SlotMatcher.UNMATCHED);
+    }
+
+    @Test
+    void whenMoreCandidatesThanSlots_thenEverySlotIsMatchedOnce(){
+        int[] slotOfCandidate = SlotMatcher.match(new int[]{ 0, 0, 0 }, new int[]{ 2, 2, 2 }, 2);
+
+        assertThat(slotOfCandidate).containsExactly(0, 1, SlotMatcher.UNMATCHED);
+    }
+
+    @Test
+    void whenRandomWindows_thenMatchingIsValidAndMaximum(){
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++){
+            int candidates = 1 + random.nextInt(30);
+            int slots = 1 + random.nextInt(30);
+            int[] first = new int[candidates];
+            int[] end = new int[candidates];
+            for (int candidate = 0; candidate < candidates; candidate++){
+                first[candidate] = random.nextInt(slots + 1);
+                end[candidate] = first[candidate] + random.nextInt(slots - first[candidate] + 1);
+            }
+
+            int[] slotOfCandidate = SlotMatcher.match(first, end, slots);
+
+            long matched = 0;
+            for (int candidate = 0; candidate < candidates; candidate++){
+                if (slotOfCandidate[candidate] != SlotMatcher.UNMATCHED){
+                    matched++;
+                    assertThat(slotOfCandidate[candidate]).isBetween(first[candidate], end[candidate] - 1);
+                }
+            }
+            assertThat(Arrays.stream(slotOfCandidate).filter(slot -> slot != SlotMatcher.UNMATCHED).distinct().count()).isEqualTo(matched);
+            assertThat(matched).isEqualTo(maximumMatchingSize(first, end, slots));
+        }
+    }
+
+    /* -- HELPERS -- */
+    // Kuhn's algorithm on the window graph: one augmenting search per candidate
+    private int maximumMatchingSize(int[] first, int[] end, int slots){
+        int[][] acceptedSlots = new int[first.length][];
+        for (int candidate = 0; candidate < first.length; candidate++){
+            acceptedSlots[candidate] = IntStream.range(first[candidate], end[candidate]).toArray();
+        }
+        int[] candidateOfSlot = new int[slots];
+        Arrays.fill(candidateOfSlot, -1);
+        int size = 0;
+        for (int candidate = 0; candidate < acceptedSlots.length; candidate++){
+            if (augment(candidate, acceptedSlots, candidateOfSlot, new boolean[slots])){
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private boolean augment(int candidate, int[][] acceptedSlots, int[] candidateOfSlot, boolean[] visited){
+        for (int slot : acceptedSlots[candidate]){
+            if (!visited[slot]){
+                visited[slot] = true;
+                if (candidateOfSlot[slot] == -1 || augment(candidateOfSlot[slot], acceptedSlots, candidateOfSlot, visited)){
+                    candidateOfSlot[slot] = candidate;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.example.interviewscheduler.dtos.ImportFormat;
+import com.example.interviewscheduler.models.Candidate;
+import com.example.interviewscheduler.models.Interviewer;
+import com.example.interviewscheduler.repositories.CandidateRepository;
+import com.example.interviewscheduler.repositories.InterviewerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private InterviewerRepository interviewerRepository;
+
+    @Mock
+    private WriteVersions writeVersions;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private UserImportService userImportService;
+
+    /* Importing Candidates from CSV */
+    @Test
+    void whenImportCsv_thenCreateNewCandidatesInOneBatch_andReportEveryRow() throws Exception{
+        when(candidateRepository.findEmailsByEmailIn(anyList())).thenReturn(Set.of("ana@gmail.com"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long created = userImportService.importCandidates(toStream(
+            "email,name\n"
+            + "ines@gmail.com,Ines\n"
+            + "ana@gmail.com,Ana\n"
+            + "ines@gmail.com,Ines Again\n"
+            + "not-an-email,Bad\n"
+            + "carlos@gmail.com,\"Soares, Carlos\"\n"), ImportFormat.CSV, out);
+
+        List<String> lines = toLines(out);
+        assertThat(created).isEqualTo(2);
+        assertThat(lines).hasSize(5);
+        assertThat(lines).filteredOn(line -> line.contains("\"status\":\"CREATED\"")).hasSize(2);
+        assertThat(lines).anyMatch(line -> line.contains("\"line\":3") && line.contains("\"status\":\"EXISTING\""));
+        assertThat(lines).anyMatch(line -> line.contains("\"line\":4") && line.contains("\"status\":\"DUPLICATE\""));
+        assertThat(lines).anyMatch(line -> line.contains("\"line\":5") && line.contains("\"status\":\"INVALID\""));
+
+        verify(candidateRepository, VerificationModeFactory.times(1)).findEmailsByEmailIn(anyList());
+        verify(candidateRepository, VerificationModeFactory.times(1)).saveAll(argThat(candidates ->
+            candidates instanceof List<Candidate> list && list.size() == 2 && list.get(1).getName().equals("Soares, Carlos")));
+    }
+
+    @Test
+    void whenImportCsvWithoutHeader_thenReadNameThenEmail() throws Exception{
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long created = userImportService.importCandidates(toStream("Ines,ines@gmail.com\n\nAna,ana@gmail.com\n"), ImportFormat.CSV, out);
+
+        assertThat(created).isEqualTo(2);
+        assertThat(toLines(out)).allMatch(line -> line.contains("\"status\":\"CREATED\""));
+    }
+
+    @Test
+    void whenImportMoreRowsThanBatchSize_thenLookUpAndInsertPerBatch() throws Exception{
+        StringBuilder csv = new StringBuilder("name,email\n");
+        for (int i = 0; i < UserImportService.IMPORT_BATCH_SIZE * 2 + 1; i++){
+            csv.append("Candidate ").append(i).append(",candidate").append(i).append("@gmail.com\n");
+        }
+
+        long created = userImportService.importCandidates(toStream(csv.toString()), ImportFormat.CSV, new ByteArrayOutputStream());
+
+        assertThat(created).isEqualTo(UserImportService.IMPORT_BATCH_SIZE * 2 + 1);
+        verify(candidateRepository, VerificationModeFactory.times(3)).findEmailsByEmailIn(anyList());
+        verify(candidateRepository, VerificationModeFactory.times(3)).saveAll(any());
+    }
+
+    @Test
+    void whenBatchInsertHitsConcurrentRegistration_thenRetryRowByRow() throws Exception{
+        when(candidateRepository.saveAll(any()))
+            .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"))
+            .thenReturn(List.of())
+            .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long created = userImportService.importCandidates(toStream("name,email\nInes,ines@gmail.com\nAna,ana@gmail.com\n"), ImportFormat.CSV, out);
+
+        List<String> lines = toLines(out);
+        assertThat(created).isEqualTo(1);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"email\":\"ines@gmail.com\"").contains("\"status\":\"CREATED\"");
+        assertThat(lines.get(1)).contains("\"email\":\"ana@gmail.com\"").contains("\"status\":\"EXISTING\"");
+        verify(candidateRepository, VerificationModeFactory.times(3)).saveAll(any());
+    }
+
+    /* Importing Interviewers from NDJSON */
+    @Test
+    void whenImportNdjson_thenCreateInterviewers_andReportMalformedLines() throws Exception{
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long created = userImportService.importInterviewers(toStream(
+            "{\"name\":\"Carlos\",\"email\":\"carlos@gmail.com\"}\n"
+            + "{not json\n"
+            + "{\"email\":\"nameless@gmail.com\"}\n"), ImportFormat.NDJSON, out);
+
+        List<String> lines = toLines(out);
+        assertThat(created).isEqualTo(1);
+        assertThat(lines).hasSize(3);
+        assertThat(lines).anyMatch(line -> line.contains("\"line\":2") && line.contains("\"message\":\"Malformed JSON\""));
+        assertThat(lines).anyMatch(line -> line.contains("\"line\":3") && line.contains("\"message\":\"Name is required\""));
+        verify(interviewerRepository, VerificationModeFactory.times(1)).saveAll(argThat(interviewers ->
+            interviewers instanceof List<Interviewer> list && list.size() == 1));
+    }
+
+    @Test
+    void whenImportEmptyUpload_thenNothingIsQueried() throws Exception{
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long created = userImportService.importInterviewers(toStream(""), ImportFormat.NDJSON, out);
+
+        assertThat(created).isZero();
+        assertThat(out.size()).isZero();
+        verify(interviewerRepository, VerificationModeFactory.times(0)).findEmailsByEmailIn(any());
+    }
+
+    /* -- HELPERS -- */
+    private InputStream toStream(String content){
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> toLines(ByteArrayOutputStream out){
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.interviewscheduler.dtos.InterviewSlotView;
+import com.example.interviewscheduler.dtos.WaitlistDTO;
+import com.example.interviewscheduler.dtos.WaitlistEntryView;
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+import com.example.interviewscheduler.exceptions.BadRequestException;
+import com.example.interviewscheduler.exceptions.ConflictException;
+import com.example.interviewscheduler.exceptions.UnavailableSlotException;
+import com.example.interviewscheduler.exceptions.UserNotFoundException;
+import com.example.interviewscheduler.models.Candidate;
+import com.example.interviewscheduler.models.InterviewSlot;
+import com.example.interviewscheduler.models.WaitlistEntry;
+import com.example.interviewscheduler.repositories.CandidateRepository;
+import com.example.interviewscheduler.repositories.WaitlistRepository;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistServiceTest {
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private InterviewSlotService interviewSlotService;
+
+    @Mock
+    private SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @InjectMocks
+    private WaitlistService waitlistService;
+
+    @BeforeEach
+    void setUp(){
+        // run the matching worker inline
+        waitlistService.matcher = Runnable::run;
+    }
+
+    /* Joining the Waitlist */
+    @Test
+    void whenCandidateJoins_thenEntryIsSavedAndMatchingRuns() throws Exception{
+        Candidate candidate = createCandidate(1L, null);
+        when(candidateRepository.findById(1L)).thenReturn(Optional.of(candidate));
+        WaitlistDTO waitlistDTO = new WaitlistDTO(1L, LocalDateTime.parse("2042-08-30T09:00:00"), LocalDateTime.parse("2042-08-30T18:00:00"), 2);
+
+        WaitlistEntryView entry = waitlistService.join(waitlistDTO);
+
+        assertThat(entry.candidateId()).isEqualTo(1L);
+        assertThat(entry.priority()).isEqualTo(2);
+        assertThat(entry.latest()).isEqualTo(waitlistDTO.getLatest());
+        verify(waitlistRepository, VerificationModeFactory.times(1)).save(any(WaitlistEntry.class));
+        verify(waitlistRepository, VerificationModeFactory.times(1)).findFirstBatch(any());
+    }
+
+    @Test
+    void whenJoinWithEmptyWindow_thenThrowBadRequestException(){
+        WaitlistDTO waitlistDTO = new WaitlistDTO(1L, LocalDateTime.parse("2042-08-30T18:00:00"), LocalDateTime.parse("2042-08-30T09:00:00"), 0);
+
+        assertThrows( BadRequestException.class, () -> {
+            waitlistService.join(waitlistDTO);
+            } );
+
+        verify(waitlistRepository, VerificationModeFactory.times(0)).save(any());
+    }
+
+    @Test
+    void whenNonExistingCandidateJoins_thenThrowUserNotFoundException(){
+        when(candidateRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows( UserNotFoundException.class, () -> {
+            waitlistService.join(new WaitlistDTO(1L, null, null, 0));
+            } );
+    }
+
+    @Test
+    void whenCandidateWithSlotJoins_thenThrowConflictException(){
+        when(candidateRepository.findById(1L)).thenReturn(Optional.of(createCandidate(1L, new InterviewSlot())));
+
+        assertThrows( ConflictException.class, () -> {
+            waitlistService.join(new WaitlistDTO(1L, null, null, 0));
+            } );
+
+        verify(waitlistRepository, VerificationModeFactory.times(0)).save(any());
+    }
+
+    @Test
+    void whenWaitingCandidateJoinsAgain_thenThrowConflictException(){
+        when(candidateRepository.findById(1L)).thenReturn(Optional.of(createCandidate(1L, null)));
+        when(waitlistRepository.existsByCandidateId(1L)).thenReturn(true);
+
+        assertThrows( ConflictException.class, () -> {
+            waitlistService.join(new WaitlistDTO(1L, null, null, 0));
+            } );
+
+        verify(waitlistRepository, VerificationModeFactory.times(0)).save(any());
+    }
+
+    /* Assigning Waiting Candidates */
+    @Test
+    void whenSlotsAreFree_thenAssignCandidatesInWaitlistOrder() throws Exception{
+        when(slotAvailabilityIndex.hasAvailable()).thenReturn(true);
+        when(waitlistRepository.findFirstBatch(any())).thenReturn(List.of(createEntry(10L, 1L), createEntry(11L, 2L)));
+        when(slotAvailabilityIndex.findAvailableBetween(any(), any(), isNull(), eq(WaitlistService.SLOTS_TRIED_PER_CANDIDATE)))
+            .thenReturn(List.of(createSlotView(7L), createSlotView(8L)))
+            .thenReturn(List.of(createSlotView(8L), createSlotView(9L)));
+        when(interviewSlotService.assignToCandidate(7L, 1L)).thenReturn(createSlotView(7L));
+        when(interviewSlotService.assignToCandidate(8L, 2L)).thenThrow(new UnavailableSlotException("Slot assigned to a Candidate!"));
+        when(interviewSlotService.assignToCandidate(9L, 2L)).thenReturn(createSlotView(9L));
+
+        int assigned = waitlistService.assignWaitingCandidates();
+
+        assertThat(assigned).isEqualTo(2);
+        verify(interviewSlotService, VerificationModeFactory.times(1)).assignToCandidate(7L, 1L);
+        verify(interviewSlotService, VerificationModeFactory.times(1)).assignToCandidate(9L, 2L);
+        verify(waitlistRepository, VerificationModeFactory.times(1)).deleteByCandidateId(1L);
+        verify(waitlistRepository, VerificationModeFactory.times(1)).deleteByCandidateId(2L);
+    }
+
+    @Test
+    void whenWaitingCandidateBookedElsewhere_thenEntryIsDropped() throws Exception{
+        when(slotAvailabilityIndex.hasAvailable()).thenReturn(true);
+        when(waitlistRepository.findFirstBatch(any())).thenReturn(List.of(createEntry(10L, 1L)));
+        when(slotAvailabilityIndex.findAvailableBetween(any(), any(), isNull(), anyInt())).thenReturn(List.of(createSlotView(7L)));
+        when(interviewSlotService.assignToCandidate(7L, 1L)).thenThrow(new ConflictException("Candidate already has Slot Assigned!"));
+
+        assertThat(waitlistService.assignWaitingCandidates()).isZero();
+
+        verify(waitlistRepository, VerificationModeFactory.times(1)).deleteByCandidateId(1L);
+    }
+
+    @Test
+    void whenNoSlotInCandidatesWindow_thenCandidateKeepsWaiting() throws Exception{
+        when(slotAvailabilityIndex.hasAvailable()).thenReturn(true);
+        when(waitlistRepository.findFirstBatch(any())).thenReturn(List.of(createEntry(10L, 1L)));
+
+        assertThat(waitlistService.assignWaitingCandidates()).isZero();
+
+        verify(interviewSlotService, VerificationModeFactory.times(0)).assignToCandidate(anyLong(), anyLong());
+        verify(waitlistRepository, VerificationModeFactory.times(0)).deleteByCandidateId(anyLong());
+    }
+
+    @Test
+    void whenNoSlotsAreFree_thenNothingIsTried() throws Exception{
+        when(slotAvailabilityIndex.hasAvailable()).thenReturn(false);
+        when(waitlistRepository.findFirstBatch(any())).thenReturn(List.of(createEntry(10L, 1L)));
+
+        assertThat(waitlistService.assignWaitingCandidates()).isZero();
+
+        verify(slotAvailabilityIndex, VerificationModeFactory.times(0)).findAvailableBetween(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void whenWaitlistIsLongerThanBatch_thenReadNextBatchAfterLastEntry(){
+        List<WaitlistEntryView> firstBatch = new ArrayList<>();
+        for (long id = 1; id <= WaitlistService.MATCH_BATCH_SIZE; id++){
+            firstBatch.add(createEntry(id, 100 + id));
+        }
+        when(slotAvailabilityIndex.hasAvailable()).thenReturn(true);
+        when(waitlistRepository.findFirstBatch(any())).thenReturn(firstBatch);
+
+        waitlistService.assignWaitingCandidates();
+
+        verify(waitlistRepository, VerificationModeFactory.times(1)).findBatchAfter(eq(0), eq((long) WaitlistService.MATCH_BATCH_SIZE), any());
+    }
+
+    /* Following Slot Events */
+    @Test
+    void whenSlotCreated_thenMatchingRuns(){
+        waitlistService.onSlotEvent(createEvent(InterviewSlotEvent.Type.CREATED, null));
+
+        verify(waitlistRepository, VerificationModeFactory.times(1)).findFirstBatch(any());
+    }
+
+    @Test
+    void whenBookingCancelled_thenMatchingRuns(){
+        waitlistService.onSlotEvent(createEvent(InterviewSlotEvent.Type.CANCELLED, null));
+
+        verify(waitlistRepository, VerificationModeFactory.times(1)).findFirstBatch(any());
+    }
+
+    @Test
+    void whenSlotBooked_thenMatchingDoesNotRun(){
+        waitlistService.onSlotEvent(createEvent(InterviewSlotEvent.Type.BOOKED, 1L));
+
+        verify(waitlistRepository, VerificationModeFactory.times(0)).findFirstBatch(any());
+    }
+
+    /* -- HELPERS -- */
+    private Candidate createCandidate(long id, InterviewSlot slot){
+        return new Candidate(id, "Ines", "ines"+id+"@gmail.com", slot);
+    }
+
+    private WaitlistEntryView createEntry(long id, long candidateId){
+        return new WaitlistEntryView(id, candidateId, null, null, 0, LocalDateTime.parse("2022-08-30T10:00:00"));
+    }
+
+    private InterviewSlotView createSlotView(long id){
+        return new InterviewSlotView(id, LocalDateTime.parse("2042-08-30T10:00:00"), 1L, "Carlos", null, null);
+    }
+
+    private InterviewSlotEvent createEvent(InterviewSlotEvent.Type type, Long candidateId){
+        return new InterviewSlotEvent(type, 7L, LocalDateTime.parse("2042-08-30T10:00:00"), 1L, "Carlos", "carlos@gmail.com", candidateId, 1L);
+    }
+}
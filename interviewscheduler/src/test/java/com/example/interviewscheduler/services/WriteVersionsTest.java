@@ -0,0 +1,43 @@
+package com.example.interviewscheduler.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.interviewscheduler.events.InterviewSlotEvent;
+
+class WriteVersionsTest {
+
+    private final WriteVersions writeVersions = new WriteVersions();
+
+    @Test
+    void whenCollectionWritten_thenOnlyItsETagChanges(){
+        String slots = writeVersions.etag(WriteVersions.Collection.SLOTS);
+        String candidates = writeVersions.etag(WriteVersions.Collection.CANDIDATES);
+
+        writeVersions.bump(WriteVersions.Collection.CANDIDATES);
+
+        assertThat(writeVersions.etag(WriteVersions.Collection.SLOTS)).isEqualTo(slots);
+        assertThat(writeVersions.etag(WriteVersions.Collection.CANDIDATES)).isNotEqualTo(candidates).startsWith("candidates-");
+    }
+
+    @Test
+    void whenSlotEvent_thenSlotsETagChanges(){
+        String slots = writeVersions.etag(WriteVersions.Collection.SLOTS);
+
+        writeVersions.onSlotEvent(new InterviewSlotEvent(InterviewSlotEvent.Type.BOOKED, 3L,
+            LocalDateTime.parse("2042-08-30T10:00:00"), 2L, "Carlos", "carlos@gmail.com", 1L, 1L));
+
+        assertThat(writeVersions.etag(WriteVersions.Collection.SLOTS)).isNotEqualTo(slots);
+    }
+
+    @Test
+    void whenRestarted_thenOldETagsNeverMatch() throws InterruptedException{
+        String before = writeVersions.etag(WriteVersions.Collection.SLOTS);
+        Thread.sleep(2);
+
+        assertThat(new WriteVersions().etag(WriteVersions.Collection.SLOTS)).isNotEqualTo(before);
+    }
+}
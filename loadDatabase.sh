@@ -2,75 +2,29 @@
 #           CADIDATES
 ##################################
 curl -X 'POST' \
-  'http://localhost:8083/api/scheduler/candidate/register' \
-  -H 'Accept: */*' \
-  -H 'Content-Type: application/json' \
-  -d '{
-  "name": "Inês Santos",
-  "email": "ines@gmail.com"
-}'
-curl -X 'POST' \
-  'http://localhost:8083/api/scheduler/candidate/register' \
-  -H 'Accept: */*' \
-  -H 'Content-Type: application/json' \
-  -d '{
-  "name": "Ana Carvalho",
-  "email": "ana@gmail.com"
-}'
-curl -X 'POST' \
-  'http://localhost:8083/api/scheduler/candidate/register' \
-  -H 'Accept: */*' \
-  -H 'Content-Type: application/json' \
-  -d '{
-  "name": "Carlos Soares",
-  "email": "soares@gmail.com"
-}'
-curl -X 'POST' \
-  'http://localhost:8083/api/scheduler/candidate/register' \
-  -H 'Accept: */*' \
-  -H 'Content-Type: application/json' \
-  -d '{
-  "name": "Xavier Mateus",
-  "email": "xavier@gmail.com"
-}'
+  'http://localhost:8083/api/scheduler/candidate/import' \
+  -H 'Accept: application/x-ndjson' \
+  -H 'Content-Type: text/csv' \
+  --data-binary 'name,email
+Inês Santos,ines@gmail.com
+Ana Carvalho,ana@gmail.com
+Carlos Soares,soares@gmail.com
+Xavier Mateus,xavier@gmail.com
+'
 
 ##################################
 #          INTERVIEWERS
 ##################################
 
 curl -X 'POST' \
-  'http://localhost:8083/api/scheduler/interviewer/register' \
-  -H 'Accept: */*' \
-  -H 'Content-Type: application/json' \
-  -d '{
-  "name": "Ariana Grande",
-  "email": "ariana@work.com"
-}'
-curl -X 'POST' \
-  'http://localhost:8083/api/scheduler/interviewer/register' \
-  -H 'Accept: */*' \
-  -H 'Content-Type: application/json' \
-  -d '{
-  "name": "Alfredo Martins",
-  "email": "alfredo@work.com"
-}'
-curl -X 'POST' \
-  'http://localhost:8083/api/scheduler/interviewer/register' \
-  -H 'Accept: */*' \
-  -H 'Content-Type: application/json' \
-  -d '{
-  "name": "Rafaela Dias",
-  "email": "rafaela@work.com"
-}'
-curl -X 'POST' \
-  'http://localhost:8083/api/scheduler/interviewer/register' \
-  -H 'Accept: */*' \
-  -H 'Content-Type: application/json' \
-  -d '{
-  "name": "Olivia Rodrigo",
-  "email": "olivia@work.com"
-}'
-
+  'http://localhost:8083/api/scheduler/interviewer/import' \
+  -H 'Accept: application/x-ndjson' \
+  -H 'Content-Type: application/x-ndjson' \
+  --data-binary '{"name": "Ariana Grande", "email": "ariana@work.com"}
+{"name": "Alfredo Martins", "email": "alfredo@work.com"}
+{"name": "Rafaela Dias", "email": "rafaela@work.com"}
+{"name": "Olivia Rodrigo", "email": "olivia@work.com"}
+'
 
 ################################
 #        INTERVIEW SLOTS